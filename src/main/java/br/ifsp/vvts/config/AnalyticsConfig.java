@@ -0,0 +1,20 @@
+package br.ifsp.vvts.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Pool das análises sobre o histórico de locações. O paralelismo deve ficar abaixo do tamanho do pool de conexões,
+ * já que cada trabalhador segura uma conexão enquanto lê sua faixa.
+ */
+@Configuration
+public class AnalyticsConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool analyticsPool(@Value("${application.analytics.parallelism:3}") int parallelism) {
+        return new ForkJoinPool(parallelism);
+    }
+}
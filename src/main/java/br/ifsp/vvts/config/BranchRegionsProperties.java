@@ -0,0 +1,14 @@
+package br.ifsp.vvts.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * Região de feriados de cada filial, declarada em {@code application.pricing.holidays.branch-regions}.
+ */
+@ConfigurationProperties("application.pricing.holidays")
+public record BranchRegionsProperties(
+        Map<String, String> branchRegions
+) {
+}
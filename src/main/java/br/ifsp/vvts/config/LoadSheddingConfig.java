@@ -0,0 +1,18 @@
+package br.ifsp.vvts.config;
+
+import br.ifsp.vvts.security.config.LoadSheddingFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(LoadSheddingProperties.class)
+public class LoadSheddingConfig {
+
+    @Bean
+    public LoadSheddingFilter loadSheddingFilter(LoadSheddingProperties properties, ObjectMapper objectMapper) {
+        return new LoadSheddingFilter(properties.enabled(), properties.read().toConcurrencyLimit(),
+                properties.write().toConcurrencyLimit(), properties.retryAfter(), objectMapper);
+    }
+}
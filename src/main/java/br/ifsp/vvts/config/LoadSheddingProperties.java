@@ -0,0 +1,25 @@
+package br.ifsp.vvts.config;
+
+import br.ifsp.vvts.domain.model.load.ConcurrencyLimit;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Limites de concorrência declarados em {@code application.load-shedding}, separados para leitura e escrita.
+ */
+@ConfigurationProperties("application.load-shedding")
+public record LoadSheddingProperties(
+        boolean enabled,
+        Duration retryAfter,
+        Limit read,
+        Limit write
+) {
+
+    public record Limit(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold) {
+
+        public ConcurrencyLimit toConcurrencyLimit() {
+            return new ConcurrencyLimit(initialLimit, minLimit, maxLimit, latencyThreshold);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package br.ifsp.vvts.config;
+
+import br.ifsp.vvts.domain.model.calendar.BranchRegions;
+import br.ifsp.vvts.domain.model.pricing.PricingRuleBook;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({PricingRulesProperties.class, BranchRegionsProperties.class})
+public class PricingRulesConfig {
+
+    @Bean
+    public PricingRuleBook pricingRuleBook(PricingRulesProperties properties) {
+        return PricingRuleBook.compile(properties.defaults(), properties.branches(), properties.seasons());
+    }
+
+    @Bean
+    public BranchRegions branchRegions(BranchRegionsProperties properties) {
+        return BranchRegions.of(properties.branchRegions());
+    }
+}
@@ -0,0 +1,19 @@
+package br.ifsp.vvts.config;
+
+import br.ifsp.vvts.domain.model.pricing.PricingRuleSet;
+import br.ifsp.vvts.domain.model.pricing.SeasonRule;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Regras de precificação declaradas em {@code application.pricing.rules}. Valores omitidos herdam os padrões.
+ */
+@ConfigurationProperties("application.pricing.rules")
+public record PricingRulesProperties(
+        PricingRuleSet defaults,
+        Map<String, PricingRuleSet> branches,
+        List<SeasonRule> seasons
+) {
+}
@@ -0,0 +1,51 @@
+package br.ifsp.vvts.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Encaminha transações somente leitura para um pool próprio, aberto em modo leitura.
+ */
+@Configuration
+@ConditionalOnProperty(name = "application.persistence.read-only-routing", havingValue = "true")
+public class ReadOnlyRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource writeDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public HikariDataSource readOnlyDataSource(DataSourceProperties properties,
+                                               @Qualifier("writeDataSource") HikariDataSource writeDataSource,
+                                               @Value("${application.persistence.read-only-pool-size:5}") int poolSize) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("read-only");
+        dataSource.setAutoCommit(writeDataSource.isAutoCommit());
+        dataSource.setTransactionIsolation(writeDataSource.getTransactionIsolation());
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setReadOnly(true);
+        dataSource.addDataSourceProperty("open_mode", "1");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writeDataSource") HikariDataSource writeDataSource,
+                                 @Qualifier("readOnlyDataSource") HikariDataSource readOnlyDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(writeDataSource);
+        dataSource.setReadOnlyDataSource(readOnlyDataSource);
+        return dataSource;
+    }
+}
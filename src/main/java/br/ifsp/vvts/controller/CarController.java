@@ -3,10 +3,17 @@ package br.ifsp.vvts.controller;
 import br.ifsp.vvts.domain.dto.CreateCarRequest;
 import br.ifsp.vvts.domain.dto.UpdateCarRequest;
 import br.ifsp.vvts.domain.model.car.Car;
+import br.ifsp.vvts.domain.model.catalog.Catalog;
+import br.ifsp.vvts.domain.model.rental.RentalHistoryPage;
+import br.ifsp.vvts.domain.useCases.CarLookup;
+import br.ifsp.vvts.domain.useCases.CatalogResponseCache;
 import br.ifsp.vvts.domain.useCases.ManageCarUseCase;
+import br.ifsp.vvts.domain.useCases.RentalHistoryUseCase;
+import br.ifsp.vvts.domain.useCases.SearchUseCase;
 import br.ifsp.vvts.security.auth.AuthenticationInfoService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
@@ -17,10 +24,20 @@ import java.util.List;
 public class CarController {
 
     private final ManageCarUseCase manageCarUseCase;
+    private final CarLookup carLookup;
+    private final RentalHistoryUseCase rentalHistoryUseCase;
+    private final SearchUseCase searchUseCase;
+    private final CatalogResponseCache responseCache;
     private final AuthenticationInfoService authService;
 
-    public CarController(ManageCarUseCase manageCarUseCase, AuthenticationInfoService authService) {
+    public CarController(ManageCarUseCase manageCarUseCase, CarLookup carLookup, RentalHistoryUseCase rentalHistoryUseCase,
+                         SearchUseCase searchUseCase, CatalogResponseCache responseCache,
+                         AuthenticationInfoService authService) {
         this.manageCarUseCase = manageCarUseCase;
+        this.carLookup = carLookup;
+        this.rentalHistoryUseCase = rentalHistoryUseCase;
+        this.searchUseCase = searchUseCase;
+        this.responseCache = responseCache;
         this.authService = authService;
     }
 
@@ -35,18 +52,34 @@ public class CarController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Car>> listAll() {
+    public ResponseEntity<byte[]> listAll(WebRequest request) {
         authService.getAuthenticatedUserId();
 
-        List<Car> allCars = manageCarUseCase.getAllCars();
-        return ResponseEntity.ok(allCars);
+        return CatalogResponses.respond(responseCache, Catalog.CARS, "", request, carLookup::getAllCars);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<Car>> search(@RequestParam String q, @RequestParam(defaultValue = "20") int limit) {
+        authService.getAuthenticatedUserId();
+
+        return ResponseEntity.ok(searchUseCase.searchCars(q, limit));
     }
 
     @GetMapping("/{licensePlate}")
-    public ResponseEntity<Car> findByLicensePlate(@PathVariable String licensePlate) {
+    public ResponseEntity<byte[]> findByLicensePlate(@PathVariable String licensePlate, WebRequest request) {
+        authService.getAuthenticatedUserId();
+
+        return CatalogResponses.respond(responseCache, Catalog.CARS, licensePlate, request,
+                () -> carLookup.findCarByLicensePlate(licensePlate).orElse(null));
+    }
+
+    @GetMapping("/{licensePlate}/rentals")
+    public ResponseEntity<RentalHistoryPage> rentals(@PathVariable String licensePlate,
+                                                     @RequestParam(required = false) String cursor,
+                                                     @RequestParam(defaultValue = "20") int limit) {
         authService.getAuthenticatedUserId();
 
-        return manageCarUseCase.findCarByLicensePlate(licensePlate)
+        return rentalHistoryUseCase.forCar(licensePlate, cursor, limit)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -0,0 +1,107 @@
+package br.ifsp.vvts.controller;
+
+import br.ifsp.vvts.domain.model.catalog.Catalog;
+import br.ifsp.vvts.domain.useCases.CatalogResponseCache;
+import br.ifsp.vvts.domain.useCases.CatalogResponseCache.SerializedResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Respostas de leitura dos cadastros servidas a partir do {@link CatalogResponseCache}. Clientes que aceitam gzip
+ * recebem a representação comprimida, com uma ETag própria. A listagem sempre existe, então um {@code If-None-Match}
+ * da versão atual responde 304 antes de qualquer consulta. Um item é resolvido antes, para que um item inexistente
+ * responda 404 mesmo com uma ETag que casaria; com o item em cache, o 304 também sai sem consulta.
+ */
+final class CatalogResponses {
+
+    private CatalogResponses() {
+    }
+
+    static ResponseEntity<byte[]> respond(CatalogResponseCache cache, Catalog catalog, String id, WebRequest request,
+                                          Supplier<?> loader) {
+        boolean gzipAccepted = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (id.isEmpty()) {
+            String tag = cache.currentTag(catalog);
+            for (boolean gzip : new boolean[]{gzipAccepted, !gzipAccepted}) {
+                String etag = SerializedResponse.etag(tag, gzip);
+                if (matches(ifNoneMatch, etag)) {
+                    return notModified(etag);
+                }
+            }
+        }
+
+        return cache.get(catalog, id, loader)
+                .map(response -> {
+                    String etag = response.etag(gzipAccepted);
+                    if (matches(ifNoneMatch, etag)) {
+                        return notModified(etag);
+                    }
+                    boolean compressed = gzipAccepted && response.gzip() != null;
+                    ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .eTag(etag)
+                            .varyBy(HttpHeaders.ACCEPT_ENCODING);
+                    if (compressed) {
+                        builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+                    }
+                    return builder.body(compressed ? response.gzip() : response.json());
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    private static ResponseEntity<byte[]> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .build();
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim().toLowerCase(Locale.ROOT);
+                if (parameter.startsWith("q=") && parameter.substring(2).trim().matches("0(\\.0{0,3})?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Comparação fraca, como o {@code If-None-Match} exige: {@code W/"x"} casa com {@code "x"}.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
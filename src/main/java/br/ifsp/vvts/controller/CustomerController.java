@@ -2,11 +2,17 @@ package br.ifsp.vvts.controller;
 
 import br.ifsp.vvts.domain.dto.CreateCustomerRequest;
 import br.ifsp.vvts.domain.dto.UpdateCustomerRequest;
+import br.ifsp.vvts.domain.model.catalog.Catalog;
 import br.ifsp.vvts.domain.model.customer.Customer;
+import br.ifsp.vvts.domain.model.rental.RentalHistoryPage;
+import br.ifsp.vvts.domain.useCases.CatalogResponseCache;
 import br.ifsp.vvts.domain.useCases.ManageCustomerUseCase;
+import br.ifsp.vvts.domain.useCases.RentalHistoryUseCase;
+import br.ifsp.vvts.domain.useCases.SearchUseCase;
 import br.ifsp.vvts.security.auth.AuthenticationInfoService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
@@ -17,10 +23,18 @@ import java.util.List;
 public class CustomerController {
 
     private final ManageCustomerUseCase manageCustomerUseCase;
+    private final RentalHistoryUseCase rentalHistoryUseCase;
+    private final SearchUseCase searchUseCase;
+    private final CatalogResponseCache responseCache;
     private final AuthenticationInfoService authService;
 
-    public CustomerController(ManageCustomerUseCase manageCustomerUseCase, AuthenticationInfoService authService) {
+    public CustomerController(ManageCustomerUseCase manageCustomerUseCase, RentalHistoryUseCase rentalHistoryUseCase,
+                              SearchUseCase searchUseCase, CatalogResponseCache responseCache,
+                              AuthenticationInfoService authService) {
         this.manageCustomerUseCase = manageCustomerUseCase;
+        this.rentalHistoryUseCase = rentalHistoryUseCase;
+        this.searchUseCase = searchUseCase;
+        this.responseCache = responseCache;
         this.authService = authService;
     }
 
@@ -35,18 +49,34 @@ public class CustomerController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Customer>> listAll() {
+    public ResponseEntity<byte[]> listAll(WebRequest request) {
         authService.getAuthenticatedUserId();
 
-        List<Customer> allCustomers = manageCustomerUseCase.getAllCustomers();
-        return ResponseEntity.ok(allCustomers);
+        return CatalogResponses.respond(responseCache, Catalog.CUSTOMERS, "", request, manageCustomerUseCase::getAllCustomers);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<Customer>> search(@RequestParam String q, @RequestParam(defaultValue = "20") int limit) {
+        authService.getAuthenticatedUserId();
+
+        return ResponseEntity.ok(searchUseCase.searchCustomers(q, limit));
     }
 
     @GetMapping("/{cpf}")
-    public ResponseEntity<Customer> findByCpf(@PathVariable String cpf) {
+    public ResponseEntity<byte[]> findByCpf(@PathVariable String cpf, WebRequest request) {
+        authService.getAuthenticatedUserId();
+
+        return CatalogResponses.respond(responseCache, Catalog.CUSTOMERS, cpf, request,
+                () -> manageCustomerUseCase.findCustomerByCpf(cpf).orElse(null));
+    }
+
+    @GetMapping("/{cpf}/rentals")
+    public ResponseEntity<RentalHistoryPage> rentals(@PathVariable String cpf,
+                                                     @RequestParam(required = false) String cursor,
+                                                     @RequestParam(defaultValue = "20") int limit) {
         authService.getAuthenticatedUserId();
 
-        return manageCustomerUseCase.findCustomerByCpf(cpf)
+        return rentalHistoryUseCase.forCustomer(cpf, cursor, limit)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -0,0 +1,47 @@
+package br.ifsp.vvts.controller;
+
+import br.ifsp.vvts.domain.dto.CreateHoldRequest;
+import br.ifsp.vvts.domain.model.booking.Hold;
+import br.ifsp.vvts.domain.useCases.HoldCarUseCase;
+import br.ifsp.vvts.security.auth.AuthenticationInfoService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/holds")
+public class HoldController {
+
+    private final HoldCarUseCase holdCarUseCase;
+    private final AuthenticationInfoService authService;
+
+    public HoldController(HoldCarUseCase holdCarUseCase, AuthenticationInfoService authService) {
+        this.holdCarUseCase = holdCarUseCase;
+        this.authService = authService;
+    }
+
+    @PostMapping
+    public ResponseEntity<Hold> create(@RequestBody CreateHoldRequest request, UriComponentsBuilder uriBuilder) {
+        authService.getAuthenticatedUserId();
+
+        Hold hold = holdCarUseCase.place(request.licensePlate(), request.cpf(), request.startDate(),
+                request.endDate());
+
+        URI location = uriBuilder.path("/api/v1/holds/{id}").buildAndExpand(hold.id()).toUri();
+        return ResponseEntity.created(location).body(hold);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> release(@PathVariable UUID id) {
+        authService.getAuthenticatedUserId();
+
+        if (holdCarUseCase.release(id)) {
+            return ResponseEntity.noContent().build();
+        } else {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package br.ifsp.vvts.controller;
+
+import br.ifsp.vvts.domain.model.maintenance.MaintenanceJob;
+import br.ifsp.vvts.domain.useCases.MaintenanceQueueUseCase;
+import br.ifsp.vvts.security.auth.AuthenticationInfoService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/maintenance-jobs")
+public class MaintenanceController {
+
+    private final MaintenanceQueueUseCase maintenanceQueueUseCase;
+    private final AuthenticationInfoService authService;
+
+    public MaintenanceController(MaintenanceQueueUseCase maintenanceQueueUseCase,
+                                 AuthenticationInfoService authService) {
+        this.maintenanceQueueUseCase = maintenanceQueueUseCase;
+        this.authService = authService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<MaintenanceJob>> listOpen() {
+        authService.getAuthenticatedUserId();
+        return ResponseEntity.ok(maintenanceQueueUseCase.listOpen());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<MaintenanceJob> findById(@PathVariable Long id) {
+        authService.getAuthenticatedUserId();
+        return maintenanceQueueUseCase.find(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/{id}/complete")
+    public ResponseEntity<MaintenanceJob> complete(@PathVariable Long id) {
+        authService.getAuthenticatedUserId();
+        return maintenanceQueueUseCase.complete(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
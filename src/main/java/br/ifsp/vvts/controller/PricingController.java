@@ -0,0 +1,27 @@
+package br.ifsp.vvts.controller;
+
+import br.ifsp.vvts.domain.dto.QuoteCacheStats;
+import br.ifsp.vvts.domain.useCases.QuoteCache;
+import br.ifsp.vvts.security.auth.AuthenticationInfoService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/pricing")
+public class PricingController {
+
+    private final QuoteCache quoteCache;
+    private final AuthenticationInfoService authService;
+
+    public PricingController(QuoteCache quoteCache, AuthenticationInfoService authService) {
+        this.quoteCache = quoteCache;
+        this.authService = authService;
+    }
+
+    @GetMapping("/quote-cache")
+    public ResponseEntity<QuoteCacheStats> quoteCacheStats() {
+        authService.getAuthenticatedUserId();
+
+        return ResponseEntity.ok(quoteCache.stats());
+    }
+}
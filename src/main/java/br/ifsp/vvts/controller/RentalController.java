@@ -1,7 +1,9 @@
 package br.ifsp.vvts.controller;
 
+import br.ifsp.vvts.domain.dto.CreateClassRentalRequest;
 import br.ifsp.vvts.domain.dto.CreateRentalRequest;
 import br.ifsp.vvts.domain.model.rental.Rental;
+import br.ifsp.vvts.domain.useCases.CancelRentalUseCase;
 import br.ifsp.vvts.domain.useCases.CarRentUseCase;
 import br.ifsp.vvts.domain.useCases.ManageRentalUseCase;
 import br.ifsp.vvts.security.auth.AuthenticationInfoService;
@@ -19,11 +21,14 @@ public class RentalController {
 
     private final CarRentUseCase carRentUseCase;
     private final ManageRentalUseCase manageRentalUseCase;
+    private final CancelRentalUseCase cancelRentalUseCase;
     private final AuthenticationInfoService authService;
 
-    public RentalController(CarRentUseCase carRentUseCase, ManageRentalUseCase manageRentalUseCase, AuthenticationInfoService authService) {
+    public RentalController(CarRentUseCase carRentUseCase, ManageRentalUseCase manageRentalUseCase,
+                            CancelRentalUseCase cancelRentalUseCase, AuthenticationInfoService authService) {
         this.carRentUseCase = carRentUseCase;
         this.manageRentalUseCase = manageRentalUseCase;
+        this.cancelRentalUseCase = cancelRentalUseCase;
         this.authService = authService;
     }
 
@@ -36,7 +41,28 @@ public class RentalController {
                 request.cpf(),
                 request.startDate(),
                 request.endDate(),
-                request.withInsurance()
+                request.withInsurance(),
+                request.holdId(),
+                request.branch()
+        );
+
+        URI location = uriBuilder.path("/api/v1/rentals/{id}").buildAndExpand(newRental.getId()).toUri();
+        return ResponseEntity.created(location).body(newRental);
+    }
+
+    @PostMapping("/by-class")
+    public ResponseEntity<Rental> createByClass(@RequestBody CreateClassRentalRequest request,
+                                                UriComponentsBuilder uriBuilder) {
+        authService.getAuthenticatedUserId();
+
+        Rental newRental = carRentUseCase.executeForClass(
+                request.brand(),
+                request.model(),
+                request.cpf(),
+                request.startDate(),
+                request.endDate(),
+                request.withInsurance(),
+                request.branch()
         );
 
         URI location = uriBuilder.path("/api/v1/rentals/{id}").buildAndExpand(newRental.getId()).toUri();
@@ -58,6 +84,14 @@ public class RentalController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<Rental> cancel(@PathVariable Long id) {
+        authService.getAuthenticatedUserId();
+        return cancelRentalUseCase.execute(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
         authService.getAuthenticatedUserId();
@@ -0,0 +1,61 @@
+package br.ifsp.vvts.controller;
+
+import br.ifsp.vvts.domain.model.report.CarRevenue;
+import br.ifsp.vvts.domain.model.report.DailyRevenue;
+import br.ifsp.vvts.domain.model.report.ModelRevenue;
+import br.ifsp.vvts.domain.model.report.RentalAnalytics;
+import br.ifsp.vvts.domain.useCases.RentalAnalyticsUseCase;
+import br.ifsp.vvts.domain.useCases.RevenueReportUseCase;
+import br.ifsp.vvts.security.auth.AuthenticationInfoService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/reports")
+public class ReportController {
+
+    private final RevenueReportUseCase revenueReportUseCase;
+    private final RentalAnalyticsUseCase rentalAnalyticsUseCase;
+    private final AuthenticationInfoService authService;
+
+    public ReportController(RevenueReportUseCase revenueReportUseCase, RentalAnalyticsUseCase rentalAnalyticsUseCase,
+                            AuthenticationInfoService authService) {
+        this.revenueReportUseCase = revenueReportUseCase;
+        this.rentalAnalyticsUseCase = rentalAnalyticsUseCase;
+        this.authService = authService;
+    }
+
+    @GetMapping("/revenue/daily")
+    public ResponseEntity<List<DailyRevenue>> daily(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                    @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        authService.getAuthenticatedUserId();
+        return ResponseEntity.ok(revenueReportUseCase.daily(from, to));
+    }
+
+    @GetMapping("/revenue/models")
+    public ResponseEntity<List<ModelRevenue>> byModel(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        authService.getAuthenticatedUserId();
+        return ResponseEntity.ok(revenueReportUseCase.byModel(from, to));
+    }
+
+    @GetMapping("/revenue/cars")
+    public ResponseEntity<List<CarRevenue>> byCar(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        authService.getAuthenticatedUserId();
+        return ResponseEntity.ok(revenueReportUseCase.byCar(from, to));
+    }
+
+    @GetMapping("/rentals")
+    public ResponseEntity<RentalAnalytics> rentals() {
+        authService.getAuthenticatedUserId();
+        return ResponseEntity.ok(rentalAnalyticsUseCase.execute());
+    }
+}
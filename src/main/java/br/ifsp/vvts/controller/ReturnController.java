@@ -1,21 +1,28 @@
 package br.ifsp.vvts.controller;
 
 import br.ifsp.vvts.domain.dto.ReturnCarRequest;
+import br.ifsp.vvts.domain.dto.ReturnCarResult;
 import br.ifsp.vvts.domain.model.rental.Rental;
+import br.ifsp.vvts.domain.useCases.BatchReturnCarUseCase;
 import br.ifsp.vvts.domain.useCases.ReturnCarUseCase;
 import br.ifsp.vvts.security.auth.AuthenticationInfoService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/returns")
 public class ReturnController {
 
     private final ReturnCarUseCase returnCarUseCase;
+    private final BatchReturnCarUseCase batchReturnCarUseCase;
     private final AuthenticationInfoService authService;
 
-    public ReturnController(ReturnCarUseCase returnCarUseCase, AuthenticationInfoService authService) {
+    public ReturnController(ReturnCarUseCase returnCarUseCase, BatchReturnCarUseCase batchReturnCarUseCase,
+                            AuthenticationInfoService authService) {
         this.returnCarUseCase = returnCarUseCase;
+        this.batchReturnCarUseCase = batchReturnCarUseCase;
         this.authService = authService;
     }
 
@@ -26,4 +33,12 @@ public class ReturnController {
         Rental returnedRental = returnCarUseCase.execute(request);
         return ResponseEntity.ok(returnedRental);
     }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<ReturnCarResult>> returnCars(@RequestBody List<ReturnCarRequest> requests) {
+        authService.getAuthenticatedUserId();
+
+        List<ReturnCarResult> results = batchReturnCarUseCase.execute(requests);
+        return ResponseEntity.ok(results);
+    }
 }
\ No newline at end of file
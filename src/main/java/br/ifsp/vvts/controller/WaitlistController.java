@@ -0,0 +1,55 @@
+package br.ifsp.vvts.controller;
+
+import br.ifsp.vvts.domain.dto.JoinWaitlistRequest;
+import br.ifsp.vvts.domain.model.booking.WaitlistEntry;
+import br.ifsp.vvts.domain.useCases.WaitlistUseCase;
+import br.ifsp.vvts.security.auth.AuthenticationInfoService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/waitlist")
+public class WaitlistController {
+
+    private final WaitlistUseCase waitlistUseCase;
+    private final AuthenticationInfoService authService;
+
+    public WaitlistController(WaitlistUseCase waitlistUseCase, AuthenticationInfoService authService) {
+        this.waitlistUseCase = waitlistUseCase;
+        this.authService = authService;
+    }
+
+    @PostMapping
+    public ResponseEntity<WaitlistEntry> join(@RequestBody JoinWaitlistRequest request, UriComponentsBuilder uriBuilder) {
+        authService.getAuthenticatedUserId();
+
+        WaitlistEntry entry = waitlistUseCase.join(request.licensePlate(), request.cpf(), request.startDate(),
+                request.endDate());
+
+        URI location = uriBuilder.path("/api/v1/waitlist/{id}").buildAndExpand(entry.id()).toUri();
+        return ResponseEntity.created(location).body(entry);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<WaitlistEntry> findById(@PathVariable UUID id) {
+        authService.getAuthenticatedUserId();
+        return waitlistUseCase.find(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> leave(@PathVariable UUID id) {
+        authService.getAuthenticatedUserId();
+
+        if (waitlistUseCase.leave(id)) {
+            return ResponseEntity.noContent().build();
+        } else {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package br.ifsp.vvts.domain.dto;
+
+import java.time.LocalDate;
+
+public record CreateClassRentalRequest(String brand, String model, String cpf, LocalDate startDate, LocalDate endDate,
+                                       boolean withInsurance, String branch) {
+}
@@ -1,6 +1,8 @@
 package br.ifsp.vvts.domain.dto;
 
 import java.time.LocalDate;
+import java.util.UUID;
 
-public record CreateRentalRequest(String licensePlate, String cpf, LocalDate startDate, LocalDate endDate, boolean withInsurance) {
+public record CreateRentalRequest(String licensePlate, String cpf, LocalDate startDate, LocalDate endDate, boolean withInsurance,
+                                  UUID holdId, String branch) {
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package br.ifsp.vvts.domain.dto;
+
+import java.time.LocalDate;
+
+public record JoinWaitlistRequest(String licensePlate, String cpf, LocalDate startDate, LocalDate endDate) {
+}
@@ -0,0 +1,4 @@
+package br.ifsp.vvts.domain.dto;
+
+public record QuoteCacheStats(long hits, long misses, double hitRate, int size, int capacity) {
+}
@@ -0,0 +1,14 @@
+package br.ifsp.vvts.domain.dto;
+
+import br.ifsp.vvts.domain.model.rental.Rental;
+
+public record ReturnCarResult(Long rentalId, boolean success, Rental rental, String error) {
+
+    public static ReturnCarResult success(Rental rental) {
+        return new ReturnCarResult(rental.getId(), true, rental, null);
+    }
+
+    public static ReturnCarResult failure(Long rentalId, String error) {
+        return new ReturnCarResult(rentalId, false, null, error);
+    }
+}
@@ -0,0 +1,9 @@
+package br.ifsp.vvts.domain.event;
+
+import br.ifsp.vvts.domain.model.catalog.Catalog;
+
+/**
+ * Escrita em um cadastro que invalida as versões já entregues dele.
+ */
+public record CatalogChanged(Catalog catalog) {
+}
@@ -0,0 +1,17 @@
+package br.ifsp.vvts.domain.event;
+
+import br.ifsp.vvts.domain.model.rental.RentalPeriod;
+
+import java.util.List;
+
+/**
+ * Carro que entrou ({@code delta} positivo) ou saiu da frota de um modelo, levando junto as locações ativas que já
+ * tinha, como quando o modelo do carro é alterado.
+ */
+public record FleetChanged(String licensePlate, String brand, String model, int delta,
+                           List<RentalPeriod> activeBookings) {
+
+    public FleetChanged(String licensePlate, String brand, String model, int delta) {
+        this(licensePlate, brand, model, delta, List.of());
+    }
+}
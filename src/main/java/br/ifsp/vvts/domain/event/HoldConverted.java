@@ -0,0 +1,10 @@
+package br.ifsp.vvts.domain.event;
+
+import java.util.UUID;
+
+/**
+ * Reserva temporária convertida em locação. A reserva só é liberada depois do commit, para que o período continue
+ * protegido enquanto a locação não está confirmada.
+ */
+public record HoldConverted(UUID holdId) {
+}
@@ -0,0 +1,9 @@
+package br.ifsp.vvts.domain.event;
+
+import br.ifsp.vvts.domain.model.booking.Hold;
+
+/**
+ * Reserva temporária que venceu ou foi liberada pelo cliente sem virar locação, deixando o período livre de novo.
+ */
+public record HoldLapsed(Hold hold) {
+}
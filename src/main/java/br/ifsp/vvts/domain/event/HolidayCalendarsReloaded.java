@@ -0,0 +1,7 @@
+package br.ifsp.vvts.domain.event;
+
+/**
+ * Calendários de feriados recarregados; orçamentos calculados com a versão anterior deixam de valer.
+ */
+public record HolidayCalendarsReloaded(long version) {
+}
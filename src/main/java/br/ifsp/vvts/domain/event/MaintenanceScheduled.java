@@ -0,0 +1,7 @@
+package br.ifsp.vvts.domain.event;
+
+/**
+ * Serviços de manutenção ou limpeza agendados para um carro, que deixa de estar livre no período bloqueado.
+ */
+public record MaintenanceScheduled(String licensePlate) {
+}
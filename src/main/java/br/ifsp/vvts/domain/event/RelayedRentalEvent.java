@@ -0,0 +1,10 @@
+package br.ifsp.vvts.domain.event;
+
+import java.time.Instant;
+
+/**
+ * Evento de locação entregue pelo relay da outbox, fora da transação que o gerou. A entrega é pelo menos uma vez, então
+ * quem trata o evento deve tolerar repetições.
+ */
+public record RelayedRentalEvent(Long outboxId, Instant occurredAt, RentalEvent event) {
+}
@@ -0,0 +1,7 @@
+package br.ifsp.vvts.domain.event;
+
+import java.time.LocalDate;
+
+public record RentalCanceled(Long rentalId, String licensePlate, String brand, String model, LocalDate startDate, LocalDate endDate)
+        implements RentalEvent {
+}
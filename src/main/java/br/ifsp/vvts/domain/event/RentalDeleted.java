@@ -0,0 +1,10 @@
+package br.ifsp.vvts.domain.event;
+
+import java.time.LocalDate;
+
+/**
+ * Locação removida. {@code wasActive} indica se ela ainda ocupava o carro no momento da remoção.
+ */
+public record RentalDeleted(Long rentalId, String licensePlate, String brand, String model, LocalDate startDate, LocalDate endDate,
+                            boolean wasActive) implements RentalEvent {
+}
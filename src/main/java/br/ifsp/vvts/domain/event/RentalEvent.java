@@ -0,0 +1,21 @@
+package br.ifsp.vvts.domain.event;
+
+import java.time.LocalDate;
+
+/**
+ * Mudança no ciclo de vida de uma locação, publicada pelos casos de uso e tratada após o commit.
+ */
+public sealed interface RentalEvent permits RentalCreated, RentalReturned, RentalCanceled, RentalDeleted {
+
+    Long rentalId();
+
+    String licensePlate();
+
+    String brand();
+
+    String model();
+
+    LocalDate startDate();
+
+    LocalDate endDate();
+}
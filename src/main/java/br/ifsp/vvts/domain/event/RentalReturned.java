@@ -0,0 +1,20 @@
+package br.ifsp.vvts.domain.event;
+
+import java.time.LocalDate;
+
+/**
+ * Locação encerrada pela devolução do carro, com os serviços que o carro precisa antes de voltar a ser alugado.
+ */
+public record RentalReturned(Long rentalId, String licensePlate, String brand, String model, LocalDate startDate, LocalDate endDate,
+                             LocalDate actualReturnDate, boolean needsMaintenance, boolean needsCleaning)
+        implements RentalEvent {
+
+    public RentalReturned(Long rentalId, String licensePlate, String brand, String model, LocalDate startDate,
+                          LocalDate endDate, LocalDate actualReturnDate) {
+        this(rentalId, licensePlate, brand, model, startDate, endDate, actualReturnDate, false, false);
+    }
+
+    public boolean needsService() {
+        return needsMaintenance || needsCleaning;
+    }
+}
@@ -0,0 +1,44 @@
+package br.ifsp.vvts.domain.model.booking;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Reservas de um carro, ordenadas pelo início. Cada reserva ocupa de {@code start} (inclusive) a {@code end}
+ * (exclusive).
+ */
+public final class CarCalendar {
+
+    /**
+     * Folga atribuída ao lado de um período sem nenhuma reserva antes ou depois.
+     */
+    public static final long UNBOUNDED_GAP = 1L << 32;
+
+    private final NavigableMap<LocalDate, LocalDate> bookings = new TreeMap<>();
+
+    public synchronized void book(LocalDate start, LocalDate end) {
+        bookings.put(start, end);
+    }
+
+    public synchronized void release(LocalDate start, LocalDate end) {
+        bookings.remove(start, end);
+    }
+
+    /**
+     * Dias livres que sobram antes e depois do período se ele for reservado neste carro, ou -1 se o período conflita
+     * com uma reserva. Quanto menor a folga, menos o período fragmenta o tempo livre do carro.
+     */
+    public synchronized long fit(LocalDate start, LocalDate end) {
+        Map.Entry<LocalDate, LocalDate> previous = bookings.lowerEntry(end);
+        if (previous != null && previous.getValue().isAfter(start)) {
+            return -1;
+        }
+        Map.Entry<LocalDate, LocalDate> next = bookings.ceilingEntry(end);
+        long gapBefore = previous == null ? UNBOUNDED_GAP : ChronoUnit.DAYS.between(previous.getValue(), start);
+        long gapAfter = next == null ? UNBOUNDED_GAP : ChronoUnit.DAYS.between(end, next.getKey());
+        return gapBefore + gapAfter;
+    }
+}
@@ -0,0 +1,24 @@
+package br.ifsp.vvts.domain.model.booking;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Reserva temporária de um carro no período, feita para o cliente {@code cpf}. Só esse cliente pode convertê-la em
+ * locação.
+ */
+public record Hold(UUID id, String licensePlate, String cpf, LocalDate startDate, LocalDate endDate, Instant expiresAt) {
+
+    public boolean overlaps(LocalDate start, LocalDate end) {
+        return start.isBefore(endDate) && end.isAfter(startDate);
+    }
+
+    public boolean covers(String plate, LocalDate start, LocalDate end) {
+        return licensePlate.equals(plate) && startDate.equals(start) && endDate.equals(end);
+    }
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,66 @@
+package br.ifsp.vvts.domain.model.booking;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Roda de temporização: cada entrada fica no compartimento do tick em que expira, e avançar a roda só percorre os
+ * compartimentos dos ticks decorridos. Entradas com prazo além de uma volta permanecem no compartimento até a volta
+ * certa.
+ */
+public final class TimingWheel<T> {
+
+    private record Entry<T>(T value, long deadline) {
+    }
+
+    private final long tickMillis;
+    private final List<List<Entry<T>>> slots;
+    private long currentTick;
+
+    public TimingWheel(long tickMillis, int slotCount, long nowMillis) {
+        if (tickMillis < 1 || slotCount < 1) {
+            throw new IllegalArgumentException("The timing wheel tick and slot count must be positive.");
+        }
+        this.tickMillis = tickMillis;
+        this.slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots.add(new ArrayList<>());
+        }
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    public synchronized void add(T value, long deadlineMillis) {
+        long tick = Math.max(deadlineMillis / tickMillis, currentTick);
+        slots.get(slotOf(tick)).add(new Entry<>(value, deadlineMillis));
+    }
+
+    /**
+     * Avança até {@code nowMillis} e devolve as entradas cujo prazo passou.
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        long ticks = Math.min(targetTick - currentTick + 1, slots.size());
+        List<T> expired = new ArrayList<>();
+        for (long tick = targetTick - ticks + 1; tick <= targetTick; tick++) {
+            Iterator<Entry<T>> entries = slots.get(slotOf(tick)).iterator();
+            while (entries.hasNext()) {
+                Entry<T> entry = entries.next();
+                if (entry.deadline() <= nowMillis) {
+                    expired.add(entry.value());
+                    entries.remove();
+                }
+            }
+        }
+        currentTick = Math.max(currentTick, targetTick);
+        return expired;
+    }
+
+    public synchronized int size() {
+        return slots.stream().mapToInt(List::size).sum();
+    }
+
+    private int slotOf(long tick) {
+        return (int) Math.floorMod(tick, (long) slots.size());
+    }
+}
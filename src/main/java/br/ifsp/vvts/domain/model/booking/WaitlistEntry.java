@@ -0,0 +1,30 @@
+package br.ifsp.vvts.domain.model.booking;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Cliente aguardando um carro em um período. Quando o carro fica livre, a entrada recebe a reserva temporária
+ * oferecida ({@code offeredHoldId}), que o cliente usa para concluir a locação.
+ */
+public record WaitlistEntry(UUID id, String licensePlate, String cpf, LocalDate startDate, LocalDate endDate,
+                            Instant requestedAt, long sequence, UUID offeredHoldId, Instant offerExpiresAt) {
+
+    public static final Comparator<WaitlistEntry> PRIORITY =
+            Comparator.comparing(WaitlistEntry::requestedAt).thenComparingLong(WaitlistEntry::sequence);
+
+    public boolean overlaps(LocalDate start, LocalDate end) {
+        return start.isBefore(endDate) && end.isAfter(startDate);
+    }
+
+    public WaitlistEntry withOffer(Hold hold) {
+        return new WaitlistEntry(id, licensePlate, cpf, startDate, endDate, requestedAt, sequence, hold.id(),
+                hold.expiresAt());
+    }
+
+    public WaitlistEntry withoutOffer() {
+        return new WaitlistEntry(id, licensePlate, cpf, startDate, endDate, requestedAt, sequence, null, null);
+    }
+}
@@ -0,0 +1,44 @@
+package br.ifsp.vvts.domain.model.calendar;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Região de feriados de cada filial. Filiais sem região configurada usam o calendário padrão.
+ */
+public final class BranchRegions {
+
+    private static final BranchRegions NONE = new BranchRegions(Map.of());
+
+    private final Map<String, String> regionsByBranch;
+
+    private BranchRegions(Map<String, String> regionsByBranch) {
+        this.regionsByBranch = regionsByBranch;
+    }
+
+    public static BranchRegions none() {
+        return NONE;
+    }
+
+    public static BranchRegions of(Map<String, String> regionsByBranch) {
+        if (regionsByBranch == null || regionsByBranch.isEmpty()) {
+            return NONE;
+        }
+        Map<String, String> normalized = new HashMap<>();
+        regionsByBranch.forEach((branch, region) -> {
+            if (region == null || region.isBlank()) {
+                throw new IllegalArgumentException("The holiday region of branch " + branch + " cannot be blank.");
+            }
+            normalized.put(branch.toUpperCase(Locale.ROOT), region.trim());
+        });
+        return new BranchRegions(Map.copyOf(normalized));
+    }
+
+    /**
+     * Região da filial, ou nulo quando a filial é nula ou não tem região configurada.
+     */
+    public String regionOf(String branch) {
+        return branch == null ? null : regionsByBranch.get(branch.toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,121 @@
+package br.ifsp.vvts.domain.model.calendar;
+
+import java.nio.IntBuffer;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.stream.IntStream;
+
+/**
+ * Conjunto imutável de feriados, guardado como um bitmap indexado pelo dia epoch. Só aceita dias entre
+ * {@link #MIN_DATE} e {@link #MAX_DATE}, o que limita o bitmap a poucos kilobytes mesmo para um arquivo corrompido.
+ */
+public final class HolidayCalendar {
+
+    public static final LocalDate MIN_DATE = LocalDate.of(1900, 1, 1);
+    public static final LocalDate MAX_DATE = LocalDate.of(2200, 12, 31);
+
+    private static final int MIN_EPOCH_DAY = Math.toIntExact(MIN_DATE.toEpochDay());
+    private static final int MAX_EPOCH_DAY = Math.toIntExact(MAX_DATE.toEpochDay());
+
+    private static final HolidayCalendar EMPTY = new HolidayCalendar(0, new long[0], 0);
+
+    private final int firstEpochDay;
+    private final long[] words;
+    private final int size;
+
+    private HolidayCalendar(int firstEpochDay, long[] words, int size) {
+        this.firstEpochDay = firstEpochDay;
+        this.words = words;
+        this.size = size;
+    }
+
+    public static HolidayCalendar empty() {
+        return EMPTY;
+    }
+
+    public static HolidayCalendar of(Collection<LocalDate> holidays) {
+        if (holidays == null) {
+            throw new NullPointerException("Holidays cannot be null.");
+        }
+        int[] days = holidays.stream()
+                .mapToInt(date -> Math.toIntExact(date.toEpochDay()))
+                .sorted()
+                .distinct()
+                .toArray();
+        return fromSortedEpochDays(IntBuffer.wrap(days));
+    }
+
+    public static HolidayCalendar fromSortedEpochDays(IntBuffer epochDays) {
+        if (epochDays == null) {
+            throw new NullPointerException("Epoch days cannot be null.");
+        }
+        if (!epochDays.hasRemaining()) {
+            return EMPTY;
+        }
+
+        int first = epochDays.get(epochDays.position());
+        int last = epochDays.get(epochDays.limit() - 1);
+        if (last < first) {
+            throw new IllegalArgumentException("Epoch days must be sorted in ascending order.");
+        }
+        if (first < MIN_EPOCH_DAY || last > MAX_EPOCH_DAY) {
+            throw new IllegalArgumentException("Holidays must be between " + MIN_DATE + " and " + MAX_DATE + ".");
+        }
+
+        long[] words = new long[(int) (((long) last - first) / Long.SIZE) + 1];
+        int size = 0;
+        int previous = Integer.MIN_VALUE;
+        for (int i = epochDays.position(); i < epochDays.limit(); i++) {
+            int day = epochDays.get(i);
+            if (day < previous || day > last) {
+                throw new IllegalArgumentException("Epoch days must be sorted in ascending order.");
+            }
+            if (day != previous) {
+                int offset = day - first;
+                words[offset >>> 6] |= 1L << offset;
+                size++;
+            }
+            previous = day;
+        }
+        return new HolidayCalendar(first, words, size);
+    }
+
+    public boolean isHoliday(LocalDate date) {
+        long offset = date.toEpochDay() - firstEpochDay;
+        if (offset < 0 || offset >= (long) words.length * Long.SIZE) {
+            return false;
+        }
+        return (words[(int) (offset >>> 6)] & (1L << offset)) != 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Dias epoch, em ordem crescente, que são feriado em só um dos dois calendários. Percorre apenas os feriados de
+     * cada um, não o intervalo entre eles.
+     */
+    public int[] differingEpochDays(HolidayCalendar other) {
+        if (other == null) {
+            throw new NullPointerException("The other calendar cannot be null.");
+        }
+        return IntStream.concat(
+                        epochDays().filter(day -> !other.isHoliday(LocalDate.ofEpochDay(day))),
+                        other.epochDays().filter(day -> !isHoliday(LocalDate.ofEpochDay(day))))
+                .sorted()
+                .toArray();
+    }
+
+    private IntStream epochDays() {
+        IntStream.Builder days = IntStream.builder();
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                days.add(firstEpochDay + i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return days.build();
+    }
+}
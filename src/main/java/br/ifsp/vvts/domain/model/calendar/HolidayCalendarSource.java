@@ -0,0 +1,15 @@
+package br.ifsp.vvts.domain.model.calendar;
+
+public interface HolidayCalendarSource {
+
+    HolidayCalendar defaultCalendar();
+
+    HolidayCalendar forRegion(String region);
+
+    /**
+     * Muda sempre que algum calendário é recarregado.
+     */
+    default long version() {
+        return 0;
+    }
+}
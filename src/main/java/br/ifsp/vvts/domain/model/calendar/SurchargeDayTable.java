@@ -0,0 +1,107 @@
+package br.ifsp.vvts.domain.model.calendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Soma acumulada de dias com acréscimo (fim de semana ou feriado) dentro de uma janela de datas, para contar os dias
+ * de qualquer período com duas leituras. Datas fora da janela são contadas dia a dia.
+ */
+public final class SurchargeDayTable {
+
+    private final HolidayCalendar calendar;
+    private final long firstEpochDay;
+    private final int[] prefix;
+
+    private SurchargeDayTable(HolidayCalendar calendar, long firstEpochDay, int[] prefix) {
+        this.calendar = calendar;
+        this.firstEpochDay = firstEpochDay;
+        this.prefix = prefix;
+    }
+
+    public static SurchargeDayTable build(HolidayCalendar calendar, LocalDate windowStart, LocalDate windowEnd) {
+        if (calendar == null) {
+            throw new NullPointerException("The holiday calendar cannot be null.");
+        }
+        if (!windowStart.isBefore(windowEnd)) {
+            throw new IllegalArgumentException("The window start must be before the window end.");
+        }
+        long firstEpochDay = windowStart.toEpochDay();
+        int[] prefix = new int[Math.toIntExact(windowEnd.toEpochDay() - firstEpochDay) + 1];
+        fill(prefix, calendar, firstEpochDay, 0);
+        return new SurchargeDayTable(calendar, firstEpochDay, prefix);
+    }
+
+    /**
+     * Ajusta a soma acumulada só pelos dias úteis que mudaram de feriado entre os dois calendários; a partir de cada
+     * um, as somas seguintes são deslocadas em uma unidade, sem consultar o calendário de novo.
+     */
+    public SurchargeDayTable rebuild(HolidayCalendar newCalendar) {
+        if (newCalendar == null) {
+            throw new NullPointerException("The holiday calendar cannot be null.");
+        }
+        if (newCalendar == calendar) {
+            return this;
+        }
+
+        int days = prefix.length - 1;
+        int[] changed = Arrays.stream(calendar.differingEpochDays(newCalendar))
+                .mapToLong(day -> day - firstEpochDay)
+                .filter(index -> index >= 0 && index < days)
+                .mapToInt(Math::toIntExact)
+                .filter(index -> !isWeekend(LocalDate.ofEpochDay(firstEpochDay + index)))
+                .toArray();
+        if (changed.length == 0) {
+            return new SurchargeDayTable(newCalendar, firstEpochDay, prefix);
+        }
+
+        int[] rebuilt = Arrays.copyOf(prefix, prefix.length);
+        int shift = 0;
+        int next = 0;
+        for (int i = changed[0]; i < days; i++) {
+            if (next < changed.length && changed[next] == i) {
+                shift += newCalendar.isHoliday(LocalDate.ofEpochDay(firstEpochDay + i)) ? 1 : -1;
+                next++;
+            }
+            rebuilt[i + 1] = prefix[i + 1] + shift;
+        }
+        return new SurchargeDayTable(newCalendar, firstEpochDay, rebuilt);
+    }
+
+    public int countSurchargeDays(LocalDate startDate, LocalDate endDate) {
+        long from = startDate.toEpochDay() - firstEpochDay;
+        long to = endDate.toEpochDay() - firstEpochDay;
+        if (from >= 0 && to < prefix.length && from <= to) {
+            return prefix[(int) to] - prefix[(int) from];
+        }
+
+        int count = 0;
+        for (LocalDate date = startDate; date.isBefore(endDate); date = date.plusDays(1)) {
+            if (isSurchargeDay(date, calendar)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public HolidayCalendar calendar() {
+        return calendar;
+    }
+
+    private static void fill(int[] prefix, HolidayCalendar calendar, long firstEpochDay, int fromIndex) {
+        for (int i = fromIndex; i < prefix.length - 1; i++) {
+            LocalDate date = LocalDate.ofEpochDay(firstEpochDay + i);
+            prefix[i + 1] = prefix[i] + (isSurchargeDay(date, calendar) ? 1 : 0);
+        }
+    }
+
+    private static boolean isSurchargeDay(LocalDate date, HolidayCalendar calendar) {
+        return isWeekend(date) || calendar.isHoliday(date);
+    }
+
+    private static boolean isWeekend(LocalDate date) {
+        DayOfWeek day = date.getDayOfWeek();
+        return day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY;
+    }
+}
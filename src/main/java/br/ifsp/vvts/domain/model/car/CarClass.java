@@ -0,0 +1,24 @@
+package br.ifsp.vvts.domain.model.car;
+
+import java.util.Locale;
+
+/**
+ * Marca e modelo normalizados, usados para agrupar carros intercambiáveis.
+ */
+public record CarClass(String brand, String model) {
+
+    public CarClass {
+        if (brand == null || brand.isBlank()) {
+            throw new IllegalArgumentException("Brand cannot be blank");
+        }
+        if (model == null || model.isBlank()) {
+            throw new IllegalArgumentException("Model cannot be blank");
+        }
+        brand = brand.trim().toUpperCase(Locale.ROOT);
+        model = model.trim().toUpperCase(Locale.ROOT);
+    }
+
+    public static CarClass of(Car car) {
+        return new CarClass(car.brand(), car.model());
+    }
+}
@@ -7,6 +7,7 @@ import java.util.regex.Pattern;
 
 public final class LicensePlate {
     private static final Pattern PATTERN = Pattern.compile("[A-Z]{3}[0-9][0-9A-Z][0-9]{2}");
+    private static final int CODE_LIMIT = 26 * 26 * 26 * 10 * 36 * 100;
 
     private final String value;
 
@@ -21,6 +22,45 @@ public final class LicensePlate {
         return new LicensePlate(value);
     }
 
+    /**
+     * Não valida o formato; use apenas com placas lidas do banco, que já foram validadas na escrita.
+     */
+    public static LicensePlate ofTrusted(String value) {
+        return new LicensePlate(value);
+    }
+
+    public static LicensePlate fromCode(int code) {
+        if (code < 0 || code >= CODE_LIMIT) {
+            throw new IllegalArgumentException("Invalid license plate code: " + code);
+        }
+        char[] chars = new char[7];
+        int rest = code;
+        chars[6] = (char) ('0' + rest % 10);
+        rest /= 10;
+        chars[5] = (char) ('0' + rest % 10);
+        rest /= 10;
+        chars[4] = Character.toUpperCase(Character.forDigit(rest % 36, 36));
+        rest /= 36;
+        chars[3] = (char) ('0' + rest % 10);
+        rest /= 10;
+        chars[2] = (char) ('A' + rest % 26);
+        rest /= 26;
+        chars[1] = (char) ('A' + rest % 26);
+        rest /= 26;
+        chars[0] = (char) ('A' + rest);
+        return new LicensePlate(new String(chars));
+    }
+
+    public int toCode() {
+        int code = value.charAt(0) - 'A';
+        code = code * 26 + (value.charAt(1) - 'A');
+        code = code * 26 + (value.charAt(2) - 'A');
+        code = code * 10 + (value.charAt(3) - '0');
+        code = code * 36 + Character.digit(value.charAt(4), 36);
+        code = code * 100 + (value.charAt(5) - '0') * 10 + (value.charAt(6) - '0');
+        return code;
+    }
+
     @JsonValue
     public String value() {
         return value;
@@ -0,0 +1,6 @@
+package br.ifsp.vvts.domain.model.catalog;
+
+public enum Catalog {
+    CARS,
+    CUSTOMERS
+}
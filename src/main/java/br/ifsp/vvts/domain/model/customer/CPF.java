@@ -33,6 +33,25 @@ public class CPF implements Serializable {
         return Optional.of(new CPF(d));
     }
 
+    /**
+     * Não valida os dígitos verificadores; use apenas com CPFs lidos do banco, que já foram validados na escrita.
+     */
+    public static CPF ofTrusted(String digits) {
+        return new CPF(digits);
+    }
+
+    public static CPF fromCode(long code) {
+        String d = code < 0 ? "" : String.format("%011d", code);
+        if (!isValidDigits(d)) {
+            throw new IllegalArgumentException("Invalid CPF code: " + code);
+        }
+        return new CPF(d);
+    }
+
+    public long toCode() {
+        return Long.parseLong(digits);
+    }
+
     public String unformat() {
         return digits;
     }
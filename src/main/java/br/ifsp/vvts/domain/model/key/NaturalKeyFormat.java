@@ -0,0 +1,46 @@
+package br.ifsp.vvts.domain.model.key;
+
+import br.ifsp.vvts.domain.model.car.LicensePlate;
+import br.ifsp.vvts.domain.model.customer.CPF;
+
+/**
+ * Forma como placas e CPFs são gravados na própria coluna da chave: texto, ou inteiro compacto ({@link
+ * LicensePlate#toCode()} e {@link CPF#toCode()}). A leitura aceita as duas formas, o que permite converter um banco
+ * existente linha a linha.
+ */
+public enum NaturalKeyFormat {
+    TEXT,
+    COMPACT;
+
+    public static NaturalKeyFormat of(boolean compact) {
+        return compact ? COMPACT : TEXT;
+    }
+
+    public Object store(LicensePlate licensePlate) {
+        return this == COMPACT ? Integer.valueOf(licensePlate.toCode()) : licensePlate.value();
+    }
+
+    public Object store(CPF cpf) {
+        return this == COMPACT ? Long.valueOf(cpf.toCode()) : cpf.unformat();
+    }
+
+    public static LicensePlate readLicensePlate(Object stored) {
+        if (stored instanceof Number code) {
+            return LicensePlate.fromCode(code.intValue());
+        }
+        if (stored instanceof String value) {
+            return LicensePlate.of(value);
+        }
+        throw new IllegalArgumentException("Invalid stored license plate: " + stored);
+    }
+
+    public static CPF readCpf(Object stored) {
+        if (stored instanceof Number code) {
+            return CPF.fromCode(code.longValue());
+        }
+        if (stored instanceof String digits) {
+            return CPF.of(digits);
+        }
+        throw new IllegalArgumentException("Invalid stored CPF: " + stored);
+    }
+}
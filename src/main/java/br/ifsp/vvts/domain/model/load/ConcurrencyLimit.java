@@ -0,0 +1,72 @@
+package br.ifsp.vvts.domain.model.load;
+
+import java.time.Duration;
+
+/**
+ * Limite adaptativo de requisições simultâneas (AIMD). Cada requisição concluída abaixo do limiar de latência soma
+ * {@code 1 / limite}, o que aumenta o limite em cerca de um a cada janela cheia; uma requisição lenta ou com falha o
+ * multiplica por {@link #BACKOFF_RATIO}. O limite só cresce enquanto está de fato em uso, para não inflar em períodos
+ * ociosos.
+ */
+public final class ConcurrencyLimit {
+
+    public static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+
+    private double limit;
+    private int inFlight;
+
+    public ConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("The limits must satisfy 1 <= min <= max.");
+        }
+        if (initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("The initial limit must be between the min and max limits.");
+        }
+        if (latencyThreshold == null || latencyThreshold.isNegative() || latencyThreshold.isZero()) {
+            throw new IllegalArgumentException("The latency threshold must be positive.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Reserva uma vaga, ou devolve {@code false} sem esperar quando o limite já foi atingido.
+     */
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Libera a vaga e ajusta o limite pela latência medida; {@code failed} conta como sobrecarga.
+     */
+    public synchronized void release(long latencyNanos, boolean failed) {
+        if (inFlight == 0) {
+            throw new IllegalStateException("There is no request in flight to release.");
+        }
+        boolean saturated = inFlight * 2 >= (int) limit;
+        inFlight--;
+        if (failed || latencyNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        } else if (saturated) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    public synchronized int limit() {
+        return (int) limit;
+    }
+
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+}
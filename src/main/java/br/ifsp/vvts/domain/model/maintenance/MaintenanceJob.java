@@ -0,0 +1,12 @@
+package br.ifsp.vvts.domain.model.maintenance;
+
+import java.time.LocalDate;
+
+/**
+ * Serviço pendente ou concluído em um carro. Enquanto não estiver concluído, o carro fica indisponível de
+ * {@code blockedFrom} (inclusive) até {@code blockedUntil} (exclusive).
+ */
+public record MaintenanceJob(Long id, Long rentalId, String licensePlate, MaintenanceJobType type,
+                             MaintenanceJobStatus status, int durationDays, LocalDate blockedFrom,
+                             LocalDate blockedUntil) {
+}
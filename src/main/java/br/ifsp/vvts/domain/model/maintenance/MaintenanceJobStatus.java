@@ -0,0 +1,7 @@
+package br.ifsp.vvts.domain.model.maintenance;
+
+public enum MaintenanceJobStatus {
+    QUEUED,
+    IN_PROGRESS,
+    DONE
+}
@@ -0,0 +1,9 @@
+package br.ifsp.vvts.domain.model.maintenance;
+
+/**
+ * Tipos de serviço, em ordem de prioridade na fila.
+ */
+public enum MaintenanceJobType {
+    MAINTENANCE,
+    CLEANING
+}
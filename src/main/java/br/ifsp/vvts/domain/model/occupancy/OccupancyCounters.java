@@ -0,0 +1,94 @@
+package br.ifsp.vvts.domain.model.occupancy;
+
+import br.ifsp.vvts.domain.model.car.CarClass;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Quantidade de carros de cada modelo na frota e de locações ativas por dia, mantidas com contadores atômicos. Dias
+ * fora da janela não são contados.
+ */
+public final class OccupancyCounters {
+
+    private record Counters(AtomicInteger fleetSize, AtomicIntegerArray bookedByDay) {
+    }
+
+    private final Map<CarClass, Counters> byModel = new ConcurrentHashMap<>();
+    private final long windowStart;
+    private final int windowDays;
+
+    public OccupancyCounters(LocalDate windowStart, LocalDate windowEnd) {
+        if (!windowStart.isBefore(windowEnd)) {
+            throw new IllegalArgumentException("The window start must be before the window end.");
+        }
+        this.windowStart = windowStart.toEpochDay();
+        this.windowDays = Math.toIntExact(windowEnd.toEpochDay() - this.windowStart);
+    }
+
+    public void changeFleet(String brand, String model, int delta) {
+        counters(brand, model).fleetSize().updateAndGet(size -> Math.max(0, size + delta));
+    }
+
+    public void book(String brand, String model, LocalDate start, LocalDate endExclusive) {
+        AtomicIntegerArray booked = counters(brand, model).bookedByDay();
+        for (int day = index(start), last = index(endExclusive); day < last; day++) {
+            booked.incrementAndGet(day);
+        }
+    }
+
+    public void release(String brand, String model, LocalDate start, LocalDate endExclusive) {
+        AtomicIntegerArray booked = counters(brand, model).bookedByDay();
+        for (int day = index(start), last = index(endExclusive); day < last; day++) {
+            booked.getAndUpdate(day, count -> Math.max(0, count - 1));
+        }
+    }
+
+    /**
+     * Maior fração da frota do modelo locada em um mesmo dia do período, entre 0 e 1.
+     */
+    public double peakUtilization(String brand, String model, LocalDate start, LocalDate endExclusive) {
+        Counters counters = byModel.get(key(brand, model));
+        if (counters == null) {
+            return 0.0;
+        }
+        int fleetSize = counters.fleetSize().get();
+        if (fleetSize == 0) {
+            return 0.0;
+        }
+        int peak = 0;
+        for (int day = index(start), last = index(endExclusive); day < last; day++) {
+            peak = Math.max(peak, counters.bookedByDay().get(day));
+        }
+        return Math.min(1.0, (double) peak / fleetSize);
+    }
+
+    public int fleetSize(String brand, String model) {
+        Counters counters = byModel.get(key(brand, model));
+        return counters == null ? 0 : counters.fleetSize().get();
+    }
+
+    public int totalFleetSize() {
+        return byModel.values().stream().mapToInt(counters -> counters.fleetSize().get()).sum();
+    }
+
+    public void clear() {
+        byModel.clear();
+    }
+
+    private Counters counters(String brand, String model) {
+        return byModel.computeIfAbsent(key(brand, model),
+                k -> new Counters(new AtomicInteger(), new AtomicIntegerArray(windowDays)));
+    }
+
+    private int index(LocalDate date) {
+        return Math.clamp(date.toEpochDay() - windowStart, 0, windowDays);
+    }
+
+    private static CarClass key(String brand, String model) {
+        return new CarClass(brand, model);
+    }
+}
@@ -0,0 +1,6 @@
+package br.ifsp.vvts.domain.model.pricing;
+
+import java.math.BigDecimal;
+
+public record DiscountTier(int minDays, BigDecimal rate) {
+}
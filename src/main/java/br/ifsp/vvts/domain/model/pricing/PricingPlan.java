@@ -0,0 +1,104 @@
+package br.ifsp.vvts.domain.model.pricing;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Conjunto de regras compilado em tabelas: desconto por quantidade de dias e multiplicador de seguro são lidos por
+ * índice, sem percorrer as faixas a cada orçamento.
+ */
+public final class PricingPlan {
+
+    public static final int MAX_RENTAL_DAYS = 60;
+
+    private final BigDecimal surchargeRate;
+    private final BigDecimal[] insuranceMultipliers;
+    private final BigDecimal[] discountMultipliers;
+    private final BigDecimal earlyReturnPenaltyRate;
+    private final BigDecimal lateFeeMultiplier;
+    private final BigDecimal maintenanceMultiplier;
+    private final BigDecimal cleaningFee;
+    private final double utilizationThreshold;
+    private final double utilizationSurcharge;
+
+    private PricingPlan(PricingRuleSet rules) {
+        this.surchargeRate = rules.weekendHolidaySurcharge();
+        this.insuranceMultipliers = new BigDecimal[]{BigDecimal.ONE, BigDecimal.ONE.add(rules.insuranceRate())};
+        this.discountMultipliers = compileDiscounts(rules.discountTiers());
+        this.earlyReturnPenaltyRate = rules.earlyReturnPenaltyRate();
+        this.lateFeeMultiplier = BigDecimal.ONE.add(rules.lateReturnPenaltyRate());
+        this.maintenanceMultiplier = BigDecimal.ONE.add(rules.maintenanceFeeRate());
+        this.cleaningFee = rules.cleaningFee();
+        this.utilizationThreshold = rules.utilizationThreshold().doubleValue();
+        this.utilizationSurcharge = rules.utilizationSurcharge().doubleValue();
+    }
+
+    public static PricingPlan compile(PricingRuleSet rules) {
+        if (rules == null) {
+            throw new NullPointerException("The pricing rules cannot be null.");
+        }
+        double threshold = rules.utilizationThreshold().doubleValue();
+        if (threshold < 0 || threshold >= 1) {
+            throw new IllegalArgumentException("The utilization threshold must be at least 0 and below 1.");
+        }
+        return new PricingPlan(rules);
+    }
+
+    private static BigDecimal[] compileDiscounts(List<DiscountTier> tiers) {
+        BigDecimal[] multipliers = new BigDecimal[MAX_RENTAL_DAYS + 1];
+        List<DiscountTier> ordered = tiers.stream().sorted(Comparator.comparingInt(DiscountTier::minDays)).toList();
+        BigDecimal current = BigDecimal.ONE;
+        int next = 0;
+        for (int days = 0; days <= MAX_RENTAL_DAYS; days++) {
+            while (next < ordered.size() && ordered.get(next).minDays() <= days) {
+                current = BigDecimal.ONE.subtract(ordered.get(next).rate());
+                next++;
+            }
+            multipliers[days] = current;
+        }
+        return multipliers;
+    }
+
+    public BigDecimal totalPrice(BigDecimal dailyRate, int days, int surchargeDays, boolean withInsurance) {
+        return totalPrice(dailyRate, days, surchargeDays, withInsurance, BigDecimal.ONE);
+    }
+
+    public BigDecimal totalPrice(BigDecimal dailyRate, int days, int surchargeDays, boolean withInsurance,
+                                 BigDecimal utilizationMultiplier) {
+        BigDecimal basePrice = dailyRate.multiply(BigDecimal.valueOf(days));
+        BigDecimal surcharges = dailyRate.multiply(surchargeRate).multiply(BigDecimal.valueOf(surchargeDays));
+
+        return basePrice.add(surcharges)
+                .multiply(insuranceMultipliers[withInsurance ? 1 : 0])
+                .multiply(discountMultipliers[Math.min(days, MAX_RENTAL_DAYS)])
+                .multiply(utilizationMultiplier)
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Multiplicador de preço para a ocupação informada, arredondado em quatro casas para que orçamentos com a mesma
+     * faixa de ocupação compartilhem a entrada do cache.
+     */
+    public BigDecimal utilizationMultiplier(double utilization) {
+        double excess = Math.max(0.0, utilization - utilizationThreshold) / (1.0 - utilizationThreshold);
+        return BigDecimal.valueOf(1.0 + utilizationSurcharge * Math.min(1.0, excess)).setScale(4, RoundingMode.HALF_UP);
+    }
+
+    public BigDecimal earlyReturnPrice(BigDecimal dailyRate, long daysUsed, long daysUnused) {
+        BigDecimal priceForDaysUsed = dailyRate.multiply(BigDecimal.valueOf(daysUsed));
+        BigDecimal penalty = dailyRate.multiply(BigDecimal.valueOf(daysUnused)).multiply(earlyReturnPenaltyRate);
+        return priceForDaysUsed.add(penalty);
+    }
+
+    public BigDecimal lateFee(BigDecimal dailyRate, long lateDays) {
+        return dailyRate.multiply(BigDecimal.valueOf(lateDays)).multiply(lateFeeMultiplier);
+    }
+
+    public BigDecimal applyReturnFees(BigDecimal price, boolean needsMaintenance, boolean needsCleaning) {
+        BigDecimal withMaintenance = needsMaintenance ? price.multiply(maintenanceMultiplier) : price;
+        BigDecimal withCleaning = needsCleaning ? withMaintenance.add(cleaningFee) : withMaintenance;
+        return withCleaning.setScale(2, RoundingMode.HALF_UP);
+    }
+}
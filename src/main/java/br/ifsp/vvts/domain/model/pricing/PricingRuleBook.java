@@ -0,0 +1,112 @@
+package br.ifsp.vvts.domain.model.pricing;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Regras de precificação compiladas por filial e dia do ano. A consulta de um plano é uma leitura de mapa seguida de
+ * um acesso a array; as sobreposições de filial e temporada são resolvidas uma única vez, na compilação.
+ */
+public final class PricingRuleBook {
+
+    private static final String DEFAULT_BRANCH = "";
+    private static final int DAYS_IN_LEAP_YEAR = 366;
+    private static final int LEAP_YEAR = 2000;
+
+    private final Map<String, PricingPlan[]> plansByBranch;
+
+    private PricingRuleBook(Map<String, PricingPlan[]> plansByBranch) {
+        this.plansByBranch = plansByBranch;
+    }
+
+    public static PricingRuleBook defaults() {
+        return compile(PricingRuleSet.DEFAULTS, Map.of(), List.of());
+    }
+
+    public static PricingRuleBook compile(PricingRuleSet defaults, Map<String, PricingRuleSet> branches,
+                                          List<SeasonRule> seasons) {
+        PricingRuleSet base = PricingRuleSet.DEFAULTS.overriddenBy(defaults);
+        Map<String, PricingRuleSet> branchRules = new HashMap<>();
+        branchRules.put(DEFAULT_BRANCH, base);
+        if (branches != null) {
+            branches.forEach((branch, rules) -> branchRules.put(normalize(branch), base.overriddenBy(rules)));
+        }
+        List<SeasonRule> seasonRules = seasons == null ? List.of() : seasons;
+        seasonRules.forEach(PricingRuleBook::validate);
+
+        Map<PricingRuleSet, PricingPlan> compiled = new HashMap<>();
+        Map<String, PricingPlan[]> plansByBranch = new HashMap<>();
+        branchRules.forEach((branch, rules) -> {
+            PricingRuleSet[] byDay = new PricingRuleSet[DAYS_IN_LEAP_YEAR];
+            Arrays.fill(byDay, rules);
+            applySeasons(byDay, seasonRules, null);
+            if (!branch.equals(DEFAULT_BRANCH)) {
+                applySeasons(byDay, seasonRules, branch);
+            }
+            PricingPlan[] plans = new PricingPlan[DAYS_IN_LEAP_YEAR];
+            for (int day = 0; day < DAYS_IN_LEAP_YEAR; day++) {
+                plans[day] = compiled.computeIfAbsent(byDay[day], PricingPlan::compile);
+            }
+            plansByBranch.put(branch, plans);
+        });
+        return new PricingRuleBook(Map.copyOf(plansByBranch));
+    }
+
+    public PricingPlan planFor(String branch, LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("The pricing date cannot be null.");
+        }
+        PricingPlan[] plans = branch == null ? null : plansByBranch.get(normalize(branch));
+        if (plans == null) {
+            plans = plansByBranch.get(DEFAULT_BRANCH);
+        }
+        return plans[dayIndex(MonthDay.from(date))];
+    }
+
+    private static void applySeasons(PricingRuleSet[] byDay, List<SeasonRule> seasons, String branch) {
+        for (SeasonRule season : seasons) {
+            String seasonBranch = season.branch() == null ? null : normalize(season.branch());
+            if (branch == null ? seasonBranch != null : !branch.equals(seasonBranch)) {
+                continue;
+            }
+            int from = dayIndex(parse(season.from()));
+            int to = dayIndex(parse(season.to()));
+            for (int day = from; ; day = (day + 1) % DAYS_IN_LEAP_YEAR) {
+                byDay[day] = byDay[day].overriddenBy(season.rules());
+                if (day == to) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private static void validate(SeasonRule season) {
+        if (season == null || season.from() == null || season.to() == null) {
+            throw new IllegalArgumentException("A pricing season must define its first and last days.");
+        }
+        parse(season.from());
+        parse(season.to());
+    }
+
+    private static MonthDay parse(String monthDay) {
+        try {
+            return MonthDay.parse("--" + monthDay);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid pricing season day: " + monthDay);
+        }
+    }
+
+    private static int dayIndex(MonthDay monthDay) {
+        return monthDay.atYear(LEAP_YEAR).getDayOfYear() - 1;
+    }
+
+    private static String normalize(String branch) {
+        return branch.toUpperCase(Locale.ROOT);
+    }
+}
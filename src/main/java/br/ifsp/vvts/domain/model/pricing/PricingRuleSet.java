@@ -0,0 +1,52 @@
+package br.ifsp.vvts.domain.model.pricing;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Taxas de precificação e devolução. Campos nulos herdam o valor do conjunto que está sendo sobrescrito.
+ * <p>
+ * Acima de {@code utilizationThreshold} de ocupação do modelo, o preço cresce linearmente até
+ * {@code utilizationSurcharge} com a frota toda locada.
+ */
+public record PricingRuleSet(
+        BigDecimal weekendHolidaySurcharge,
+        BigDecimal insuranceRate,
+        List<DiscountTier> discountTiers,
+        BigDecimal earlyReturnPenaltyRate,
+        BigDecimal lateReturnPenaltyRate,
+        BigDecimal maintenanceFeeRate,
+        BigDecimal cleaningFee,
+        BigDecimal utilizationThreshold,
+        BigDecimal utilizationSurcharge
+) {
+
+    public static final PricingRuleSet DEFAULTS = new PricingRuleSet(
+            new BigDecimal("0.06"),
+            new BigDecimal("0.10"),
+            List.of(new DiscountTier(7, new BigDecimal("0.05")), new DiscountTier(16, new BigDecimal("0.10"))),
+            new BigDecimal("0.30"),
+            new BigDecimal("0.50"),
+            new BigDecimal("0.15"),
+            new BigDecimal("100.00"),
+            new BigDecimal("0.80"),
+            new BigDecimal("0.20")
+    );
+
+    public PricingRuleSet overriddenBy(PricingRuleSet override) {
+        if (override == null) {
+            return this;
+        }
+        return new PricingRuleSet(
+                override.weekendHolidaySurcharge != null ? override.weekendHolidaySurcharge : weekendHolidaySurcharge,
+                override.insuranceRate != null ? override.insuranceRate : insuranceRate,
+                override.discountTiers != null ? override.discountTiers : discountTiers,
+                override.earlyReturnPenaltyRate != null ? override.earlyReturnPenaltyRate : earlyReturnPenaltyRate,
+                override.lateReturnPenaltyRate != null ? override.lateReturnPenaltyRate : lateReturnPenaltyRate,
+                override.maintenanceFeeRate != null ? override.maintenanceFeeRate : maintenanceFeeRate,
+                override.cleaningFee != null ? override.cleaningFee : cleaningFee,
+                override.utilizationThreshold != null ? override.utilizationThreshold : utilizationThreshold,
+                override.utilizationSurcharge != null ? override.utilizationSurcharge : utilizationSurcharge
+        );
+    }
+}
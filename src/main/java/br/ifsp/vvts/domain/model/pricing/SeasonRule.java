@@ -0,0 +1,8 @@
+package br.ifsp.vvts.domain.model.pricing;
+
+/**
+ * Regras de uma temporada entre {@code from} e {@code to} (inclusive, no formato MM-dd), opcionalmente restritas a uma
+ * filial. Uma temporada com {@code from} depois de {@code to} atravessa a virada do ano.
+ */
+public record SeasonRule(String branch, String from, String to, PricingRuleSet rules) {
+}
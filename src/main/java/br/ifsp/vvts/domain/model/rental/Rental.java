@@ -19,4 +19,5 @@ public class Rental {
     private RentalStatus status;
     private LocalDate actualReturnDate;
     private BigDecimal finalPrice;
+    private BigDecimal accruedLateFee;
 }
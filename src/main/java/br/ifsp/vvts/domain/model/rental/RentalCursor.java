@@ -0,0 +1,36 @@
+package br.ifsp.vvts.domain.model.rental;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+
+/**
+ * Posição no histórico de locações, ordenado da data de início mais recente para a mais antiga e, no mesmo dia, do
+ * maior id para o menor. A próxima página começa logo depois dessa posição.
+ */
+public record RentalCursor(LocalDate startDate, long id) {
+
+    private static final char SEPARATOR = '_';
+
+    public RentalCursor {
+        Objects.requireNonNull(startDate, "The cursor start date cannot be null.");
+    }
+
+    public static RentalCursor parse(String value) {
+        Objects.requireNonNull(value, "The cursor cannot be null.");
+        int separator = value.indexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid cursor: " + value);
+        }
+        try {
+            return new RentalCursor(LocalDate.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + value);
+        }
+    }
+
+    public String format() {
+        return startDate.toString() + SEPARATOR + id;
+    }
+}
@@ -0,0 +1,9 @@
+package br.ifsp.vvts.domain.model.rental;
+
+import java.util.List;
+
+/**
+ * Página do histórico de locações. {@code nextCursor} é nulo na última página.
+ */
+public record RentalHistoryPage(List<Rental> rentals, String nextCursor) {
+}
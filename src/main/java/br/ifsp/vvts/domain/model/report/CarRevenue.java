@@ -0,0 +1,6 @@
+package br.ifsp.vvts.domain.model.report;
+
+import java.math.BigDecimal;
+
+public record CarRevenue(String licensePlate, long carDays, BigDecimal revenue, double utilization) {
+}
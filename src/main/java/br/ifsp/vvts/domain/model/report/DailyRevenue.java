@@ -0,0 +1,7 @@
+package br.ifsp.vvts.domain.model.report;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record DailyRevenue(LocalDate day, long carDays, BigDecimal revenue, double utilization) {
+}
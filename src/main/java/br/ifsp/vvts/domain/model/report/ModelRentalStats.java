@@ -0,0 +1,5 @@
+package br.ifsp.vvts.domain.model.report;
+
+public record ModelRentalStats(String brand, String model, long rentals, long canceled, double averageDays,
+                               double insuranceAttachRate, double lateReturnRatio) {
+}
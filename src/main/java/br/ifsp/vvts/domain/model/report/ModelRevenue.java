@@ -0,0 +1,6 @@
+package br.ifsp.vvts.domain.model.report;
+
+import java.math.BigDecimal;
+
+public record ModelRevenue(String brand, String model, long carDays, BigDecimal revenue, double utilization) {
+}
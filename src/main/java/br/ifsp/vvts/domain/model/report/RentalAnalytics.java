@@ -0,0 +1,7 @@
+package br.ifsp.vvts.domain.model.report;
+
+import java.util.List;
+
+public record RentalAnalytics(long rentals, long canceled, double averageDays, double insuranceAttachRate,
+                              double lateReturnRatio, List<ModelRentalStats> models) {
+}
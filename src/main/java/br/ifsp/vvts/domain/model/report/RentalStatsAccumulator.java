@@ -0,0 +1,97 @@
+package br.ifsp.vvts.domain.model.report;
+
+import br.ifsp.vvts.domain.model.rental.RentalStatus;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Soma as estatísticas de locação por modelo. Cada faixa de locações é somada num acumulador próprio e os
+ * acumuladores são juntados com {@link #merge} em qualquer ordem, sem mudar o resultado. A memória usada depende só
+ * do número de modelos.
+ * <p>
+ * A duração média considera o período contratado das locações não canceladas; a taxa de seguro, as locações que
+ * registraram a escolha; e a taxa de atraso, as devoluções já feitas.
+ */
+public final class RentalStatsAccumulator {
+
+    private final Map<ModelKey, Counters> byModel = new HashMap<>();
+
+    public void add(String brand, String model, RentalStatus status, LocalDate startDate, LocalDate endDate,
+                    LocalDate actualReturnDate, Boolean withInsurance) {
+        Counters counters = byModel.computeIfAbsent(new ModelKey(brand, model), key -> new Counters());
+        counters.rentals++;
+        if (status == RentalStatus.CANCELED) {
+            counters.canceled++;
+        } else {
+            counters.bookedDays += ChronoUnit.DAYS.between(startDate, endDate);
+        }
+        if (withInsurance != null) {
+            counters.insuranceKnown++;
+            if (withInsurance) {
+                counters.insured++;
+            }
+        }
+        if (status == RentalStatus.FINISHED && actualReturnDate != null) {
+            counters.returned++;
+            if (actualReturnDate.isAfter(endDate)) {
+                counters.lateReturns++;
+            }
+        }
+    }
+
+    public RentalStatsAccumulator merge(RentalStatsAccumulator other) {
+        other.byModel.forEach((key, counters) -> byModel.computeIfAbsent(key, k -> new Counters()).merge(counters));
+        return this;
+    }
+
+    public RentalAnalytics result() {
+        Counters total = new Counters();
+        byModel.values().forEach(total::merge);
+        List<ModelRentalStats> models = byModel.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(ModelKey::brand).thenComparing(ModelKey::model)))
+                .map(entry -> entry.getValue().toStats(entry.getKey()))
+                .toList();
+        return new RentalAnalytics(total.rentals, total.canceled, ratio(total.bookedDays, total.rentals - total.canceled),
+                ratio(total.insured, total.insuranceKnown), ratio(total.lateReturns, total.returned), models);
+    }
+
+    private static double ratio(long part, long whole) {
+        if (whole <= 0) {
+            return 0.0;
+        }
+        return Math.round((double) part / whole * 10_000) / 10_000.0;
+    }
+
+    private record ModelKey(String brand, String model) {
+    }
+
+    private static final class Counters {
+        private long rentals;
+        private long canceled;
+        private long bookedDays;
+        private long insuranceKnown;
+        private long insured;
+        private long returned;
+        private long lateReturns;
+
+        private void merge(Counters other) {
+            rentals += other.rentals;
+            canceled += other.canceled;
+            bookedDays += other.bookedDays;
+            insuranceKnown += other.insuranceKnown;
+            insured += other.insured;
+            returned += other.returned;
+            lateReturns += other.lateReturns;
+        }
+
+        private ModelRentalStats toStats(ModelKey key) {
+            return new ModelRentalStats(key.brand(), key.model(), rentals, canceled, ratio(bookedDays, rentals - canceled),
+                    ratio(insured, insuranceKnown), ratio(lateReturns, returned));
+        }
+    }
+}
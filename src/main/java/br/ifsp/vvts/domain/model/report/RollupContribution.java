@@ -0,0 +1,35 @@
+package br.ifsp.vvts.domain.model.report;
+
+import java.time.LocalDate;
+
+/**
+ * Parcela de uma locação nos relatórios: os dias de carro ocupado a partir de {@code startDate} e a receita em centavos,
+ * dividida igualmente entre esses dias. Locações encerradas no mesmo dia em que começaram lançam a receita no dia inicial.
+ */
+public record RollupContribution(String licensePlate, String brand, String model, LocalDate startDate, int carDays,
+                                 long revenueCents) {
+
+    public RollupContribution {
+        if (carDays < 0) {
+            throw new IllegalArgumentException("The number of car days cannot be negative.");
+        }
+    }
+
+    public int spanDays() {
+        return Math.max(carDays, 1);
+    }
+
+    /**
+     * Receita lançada no dia {@code offset} a partir do início. Os centavos que sobram da divisão vão para os primeiros
+     * dias, para que a soma dos dias seja exatamente a receita da locação.
+     */
+    public long revenueOn(int offset) {
+        int span = spanDays();
+        long share = revenueCents / span;
+        return offset < revenueCents % span ? share + 1 : share;
+    }
+
+    public int carDaysOn(int offset) {
+        return offset < carDays ? 1 : 0;
+    }
+}
@@ -0,0 +1,43 @@
+package br.ifsp.vvts.domain.model.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Busca digitada no balcão, quebrada em termos de letras e dígitos. Cada termo é tratado como prefixo e todos
+ * precisam casar, então "nis mar" encontra "Nissan March". Pontuação e operadores do usuário são descartados.
+ */
+public record SearchQuery(List<String> terms) {
+
+    public static final int MAX_TERMS = 8;
+
+    public SearchQuery {
+        if (terms == null || terms.isEmpty()) {
+            throw new IllegalArgumentException("The search query cannot be blank.");
+        }
+        if (terms.size() > MAX_TERMS) {
+            throw new IllegalArgumentException("The search query cannot have more than " + MAX_TERMS + " terms.");
+        }
+        terms = List.copyOf(terms);
+    }
+
+    public static SearchQuery parse(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text != null) {
+            for (String term : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+                if (!term.isEmpty()) {
+                    terms.add(term);
+                }
+            }
+        }
+        return new SearchQuery(terms);
+    }
+
+    /**
+     * Expressão MATCH do FTS5 com cada termo entre aspas e marcado como prefixo.
+     */
+    public String toMatchExpression() {
+        return String.join(" ", terms.stream().map(term -> "\"" + term + "\"*").toList());
+    }
+}
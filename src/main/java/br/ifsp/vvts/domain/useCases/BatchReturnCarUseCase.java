@@ -0,0 +1,81 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.dto.ReturnCarRequest;
+import br.ifsp.vvts.domain.dto.ReturnCarResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class BatchReturnCarUseCase {
+
+    private final ReturnCarUseCase returnCarUseCase;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${application.returns.batch-chunk-size:50}")
+    private int chunkSize;
+
+    public BatchReturnCarUseCase(ReturnCarUseCase returnCarUseCase, PlatformTransactionManager transactionManager) {
+        this.returnCarUseCase = returnCarUseCase;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public List<ReturnCarResult> execute(List<ReturnCarRequest> requests) {
+        if (requests == null) {
+            throw new NullPointerException("The return requests cannot be null.");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalStateException("The batch chunk size must be positive.");
+        }
+
+        List<ReturnCarResult> results = new ArrayList<>(requests.size());
+        for (int from = 0; from < requests.size(); from += chunkSize) {
+            List<ReturnCarRequest> chunk = requests.subList(from, Math.min(from + chunkSize, requests.size()));
+            results.addAll(processChunk(chunk));
+        }
+        return results;
+    }
+
+    /**
+     * Processa o bloco em uma transação. Se ela não for confirmada, inclusive por falha no próprio commit, só os itens
+     * deste bloco são marcados como falhos; os blocos anteriores já foram confirmados e mantêm seus resultados.
+     */
+    private List<ReturnCarResult> processChunk(List<ReturnCarRequest> chunk) {
+        try {
+            return transactionTemplate.execute(status -> chunk.stream()
+                    .map(this::processItem)
+                    .toList());
+        } catch (RuntimeException e) {
+            return chunk.stream()
+                    .map(request -> ReturnCarResult.failure(rentalIdOf(request), "The batch could not be committed."))
+                    .toList();
+        }
+    }
+
+    /**
+     * Um item recusado na validação ou que encontra a locação já encerrada falha sozinho, sem ter gravado nada. Uma
+     * exceção depois da gravação derruba o bloco inteiro, para que "falhou" sempre signifique "não aplicado".
+     */
+    private ReturnCarResult processItem(ReturnCarRequest request) {
+        ReturnCarUseCase.PreparedReturn prepared;
+        try {
+            prepared = returnCarUseCase.prepare(request);
+        } catch (DataAccessException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            return ReturnCarResult.failure(rentalIdOf(request), e.getMessage());
+        }
+        return returnCarUseCase.finish(prepared)
+                .map(ReturnCarResult::success)
+                .orElseGet(() -> ReturnCarResult.failure(rentalIdOf(request), "This rental has now ended."));
+    }
+
+    private Long rentalIdOf(ReturnCarRequest request) {
+        return request == null ? null : request.rentalId();
+    }
+}
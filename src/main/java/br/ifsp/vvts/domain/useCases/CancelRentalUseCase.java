@@ -0,0 +1,52 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.event.RentalCanceled;
+import br.ifsp.vvts.domain.model.rental.Rental;
+import br.ifsp.vvts.domain.model.rental.RentalStatus;
+import br.ifsp.vvts.infra.persistence.mapper.RentalMapper;
+import br.ifsp.vvts.infra.persistence.projection.RentalView;
+import br.ifsp.vvts.infra.persistence.repository.RentalRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Service
+public class CancelRentalUseCase {
+
+    private final RentalRepository rentalRepository;
+    private final RentalMapper rentalMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CancelRentalUseCase(RentalRepository rentalRepository, RentalMapper rentalMapper,
+                               ApplicationEventPublisher eventPublisher) {
+        this.rentalRepository = rentalRepository;
+        this.rentalMapper = rentalMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Cancela uma locação ativa, mantendo o registro. O período do carro é liberado assim que a transação é confirmada.
+     */
+    @Transactional
+    public Optional<Rental> execute(Long rentalId) {
+        if (rentalId == null) {
+            throw new NullPointerException("The rental id cannot be null.");
+        }
+
+        Optional<RentalView> rental = rentalRepository.findViewById(rentalId);
+        if (rental.isEmpty()) {
+            return Optional.empty();
+        }
+        RentalView view = rental.get();
+        if (view.status() != RentalStatus.ACTIVE || rentalRepository.cancelIfActive(rentalId) == 0) {
+            throw new IllegalStateException("Only active rentals can be canceled.");
+        }
+
+        eventPublisher.publishEvent(new RentalCanceled(view.id(), view.carLicensePlate(), view.carBrand(),
+                view.carModel(), view.startDate(), view.endDate()));
+
+        return rentalRepository.findViewById(rentalId).map(rentalMapper::fromView);
+    }
+}
@@ -0,0 +1,63 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.event.MaintenanceScheduled;
+import br.ifsp.vvts.domain.event.RentalEvent;
+import br.ifsp.vvts.infra.persistence.repository.RentalRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Verificação de ocupação de um carro no período, com consultas idênticas e simultâneas juntadas em uma só.
+ * <p>
+ * Cada carro tem uma geração, incrementada antes do commit de qualquer escrita que mude sua ocupação. A geração faz
+ * parte da chave, então uma chamada nunca recebe o resultado de uma consulta iniciada antes de uma escrita já
+ * confirmada; quem chega depois do incremento dispara uma consulta nova.
+ * <p>
+ * O resultado compartilhado pode ter sido lido em outra transação, então serve só para verificações prévias sem
+ * escrita, como reservas temporárias e lista de espera. Quem grava uma locação consulta o repositório na própria
+ * transação.
+ */
+@Component
+public class CarAvailability {
+
+    record Key(String licensePlate, LocalDate startDate, LocalDate endDate, long generation) {
+    }
+
+    private final RentalRepository rentalRepository;
+    private final SingleFlight<Key, Boolean> checks = new SingleFlight<>();
+    private final ConcurrentMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public CarAvailability(RentalRepository rentalRepository) {
+        this.rentalRepository = rentalRepository;
+    }
+
+    public boolean isBooked(String licensePlate, LocalDate startDate, LocalDate endDate) {
+        Key key = new Key(licensePlate, startDate, endDate, generation(licensePlate).get());
+        return checks.execute(key,
+                () -> rentalRepository.existsByCarLicensePlateAndPeriodOverlaps(licensePlate, startDate, endDate));
+    }
+
+    public long sharedChecks() {
+        return checks.sharedCalls();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onRentalEvent(RentalEvent event) {
+        generation(event.licensePlate()).incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onMaintenanceScheduled(MaintenanceScheduled event) {
+        generation(event.licensePlate()).incrementAndGet();
+    }
+
+    private AtomicLong generation(String licensePlate) {
+        return generations.computeIfAbsent(licensePlate, plate -> new AtomicLong());
+    }
+}
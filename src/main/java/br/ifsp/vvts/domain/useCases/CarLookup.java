@@ -0,0 +1,41 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.model.car.Car;
+import br.ifsp.vvts.domain.model.car.LicensePlate;
+import br.ifsp.vvts.domain.model.catalog.Catalog;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Leituras do catálogo de carros com chamadas idênticas e simultâneas juntadas em uma só carga. As chaves incluem a
+ * versão do catálogo, então uma leitura iniciada depois de uma alteração nunca recebe o resultado anterior a ela.
+ * Quem espera pela carga de outra chamada não segura conexão com o banco.
+ */
+@Component
+public class CarLookup {
+
+    record Key(String licensePlate, long version) {
+    }
+
+    private final ManageCarUseCase manageCarUseCase;
+    private final CatalogVersions catalogVersions;
+    private final SingleFlight<Key, Optional<Car>> byLicensePlate = new SingleFlight<>();
+    private final SingleFlight<Long, List<Car>> all = new SingleFlight<>();
+
+    public CarLookup(ManageCarUseCase manageCarUseCase, CatalogVersions catalogVersions) {
+        this.manageCarUseCase = manageCarUseCase;
+        this.catalogVersions = catalogVersions;
+    }
+
+    public Optional<Car> findCarByLicensePlate(String licensePlateValue) {
+        String licensePlate = LicensePlate.of(licensePlateValue).value();
+        Key key = new Key(licensePlate, catalogVersions.version(Catalog.CARS));
+        return byLicensePlate.execute(key, () -> manageCarUseCase.findCarByLicensePlate(licensePlate));
+    }
+
+    public List<Car> getAllCars() {
+        return all.execute(catalogVersions.version(Catalog.CARS), manageCarUseCase::getAllCars);
+    }
+}
@@ -1,6 +1,9 @@
 package br.ifsp.vvts.domain.useCases;
 
+import br.ifsp.vvts.domain.event.HoldConverted;
+import br.ifsp.vvts.domain.model.booking.Hold;
 import br.ifsp.vvts.domain.model.car.Car;
+import br.ifsp.vvts.domain.model.car.CarClass;
 import br.ifsp.vvts.domain.model.car.LicensePlate;
 import br.ifsp.vvts.domain.model.customer.CPF;
 import br.ifsp.vvts.domain.model.rental.Rental;
@@ -15,12 +18,16 @@ import br.ifsp.vvts.infra.persistence.mapper.CustomerMapper;
 import br.ifsp.vvts.infra.persistence.repository.CarRepository;
 import br.ifsp.vvts.infra.persistence.repository.CustomerRepository;
 import br.ifsp.vvts.infra.persistence.repository.RentalRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
 public class CarRentUseCase {
@@ -32,10 +39,15 @@ public class CarRentUseCase {
     private final CustomerMapper customerMapper;
     private final CarMapper carMapper;
     private final ManageRentalUseCase manageRentalUseCase;
+    private final FleetSchedule fleetSchedule;
+    private final ReservationHolds reservationHolds;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CarRentUseCase(CarRepository carRepository, CustomerRepository customerRepository,
                           RentalRepository rentalRepository, PricingService pricingService,
-                          CustomerMapper customerMapper, CarMapper carMapper, ManageRentalUseCase manageRentalUseCase) {
+                          CustomerMapper customerMapper, CarMapper carMapper, ManageRentalUseCase manageRentalUseCase,
+                          FleetSchedule fleetSchedule, ReservationHolds reservationHolds,
+                          ApplicationEventPublisher eventPublisher) {
         this.carRepository = carRepository;
         this.customerRepository = customerRepository;
         this.rentalRepository = rentalRepository;
@@ -43,15 +55,40 @@ public class CarRentUseCase {
         this.customerMapper = customerMapper;
         this.carMapper = carMapper;
         this.manageRentalUseCase = manageRentalUseCase;
+        this.fleetSchedule = fleetSchedule;
+        this.reservationHolds = reservationHolds;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public Rental execute(String plateValue, String cpfValue, LocalDate startDate, LocalDate endDate, boolean withInsurance) {
+        return execute(plateValue, cpfValue, startDate, endDate, withInsurance, null);
+    }
+
+    @Transactional
+    public Rental execute(String plateValue, String cpfValue, LocalDate startDate, LocalDate endDate, boolean withInsurance,
+                          UUID holdId) {
+        return execute(plateValue, cpfValue, startDate, endDate, withInsurance, holdId, null);
+    }
+
+    /**
+     * Aluga o carro convertendo a reserva temporária {@code holdId}, se informada; a reserva precisa ser do mesmo carro,
+     * período e cliente, e só é liberada depois do commit. Reservas de outros clientes tornam o carro indisponível no
+     * período. O preço segue as regras da filial {@code branch}, gravada na locação para que a
+     * devolução use as mesmas regras.
+     */
+    @Transactional
+    public Rental execute(String plateValue, String cpfValue, LocalDate startDate, LocalDate endDate, boolean withInsurance,
+                          UUID holdId, String branch) {
         Objects.requireNonNull(plateValue, "Plate is mandatory.");
         Objects.requireNonNull(cpfValue, "CPF is mandatory.");
         LicensePlate licensePlate = LicensePlate.of(plateValue);
         CPF cpf = CPF.of(cpfValue);
         RentalPeriod period = new RentalPeriod(startDate, endDate);
+        Instant now = Instant.now();
+        if (holdId != null) {
+            checkOwnHold(holdId, licensePlate, cpf, period, now);
+        }
 
         CustomerEntity customerEntity = customerRepository.findByCpfNumber(cpf.unformat())
                 .orElseThrow(() -> new CustomerNotFoundException("Customer not found."));
@@ -61,14 +98,71 @@ public class CarRentUseCase {
 
         Car car = carMapper.toDomain(carEntity);
 
-        boolean isUnavailable = rentalRepository.existsByCarLicensePlateAndPeriodOverlaps(carEntity.getLicensePlate(),
+        boolean isUnavailable = rentalRepository.existsByCarLicensePlateAndPeriodOverlaps(carEntity.getLicensePlate().getValue(),
                 period.startDate(), period.endDate());
-        if (isUnavailable) {
+        if (isUnavailable || reservationHolds.isHeldByOthers(licensePlate.value(), period, holdId, now)) {
             throw new CarUnavailableException("Car unavailable for the requested period.");
         }
 
-        BigDecimal totalPrice = pricingService.calculateTotalPrice(car, period, withInsurance);
+        BigDecimal totalPrice = pricingService.calculateBranchPrice(car, period, withInsurance, branch);
+
+        Rental rental = manageRentalUseCase.createRental(customerEntity, carEntity, period, totalPrice, withInsurance,
+                branch);
+        if (holdId != null) {
+            eventPublisher.publishEvent(new HoldConverted(holdId));
+        }
+        return rental;
+    }
+
+    private void checkOwnHold(UUID holdId, LicensePlate licensePlate, CPF cpf, RentalPeriod period, Instant now) {
+        Hold hold = reservationHolds.find(holdId, now)
+                .orElseThrow(() -> new CarUnavailableException("The hold has expired or does not exist."));
+        if (!hold.covers(licensePlate.value(), period.startDate(), period.endDate())) {
+            throw new IllegalArgumentException("The hold does not match the requested car and period.");
+        }
+        if (!hold.cpf().equals(cpf.unformat())) {
+            throw new IllegalStateException("The hold belongs to another customer.");
+        }
+    }
+
+    @Transactional
+    public Rental executeForClass(String brand, String model, String cpfValue, LocalDate startDate, LocalDate endDate,
+                                  boolean withInsurance) {
+        return executeForClass(brand, model, cpfValue, startDate, endDate, withInsurance, null);
+    }
+
+    /**
+     * Aluga um carro qualquer da marca e modelo informados. Entre os carros livres no período, escolhe o que deixa a
+     * menor folga antes e depois da reserva, preservando janelas longas nos demais carros.
+     */
+    @Transactional
+    public Rental executeForClass(String brand, String model, String cpfValue, LocalDate startDate, LocalDate endDate,
+                                  boolean withInsurance, String branch) {
+        Objects.requireNonNull(cpfValue, "CPF is mandatory.");
+        CarClass carClass = new CarClass(brand, model);
+        CPF cpf = CPF.of(cpfValue);
+        RentalPeriod period = new RentalPeriod(startDate, endDate);
+
+        CustomerEntity customerEntity = customerRepository.findByCpfNumber(cpf.unformat())
+                .orElseThrow(() -> new CustomerNotFoundException("Customer not found."));
 
-        return manageRentalUseCase.createRental(customerEntity, carEntity, period, totalPrice);
+        if (!fleetSchedule.hasClass(carClass)) {
+            throw new CarNotFoundException("No car of this class was found.");
+        }
+
+        for (String plate : fleetSchedule.bestFit(carClass, period)) {
+            if (reservationHolds.isHeldByOthers(plate, period, null, Instant.now())
+                    || rentalRepository.existsByCarLicensePlateAndPeriodOverlaps(plate, period.startDate(), period.endDate())) {
+                continue;
+            }
+            Optional<CarEntity> carEntity = carRepository.findByLicensePlate(plate);
+            if (carEntity.isPresent()) {
+                Car car = carMapper.toDomain(carEntity.get());
+                BigDecimal totalPrice = pricingService.calculateBranchPrice(car, period, withInsurance, branch);
+                return manageRentalUseCase.createRental(customerEntity, carEntity.get(), period, totalPrice,
+                        withInsurance, branch);
+            }
+        }
+        throw new CarUnavailableException("No car of this class is available for the requested period.");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,131 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.model.catalog.Catalog;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache LRU limitado das respostas de leitura dos cadastros, já serializadas em JSON e, acima de um tamanho mínimo,
+ * também comprimidas com gzip. Cada entrada guarda a versão do cadastro lida antes da consulta e só é usada enquanto
+ * essa versão for a atual, então qualquer escrita no cadastro invalida suas entradas.
+ */
+@Component
+public class CatalogResponseCache {
+
+    /**
+     * Resposta pronta para ser copiada. {@code gzip} é nulo quando a compressão não compensa.
+     */
+    public record SerializedResponse(String tag, byte[] json, byte[] gzip) {
+
+        public String etag(boolean gzipAccepted) {
+            return etag(tag, gzipAccepted);
+        }
+
+        /**
+         * A representação entregue a quem aceita gzip tem ETag própria, mesmo quando o corpo não foi comprimido.
+         */
+        public static String etag(String tag, boolean gzipAccepted) {
+            return "\"" + tag + (gzipAccepted ? "-gzip" : "") + "\"";
+        }
+    }
+
+    record Key(Catalog catalog, String id) {
+    }
+
+    private record Entry(long version, SerializedResponse response) {
+    }
+
+    private final CatalogVersions catalogVersions;
+    private final ObjectMapper objectMapper;
+    private final int capacity;
+    private final int gzipMinBytes;
+    private final Map<Key, Entry> entries;
+
+    public CatalogResponseCache(CatalogVersions catalogVersions, ObjectMapper objectMapper,
+                                @Value("${application.catalog.response-cache.capacity:1000}") int capacity,
+                                @Value("${application.catalog.response-cache.gzip-min-bytes:1024}") int gzipMinBytes) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The response cache capacity cannot be negative.");
+        }
+        this.catalogVersions = catalogVersions;
+        this.objectMapper = objectMapper;
+        this.capacity = capacity;
+        this.gzipMinBytes = gzipMinBytes;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > CatalogResponseCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Tag, sem aspas, da listagem inteira do cadastro na versão atual.
+     */
+    public String currentTag(Catalog catalog) {
+        return catalogVersions.tag(catalog, catalogVersions.version(catalog));
+    }
+
+    /**
+     * Devolve a resposta de {@code id} no cadastro, consultando {@code loader} só quando não há entrada da versão
+     * atual. Um {@code loader} que devolve nulo indica que o item não existe, e isso não é guardado.
+     */
+    public Optional<SerializedResponse> get(Catalog catalog, String id, Supplier<?> loader) {
+        Key key = new Key(catalog, id);
+        long version = catalogVersions.version(catalog);
+        synchronized (this) {
+            Entry cached = entries.get(key);
+            if (cached != null && cached.version() == version) {
+                return Optional.of(cached.response());
+            }
+        }
+
+        Object value = loader.get();
+        if (value == null) {
+            return Optional.empty();
+        }
+        SerializedResponse response = serialize(catalogVersions.tag(catalog, id, version), value);
+        synchronized (this) {
+            Entry cached = entries.get(key);
+            if (capacity > 0 && (cached == null || cached.version() < version)) {
+                entries.put(key, new Entry(version, response));
+            }
+        }
+        return Optional.of(response);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private SerializedResponse serialize(String tag, Object value) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            return new SerializedResponse(tag, json, json.length >= gzipMinBytes ? gzip(json) : null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize the catalog response.", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] bytes = compressed.toByteArray();
+        return bytes.length < json.length ? bytes : null;
+    }
+}
@@ -0,0 +1,65 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.event.CatalogChanged;
+import br.ifsp.vvts.domain.model.catalog.Catalog;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versão de cada cadastro, incrementada depois do commit de cada escrita e exposta como ETag forte. A ETag deve ser
+ * lida antes dos dados: uma escrita que termine no meio da leitura só faz o cliente baixar de novo na próxima vez, e
+ * nunca associa uma versão nova a dados antigos. A ETag carrega um identificador da execução, para não repetir
+ * valores depois de um reinício. Itens individuais têm tag própria, derivada do identificador, para que a ETag de um
+ * item nunca valha para outro item nem para a listagem.
+ */
+@Component
+public class CatalogVersions {
+
+    private final String instanceId = Long.toString(new SecureRandom().nextLong() & Long.MAX_VALUE, 36);
+    private final Map<Catalog, AtomicLong> versions = new EnumMap<>(Catalog.class);
+
+    public CatalogVersions() {
+        for (Catalog catalog : Catalog.values()) {
+            versions.put(catalog, new AtomicLong());
+        }
+    }
+
+    public long version(Catalog catalog) {
+        return versions.get(catalog).get();
+    }
+
+    public String etag(Catalog catalog) {
+        return "\"" + tag(catalog, version(catalog)) + "\"";
+    }
+
+    /**
+     * Identificador, sem aspas, de uma versão do cadastro.
+     */
+    public String tag(Catalog catalog, long version) {
+        return tag(catalog, "", version);
+    }
+
+    /**
+     * Identificador, sem aspas, de uma versão de um item do cadastro. O identificador vazio é a listagem inteira.
+     */
+    public String tag(Catalog catalog, String id, long version) {
+        String tag = catalog.name().toLowerCase(Locale.ROOT) + "-" + instanceId + "-" + version;
+        if (id.isEmpty()) {
+            return tag;
+        }
+        return tag + "-" + Base64.getUrlEncoder().withoutPadding().encodeToString(id.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChanged event) {
+        versions.get(event.catalog()).incrementAndGet();
+    }
+}
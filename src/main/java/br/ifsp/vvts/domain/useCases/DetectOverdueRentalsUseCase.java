@@ -0,0 +1,74 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.model.pricing.PricingRuleBook;
+import br.ifsp.vvts.infra.persistence.projection.OverdueRentalView;
+import br.ifsp.vvts.infra.persistence.repository.RentalRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@Service
+public class DetectOverdueRentalsUseCase {
+
+    private final RentalRepository rentalRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PricingRuleBook pricingRules;
+
+    @Value("${application.rentals.overdue-scan.page-size:200}")
+    private int pageSize;
+
+    public DetectOverdueRentalsUseCase(RentalRepository rentalRepository, PlatformTransactionManager transactionManager,
+                                       PricingRuleBook pricingRules) {
+        this.rentalRepository = rentalRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pricingRules = pricingRules;
+    }
+
+    public int execute(LocalDate today) {
+        if (today == null) {
+            throw new NullPointerException("The reference date cannot be null.");
+        }
+        if (pageSize < 1) {
+            throw new IllegalStateException("The overdue scan page size must be positive.");
+        }
+
+        Pageable page = PageRequest.of(0, pageSize);
+        int updated = 0;
+        OverdueRentalView last = null;
+
+        while (true) {
+            OverdueRentalView cursor = last;
+            List<OverdueRentalView> overdue = transactionTemplate.execute(status -> {
+                List<OverdueRentalView> rentals = cursor == null
+                        ? rentalRepository.findOverdueViews(today, page)
+                        : rentalRepository.findOverdueViewsAfter(today, cursor.endDate(), cursor.id(), page);
+                for (OverdueRentalView rental : rentals) {
+                    rentalRepository.updateAccruedLateFee(rental.id(), accruedLateFee(rental, today));
+                }
+                return rentals;
+            });
+
+            updated += overdue.size();
+            if (overdue.size() < pageSize) {
+                return updated;
+            }
+            last = overdue.getLast();
+        }
+    }
+
+    private BigDecimal accruedLateFee(OverdueRentalView rental, LocalDate today) {
+        long lateDays = ChronoUnit.DAYS.between(rental.endDate(), today);
+        return pricingRules.planFor(rental.branch(), rental.startDate())
+                .lateFee(BigDecimal.valueOf(rental.carBasePrice()), lateDays)
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,64 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.model.maintenance.MaintenanceJob;
+import br.ifsp.vvts.domain.model.maintenance.MaintenanceJobStatus;
+import br.ifsp.vvts.infra.persistence.repository.MaintenanceJobRepository;
+import br.ifsp.vvts.infra.persistence.repository.RentalRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Service
+public class DispatchMaintenanceJobsUseCase {
+
+    private final MaintenanceJobRepository maintenanceJobRepository;
+    private final RentalRepository rentalRepository;
+
+    @Value("${application.maintenance.workers:2}")
+    private int workers;
+
+    public DispatchMaintenanceJobsUseCase(MaintenanceJobRepository maintenanceJobRepository,
+                                          RentalRepository rentalRepository) {
+        this.maintenanceJobRepository = maintenanceJobRepository;
+        this.rentalRepository = rentalRepository;
+    }
+
+    /**
+     * Conclui os serviços cujo prazo terminou e distribui os próximos da fila entre as equipes livres. Um serviço que
+     * começa depois do previsto mantém o carro bloqueado pela sua duração completa a partir de hoje, desde que os dias
+     * a mais não invadam uma locação ativa; caso contrário, continua na fila até o carro voltar.
+     */
+    @Transactional
+    public int execute(LocalDate today) {
+        if (today == null) {
+            throw new NullPointerException("The reference date cannot be null.");
+        }
+        if (workers < 1) {
+            throw new IllegalStateException("The number of maintenance workers must be positive.");
+        }
+
+        Instant now = Instant.now();
+        maintenanceJobRepository.finishDue(today, now);
+
+        int freeWorkers = workers - (int) maintenanceJobRepository.countByStatus(MaintenanceJobStatus.IN_PROGRESS);
+        if (freeWorkers <= 0) {
+            return 0;
+        }
+
+        int started = 0;
+        for (MaintenanceJob job : maintenanceJobRepository.findNextQueued(today, PageRequest.of(0, freeWorkers))) {
+            LocalDate estimatedEnd = today.plusDays(job.durationDays());
+            LocalDate blockedUntil = estimatedEnd.isAfter(job.blockedUntil()) ? estimatedEnd : job.blockedUntil();
+            if (blockedUntil.isAfter(job.blockedUntil()) && rentalRepository
+                    .findBookedUntil(job.licensePlate(), job.blockedUntil(), blockedUntil).isPresent()) {
+                continue;
+            }
+            started += maintenanceJobRepository.startIfQueued(job.id(), now, blockedUntil);
+        }
+        return started;
+    }
+}
@@ -0,0 +1,83 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.event.FleetChanged;
+import br.ifsp.vvts.domain.event.RentalCanceled;
+import br.ifsp.vvts.domain.event.RentalCreated;
+import br.ifsp.vvts.domain.event.RentalDeleted;
+import br.ifsp.vvts.domain.event.RentalEvent;
+import br.ifsp.vvts.domain.event.RentalReturned;
+import br.ifsp.vvts.domain.model.car.Car;
+import br.ifsp.vvts.domain.model.occupancy.OccupancyCounters;
+import br.ifsp.vvts.domain.model.rental.RentalPeriod;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+
+/**
+ * Ocupação da frota por modelo e dia, atualizada pelos eventos de locação depois do commit. Consultada pelo
+ * {@link PricingService} sem acesso ao banco. Quando um carro muda de modelo, suas locações ativas passam do modelo
+ * antigo para o novo.
+ */
+@Component
+public class FleetOccupancy {
+
+    private static final LocalDate WINDOW_START = LocalDate.of(2020, 1, 1);
+    private static final LocalDate WINDOW_END = LocalDate.of(2060, 1, 1);
+
+    private final OccupancyCounters counters = new OccupancyCounters(WINDOW_START, WINDOW_END);
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRentalEvent(RentalEvent event) {
+        switch (event) {
+            case RentalCreated created -> book(created.brand(), created.model(), created.startDate(), created.endDate());
+            case RentalReturned returned -> release(returned);
+            case RentalCanceled canceled -> release(canceled);
+            case RentalDeleted deleted -> {
+                if (deleted.wasActive()) {
+                    release(deleted);
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFleetChanged(FleetChanged event) {
+        counters.changeFleet(event.brand(), event.model(), event.delta());
+        for (RentalPeriod booking : event.activeBookings()) {
+            if (event.delta() > 0) {
+                counters.book(event.brand(), event.model(), booking.startDate(), booking.endDate());
+            } else {
+                counters.release(event.brand(), event.model(), booking.startDate(), booking.endDate());
+            }
+        }
+    }
+
+    public double peakUtilization(Car car, RentalPeriod period) {
+        return counters.peakUtilization(car.brand(), car.model(), period.startDate(), period.endDate());
+    }
+
+    public int fleetSize(String brand, String model) {
+        return counters.fleetSize(brand, model);
+    }
+
+    public int totalFleetSize() {
+        return counters.totalFleetSize();
+    }
+
+    public void book(String brand, String model, LocalDate startDate, LocalDate endDate) {
+        counters.book(brand, model, startDate, endDate);
+    }
+
+    public void changeFleet(String brand, String model, int delta) {
+        counters.changeFleet(brand, model, delta);
+    }
+
+    public void clear() {
+        counters.clear();
+    }
+
+    private void release(RentalEvent event) {
+        counters.release(event.brand(), event.model(), event.startDate(), event.endDate());
+    }
+}
@@ -0,0 +1,102 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.event.FleetChanged;
+import br.ifsp.vvts.domain.event.RentalCanceled;
+import br.ifsp.vvts.domain.event.RentalCreated;
+import br.ifsp.vvts.domain.event.RentalDeleted;
+import br.ifsp.vvts.domain.event.RentalEvent;
+import br.ifsp.vvts.domain.event.RentalReturned;
+import br.ifsp.vvts.domain.model.booking.CarCalendar;
+import br.ifsp.vvts.domain.model.car.CarClass;
+import br.ifsp.vvts.domain.model.rental.RentalPeriod;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Agenda em memória de cada carro, agrupada por classe (marca e modelo), mantida pelos eventos de locação depois do
+ * commit. Usada para escolher o carro de uma reserva por classe sem consultar o banco para cada candidato.
+ */
+@Component
+public class FleetSchedule {
+
+    private record Candidate(String licensePlate, long fit) {
+    }
+
+    private final Map<String, CarCalendar> calendarsByPlate = new ConcurrentHashMap<>();
+    private final Map<CarClass, Set<String>> platesByClass = new ConcurrentHashMap<>();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRentalEvent(RentalEvent event) {
+        switch (event) {
+            case RentalCreated created -> book(created.licensePlate(), created.startDate(), created.endDate());
+            case RentalReturned returned -> release(returned);
+            case RentalCanceled canceled -> release(canceled);
+            case RentalDeleted deleted -> {
+                if (deleted.wasActive()) {
+                    release(deleted);
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFleetChanged(FleetChanged event) {
+        if (event.delta() > 0) {
+            addCar(event.licensePlate(), event.brand(), event.model());
+        } else {
+            Set<String> plates = platesByClass.get(new CarClass(event.brand(), event.model()));
+            if (plates != null) {
+                plates.remove(event.licensePlate());
+            }
+        }
+    }
+
+    /**
+     * Carros da classe livres no período, do melhor para o pior encaixe.
+     */
+    public List<String> bestFit(CarClass carClass, RentalPeriod period) {
+        Set<String> plates = platesByClass.getOrDefault(carClass, Set.of());
+        List<Candidate> candidates = new ArrayList<>(plates.size());
+        for (String plate : plates) {
+            long fit = calendar(plate).fit(period.startDate(), period.endDate());
+            if (fit >= 0) {
+                candidates.add(new Candidate(plate, fit));
+            }
+        }
+        candidates.sort(Comparator.comparingLong(Candidate::fit).thenComparing(Candidate::licensePlate));
+        return candidates.stream().map(Candidate::licensePlate).toList();
+    }
+
+    public boolean hasClass(CarClass carClass) {
+        return !platesByClass.getOrDefault(carClass, Set.of()).isEmpty();
+    }
+
+    public void addCar(String licensePlate, String brand, String model) {
+        platesByClass.computeIfAbsent(new CarClass(brand, model), k -> ConcurrentHashMap.newKeySet()).add(licensePlate);
+    }
+
+    public void book(String licensePlate, LocalDate startDate, LocalDate endDate) {
+        calendar(licensePlate).book(startDate, endDate);
+    }
+
+    public void clear() {
+        calendarsByPlate.clear();
+        platesByClass.clear();
+    }
+
+    private void release(RentalEvent event) {
+        calendar(event.licensePlate()).release(event.startDate(), event.endDate());
+    }
+
+    private CarCalendar calendar(String licensePlate) {
+        return calendarsByPlate.computeIfAbsent(licensePlate, k -> new CarCalendar());
+    }
+}
@@ -0,0 +1,68 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.model.booking.Hold;
+import br.ifsp.vvts.domain.model.car.LicensePlate;
+import br.ifsp.vvts.domain.model.customer.CPF;
+import br.ifsp.vvts.domain.model.rental.RentalPeriod;
+import br.ifsp.vvts.exception.CarNotFoundException;
+import br.ifsp.vvts.exception.CarUnavailableException;
+import br.ifsp.vvts.exception.CustomerNotFoundException;
+import br.ifsp.vvts.infra.persistence.repository.CarRepository;
+import br.ifsp.vvts.infra.persistence.repository.CustomerRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+@Service
+public class HoldCarUseCase {
+
+    private final CarRepository carRepository;
+    private final CustomerRepository customerRepository;
+    private final CarAvailability carAvailability;
+    private final ReservationHolds reservationHolds;
+
+    public HoldCarUseCase(CarRepository carRepository, CustomerRepository customerRepository,
+                          CarAvailability carAvailability, ReservationHolds reservationHolds) {
+        this.carRepository = carRepository;
+        this.customerRepository = customerRepository;
+        this.carAvailability = carAvailability;
+        this.reservationHolds = reservationHolds;
+    }
+
+    @Transactional(readOnly = true)
+    public Hold place(String plateValue, String cpfValue, LocalDate startDate, LocalDate endDate) {
+        Objects.requireNonNull(plateValue, "Plate is mandatory.");
+        Objects.requireNonNull(cpfValue, "CPF is mandatory.");
+        LicensePlate licensePlate = LicensePlate.of(plateValue);
+        CPF cpf = CPF.of(cpfValue);
+        RentalPeriod period = new RentalPeriod(startDate, endDate);
+
+        boolean customerExists = customerRepository.findViewByCpfNumber(cpf.unformat()).isPresent();
+        if (!customerExists) {
+            throw new CustomerNotFoundException("Customer not found.");
+        }
+
+        boolean carExists = carRepository.findViewByLicensePlate(licensePlate.value()).isPresent();
+        if (!carExists) {
+            throw new CarNotFoundException("Car not found.");
+        }
+        if (carAvailability.isBooked(licensePlate.value(), period.startDate(),
+                period.endDate())) {
+            throw new CarUnavailableException("Car unavailable for the requested period.");
+        }
+
+        return reservationHolds.place(licensePlate.value(), cpf.unformat(), period, Instant.now())
+                .orElseThrow(() -> new CarUnavailableException("Car is on hold for the requested period."));
+    }
+
+    public boolean release(UUID holdId) {
+        if (holdId == null) {
+            throw new NullPointerException("The hold id cannot be null.");
+        }
+        return reservationHolds.release(holdId);
+    }
+}
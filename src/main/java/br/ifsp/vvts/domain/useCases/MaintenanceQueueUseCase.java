@@ -0,0 +1,111 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.event.MaintenanceScheduled;
+import br.ifsp.vvts.domain.event.RelayedRentalEvent;
+import br.ifsp.vvts.domain.event.RentalReturned;
+import br.ifsp.vvts.domain.model.maintenance.MaintenanceJob;
+import br.ifsp.vvts.domain.model.maintenance.MaintenanceJobType;
+import br.ifsp.vvts.infra.persistence.entity.maintenance.MaintenanceJobEntity;
+import br.ifsp.vvts.infra.persistence.repository.MaintenanceJobRepository;
+import br.ifsp.vvts.infra.persistence.repository.RentalRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class MaintenanceQueueUseCase {
+
+    private final MaintenanceJobRepository maintenanceJobRepository;
+    private final RentalRepository rentalRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${application.maintenance.maintenance-days:2}")
+    private int maintenanceDays;
+
+    @Value("${application.maintenance.cleaning-days:1}")
+    private int cleaningDays;
+
+    public MaintenanceQueueUseCase(MaintenanceJobRepository maintenanceJobRepository,
+                                   RentalRepository rentalRepository, ApplicationEventPublisher eventPublisher) {
+        this.maintenanceJobRepository = maintenanceJobRepository;
+        this.rentalRepository = rentalRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Enfileira os serviços pedidos na devolução. O pedido é gravado na outbox junto com a devolução e chega aqui pelo
+     * relay, fora da thread da requisição; se a gravação falhar, a exceção volta ao relay, que entrega o evento de novo
+     * na próxima execução. Como a entrega pode se repetir, uma locação que já tem serviços na fila é ignorada. Os
+     * serviços de um carro são encadeados após os que ainda estão em aberto, manutenção antes da limpeza.
+     * <p>
+     * Uma locação pode ter sido confirmada entre a devolução e este ponto, então cada serviço é encaixado no primeiro
+     * intervalo sem locação ativa, consultado na mesma transação que grava o serviço.
+     */
+    @EventListener
+    @Transactional
+    public void onRentalEvent(RelayedRentalEvent relayed) {
+        if (!(relayed.event() instanceof RentalReturned event) || !event.needsService()
+                || maintenanceJobRepository.existsByRentalId(event.rentalId())) {
+            return;
+        }
+        LocalDate from = maintenanceJobRepository.findOpenBlockEnd(event.licensePlate())
+                .filter(end -> end.isAfter(event.actualReturnDate()))
+                .orElse(event.actualReturnDate());
+        Instant now = Instant.now();
+
+        if (event.needsMaintenance()) {
+            from = firstFreeStart(event.licensePlate(), from, maintenanceDays);
+            maintenanceJobRepository.save(new MaintenanceJobEntity(event.rentalId(), event.licensePlate(),
+                    MaintenanceJobType.MAINTENANCE, maintenanceDays, from, now));
+            from = from.plusDays(maintenanceDays);
+        }
+        if (event.needsCleaning()) {
+            from = firstFreeStart(event.licensePlate(), from, cleaningDays);
+            maintenanceJobRepository.save(new MaintenanceJobEntity(event.rentalId(), event.licensePlate(),
+                    MaintenanceJobType.CLEANING, cleaningDays, from, now));
+        }
+        eventPublisher.publishEvent(new MaintenanceScheduled(event.licensePlate()));
+    }
+
+    public List<MaintenanceJob> listOpen() {
+        return maintenanceJobRepository.findOpenJobs();
+    }
+
+    public Optional<MaintenanceJob> find(Long id) {
+        if (id == null) {
+            throw new NullPointerException("The maintenance job id cannot be null.");
+        }
+        return maintenanceJobRepository.findJobById(id);
+    }
+
+    /**
+     * Conclui o serviço antes do prazo estimado, liberando o carro imediatamente.
+     */
+    @Transactional
+    public Optional<MaintenanceJob> complete(Long id) {
+        if (find(id).isEmpty()) {
+            return Optional.empty();
+        }
+        if (maintenanceJobRepository.completeIfOpen(id, Instant.now()) == 0) {
+            throw new IllegalStateException("This maintenance job is already done.");
+        }
+        return maintenanceJobRepository.findJobById(id);
+    }
+
+    private LocalDate firstFreeStart(String licensePlate, LocalDate from, int durationDays) {
+        Optional<LocalDate> bookedUntil = rentalRepository.findBookedUntil(licensePlate, from,
+                from.plusDays(durationDays));
+        while (bookedUntil.isPresent()) {
+            from = bookedUntil.get();
+            bookedUntil = rentalRepository.findBookedUntil(licensePlate, from, from.plusDays(durationDays));
+        }
+        return from;
+    }
+}
@@ -1,16 +1,23 @@
 package br.ifsp.vvts.domain.useCases;
 
+import br.ifsp.vvts.domain.event.CatalogChanged;
+import br.ifsp.vvts.domain.event.FleetChanged;
 import br.ifsp.vvts.domain.model.car.Car;
+import br.ifsp.vvts.domain.model.catalog.Catalog;
 import br.ifsp.vvts.domain.model.car.LicensePlate;
+import br.ifsp.vvts.domain.model.rental.RentalPeriod;
 import br.ifsp.vvts.exception.EntityAlreadyExistsException;
 import br.ifsp.vvts.infra.persistence.entity.car.CarEntity;
 import br.ifsp.vvts.infra.persistence.mapper.CarMapper;
 import br.ifsp.vvts.infra.persistence.repository.CarRepository;
+import br.ifsp.vvts.infra.persistence.repository.RentalRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -18,11 +25,15 @@ import java.util.stream.Collectors;
 public class ManageCarUseCase {
     private final CarRepository carRepository;
     private final CarMapper carMapper;
+    private final RentalRepository rentalRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-
-    public ManageCarUseCase(CarRepository carRepository, CarMapper carMapper) {
+    public ManageCarUseCase(CarRepository carRepository, CarMapper carMapper, RentalRepository rentalRepository,
+                            ApplicationEventPublisher eventPublisher) {
         this.carRepository = carRepository;
         this.carMapper = carMapper;
+        this.rentalRepository = rentalRepository;
+        this.eventPublisher = eventPublisher;
     }
 
 
@@ -38,6 +49,8 @@ public class ManageCarUseCase {
 
         CarEntity entity = carMapper.toEntity(carToSave);
         CarEntity savedEntity = carRepository.save(entity);
+        eventPublisher.publishEvent(new FleetChanged(licensePlate.value(), brand, model, 1));
+        eventPublisher.publishEvent(new CatalogChanged(Catalog.CARS));
 
         return carMapper.toDomain(savedEntity);
     }
@@ -52,10 +65,21 @@ public class ManageCarUseCase {
         LicensePlate licensePlate = LicensePlate.of(licensePlateValue);
         return carRepository.findByLicensePlate(licensePlate.value())
                 .map(entity -> {
+                    if (!brand.equals(entity.getBrand()) || !Objects.equals(model, entity.getModel())) {
+                        List<RentalPeriod> activeBookings = rentalRepository
+                                .findActiveBookingsByLicensePlate(licensePlate.value()).stream()
+                                .map(booking -> new RentalPeriod(booking.startDate(), booking.endDate()))
+                                .toList();
+                        eventPublisher.publishEvent(new FleetChanged(licensePlate.value(), entity.getBrand(),
+                                entity.getModel(), -1, activeBookings));
+                        eventPublisher.publishEvent(
+                                new FleetChanged(licensePlate.value(), brand, model, 1, activeBookings));
+                    }
                     entity.setBrand(brand);
                     entity.setModel(model);
                     entity.setBasePrice(basePrice);
                     CarEntity savedEntity = carRepository.save(entity);
+                    eventPublisher.publishEvent(new CatalogChanged(Catalog.CARS));
                     return carMapper.toDomain(savedEntity);
                 });
     }
@@ -67,21 +91,24 @@ public class ManageCarUseCase {
         return carRepository.findByLicensePlate(licensePlate.value())
                 .map(carEntity -> {
                     carRepository.delete(carEntity);
+                    eventPublisher.publishEvent(new FleetChanged(licensePlate.value(), carEntity.getBrand(),
+                            carEntity.getModel(), -1));
+                    eventPublisher.publishEvent(new CatalogChanged(Catalog.CARS));
                     return true;
                 }).orElse(false);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Optional<Car> findCarByLicensePlate(String licensePlateValue) {
         LicensePlate licensePlate = LicensePlate.of(licensePlateValue);
-        return carRepository.findByLicensePlate(licensePlate.value())
-                .map(carMapper::toDomain);
+        return carRepository.findViewByLicensePlate(licensePlate.value())
+                .map(carMapper::fromView);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<Car> getAllCars() {
-        return carRepository.findAll().stream()
-                .map(carMapper::toDomain)
+        return carRepository.findAllViews().stream()
+                .map(carMapper::fromView)
                 .collect(Collectors.toList());
     }
 }
@@ -1,11 +1,14 @@
 package br.ifsp.vvts.domain.useCases;
 
+import br.ifsp.vvts.domain.event.CatalogChanged;
+import br.ifsp.vvts.domain.model.catalog.Catalog;
 import br.ifsp.vvts.domain.model.customer.CPF;
 import br.ifsp.vvts.domain.model.customer.Customer;
 import br.ifsp.vvts.exception.EntityAlreadyExistsException;
 import br.ifsp.vvts.infra.persistence.entity.customer.CustomerEntity;
 import br.ifsp.vvts.infra.persistence.mapper.CustomerMapper;
 import br.ifsp.vvts.infra.persistence.repository.CustomerRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,11 +22,13 @@ public class ManageCustomerUseCase {
 
     private final CustomerRepository customerRepository;
     private final CustomerMapper customerMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-
-    public ManageCustomerUseCase(CustomerRepository customerRepository, CustomerMapper customerMapper) {
+    public ManageCustomerUseCase(CustomerRepository customerRepository, CustomerMapper customerMapper,
+                                 ApplicationEventPublisher eventPublisher) {
         this.customerRepository = customerRepository;
         this.customerMapper = customerMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -38,6 +43,7 @@ public class ManageCustomerUseCase {
 
         CustomerEntity entity = customerMapper.toEntity(customerToSave);
         CustomerEntity savedEntity = customerRepository.save(entity);
+        eventPublisher.publishEvent(new CatalogChanged(Catalog.CUSTOMERS));
 
         return customerMapper.toDomain(savedEntity);
     }
@@ -51,6 +57,7 @@ public class ManageCustomerUseCase {
                     Customer updatedDomainCustomer = new Customer(newName, CPF.of(entity.getCpf().getNumber()));
                     entity.setName(updatedDomainCustomer.name());
                     CustomerEntity savedEntity = customerRepository.save(entity);
+                    eventPublisher.publishEvent(new CatalogChanged(Catalog.CUSTOMERS));
                     return customerMapper.toDomain(savedEntity);
                 });
     }
@@ -62,23 +69,22 @@ public class ManageCustomerUseCase {
         return customerRepository.findByCpfNumber(cpf.unformat())
                 .map(entity -> {
                     customerRepository.delete(entity);
+                    eventPublisher.publishEvent(new CatalogChanged(Catalog.CUSTOMERS));
                     return true;
                 }).orElse(false);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Optional<Customer> findCustomerByCpf(String cpfNumber) {
         CPF cpf = CPF.of(cpfNumber);
-        return customerRepository.findByCpfNumber(cpf.unformat())
-                .map(customerMapper::toDomain);
+        return customerRepository.findViewByCpfNumber(cpf.unformat())
+                .map(customerMapper::fromView);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<Customer> getAllCustomers() {
-        return customerRepository.findAll().stream()
-                .map(customerMapper::toDomain)
+        return customerRepository.findAllViews().stream()
+                .map(customerMapper::fromView)
                 .collect(Collectors.toList());
     }
-
-
-}
\ No newline at end of file
+}
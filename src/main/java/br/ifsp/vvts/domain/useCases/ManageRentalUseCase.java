@@ -1,5 +1,9 @@
 package br.ifsp.vvts.domain.useCases;
 
+import br.ifsp.vvts.domain.event.RentalCanceled;
+import br.ifsp.vvts.domain.event.RentalCreated;
+import br.ifsp.vvts.domain.event.RentalDeleted;
+import br.ifsp.vvts.domain.event.RentalReturned;
 import br.ifsp.vvts.domain.model.rental.Rental;
 import br.ifsp.vvts.domain.model.rental.RentalPeriod;
 import br.ifsp.vvts.domain.model.rental.RentalStatus;
@@ -8,6 +12,7 @@ import br.ifsp.vvts.infra.persistence.entity.customer.CustomerEntity;
 import br.ifsp.vvts.infra.persistence.entity.rental.RentalEntity;
 import br.ifsp.vvts.infra.persistence.mapper.RentalMapper;
 import br.ifsp.vvts.infra.persistence.repository.RentalRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,14 +27,28 @@ public class ManageRentalUseCase {
 
     private final RentalRepository rentalRepository;
     private final RentalMapper rentalMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ManageRentalUseCase(RentalRepository rentalRepository, RentalMapper rentalMapper) {
+    public ManageRentalUseCase(RentalRepository rentalRepository, RentalMapper rentalMapper,
+                               ApplicationEventPublisher eventPublisher) {
         this.rentalRepository = rentalRepository;
         this.rentalMapper = rentalMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
-    public Rental createRental(CustomerEntity customerEntity, CarEntity carEntity, RentalPeriod period, BigDecimal totalPrice) {
+    public Rental createRental(CustomerEntity customerEntity, CarEntity carEntity, RentalPeriod period, BigDecimal totalPrice,
+                               boolean withInsurance) {
+        return createRental(customerEntity, carEntity, period, totalPrice, withInsurance, null);
+    }
+
+    /**
+     * Cria a locação na filial {@code branch}, cujas regras de preço valem também na devolução. Filial nula usa as
+     * regras padrão.
+     */
+    @Transactional
+    public Rental createRental(CustomerEntity customerEntity, CarEntity carEntity, RentalPeriod period, BigDecimal totalPrice,
+                               boolean withInsurance, String branch) {
         if (customerEntity == null) {
             throw new NullPointerException("Client cannot be null.");
         }
@@ -46,21 +65,25 @@ public class ManageRentalUseCase {
                 totalPrice,
                 RentalStatus.ACTIVE
         );
+        newRentalEntity.setWithInsurance(withInsurance);
+        newRentalEntity.setBranch(branch);
         RentalEntity savedEntity = rentalRepository.save(newRentalEntity);
+        eventPublisher.publishEvent(new RentalCreated(savedEntity.getId(), carEntity.getLicensePlate().getValue(),
+                carEntity.getBrand(), carEntity.getModel(), period.startDate(), period.endDate()));
         return rentalMapper.toDomain(savedEntity);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<Rental> getAllRentals() {
-        return rentalRepository.findAll().stream()
-                .map(rentalMapper::toDomain)
+        return rentalRepository.findAllViews().stream()
+                .map(rentalMapper::fromView)
                 .collect(Collectors.toList());
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Optional<Rental> findRentalById(Long id) {
-        return rentalRepository.findById(id)
-                .map(rentalMapper::toDomain);
+        return rentalRepository.findViewById(id)
+                .map(rentalMapper::fromView);
     }
 
     @Transactional
@@ -68,8 +91,10 @@ public class ManageRentalUseCase {
     public Optional<Rental> updateRentalStatus(Long id, RentalStatus newStatus) {
         return rentalRepository.findById(id)
                 .map(entity -> {
+                    RentalStatus previousStatus = entity.getStatus();
                     entity.setStatus(newStatus);
                     RentalEntity savedEntity = rentalRepository.save(entity);
+                    publishStatusChange(entity, previousStatus, newStatus);
                     return rentalMapper.toDomain(savedEntity);
                 });
     }
@@ -80,7 +105,29 @@ public class ManageRentalUseCase {
         return rentalRepository.findById(id)
                 .map(entity -> {
                     rentalRepository.delete(entity);
+                    CarEntity car = entity.getCar();
+                    eventPublisher.publishEvent(new RentalDeleted(entity.getId(), car.getLicensePlate().getValue(),
+                            car.getBrand(), car.getModel(), entity.getStartDate(), entity.getEndDate(),
+                            entity.getStatus() == RentalStatus.ACTIVE));
                     return true;
                 }).orElse(false);
     }
+
+    private void publishStatusChange(RentalEntity entity, RentalStatus previousStatus, RentalStatus newStatus) {
+        if (previousStatus == newStatus) {
+            return;
+        }
+        CarEntity car = entity.getCar();
+        if (newStatus == RentalStatus.ACTIVE) {
+            eventPublisher.publishEvent(new RentalCreated(entity.getId(), car.getLicensePlate().getValue(),
+                    car.getBrand(), car.getModel(), entity.getStartDate(), entity.getEndDate()));
+        } else if (previousStatus == RentalStatus.ACTIVE && newStatus == RentalStatus.CANCELED) {
+            eventPublisher.publishEvent(new RentalCanceled(entity.getId(), car.getLicensePlate().getValue(),
+                    car.getBrand(), car.getModel(), entity.getStartDate(), entity.getEndDate()));
+        } else if (previousStatus == RentalStatus.ACTIVE) {
+            eventPublisher.publishEvent(new RentalReturned(entity.getId(), car.getLicensePlate().getValue(),
+                    car.getBrand(), car.getModel(), entity.getStartDate(), entity.getEndDate(),
+                    entity.getActualReturnDate()));
+        }
+    }
 }
\ No newline at end of file
@@ -1,68 +1,75 @@
 package br.ifsp.vvts.domain.useCases;
 
+import br.ifsp.vvts.domain.model.calendar.BranchRegions;
+import br.ifsp.vvts.domain.model.calendar.HolidayCalendar;
+import br.ifsp.vvts.domain.model.calendar.HolidayCalendarSource;
+import br.ifsp.vvts.domain.model.calendar.SurchargeDayTable;
 import br.ifsp.vvts.domain.model.car.Car;
+import br.ifsp.vvts.domain.model.pricing.PricingPlan;
+import br.ifsp.vvts.domain.model.pricing.PricingRuleBook;
 import br.ifsp.vvts.domain.model.rental.RentalPeriod;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class PricingService {
 
-    private static final BigDecimal WEEKEND_HOLIDAY_SURCHARGE = new BigDecimal("0.06");
-    private static final BigDecimal INSURANCE_FEE = new BigDecimal("0.10");
-    private static final BigDecimal DISCOUNT_7_TO_14_DAYS = new BigDecimal("0.05");
-    private static final BigDecimal DISCOUNT_ABOVE_15_DAYS = new BigDecimal("0.10");
-
-    private static final List<String> HOLIDAY_STRINGS = List.of(
-            // 2020
-            "2020-01-01", "2020-02-24", "2020-02-25", "2020-04-10", "2020-04-21", "2020-05-01", "2020-06-11", "2020-09-07", "2020-10-12", "2020-11-02", "2020-11-15", "2020-12-25",
-            // 2021
-            "2021-01-01", "2021-02-15", "2021-02-16", "2021-04-02", "2021-04-21", "2021-05-01", "2021-06-03", "2021-09-07", "2021-10-12", "2021-11-02", "2021-11-15", "2021-12-25",
-            // 2022
-            "2022-01-01", "2022-02-28", "2022-03-01", "2022-04-15", "2022-04-21", "2022-05-01", "2022-06-16", "2022-09-07", "2022-10-12", "2022-11-02", "2022-11-15", "2022-12-25",
-            // 2023
-            "2023-01-01", "2023-02-20", "2023-02-21", "2023-04-07", "2023-04-21", "2023-05-01", "2023-06-08", "2023-09-07", "2023-10-12", "2023-11-02", "2023-11-15", "2023-12-25",
-            // 2024
-            "2024-01-01", "2024-02-12", "2024-02-13", "2024-03-29", "2024-04-21", "2024-05-01", "2024-05-30", "2024-09-07", "2024-10-12", "2024-11-02", "2024-11-15", "2024-12-25",
-            // 2025
-            "2025-01-01", "2025-03-03", "2025-03-04", "2025-04-18", "2025-04-21", "2025-05-01", "2025-06-19", "2025-09-07", "2025-10-12", "2025-11-02", "2025-11-15", "2025-12-25",
-            // 2026
-            "2026-01-01", "2026-02-16", "2026-02-17", "2026-04-03", "2026-04-21", "2026-05-01", "2026-06-04", "2026-09-07", "2026-10-12", "2026-11-02", "2026-11-15", "2026-12-25",
-            // 2027
-            "2027-01-01", "2027-02-08", "2027-02-09", "2027-03-26", "2027-04-21", "2027-05-01", "2027-05-27", "2027-09-07", "2027-10-12", "2027-11-02", "2027-11-15", "2027-12-25",
-            // 2028
-            "2028-01-01", "2028-02-28", "2028-02-29", "2028-04-14", "2028-04-21", "2028-05-01", "2028-06-15", "2028-09-07", "2028-10-12", "2028-11-02", "2028-11-15", "2028-12-25",
-            // 2029
-            "2029-01-01", "2029-02-12", "2029-02-13", "2029-03-30", "2029-04-21", "2029-05-01", "2029-05-31", "2029-09-07", "2029-10-12", "2029-11-02", "2029-11-15", "2029-12-25",
-            // 2030
-            "2030-01-01", "2030-03-04", "2030-03-05", "2030-04-19", "2030-04-21", "2030-05-01", "2030-06-20", "2030-09-07", "2030-10-12", "2030-11-02", "2030-11-15", "2030-12-25"
-    );
-
-    private static final Set<LocalDate> holidays = new HashSet<>();
-
-    static {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        for (String dateString : HOLIDAY_STRINGS) {
-            holidays.add(LocalDate.parse(dateString.trim(), formatter));
-        }
+    private static final LocalDate SURCHARGE_WINDOW_START = LocalDate.of(2020, 1, 1);
+    private static final LocalDate SURCHARGE_WINDOW_END = LocalDate.of(2060, 1, 1);
+    private static final String DEFAULT_REGION_KEY = "";
+
+    private final HolidayCalendarSource holidayCalendars;
+    private final QuoteCache quoteCache;
+    private final PricingRuleBook pricingRules;
+    private final FleetOccupancy fleetOccupancy;
+    private final BranchRegions branchRegions;
+    private final Map<String, SurchargeTableEntry> surchargeTables = new ConcurrentHashMap<>();
+
+    record SurchargeTableEntry(long calendarVersion, SurchargeDayTable table) {
     }
 
-    private boolean isWeekendOrHoliday(LocalDate date) {
-        DayOfWeek day = date.getDayOfWeek();
-        return day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY || holidays.contains(date);
+    public PricingService(HolidayCalendarSource holidayCalendars, QuoteCache quoteCache, PricingRuleBook pricingRules,
+                          FleetOccupancy fleetOccupancy, BranchRegions branchRegions) {
+        this.holidayCalendars = holidayCalendars;
+        this.quoteCache = quoteCache;
+        this.pricingRules = pricingRules;
+        this.fleetOccupancy = fleetOccupancy;
+        this.branchRegions = branchRegions;
     }
 
     public BigDecimal calculateTotalPrice(Car car, RentalPeriod period, boolean withInsurance) {
+        return quote(car, period, withInsurance, null, null);
+    }
+
+    public BigDecimal calculateTotalPrice(Car car, RentalPeriod period, boolean withInsurance, String region) {
+        if (region == null) {
+            throw new IllegalArgumentException("The region cannot be null.");
+        }
+        return quote(car, period, withInsurance, region, null);
+    }
+
+    /**
+     * Orçamento com os feriados de {@code region} e as regras da filial {@code branch}. Região nula usa o calendário
+     * padrão e filial nula, as regras padrão.
+     */
+    public BigDecimal calculateTotalPrice(Car car, RentalPeriod period, boolean withInsurance, String region,
+                                          String branch) {
+        return quote(car, period, withInsurance, region, branch);
+    }
+
+    /**
+     * Orçamento de uma locação da filial {@code branch}, com os feriados da região configurada para ela.
+     */
+    public BigDecimal calculateBranchPrice(Car car, RentalPeriod period, boolean withInsurance, String branch) {
+        return quote(car, period, withInsurance, branchRegions.regionOf(branch), branch);
+    }
+
+    private BigDecimal quote(Car car, RentalPeriod period, boolean withInsurance, String region, String branch) {
         if (car == null) {
             throw new IllegalArgumentException("The car cannot be null.");
         }
@@ -70,43 +77,44 @@ public class PricingService {
             throw new IllegalArgumentException("The period cannot be null.");
         }
 
-        long totalDays = period.getDays();
-        BigDecimal dailyRate = BigDecimal.valueOf(car.basePrice());
-
-        BigDecimal basePrice = dailyRate.multiply(BigDecimal.valueOf(totalDays));
-        BigDecimal priceWithSurcharges = basePrice.add(calculateSurcharges(dailyRate, period));
-
-        BigDecimal priceWithInsurance = applyInsurance(priceWithSurcharges, withInsurance);
-
-        BigDecimal finalPrice = applyDiscounts(priceWithInsurance, totalDays);
-
-        return finalPrice.setScale(2, RoundingMode.HALF_UP);
+        PricingPlan plan = pricingRules.planFor(branch, period.startDate());
+        BigDecimal utilizationMultiplier = plan.utilizationMultiplier(fleetOccupancy.peakUtilization(car, period));
+
+        var key = new QuoteCache.Key(region, branch, car.basePrice(), period.startDate(), period.endDate(), withInsurance,
+                utilizationMultiplier);
+        long calendarVersion = holidayCalendars.version();
+        return quoteCache.get(key, calendarVersion, () -> {
+            HolidayCalendar holidays = region == null
+                    ? holidayCalendars.defaultCalendar()
+                    : holidayCalendars.forRegion(region);
+            int surchargeDays = surchargeTable(region, holidays, calendarVersion)
+                    .countSurchargeDays(period.startDate(), period.endDate());
+            return plan.totalPrice(BigDecimal.valueOf(car.basePrice()), (int) period.getDays(), surchargeDays,
+                    withInsurance, utilizationMultiplier);
+        });
     }
 
-    private BigDecimal calculateSurcharges(BigDecimal dailyRate, RentalPeriod period) {
-        BigDecimal totalSurcharge = BigDecimal.ZERO;
-        for (LocalDate date = period.startDate(); date.isBefore(period.endDate()); date = date.plusDays(1)) {
-            if (isWeekendOrHoliday(date)) {
-                totalSurcharge = totalSurcharge.add(dailyRate.multiply(WEEKEND_HOLIDAY_SURCHARGE));
-            }
+    /**
+     * Tabela de dias com acréscimo do calendário lido na versão {@code calendarVersion}. A tabela só é guardada se a
+     * versão não mudou durante a leitura e é mais nova que a guardada, trocando por compare-and-set; uma chamada que
+     * leu o calendário antes de uma recarga usa a própria tabela sem substituir a mais nova.
+     */
+    private SurchargeDayTable surchargeTable(String region, HolidayCalendar holidays, long calendarVersion) {
+        String key = region == null ? DEFAULT_REGION_KEY : region.toUpperCase(Locale.ROOT);
+        SurchargeTableEntry current = surchargeTables.get(key);
+        if (current != null && current.table().calendar() == holidays) {
+            return current.table();
         }
-        return totalSurcharge;
-    }
-
-    private BigDecimal applyDiscounts(BigDecimal price, long totalDays) {
-        if (totalDays > 15) {
-            return price.subtract(price.multiply(DISCOUNT_ABOVE_15_DAYS));
-        }
-        if (totalDays >= 7) {
-            return price.subtract(price.multiply(DISCOUNT_7_TO_14_DAYS));
-        }
-        return price;
-    }
 
-    private BigDecimal applyInsurance(BigDecimal price, boolean withInsurance) {
-        if (withInsurance) {
-            return price.add(price.multiply(INSURANCE_FEE));
+        SurchargeDayTable table = current == null
+                ? SurchargeDayTable.build(holidays, SURCHARGE_WINDOW_START, SURCHARGE_WINDOW_END)
+                : current.table().rebuild(holidays);
+        boolean readConsistently = holidayCalendars.version() == calendarVersion;
+        if (readConsistently && current == null) {
+            surchargeTables.putIfAbsent(key, new SurchargeTableEntry(calendarVersion, table));
+        } else if (readConsistently && current.calendarVersion() < calendarVersion) {
+            surchargeTables.replace(key, current, new SurchargeTableEntry(calendarVersion, table));
         }
-        return price;
+        return table;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,110 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.dto.QuoteCacheStats;
+import br.ifsp.vvts.domain.event.HolidayCalendarsReloaded;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Cache LRU limitado de orçamentos já calculados. As entradas são descartadas quando a versão das regras muda ou o
+ * cache é invalidado.
+ * <p>
+ * Cada invalidação avança uma geração. Um orçamento só é guardado se a geração e a versão ainda forem as da consulta
+ * que o calculou, então um cálculo iniciado antes de uma invalidação não volta ao cache depois dela. Chamadas com uma
+ * versão mais antiga que a atual calculam sem ler nem gravar no cache.
+ */
+@Component
+public class QuoteCache {
+
+    record Key(String region, String branch, double basePrice, LocalDate startDate, LocalDate endDate, boolean withInsurance,
+               BigDecimal utilizationMultiplier) {
+    }
+
+    private final int capacity;
+    private final Map<Key, BigDecimal> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private long rulesVersion;
+    private long generation;
+
+    public QuoteCache(@Value("${application.pricing.quote-cache.capacity:10000}") int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The quote cache capacity cannot be negative.");
+        }
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, BigDecimal> eldest) {
+                return size() > QuoteCache.this.capacity;
+            }
+        };
+    }
+
+    BigDecimal get(Key key, long version, Supplier<BigDecimal> calculator) {
+        if (capacity == 0) {
+            misses.increment();
+            return calculator.get();
+        }
+
+        long readGeneration;
+        synchronized (this) {
+            if (version < rulesVersion) {
+                misses.increment();
+                return calculator.get();
+            }
+            if (version > rulesVersion) {
+                clear();
+                rulesVersion = version;
+            }
+            BigDecimal cached = entries.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            readGeneration = generation;
+        }
+
+        misses.increment();
+        BigDecimal calculated = calculator.get();
+        synchronized (this) {
+            if (version == rulesVersion && readGeneration == generation) {
+                entries.put(key, calculated);
+            }
+        }
+        return calculated;
+    }
+
+    public synchronized void invalidateAll() {
+        clear();
+    }
+
+    @EventListener
+    public void onHolidayCalendarsReloaded(HolidayCalendarsReloaded event) {
+        invalidateAll();
+    }
+
+    public QuoteCacheStats stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+        double hitRate = requests == 0 ? 0.0 : (double) hitCount / requests;
+        int size;
+        synchronized (this) {
+            size = entries.size();
+        }
+        return new QuoteCacheStats(hitCount, missCount, hitRate, size, capacity);
+    }
+
+    private void clear() {
+        entries.clear();
+        generation++;
+    }
+}
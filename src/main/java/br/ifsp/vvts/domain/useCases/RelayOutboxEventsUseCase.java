@@ -0,0 +1,119 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.event.RelayedRentalEvent;
+import br.ifsp.vvts.infra.persistence.entity.outbox.OutboxEventEntity;
+import br.ifsp.vvts.infra.persistence.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class RelayOutboxEventsUseCase {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final RentalEventOutbox rentalEventOutbox;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${application.outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${application.outbox.relay.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${application.outbox.retention:86400000}")
+    private long retentionMillis;
+
+    public RelayOutboxEventsUseCase(OutboxEventRepository outboxEventRepository, RentalEventOutbox rentalEventOutbox,
+                                    ApplicationEventPublisher eventPublisher,
+                                    PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.rentalEventOutbox = rentalEventOutbox;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Entrega os eventos pendentes em lotes, na ordem em que foram gravados, e marca como publicados os que foram
+     * entregues. Uma entrada que falha, por payload ilegível ou erro de um ouvinte, não trava as demais: a tentativa é
+     * contada e a entrada volta na próxima execução. Na tentativa {@code max-attempts}, ela é marcada como falha e
+     * deixa de ser entregue.
+     */
+    public int execute(Instant now) {
+        if (now == null) {
+            throw new NullPointerException("The reference instant cannot be null.");
+        }
+        if (batchSize < 1) {
+            throw new IllegalStateException("The outbox relay batch size must be positive.");
+        }
+        if (maxAttempts < 1) {
+            throw new IllegalStateException("The outbox relay max attempts must be positive.");
+        }
+        if (!rentalEventOutbox.takePending()) {
+            return 0;
+        }
+
+        int relayed = 0;
+        boolean retry = false;
+        long afterId = 0;
+        try {
+            while (true) {
+                long cursor = afterId;
+                List<OutboxEventEntity> batch = transactionTemplate.execute(status ->
+                        outboxEventRepository.findUnpublishedAfter(cursor, PageRequest.of(0, batchSize)));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                List<Long> published = new ArrayList<>();
+                Map<Long, String> failures = new LinkedHashMap<>();
+                for (OutboxEventEntity entry : batch) {
+                    try {
+                        eventPublisher.publishEvent(new RelayedRentalEvent(entry.getId(), entry.getCreatedAt(),
+                                rentalEventOutbox.decode(entry)));
+                        published.add(entry.getId());
+                    } catch (RuntimeException e) {
+                        failures.put(entry.getId(), String.valueOf(e));
+                        retry |= entry.getAttempts() + 1 < maxAttempts;
+                    }
+                }
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (!published.isEmpty()) {
+                        outboxEventRepository.markPublished(published, now);
+                    }
+                    failures.forEach((id, error) -> outboxEventRepository.recordFailure(id, error, maxAttempts, now));
+                });
+
+                relayed += published.size();
+                if (batch.size() < batchSize) {
+                    break;
+                }
+                afterId = batch.getLast().getId();
+            }
+        } catch (RuntimeException e) {
+            rentalEventOutbox.markPending();
+            throw e;
+        }
+        if (retry) {
+            rentalEventOutbox.markPending();
+        }
+        return relayed;
+    }
+
+    public int purge(Instant now) {
+        if (now == null) {
+            throw new NullPointerException("The reference instant cannot be null.");
+        }
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deletePublishedBefore(now.minusMillis(retentionMillis)));
+        return deleted == null ? 0 : deleted;
+    }
+}
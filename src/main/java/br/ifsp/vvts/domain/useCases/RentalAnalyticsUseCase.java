@@ -0,0 +1,84 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.model.report.RentalAnalytics;
+import br.ifsp.vvts.domain.model.report.RentalStatsAccumulator;
+import br.ifsp.vvts.infra.persistence.projection.RentalAnalyticsView;
+import br.ifsp.vvts.infra.persistence.projection.RentalIdRange;
+import br.ifsp.vvts.infra.persistence.repository.RentalRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Estatísticas sobre todo o histórico de locações. A faixa de ids é dividida ao meio até caber em um bloco, cada
+ * bloco é lido numa transação somente leitura e somado num acumulador próprio, e os acumuladores são juntados na
+ * volta. Cada trabalhador do pool lê um bloco por vez, então a memória fica limitada ao paralelismo vezes o tamanho
+ * do bloco, qualquer que seja o tamanho da tabela.
+ */
+@Service
+public class RentalAnalyticsUseCase {
+
+    private final RentalRepository rentalRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ForkJoinPool analyticsPool;
+    private final int chunkSize;
+
+    public RentalAnalyticsUseCase(RentalRepository rentalRepository, PlatformTransactionManager transactionManager,
+                                  ForkJoinPool analyticsPool,
+                                  @Value("${application.analytics.chunk-size:1000}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalStateException("The analytics chunk size must be positive.");
+        }
+        this.rentalRepository = rentalRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.analyticsPool = analyticsPool;
+        this.chunkSize = chunkSize;
+    }
+
+    public RentalAnalytics execute() {
+        RentalIdRange range = readOnlyTransaction.execute(status -> rentalRepository.findIdRange());
+        if (range == null || range.minId() == null) {
+            return new RentalStatsAccumulator().result();
+        }
+        return analyticsPool.invoke(new ChunkTask(range.minId(), range.maxId() + 1)).result();
+    }
+
+    private RentalStatsAccumulator accumulate(long fromId, long toId) {
+        RentalStatsAccumulator accumulator = new RentalStatsAccumulator();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            for (RentalAnalyticsView view : rentalRepository.findAnalyticsViews(fromId, toId)) {
+                accumulator.add(view.brand(), view.model(), view.status(), view.startDate(), view.endDate(),
+                        view.actualReturnDate(), view.withInsurance());
+            }
+        });
+        return accumulator;
+    }
+
+    private final class ChunkTask extends RecursiveTask<RentalStatsAccumulator> {
+
+        private final long fromId;
+        private final long toId;
+
+        private ChunkTask(long fromId, long toId) {
+            this.fromId = fromId;
+            this.toId = toId;
+        }
+
+        @Override
+        protected RentalStatsAccumulator compute() {
+            if (toId - fromId <= chunkSize) {
+                return accumulate(fromId, toId);
+            }
+            long middle = fromId + (toId - fromId) / 2;
+            ChunkTask upper = new ChunkTask(middle, toId);
+            upper.fork();
+            RentalStatsAccumulator lower = new ChunkTask(fromId, middle).compute();
+            return lower.merge(upper.join());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.event.RentalEvent;
+import br.ifsp.vvts.infra.persistence.entity.outbox.OutboxEventEntity;
+import br.ifsp.vvts.infra.persistence.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Grava os eventos de locação na outbox dentro da transação que os publicou, para que o relay os entregue depois do
+ * commit sem prolongar os locks da transação. Depois do commit, sinaliza ao relay que há eventos pendentes, evitando
+ * consultas ao banco quando não há nada a entregar.
+ */
+@Component
+public class RentalEventOutbox {
+
+    private static final Map<String, Class<?>> EVENT_TYPES = Arrays.stream(RentalEvent.class.getPermittedSubclasses())
+            .collect(Collectors.toUnmodifiableMap(Class::getSimpleName, Function.identity()));
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final AtomicBoolean pending = new AtomicBoolean(true);
+
+    public RentalEventOutbox(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void record(RentalEvent event) {
+        String type = event.getClass().getSimpleName();
+        try {
+            outboxEventRepository.save(new OutboxEventEntity(null, type, objectMapper.writeValueAsString(event),
+                    Instant.now()));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Could not serialize rental event " + type, e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void signal(RentalEvent event) {
+        pending.set(true);
+    }
+
+    public boolean takePending() {
+        return pending.getAndSet(false);
+    }
+
+    public void markPending() {
+        pending.set(true);
+    }
+
+    public RentalEvent decode(OutboxEventEntity entry) {
+        Class<?> type = EVENT_TYPES.get(entry.getEventType());
+        if (type == null) {
+            throw new IllegalStateException("Unknown outbox event type: " + entry.getEventType());
+        }
+        try {
+            return (RentalEvent) objectMapper.readValue(entry.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Could not read outbox event " + entry.getId(), e);
+        }
+    }
+}
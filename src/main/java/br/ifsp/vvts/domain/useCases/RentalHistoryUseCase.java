@@ -0,0 +1,86 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.model.car.LicensePlate;
+import br.ifsp.vvts.domain.model.customer.CPF;
+import br.ifsp.vvts.domain.model.rental.Rental;
+import br.ifsp.vvts.domain.model.rental.RentalCursor;
+import br.ifsp.vvts.domain.model.rental.RentalHistoryPage;
+import br.ifsp.vvts.infra.persistence.mapper.RentalMapper;
+import br.ifsp.vvts.infra.persistence.projection.RentalView;
+import br.ifsp.vvts.infra.persistence.repository.CarRepository;
+import br.ifsp.vvts.infra.persistence.repository.CustomerRepository;
+import br.ifsp.vvts.infra.persistence.repository.RentalRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Histórico de locações de um cliente ou de um carro, paginado por cursor. Cada página continua da última locação
+ * da anterior, então o custo de uma página não cresce com a profundidade do histórico.
+ */
+@Service
+public class RentalHistoryUseCase {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final RentalRepository rentalRepository;
+    private final CustomerRepository customerRepository;
+    private final CarRepository carRepository;
+    private final RentalMapper rentalMapper;
+
+    public RentalHistoryUseCase(RentalRepository rentalRepository, CustomerRepository customerRepository,
+                                CarRepository carRepository, RentalMapper rentalMapper) {
+        this.rentalRepository = rentalRepository;
+        this.customerRepository = customerRepository;
+        this.carRepository = carRepository;
+        this.rentalMapper = rentalMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<RentalHistoryPage> forCustomer(String cpfValue, String cursorValue, int limit) {
+        CPF cpf = CPF.of(cpfValue);
+        RentalCursor cursor = parseCursor(cursorValue);
+        Pageable page = pageOf(limit);
+        Optional<Long> customerId = customerRepository.findIdByCpfNumber(cpf.unformat());
+        return customerId.map(id -> toPage(cursor == null
+                ? rentalRepository.findCustomerHistory(id, page)
+                : rentalRepository.findCustomerHistoryAfter(id, cursor.startDate(), cursor.id(), page), limit));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<RentalHistoryPage> forCar(String plateValue, String cursorValue, int limit) {
+        LicensePlate licensePlate = LicensePlate.of(plateValue);
+        RentalCursor cursor = parseCursor(cursorValue);
+        Pageable page = pageOf(limit);
+        Optional<Long> carId = carRepository.findIdByLicensePlate(licensePlate.value());
+        return carId.map(id -> toPage(cursor == null
+                ? rentalRepository.findCarHistory(id, page)
+                : rentalRepository.findCarHistoryAfter(id, cursor.startDate(), cursor.id(), page), limit));
+    }
+
+    private static RentalCursor parseCursor(String cursorValue) {
+        return cursorValue == null || cursorValue.isBlank() ? null : RentalCursor.parse(cursorValue);
+    }
+
+    /**
+     * Pede uma locação além do limite para saber, sem outra consulta, se existe uma próxima página.
+     */
+    private static Pageable pageOf(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("The page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        return Pageable.ofSize(limit + 1);
+    }
+
+    private RentalHistoryPage toPage(List<RentalView> views, int limit) {
+        if (views.size() <= limit) {
+            return new RentalHistoryPage(views.stream().map(rentalMapper::fromView).toList(), null);
+        }
+        List<Rental> rentals = views.subList(0, limit).stream().map(rentalMapper::fromView).toList();
+        RentalView last = views.get(limit - 1);
+        return new RentalHistoryPage(rentals, new RentalCursor(last.startDate(), last.id()).format());
+    }
+}
@@ -0,0 +1,121 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.event.HoldConverted;
+import br.ifsp.vvts.domain.event.HoldLapsed;
+import br.ifsp.vvts.domain.model.booking.Hold;
+import br.ifsp.vvts.domain.model.booking.TimingWheel;
+import br.ifsp.vvts.domain.model.rental.RentalPeriod;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reservas temporárias de um carro e período, mantidas só em memória enquanto o cliente conclui o pagamento. Cada
+ * reserva expira sozinha depois do TTL; a roda de temporização remove as vencidas. As listas por placa são imutáveis e
+ * substituídas a cada alteração, então a consulta de disponibilidade não precisa de trava.
+ * <p>
+ * Reservas que vencem ou são liberadas sem virar locação publicam {@link HoldLapsed}, para que o período volte a ser
+ * oferecido a quem espera pelo carro.
+ */
+@Component
+public class ReservationHolds {
+
+    private final long ttlMillis;
+    private final TimingWheel<Hold> wheel;
+    private final Map<UUID, Hold> holdsById = new ConcurrentHashMap<>();
+    private final Map<String, List<Hold>> holdsByPlate = new ConcurrentHashMap<>();
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ReservationHolds(@Value("${application.rentals.holds.ttl:300000}") long ttlMillis,
+                            @Value("${application.rentals.holds.tick:1000}") long tickMillis,
+                            @Value("${application.rentals.holds.wheel-slots:512}") int wheelSlots,
+                            ApplicationEventPublisher eventPublisher) {
+        if (ttlMillis < 1) {
+            throw new IllegalArgumentException("The hold TTL must be positive.");
+        }
+        this.ttlMillis = ttlMillis;
+        this.wheel = new TimingWheel<>(tickMillis, wheelSlots, System.currentTimeMillis());
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Reserva o carro no período para o cliente {@code cpf}, a menos que outra reserva ainda válida já o ocupe.
+     */
+    public Optional<Hold> place(String licensePlate, String cpf, RentalPeriod period, Instant now) {
+        Hold hold = new Hold(UUID.randomUUID(), licensePlate, cpf, period.startDate(), period.endDate(),
+                now.plusMillis(ttlMillis));
+        boolean[] placed = {false};
+        holdsByPlate.compute(licensePlate, (plate, holds) -> {
+            List<Hold> live = new ArrayList<>(holds == null ? List.of() : holds);
+            live.removeIf(existing -> existing.isExpired(now));
+            if (live.stream().noneMatch(existing -> existing.overlaps(hold.startDate(), hold.endDate()))) {
+                live.add(hold);
+                placed[0] = true;
+            }
+            return live.isEmpty() ? null : List.copyOf(live);
+        });
+        if (!placed[0]) {
+            return Optional.empty();
+        }
+        holdsById.put(hold.id(), hold);
+        wheel.add(hold, hold.expiresAt().toEpochMilli());
+        return Optional.of(hold);
+    }
+
+    /**
+     * Indica se uma reserva válida que não seja {@code ownHoldId} ocupa o carro no período.
+     */
+    public boolean isHeldByOthers(String licensePlate, RentalPeriod period, UUID ownHoldId, Instant now) {
+        return holdsByPlate.getOrDefault(licensePlate, List.of()).stream()
+                .anyMatch(hold -> !hold.id().equals(ownHoldId) && !hold.isExpired(now)
+                        && hold.overlaps(period.startDate(), period.endDate()));
+    }
+
+    public Optional<Hold> find(UUID id, Instant now) {
+        return Optional.ofNullable(holdsById.get(id)).filter(hold -> !hold.isExpired(now));
+    }
+
+    public boolean release(UUID id) {
+        Optional<Hold> removed = remove(id);
+        removed.ifPresent(hold -> eventPublisher.publishEvent(new HoldLapsed(hold)));
+        return removed.isPresent();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHoldConverted(HoldConverted event) {
+        remove(event.holdId());
+    }
+
+    @Scheduled(fixedDelayString = "${application.rentals.holds.tick:1000}")
+    public void expire() {
+        for (Hold hold : wheel.advance(System.currentTimeMillis())) {
+            release(hold.id());
+        }
+    }
+
+    public int size() {
+        return holdsById.size();
+    }
+
+    private Optional<Hold> remove(UUID id) {
+        Hold hold = holdsById.remove(id);
+        if (hold == null) {
+            return Optional.empty();
+        }
+        holdsByPlate.computeIfPresent(hold.licensePlate(), (plate, holds) -> {
+            List<Hold> remaining = holds.stream().filter(existing -> !existing.id().equals(id)).toList();
+            return remaining.isEmpty() ? null : remaining;
+        });
+        return Optional.of(hold);
+    }
+}
@@ -1,102 +1,129 @@
 package br.ifsp.vvts.domain.useCases;
 
 import br.ifsp.vvts.domain.dto.ReturnCarRequest;
-import br.ifsp.vvts.domain.model.car.Car;
+import br.ifsp.vvts.domain.event.RentalReturned;
+import br.ifsp.vvts.domain.model.pricing.PricingPlan;
+import br.ifsp.vvts.domain.model.pricing.PricingRuleBook;
 import br.ifsp.vvts.domain.model.rental.Rental;
 import br.ifsp.vvts.domain.model.rental.RentalStatus;
-import br.ifsp.vvts.infra.persistence.entity.rental.RentalEntity;
 import br.ifsp.vvts.infra.persistence.mapper.RentalMapper;
+import br.ifsp.vvts.infra.persistence.projection.RentalReturnView;
+import br.ifsp.vvts.infra.persistence.projection.RentalView;
 import br.ifsp.vvts.infra.persistence.repository.RentalRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.Optional;
 
 @Service
 public class ReturnCarUseCase {
 
-    private static final BigDecimal EARLY_RETURN_PENALTY_RATE = new BigDecimal("0.30");
-    private static final BigDecimal LATE_RETURN_PENALTY_RATE = new BigDecimal("0.50");
-    private static final BigDecimal MAINTENANCE_FEE_RATE = new BigDecimal("0.15");
-    private static final BigDecimal CLEANING_FEE_AMOUNT = new BigDecimal("100.00");
-
     private final RentalRepository rentalRepository;
     private final RentalMapper rentalMapper;
+    private final PricingRuleBook pricingRules;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ReturnCarUseCase(RentalRepository rentalRepository, RentalMapper rentalMapper) {
+    public ReturnCarUseCase(RentalRepository rentalRepository, RentalMapper rentalMapper, PricingRuleBook pricingRules,
+                            ApplicationEventPublisher eventPublisher) {
         this.rentalRepository = rentalRepository;
         this.rentalMapper = rentalMapper;
+        this.pricingRules = pricingRules;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public Rental execute(ReturnCarRequest request) {
+        return process(request);
+    }
+
+    /**
+     * Executa a devolução na transação corrente, sem abrir uma nova.
+     */
+    public Rental process(ReturnCarRequest request) {
+        return finish(prepare(request))
+                .orElseThrow(() -> new IllegalStateException("This rental has now ended."));
+    }
+
+    /**
+     * Devolução validada e com preço final calculado, ainda sem nada gravado.
+     */
+    public record PreparedReturn(RentalReturnView rental, ReturnCarRequest request, BigDecimal finalPrice) {
+    }
+
+    /**
+     * Valida a devolução e calcula o preço final sem escrever nada, então uma falha aqui não deixa alterações na
+     * transação corrente. Usado pela devolução em lote.
+     */
+    public PreparedReturn prepare(ReturnCarRequest request) {
         if (request == null) {
             throw new NullPointerException("The return request cannot be null.");
         }
 
-        RentalEntity rentalEntity = rentalRepository.findById(request.rentalId())
+        RentalReturnView rental = rentalRepository.findReturnViewById(request.rentalId())
                 .orElseThrow(() -> new RuntimeException("Non-existent rent."));
 
-        Rental rental = rentalMapper.toDomain(rentalEntity);
-
-        if (rental.getStatus() == RentalStatus.FINISHED) {
+        if (rental.status() == RentalStatus.FINISHED) {
             throw new IllegalStateException("This rental has now ended.");
         }
-        if (request.actualReturnDate().isBefore(rental.getPeriod().startDate())) {
+        if (rental.status() != RentalStatus.ACTIVE) {
+            throw new IllegalStateException("Only active rentals can be returned.");
+        }
+        if (request.actualReturnDate().isBefore(rental.startDate())) {
             throw new IllegalArgumentException("The return date cannot be earlier than the rental start date.");
         }
 
-        BigDecimal finalPrice = calculateFinalPrice(rental, request);
-
-        rentalEntity.setActualReturnDate(request.actualReturnDate());
-        rentalEntity.setFinalPrice(finalPrice);
-        rentalEntity.setStatus(RentalStatus.FINISHED);
+        return new PreparedReturn(rental, request, calculateFinalPrice(rental, request));
+    }
 
-        RentalEntity savedEntity = rentalRepository.save(rentalEntity);
+    /**
+     * Grava uma devolução preparada na transação corrente. Devolve vazio, sem ter alterado nada, quando a locação já
+     * não está mais ativa; qualquer exceção depois da gravação deve desfazer a transação inteira.
+     */
+    public Optional<Rental> finish(PreparedReturn prepared) {
+        RentalReturnView rental = prepared.rental();
+        ReturnCarRequest request = prepared.request();
+
+        int updated = rentalRepository.finishIfActive(rental.id(), request.actualReturnDate(), prepared.finalPrice());
+        if (updated == 0) {
+            return Optional.empty();
+        }
 
-        return rentalMapper.toDomain(savedEntity);
+        RentalView returned = rentalRepository.findViewById(rental.id())
+                .orElseThrow(() -> new RuntimeException("Non-existent rent."));
+        eventPublisher.publishEvent(new RentalReturned(rental.id(), returned.carLicensePlate(), returned.carBrand(),
+                returned.carModel(), rental.startDate(), rental.endDate(), request.actualReturnDate(),
+                request.needsMaintenance(), request.needsCleaning()));
+        return Optional.of(rentalMapper.fromView(returned));
     }
 
-    private BigDecimal calculateFinalPrice(Rental rental, ReturnCarRequest request) {
-        Car car = rental.getCar();
-        LocalDate expectedReturnDate = rental.getPeriod().endDate();
+    private BigDecimal calculateFinalPrice(RentalReturnView rental, ReturnCarRequest request) {
+        LocalDate startDate = rental.startDate();
+        LocalDate expectedReturnDate = rental.endDate();
         LocalDate actualReturnDate = request.actualReturnDate();
-        BigDecimal dailyRate = BigDecimal.valueOf(car.basePrice());
+        BigDecimal dailyRate = BigDecimal.valueOf(rental.carBasePrice());
+        PricingPlan plan = pricingRules.planFor(rental.branch(), startDate);
 
         BigDecimal calculatedPrice;
 
         if (actualReturnDate.isBefore(expectedReturnDate)) {
-            long daysUsed = ChronoUnit.DAYS.between(rental.getPeriod().startDate(), actualReturnDate);
+            long daysUsed = ChronoUnit.DAYS.between(startDate, actualReturnDate);
             long daysUnused = ChronoUnit.DAYS.between(actualReturnDate, expectedReturnDate);
 
-            BigDecimal priceForDaysUsed = dailyRate.multiply(BigDecimal.valueOf(daysUsed));
-            BigDecimal penalty = dailyRate.multiply(BigDecimal.valueOf(daysUnused)).multiply(EARLY_RETURN_PENALTY_RATE);
-
-            calculatedPrice = priceForDaysUsed.add(penalty);
+            calculatedPrice = plan.earlyReturnPrice(dailyRate, daysUsed, daysUnused);
 
         } else if (actualReturnDate.isAfter(expectedReturnDate)) {
             long lateDays = ChronoUnit.DAYS.between(expectedReturnDate, actualReturnDate);
 
-            BigDecimal extraDaysCost = dailyRate.multiply(BigDecimal.valueOf(lateDays));
-            BigDecimal latePenalty = dailyRate.multiply(LATE_RETURN_PENALTY_RATE).multiply(BigDecimal.valueOf(lateDays));
-
-            calculatedPrice = rental.getTotalPrice().add(extraDaysCost).add(latePenalty);
+            calculatedPrice = rental.totalPrice().add(plan.lateFee(dailyRate, lateDays));
 
         } else {
-            calculatedPrice = rental.getTotalPrice();
-        }
-
-        if (request.needsMaintenance()) {
-            BigDecimal maintenanceFee = calculatedPrice.multiply(MAINTENANCE_FEE_RATE);
-            calculatedPrice = calculatedPrice.add(maintenanceFee);
-        }
-        if (request.needsCleaning()) {
-            calculatedPrice = calculatedPrice.add(CLEANING_FEE_AMOUNT);
+            calculatedPrice = rental.totalPrice();
         }
 
-        return calculatedPrice.setScale(2, RoundingMode.HALF_UP);
+        return plan.applyReturnFees(calculatedPrice, request.needsMaintenance(), request.needsCleaning());
     }
-}
\ No newline at end of file
+}
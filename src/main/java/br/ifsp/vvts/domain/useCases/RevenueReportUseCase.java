@@ -0,0 +1,79 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.model.report.CarRevenue;
+import br.ifsp.vvts.domain.model.report.DailyRevenue;
+import br.ifsp.vvts.domain.model.report.ModelRevenue;
+import br.ifsp.vvts.infra.persistence.repository.RevenueRollupRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Relatórios de receita e ocupação lidos apenas dos totais diários, sem percorrer as locações. A utilização usa o
+ * tamanho atual da frota.
+ */
+@Service
+public class RevenueReportUseCase {
+
+    private final RevenueRollupRepository revenueRollupRepository;
+    private final FleetOccupancy fleetOccupancy;
+
+    public RevenueReportUseCase(RevenueRollupRepository revenueRollupRepository, FleetOccupancy fleetOccupancy) {
+        this.revenueRollupRepository = revenueRollupRepository;
+        this.fleetOccupancy = fleetOccupancy;
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailyRevenue> daily(LocalDate from, LocalDate to) {
+        validatePeriod(from, to);
+        int fleetSize = fleetOccupancy.totalFleetSize();
+        return revenueRollupRepository.findDailyTotals(from, to).stream()
+                .map(totals -> new DailyRevenue(LocalDate.ofEpochDay(totals.epochDay()), totals.carDays(),
+                        toAmount(totals.revenueCents()), utilization(totals.carDays(), fleetSize)))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<ModelRevenue> byModel(LocalDate from, LocalDate to) {
+        long days = validatePeriod(from, to);
+        return revenueRollupRepository.findModelTotals(from, to).stream()
+                .map(totals -> new ModelRevenue(totals.brand(), totals.model(), totals.carDays(),
+                        toAmount(totals.revenueCents()),
+                        utilization(totals.carDays(), fleetOccupancy.fleetSize(totals.brand(), totals.model()) * days)))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<CarRevenue> byCar(LocalDate from, LocalDate to) {
+        long days = validatePeriod(from, to);
+        return revenueRollupRepository.findCarTotals(from, to).stream()
+                .map(totals -> new CarRevenue(totals.licensePlate(), totals.carDays(), toAmount(totals.revenueCents()),
+                        utilization(totals.carDays(), days)))
+                .toList();
+    }
+
+    private static long validatePeriod(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new NullPointerException("The report period cannot be null.");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("The report start must be before the report end.");
+        }
+        return ChronoUnit.DAYS.between(from, to);
+    }
+
+    private static BigDecimal toAmount(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private static double utilization(long carDays, long capacity) {
+        if (capacity <= 0) {
+            return 0.0;
+        }
+        return Math.round(Math.min(1.0, (double) carDays / capacity) * 10_000) / 10_000.0;
+    }
+}
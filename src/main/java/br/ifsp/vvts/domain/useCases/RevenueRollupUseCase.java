@@ -0,0 +1,99 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.event.RelayedRentalEvent;
+import br.ifsp.vvts.domain.model.report.RollupContribution;
+import br.ifsp.vvts.infra.persistence.projection.RentalView;
+import br.ifsp.vvts.infra.persistence.repository.RentalRepository;
+import br.ifsp.vvts.infra.persistence.repository.RevenueRollupRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+@Service
+public class RevenueRollupUseCase {
+
+    private final RentalRepository rentalRepository;
+    private final RevenueRollupRepository revenueRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public RevenueRollupUseCase(RentalRepository rentalRepository, RevenueRollupRepository revenueRollupRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.rentalRepository = rentalRepository;
+        this.revenueRollupRepository = revenueRollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener
+    public void onRentalEvent(RelayedRentalEvent relayed) {
+        refresh(relayed.event().rentalId());
+    }
+
+    /**
+     * Troca a parcela registrada da locação pela calculada a partir do seu estado atual. Como só aplica a diferença, um
+     * evento entregue mais de uma vez não é contado em dobro.
+     */
+    public void refresh(Long rentalId) {
+        if (rentalId == null) {
+            throw new NullPointerException("The rental id cannot be null.");
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Optional<RollupContribution> previous = revenueRollupRepository.findContribution(rentalId);
+            Optional<RollupContribution> current = rentalRepository.findViewById(rentalId)
+                    .flatMap(RevenueRollupUseCase::contributionOf);
+            if (previous.equals(current)) {
+                return;
+            }
+            previous.ifPresent(contribution -> revenueRollupRepository.apply(contribution, -1));
+            if (current.isPresent()) {
+                revenueRollupRepository.apply(current.get(), 1);
+                revenueRollupRepository.saveContribution(rentalId, current.get());
+            } else {
+                revenueRollupRepository.deleteContribution(rentalId);
+            }
+        });
+    }
+
+    public int backfill() {
+        int refreshed = 0;
+        for (Long rentalId : rentalRepository.findIdsMissingFromRollups()) {
+            refresh(rentalId);
+            refreshed++;
+        }
+        return refreshed;
+    }
+
+    /**
+     * Locações ativas contam o período e o preço contratados; encerradas, os dias até a devolução e o preço final.
+     * Canceladas não contam.
+     */
+    static Optional<RollupContribution> contributionOf(RentalView rental) {
+        LocalDate end;
+        BigDecimal revenue;
+        switch (rental.status()) {
+            case ACTIVE -> {
+                end = rental.endDate();
+                revenue = rental.totalPrice();
+            }
+            case FINISHED -> {
+                end = rental.actualReturnDate() != null ? rental.actualReturnDate() : rental.endDate();
+                revenue = rental.finalPrice() != null ? rental.finalPrice() : rental.totalPrice();
+            }
+            default -> {
+                return Optional.empty();
+            }
+        }
+
+        int carDays = (int) Math.max(0, ChronoUnit.DAYS.between(rental.startDate(), end));
+        long revenueCents = revenue.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+        return Optional.of(new RollupContribution(rental.carLicensePlate(), rental.carBrand(), rental.carModel(),
+                rental.startDate(), carDays, revenueCents));
+    }
+}
@@ -0,0 +1,55 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.model.car.Car;
+import br.ifsp.vvts.domain.model.customer.Customer;
+import br.ifsp.vvts.domain.model.search.SearchQuery;
+import br.ifsp.vvts.infra.persistence.mapper.CarMapper;
+import br.ifsp.vvts.infra.persistence.mapper.CustomerMapper;
+import br.ifsp.vvts.infra.persistence.repository.SearchRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Busca de carros por marca, modelo ou placa e de clientes por nome, aceitando termos parciais e devolvendo os
+ * resultados mais relevantes primeiro.
+ */
+@Service
+public class SearchUseCase {
+
+    public static final int MAX_RESULTS = 100;
+
+    private final SearchRepository searchRepository;
+    private final CarMapper carMapper;
+    private final CustomerMapper customerMapper;
+
+    public SearchUseCase(SearchRepository searchRepository, CarMapper carMapper, CustomerMapper customerMapper) {
+        this.searchRepository = searchRepository;
+        this.carMapper = carMapper;
+        this.customerMapper = customerMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Car> searchCars(String text, int limit) {
+        SearchQuery query = parse(text, limit);
+        return searchRepository.searchCars(query.toMatchExpression(), limit).stream()
+                .map(carMapper::fromView)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Customer> searchCustomers(String text, int limit) {
+        SearchQuery query = parse(text, limit);
+        return searchRepository.searchCustomers(query.toMatchExpression(), limit).stream()
+                .map(customerMapper::fromView)
+                .toList();
+    }
+
+    private static SearchQuery parse(String text, int limit) {
+        if (limit < 1 || limit > MAX_RESULTS) {
+            throw new IllegalArgumentException("The result limit must be between 1 and " + MAX_RESULTS + ".");
+        }
+        return SearchQuery.parse(text);
+    }
+}
@@ -0,0 +1,158 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.model.booking.Hold;
+import br.ifsp.vvts.domain.model.booking.WaitlistEntry;
+import br.ifsp.vvts.domain.model.rental.RentalPeriod;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Fila de espera por carro, ordenada pela chegada. Cada carro tem sua própria fila de prioridade, então liberar um carro
+ * só percorre quem espera por ele.
+ * <p>
+ * Uma entrada com oferta sai da fila até a reserva oferecida virar locação, quando deixa a lista, ou caducar, quando
+ * volta à fila na mesma posição depois de o período ser oferecido aos seguintes.
+ */
+@Component
+public class Waitlist {
+
+    private final Map<String, PriorityQueue<WaitlistEntry>> queuesByPlate = new ConcurrentHashMap<>();
+    private final Map<UUID, WaitlistEntry> entriesById = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> entryIdsByHold = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public WaitlistEntry join(String licensePlate, String cpf, RentalPeriod period, Instant now) {
+        WaitlistEntry entry = new WaitlistEntry(UUID.randomUUID(), licensePlate, cpf, period.startDate(),
+                period.endDate(), now, sequence.incrementAndGet(), null, null);
+        PriorityQueue<WaitlistEntry> queue = queue(licensePlate);
+        synchronized (queue) {
+            entriesById.put(entry.id(), entry);
+            queue.add(entry);
+        }
+        return entry;
+    }
+
+    public Optional<WaitlistEntry> find(UUID id) {
+        return Optional.ofNullable(entriesById.get(id));
+    }
+
+    /**
+     * Remove a entrada e a devolve, com a reserva oferecida, se houver, para que quem chama a libere.
+     */
+    public Optional<WaitlistEntry> leave(UUID id) {
+        WaitlistEntry entry = entriesById.remove(id);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.offeredHoldId() != null) {
+            entryIdsByHold.remove(entry.offeredHoldId());
+        }
+        PriorityQueue<WaitlistEntry> queue = queue(entry.licensePlate());
+        synchronized (queue) {
+            queue.removeIf(waiting -> waiting.id().equals(id));
+        }
+        return Optional.of(entry);
+    }
+
+    /**
+     * Oferece o período liberado do carro, em ordem de chegada, a quem espera por um período que o intercepta.
+     * {@code placeHold} tenta reservar o período pedido pela entrada; entradas sem reserva continuam na fila.
+     */
+    public List<WaitlistEntry> offer(String licensePlate, LocalDate freedStart, LocalDate freedEnd,
+                                     Function<WaitlistEntry, Optional<Hold>> placeHold) {
+        PriorityQueue<WaitlistEntry> queue = queue(licensePlate);
+        synchronized (queue) {
+            return offer(queue, freedStart, freedEnd, placeHold);
+        }
+    }
+
+    /**
+     * Trata a reserva que caducou sem virar locação. O período volta a ser oferecido à fila e, se a reserva tinha sido
+     * oferecida a uma entrada, ela só volta à fila depois, para que o período passe ao próximo da fila.
+     */
+    public List<WaitlistEntry> lapse(Hold hold, Function<WaitlistEntry, Optional<Hold>> placeHold) {
+        PriorityQueue<WaitlistEntry> queue = queue(hold.licensePlate());
+        synchronized (queue) {
+            UUID entryId = entryIdsByHold.remove(hold.id());
+            WaitlistEntry lapsed = entryId == null ? null : entriesById.get(entryId);
+            List<WaitlistEntry> offered = offer(queue, hold.startDate(), hold.endDate(), placeHold);
+            if (lapsed != null && hold.id().equals(lapsed.offeredHoldId())) {
+                WaitlistEntry waiting = lapsed.withoutOffer();
+                if (entriesById.replace(lapsed.id(), lapsed, waiting)) {
+                    queue.add(waiting);
+                }
+            }
+            return offered;
+        }
+    }
+
+    /**
+     * Remove a entrada cuja reserva oferecida virou locação.
+     */
+    public Optional<WaitlistEntry> fulfill(UUID holdId) {
+        UUID entryId = entryIdsByHold.remove(holdId);
+        return entryId == null ? Optional.empty() : Optional.ofNullable(entriesById.remove(entryId));
+    }
+
+    /**
+     * Remove as entradas, na fila ou com oferta pendente, cujo período começa antes de {@code today}.
+     */
+    public int evictStartedBefore(LocalDate today) {
+        int evicted = 0;
+        for (WaitlistEntry entry : List.copyOf(entriesById.values())) {
+            if (entry.startDate().isBefore(today) && entriesById.remove(entry.id(), entry)) {
+                PriorityQueue<WaitlistEntry> queue = queue(entry.licensePlate());
+                synchronized (queue) {
+                    queue.removeIf(waiting -> waiting.id().equals(entry.id()));
+                }
+                if (entry.offeredHoldId() != null) {
+                    entryIdsByHold.remove(entry.offeredHoldId());
+                }
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    public List<WaitlistEntry> waiting(String licensePlate) {
+        PriorityQueue<WaitlistEntry> queue = queue(licensePlate);
+        synchronized (queue) {
+            return queue.stream().sorted(WaitlistEntry.PRIORITY).toList();
+        }
+    }
+
+    private List<WaitlistEntry> offer(PriorityQueue<WaitlistEntry> queue, LocalDate freedStart, LocalDate freedEnd,
+                                      Function<WaitlistEntry, Optional<Hold>> placeHold) {
+        List<WaitlistEntry> offered = new ArrayList<>();
+        PriorityQueue<WaitlistEntry> remaining = new PriorityQueue<>(WaitlistEntry.PRIORITY);
+        while (!queue.isEmpty()) {
+            WaitlistEntry entry = queue.poll();
+            Optional<Hold> hold = entry.overlaps(freedStart, freedEnd) ? placeHold.apply(entry) : Optional.empty();
+            if (hold.isPresent()) {
+                WaitlistEntry withOffer = entry.withOffer(hold.get());
+                entriesById.replace(entry.id(), withOffer);
+                entryIdsByHold.put(hold.get().id(), entry.id());
+                offered.add(withOffer);
+            } else {
+                remaining.add(entry);
+            }
+        }
+        queue.addAll(remaining);
+        return offered;
+    }
+
+    private PriorityQueue<WaitlistEntry> queue(String licensePlate) {
+        return queuesByPlate.computeIfAbsent(licensePlate, plate -> new PriorityQueue<>(WaitlistEntry.PRIORITY));
+    }
+}
@@ -0,0 +1,127 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.event.HoldConverted;
+import br.ifsp.vvts.domain.event.HoldLapsed;
+import br.ifsp.vvts.domain.event.RelayedRentalEvent;
+import br.ifsp.vvts.domain.event.RentalCreated;
+import br.ifsp.vvts.domain.event.RentalDeleted;
+import br.ifsp.vvts.domain.event.RentalEvent;
+import br.ifsp.vvts.domain.model.booking.Hold;
+import br.ifsp.vvts.domain.model.booking.WaitlistEntry;
+import br.ifsp.vvts.domain.model.car.LicensePlate;
+import br.ifsp.vvts.domain.model.customer.CPF;
+import br.ifsp.vvts.domain.model.rental.RentalPeriod;
+import br.ifsp.vvts.exception.CarNotFoundException;
+import br.ifsp.vvts.exception.CustomerNotFoundException;
+import br.ifsp.vvts.infra.persistence.repository.CarRepository;
+import br.ifsp.vvts.infra.persistence.repository.CustomerRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class WaitlistUseCase {
+
+    private final CarRepository carRepository;
+    private final CustomerRepository customerRepository;
+    private final CarAvailability carAvailability;
+    private final Waitlist waitlist;
+    private final ReservationHolds reservationHolds;
+
+    public WaitlistUseCase(CarRepository carRepository, CustomerRepository customerRepository,
+                           CarAvailability carAvailability, Waitlist waitlist, ReservationHolds reservationHolds) {
+        this.carRepository = carRepository;
+        this.customerRepository = customerRepository;
+        this.carAvailability = carAvailability;
+        this.waitlist = waitlist;
+        this.reservationHolds = reservationHolds;
+    }
+
+    @Transactional(readOnly = true)
+    public WaitlistEntry join(String plateValue, String cpfValue, LocalDate startDate, LocalDate endDate) {
+        Objects.requireNonNull(plateValue, "Plate is mandatory.");
+        Objects.requireNonNull(cpfValue, "CPF is mandatory.");
+        LicensePlate licensePlate = LicensePlate.of(plateValue);
+        CPF cpf = CPF.of(cpfValue);
+        RentalPeriod period = new RentalPeriod(startDate, endDate);
+
+        boolean customerExists = customerRepository.findViewByCpfNumber(cpf.unformat()).isPresent();
+        if (!customerExists) {
+            throw new CustomerNotFoundException("Customer not found.");
+        }
+        boolean carExists = carRepository.findViewByLicensePlate(licensePlate.value()).isPresent();
+        if (!carExists) {
+            throw new CarNotFoundException("Car not found.");
+        }
+
+        return waitlist.join(licensePlate.value(), cpf.unformat(), period, Instant.now());
+    }
+
+    public Optional<WaitlistEntry> find(UUID id) {
+        return waitlist.find(id);
+    }
+
+    /**
+     * Tira a entrada da fila e libera a reserva que tinha sido oferecida a ela, para que o carro não fique bloqueado
+     * até a reserva expirar.
+     */
+    public boolean leave(UUID id) {
+        if (id == null) {
+            throw new NullPointerException("The waitlist entry id cannot be null.");
+        }
+        Optional<WaitlistEntry> left = waitlist.leave(id);
+        left.map(WaitlistEntry::offeredHoldId).ifPresent(reservationHolds::release);
+        return left.isPresent();
+    }
+
+    /**
+     * Oferece o período liberado por uma devolução, cancelamento ou remoção a quem espera pelo carro. Recebe os eventos
+     * do relay da outbox, fora da thread da requisição, sem atrasar a devolução.
+     */
+    @EventListener
+    public void onRentalEvent(RelayedRentalEvent relayed) {
+        RentalEvent event = relayed.event();
+        if (event instanceof RentalCreated || event instanceof RentalDeleted deleted && !deleted.wasActive()) {
+            return;
+        }
+        offerFreedSlot(event.licensePlate(), event.startDate(), event.endDate());
+    }
+
+    /**
+     * Passa o período de uma reserva que caducou ao próximo da fila; quem deixou a oferta caducar volta a esperar.
+     */
+    @EventListener
+    public void onHoldLapsed(HoldLapsed event) {
+        waitlist.lapse(event.hold(), this::holdFor);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHoldConverted(HoldConverted event) {
+        waitlist.fulfill(event.holdId());
+    }
+
+    public int evictStartedBefore(LocalDate today) {
+        return waitlist.evictStartedBefore(today);
+    }
+
+    public List<WaitlistEntry> offerFreedSlot(String licensePlate, LocalDate freedStart, LocalDate freedEnd) {
+        return waitlist.offer(licensePlate, freedStart, freedEnd, this::holdFor);
+    }
+
+    private Optional<Hold> holdFor(WaitlistEntry entry) {
+        if (carAvailability.isBooked(entry.licensePlate(), entry.startDate(),
+                entry.endDate())) {
+            return Optional.empty();
+        }
+        return reservationHolds.place(entry.licensePlate(), entry.cpf(),
+                new RentalPeriod(entry.startDate(), entry.endDate()), Instant.now());
+    }
+}
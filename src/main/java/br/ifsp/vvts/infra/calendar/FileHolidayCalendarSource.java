@@ -0,0 +1,123 @@
+package br.ifsp.vvts.infra.calendar;
+
+import br.ifsp.vvts.domain.event.HolidayCalendarsReloaded;
+import br.ifsp.vvts.domain.model.calendar.BuiltInHolidayCalendarSource;
+import br.ifsp.vvts.domain.model.calendar.HolidayCalendar;
+import br.ifsp.vvts.domain.model.calendar.HolidayCalendarSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Carrega calendários de feriados por região a partir de arquivos {@code <REGIÃO>.bin}, cada um com dias epoch
+ * ordenados gravados como inteiros de 32 bits big-endian. Regiões sem arquivo usam os feriados embutidos.
+ * <p>
+ * Os calendários e a versão são trocados juntos, então duas leituras da mesma versão sempre veem os mesmos calendários.
+ */
+@Component
+public class FileHolidayCalendarSource implements HolidayCalendarSource {
+
+    private static final String FILE_SUFFIX = ".bin";
+
+    private final HolidayCalendarSource fallback = new BuiltInHolidayCalendarSource();
+    private final Path directory;
+    private final String defaultRegion;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private record Snapshot(long version, Map<String, HolidayCalendar> calendars) {
+    }
+
+    private volatile Snapshot snapshot = new Snapshot(0, Map.of());
+    private Map<Path, String> loadedFingerprints = Map.of();
+
+    public FileHolidayCalendarSource(@Value("${application.pricing.holidays.directory:}") String directory,
+                                     @Value("${application.pricing.holidays.default-region:BR}") String defaultRegion,
+                                     ApplicationEventPublisher eventPublisher) {
+        this.directory = directory.isBlank() ? null : Path.of(directory);
+        this.defaultRegion = defaultRegion.toUpperCase(Locale.ROOT);
+        this.eventPublisher = eventPublisher;
+        reload();
+    }
+
+    @Override
+    public HolidayCalendar defaultCalendar() {
+        return forRegion(defaultRegion);
+    }
+
+    @Override
+    public HolidayCalendar forRegion(String region) {
+        if (region == null) {
+            throw new IllegalArgumentException("The region cannot be null.");
+        }
+        HolidayCalendar calendar = snapshot.calendars().get(region.toUpperCase(Locale.ROOT));
+        return calendar != null ? calendar : fallback.forRegion(region);
+    }
+
+    @Override
+    public long version() {
+        return snapshot.version();
+    }
+
+    @Scheduled(initialDelayString = "${application.pricing.holidays.reload-interval:60000}",
+            fixedDelayString = "${application.pricing.holidays.reload-interval:60000}")
+    public synchronized void reloadIfChanged() {
+        if (!fingerprints().equals(loadedFingerprints)) {
+            reload();
+        }
+    }
+
+    public synchronized void reload() {
+        Map<Path, String> fingerprints = fingerprints();
+        Map<String, HolidayCalendar> loaded = new HashMap<>();
+        for (Path file : fingerprints.keySet()) {
+            String fileName = file.getFileName().toString();
+            String region = fileName.substring(0, fileName.length() - FILE_SUFFIX.length()).toUpperCase(Locale.ROOT);
+            loaded.put(region, load(file));
+        }
+        snapshot = new Snapshot(snapshot.version() + 1, Map.copyOf(loaded));
+        loadedFingerprints = fingerprints;
+        eventPublisher.publishEvent(new HolidayCalendarsReloaded(snapshot.version()));
+    }
+
+    private Map<Path, String> fingerprints() {
+        if (directory == null || !Files.isDirectory(directory)) {
+            return Map.of();
+        }
+        Map<Path, String> fingerprints = new HashMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                fingerprints.put(file, attributes.lastModifiedTime() + "/" + attributes.size());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list holiday calendars in " + directory, e);
+        }
+        return fingerprints;
+    }
+
+    private static HolidayCalendar load(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size % Integer.BYTES != 0) {
+                throw new IllegalArgumentException("Holiday calendar file size must be a multiple of 4 bytes: " + file);
+            }
+            return HolidayCalendar.fromSortedEpochDays(
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0, size).asIntBuffer());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read holiday calendar " + file, e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package br.ifsp.vvts.infra.occupancy;
+
+import br.ifsp.vvts.domain.useCases.FleetOccupancy;
+import br.ifsp.vvts.domain.useCases.FleetSchedule;
+import br.ifsp.vvts.infra.persistence.projection.ActiveBookingView;
+import br.ifsp.vvts.infra.persistence.projection.CarView;
+import br.ifsp.vvts.infra.persistence.repository.CarRepository;
+import br.ifsp.vvts.infra.persistence.repository.RentalRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Preenche os contadores de ocupação e a agenda da frota a partir do banco quando a aplicação sobe.
+ */
+@Component
+public class FleetStateLoader {
+
+    private final FleetOccupancy fleetOccupancy;
+    private final FleetSchedule fleetSchedule;
+    private final CarRepository carRepository;
+    private final RentalRepository rentalRepository;
+
+    public FleetStateLoader(FleetOccupancy fleetOccupancy, FleetSchedule fleetSchedule, CarRepository carRepository,
+                            RentalRepository rentalRepository) {
+        this.fleetOccupancy = fleetOccupancy;
+        this.fleetSchedule = fleetSchedule;
+        this.carRepository = carRepository;
+        this.rentalRepository = rentalRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        fleetOccupancy.clear();
+        fleetSchedule.clear();
+        for (CarView car : carRepository.findAllViews()) {
+            fleetOccupancy.changeFleet(car.brand(), car.model(), 1);
+            fleetSchedule.addCar(car.licensePlate(), car.brand(), car.model());
+        }
+        for (ActiveBookingView booking : rentalRepository.findActiveBookings()) {
+            fleetOccupancy.book(booking.brand(), booking.model(), booking.startDate(), booking.endDate());
+            fleetSchedule.book(booking.licensePlate(), booking.startDate(), booking.endDate());
+        }
+    }
+}
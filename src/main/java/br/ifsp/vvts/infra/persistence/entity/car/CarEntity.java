@@ -17,7 +17,8 @@ public class CarEntity {
     private Long id;
 
     @Embedded
-    @AttributeOverride(name = "value", column = @Column(name = "license_plate", unique = true, nullable = false))
+    @AttributeOverride(name = "value", column = @Column(name = "license_plate", unique = true, nullable = false,
+            columnDefinition = "BLOB"))
     private LicensePlateEmbeddable licensePlate;
 
     private String brand;
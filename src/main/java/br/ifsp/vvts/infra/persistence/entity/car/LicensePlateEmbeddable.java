@@ -1,5 +1,6 @@
 package br.ifsp.vvts.infra.persistence.entity.car;
 
+import jakarta.persistence.Convert;
 import jakarta.persistence.Embeddable;
 
 import java.io.Serializable;
@@ -8,6 +9,7 @@ import java.util.Objects;
 @Embeddable
 public class LicensePlateEmbeddable implements Serializable {
 
+    @Convert(converter = LicensePlateKeyConverter.class)
     private String value;
 
     /**
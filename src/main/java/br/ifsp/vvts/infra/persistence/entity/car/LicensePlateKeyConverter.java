@@ -0,0 +1,31 @@
+package br.ifsp.vvts.infra.persistence.entity.car;
+
+import br.ifsp.vvts.domain.model.car.LicensePlate;
+import br.ifsp.vvts.domain.model.key.NaturalKeyFormat;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Value;
+
+/**
+ * Grava a placa como texto ou como inteiro compacto, conforme {@code application.persistence.compact-keys}. Também é
+ * aplicado aos parâmetros das consultas que comparam a placa, que assim continuam usando o índice único.
+ */
+@Converter
+public class LicensePlateKeyConverter implements AttributeConverter<String, Object> {
+
+    private final NaturalKeyFormat format;
+
+    public LicensePlateKeyConverter(@Value("${application.persistence.compact-keys:false}") boolean compactKeys) {
+        this.format = NaturalKeyFormat.of(compactKeys);
+    }
+
+    @Override
+    public Object convertToDatabaseColumn(String value) {
+        return value == null ? null : format.store(LicensePlate.of(value));
+    }
+
+    @Override
+    public String convertToEntityAttribute(Object stored) {
+        return stored == null ? null : NaturalKeyFormat.readLicensePlate(stored).value();
+    }
+}
@@ -1,6 +1,7 @@
 
 package br.ifsp.vvts.infra.persistence.entity.customer;
 
+import jakarta.persistence.Convert;
 import jakarta.persistence.Embeddable;
 
 import java.io.Serializable;
@@ -9,6 +10,7 @@ import java.util.Objects;
 @Embeddable
 public class CPFEmbeddable implements Serializable {
 
+    @Convert(converter = CpfKeyConverter.class)
     private String number;
 
     /**
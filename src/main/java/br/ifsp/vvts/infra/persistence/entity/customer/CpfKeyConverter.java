@@ -0,0 +1,30 @@
+package br.ifsp.vvts.infra.persistence.entity.customer;
+
+import br.ifsp.vvts.domain.model.customer.CPF;
+import br.ifsp.vvts.domain.model.key.NaturalKeyFormat;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Value;
+
+/**
+ * Grava o CPF como texto ou como inteiro de 64 bits, conforme {@code application.persistence.compact-keys}.
+ */
+@Converter
+public class CpfKeyConverter implements AttributeConverter<String, Object> {
+
+    private final NaturalKeyFormat format;
+
+    public CpfKeyConverter(@Value("${application.persistence.compact-keys:false}") boolean compactKeys) {
+        this.format = NaturalKeyFormat.of(compactKeys);
+    }
+
+    @Override
+    public Object convertToDatabaseColumn(String number) {
+        return number == null ? null : format.store(CPF.of(number));
+    }
+
+    @Override
+    public String convertToEntityAttribute(Object stored) {
+        return stored == null ? null : NaturalKeyFormat.readCpf(stored).unformat();
+    }
+}
@@ -19,7 +19,8 @@ public class CustomerEntity {
     private String name;
 
     @Embedded
-    @AttributeOverride(name = "number", column = @Column(name = "cpf_number", unique = true, nullable = false))
+    @AttributeOverride(name = "number", column = @Column(name = "cpf_number", unique = true, nullable = false,
+            columnDefinition = "BLOB"))
     private CPFEmbeddable cpf;
 
     /**
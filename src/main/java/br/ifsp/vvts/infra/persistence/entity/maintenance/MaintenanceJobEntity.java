@@ -0,0 +1,93 @@
+package br.ifsp.vvts.infra.persistence.entity.maintenance;
+
+import br.ifsp.vvts.domain.model.maintenance.MaintenanceJobStatus;
+import br.ifsp.vvts.domain.model.maintenance.MaintenanceJobType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "maintenance_job", indexes = {
+        @Index(name = "ix_maintenance_job_status_priority", columnList = "status, priority, created_at"),
+        @Index(name = "ix_maintenance_job_plate_blocked", columnList = "license_plate, blocked_until")
+})
+public class MaintenanceJobEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "rental_id", nullable = false)
+    private Long rentalId;
+
+    @Column(name = "license_plate", nullable = false)
+    private String licensePlate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private MaintenanceJobType type;
+
+    @Column(name = "priority", nullable = false)
+    private int priority;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private MaintenanceJobStatus status;
+
+    @Column(name = "duration_days", nullable = false)
+    private int durationDays;
+
+    @Column(name = "blocked_from", nullable = false)
+    private LocalDate blockedFrom;
+
+    @Column(name = "blocked_until", nullable = false)
+    private LocalDate blockedUntil;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    /**
+     * @deprecated Construtor exigido pelo JPA. Não utilize.
+     */
+    @Deprecated
+    public MaintenanceJobEntity() {
+    }
+
+    public MaintenanceJobEntity(Long rentalId, String licensePlate, MaintenanceJobType type, int durationDays,
+                                LocalDate blockedFrom, Instant createdAt) {
+        this.rentalId = rentalId;
+        this.licensePlate = licensePlate;
+        this.type = type;
+        this.priority = type.ordinal();
+        this.status = MaintenanceJobStatus.QUEUED;
+        this.durationDays = durationDays;
+        this.blockedFrom = blockedFrom;
+        this.blockedUntil = blockedFrom.plusDays(durationDays);
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MaintenanceJobEntity that = (MaintenanceJobEntity) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -0,0 +1,69 @@
+package br.ifsp.vvts.infra.persistence.entity.outbox;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.Objects;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "outbox_event", indexes = {
+        @Index(name = "ix_outbox_event_published_at_id", columnList = "published_at, id")
+})
+public class OutboxEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "published_at")
+    private Instant publishedAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "failed_at")
+    private Instant failedAt;
+
+    /**
+     * @deprecated Construtor exigido pelo JPA. Não utilize.
+     */
+    @Deprecated
+    public OutboxEventEntity() {
+    }
+
+    public OutboxEventEntity(Long id, String eventType, String payload, Instant createdAt) {
+        this.id = id;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OutboxEventEntity that = (OutboxEventEntity) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
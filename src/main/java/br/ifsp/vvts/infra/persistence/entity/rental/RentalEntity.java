@@ -14,7 +14,11 @@ import java.util.Objects;
 @Getter
 @Setter
 @Entity
-@Table(name = "rental")
+@Table(name = "rental", indexes = {
+        @Index(name = "ix_rental_status_end_date", columnList = "status, end_date"),
+        @Index(name = "ix_rental_customer_start_date", columnList = "customer_id, start_date"),
+        @Index(name = "ix_rental_car_start_date", columnList = "car_id, start_date")
+})
 public class RentalEntity {
 
     @Id
@@ -48,6 +52,15 @@ public class RentalEntity {
     @Column(name = "final_price")
     private BigDecimal finalPrice;
 
+    @Column(name = "accrued_late_fee")
+    private BigDecimal accruedLateFee;
+
+    @Column(name = "with_insurance")
+    private Boolean withInsurance;
+
+    @Column(name = "branch")
+    private String branch;
+
     /**
      * @deprecated Construtor exigido pelo JPA. Não utilize.
      */
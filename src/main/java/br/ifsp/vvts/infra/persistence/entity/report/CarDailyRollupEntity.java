@@ -0,0 +1,59 @@
+package br.ifsp.vvts.infra.persistence.entity.report;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Dias de carro ocupado e receita, em centavos, de um carro em um dia.
+ */
+@Getter
+@Entity
+@IdClass(CarDailyRollupEntity.Key.class)
+@Table(name = "revenue_car_daily_rollup", indexes = {
+        @Index(name = "ix_revenue_car_daily_rollup_epoch_day", columnList = "epoch_day")
+})
+public class CarDailyRollupEntity {
+
+    @Id
+    @Column(name = "license_plate")
+    private String licensePlate;
+
+    @Id
+    @Column(name = "epoch_day")
+    private long epochDay;
+
+    @Column(name = "car_days", nullable = false)
+    private long carDays;
+
+    @Column(name = "revenue_cents", nullable = false)
+    private long revenueCents;
+
+    /**
+     * @deprecated Construtor exigido pelo JPA. As linhas são mantidas por {@code RevenueRollupRepository}.
+     */
+    @Deprecated
+    public CarDailyRollupEntity() {
+    }
+
+    public static class Key implements Serializable {
+
+        private String licensePlate;
+        private long epochDay;
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key that = (Key) o;
+            return epochDay == that.epochDay && Objects.equals(licensePlate, that.licensePlate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(licensePlate, epochDay);
+        }
+    }
+}
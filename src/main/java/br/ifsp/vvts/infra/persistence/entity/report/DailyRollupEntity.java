@@ -0,0 +1,30 @@
+package br.ifsp.vvts.infra.persistence.entity.report;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+/**
+ * Dias de carro ocupado e receita, em centavos, de toda a frota em um dia.
+ */
+@Getter
+@Entity
+@Table(name = "revenue_daily_rollup")
+public class DailyRollupEntity {
+
+    @Id
+    @Column(name = "epoch_day")
+    private long epochDay;
+
+    @Column(name = "car_days", nullable = false)
+    private long carDays;
+
+    @Column(name = "revenue_cents", nullable = false)
+    private long revenueCents;
+
+    /**
+     * @deprecated Construtor exigido pelo JPA. As linhas são mantidas por {@code RevenueRollupRepository}.
+     */
+    @Deprecated
+    public DailyRollupEntity() {
+    }
+}
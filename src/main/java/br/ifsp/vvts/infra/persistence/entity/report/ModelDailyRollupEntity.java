@@ -0,0 +1,71 @@
+package br.ifsp.vvts.infra.persistence.entity.report;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Dias de carro ocupado e receita, em centavos, de um modelo em um dia. A chave usa a marca e o modelo normalizados e
+ * {@code displayBrand}/{@code displayModel} guardam a forma cadastrada no carro, devolvida pelo relatório.
+ */
+@Getter
+@Entity
+@IdClass(ModelDailyRollupEntity.Key.class)
+@Table(name = "revenue_model_daily_rollup", indexes = {
+        @Index(name = "ix_revenue_model_daily_rollup_epoch_day", columnList = "epoch_day")
+})
+public class ModelDailyRollupEntity {
+
+    @Id
+    @Column(name = "brand")
+    private String brand;
+
+    @Id
+    @Column(name = "model")
+    private String model;
+
+    @Column(name = "display_brand", nullable = false)
+    private String displayBrand;
+
+    @Column(name = "display_model", nullable = false)
+    private String displayModel;
+
+    @Id
+    @Column(name = "epoch_day")
+    private long epochDay;
+
+    @Column(name = "car_days", nullable = false)
+    private long carDays;
+
+    @Column(name = "revenue_cents", nullable = false)
+    private long revenueCents;
+
+    /**
+     * @deprecated Construtor exigido pelo JPA. As linhas são mantidas por {@code RevenueRollupRepository}.
+     */
+    @Deprecated
+    public ModelDailyRollupEntity() {
+    }
+
+    public static class Key implements Serializable {
+
+        private String brand;
+        private String model;
+        private long epochDay;
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key that = (Key) o;
+            return epochDay == that.epochDay && Objects.equals(brand, that.brand) && Objects.equals(model, that.model);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(brand, model, epochDay);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package br.ifsp.vvts.infra.persistence.entity.report;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+/**
+ * Parcela que cada locação lançou nos totais diários, usada para desfazê-la quando a locação muda.
+ */
+@Getter
+@Entity
+@Table(name = "revenue_rollup_contribution")
+public class RollupContributionEntity {
+
+    @Id
+    @Column(name = "rental_id")
+    private Long rentalId;
+
+    @Column(name = "license_plate", nullable = false)
+    private String licensePlate;
+
+    @Column(name = "brand", nullable = false)
+    private String brand;
+
+    @Column(name = "model", nullable = false)
+    private String model;
+
+    @Column(name = "start_epoch_day", nullable = false)
+    private long startEpochDay;
+
+    @Column(name = "car_days", nullable = false)
+    private int carDays;
+
+    @Column(name = "revenue_cents", nullable = false)
+    private long revenueCents;
+
+    /**
+     * @deprecated Construtor exigido pelo JPA. As linhas são mantidas por {@code RevenueRollupRepository}.
+     */
+    @Deprecated
+    public RollupContributionEntity() {
+    }
+}
@@ -4,6 +4,7 @@ import br.ifsp.vvts.domain.model.car.Car;
 import br.ifsp.vvts.domain.model.car.LicensePlate;
 import br.ifsp.vvts.infra.persistence.entity.car.CarEntity;
 import br.ifsp.vvts.infra.persistence.entity.car.LicensePlateEmbeddable;
+import br.ifsp.vvts.infra.persistence.projection.CarView;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -26,4 +27,12 @@ public class CarMapper {
         LicensePlate licensePlate = LicensePlate.of(entity.getLicensePlate().getValue());
         return new Car(licensePlate, entity.getBrand(), entity.getModel(), entity.getBasePrice());
     }
+
+    public Car fromView(CarView view) {
+        if (view == null) {
+            return null;
+        }
+
+        return new Car(LicensePlate.ofTrusted(view.licensePlate()), view.brand(), view.model(), view.basePrice());
+    }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import br.ifsp.vvts.domain.model.customer.CPF;
 import br.ifsp.vvts.domain.model.customer.Customer;
 import br.ifsp.vvts.infra.persistence.entity.customer.CPFEmbeddable;
 import br.ifsp.vvts.infra.persistence.entity.customer.CustomerEntity;
+import br.ifsp.vvts.infra.persistence.projection.CustomerView;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -26,4 +27,12 @@ public class CustomerMapper {
         CPF cpf = CPF.of(entity.getCpf().getNumber());
         return new Customer(entity.getName(), cpf);
     }
+
+    public Customer fromView(CustomerView view) {
+        if (view == null) {
+            return null;
+        }
+
+        return new Customer(view.name(), CPF.ofTrusted(view.cpfNumber()));
+    }
 }
@@ -1,8 +1,13 @@
 package br.ifsp.vvts.infra.persistence.mapper;
 
+import br.ifsp.vvts.domain.model.car.Car;
+import br.ifsp.vvts.domain.model.car.LicensePlate;
+import br.ifsp.vvts.domain.model.customer.CPF;
+import br.ifsp.vvts.domain.model.customer.Customer;
 import br.ifsp.vvts.domain.model.rental.Rental;
 import br.ifsp.vvts.domain.model.rental.RentalPeriod;
 import br.ifsp.vvts.infra.persistence.entity.rental.RentalEntity;
+import br.ifsp.vvts.infra.persistence.projection.RentalView;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -31,6 +36,27 @@ public class RentalMapper {
 
         domainObject.setActualReturnDate(entity.getActualReturnDate());
         domainObject.setFinalPrice(entity.getFinalPrice());
+        domainObject.setAccruedLateFee(entity.getAccruedLateFee());
+
+        return domainObject;
+    }
+
+    public Rental fromView(RentalView view) {
+        if (view == null) {
+            return null;
+        }
+
+        Rental domainObject = new Rental();
+        domainObject.setId(view.id());
+        domainObject.setCustomer(new Customer(view.customerName(), CPF.ofTrusted(view.customerCpfNumber())));
+        domainObject.setCar(new Car(LicensePlate.ofTrusted(view.carLicensePlate()), view.carBrand(), view.carModel(), view.carBasePrice()));
+        domainObject.setPeriod(new RentalPeriod(view.startDate(), view.endDate()));
+        domainObject.setTotalPrice(view.totalPrice());
+        domainObject.setStatus(view.status());
+
+        domainObject.setActualReturnDate(view.actualReturnDate());
+        domainObject.setFinalPrice(view.finalPrice());
+        domainObject.setAccruedLateFee(view.accruedLateFee());
 
         return domainObject;
     }
@@ -55,6 +81,7 @@ public class RentalMapper {
 
         entity.setActualReturnDate(rental.getActualReturnDate());
         entity.setFinalPrice(rental.getFinalPrice());
+        entity.setAccruedLateFee(rental.getAccruedLateFee());
 
         return entity;
     }
@@ -0,0 +1,144 @@
+package br.ifsp.vvts.infra.persistence.migration;
+
+import br.ifsp.vvts.domain.model.key.NaturalKeyFormat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.UnaryOperator;
+
+/**
+ * Deixa as colunas de placa e CPF no formato de {@code application.persistence.compact-keys}. Tabelas de bancos
+ * antigos, com a chave declarada como texto ou com as colunas numéricas separadas, são recriadas com a chave declarada
+ * como {@code BLOB}, em que o SQLite guarda cada valor no tipo em que foi escrito. Em seguida as linhas no outro formato
+ * são convertidas e o índice único da chave é criado se faltar.
+ */
+@Component
+@Order(1)
+public class NaturalKeyMigration implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String KEY_TYPE = "BLOB";
+
+    private record KeyColumn(String table, String column, String legacyCodeColumn, UnaryOperator<Object> convert) {
+    }
+
+    private record TableColumn(String name, String type, boolean notNull, String defaultValue, int primaryKey) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NaturalKeyFormat format;
+
+    public NaturalKeyMigration(JdbcTemplate jdbcTemplate,
+                               @Value("${application.persistence.compact-keys:false}") boolean compactKeys) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.format = NaturalKeyFormat.of(compactKeys);
+    }
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        migrate(new KeyColumn("car", "license_plate", "license_plate_code",
+                stored -> format.store(NaturalKeyFormat.readLicensePlate(stored))));
+        migrate(new KeyColumn("customer", "cpf_number", "cpf_code",
+                stored -> format.store(NaturalKeyFormat.readCpf(stored))));
+    }
+
+    private void migrate(KeyColumn key) {
+        List<TableColumn> columns = columns(key.table());
+        if (columns.isEmpty()) {
+            return;
+        }
+        boolean outdated = columns.stream().anyMatch(column -> column.name().equals(key.legacyCodeColumn())
+                || column.name().equals(key.column()) && !column.type().equalsIgnoreCase(KEY_TYPE));
+        if (outdated) {
+            rebuild(key, columns);
+        }
+        convertRows(key);
+        ensureUniqueIndex(key);
+    }
+
+    private List<TableColumn> columns(String table) {
+        return jdbcTemplate.query("PRAGMA table_info(" + table + ")",
+                (rs, rowNum) -> new TableColumn(rs.getString("name"), rs.getString("type"), rs.getBoolean("notnull"),
+                        rs.getString("dflt_value"), rs.getInt("pk")));
+    }
+
+    /**
+     * Recria a tabela sem a coluna numérica antiga e com a chave sem afinidade de tipo, preservando os dados e os
+     * índices declarados. Gatilhos da tabela são descartados e recriados por quem os mantém.
+     */
+    private void rebuild(KeyColumn key, List<TableColumn> columns) {
+        String table = key.table();
+        String rebuilt = table + "_rebuild";
+        List<TableColumn> kept = columns.stream().filter(column -> !column.name().equals(key.legacyCodeColumn())).toList();
+
+        List<String> definitions = new ArrayList<>();
+        for (TableColumn column : kept) {
+            String type = column.name().equals(key.column()) ? KEY_TYPE : column.type();
+            definitions.add(column.name() + " " + type + (column.notNull() ? " NOT NULL" : "")
+                    + (column.defaultValue() != null ? " DEFAULT " + column.defaultValue() : ""));
+        }
+        List<String> primaryKey = kept.stream().filter(column -> column.primaryKey() > 0)
+                .sorted((a, b) -> Integer.compare(a.primaryKey(), b.primaryKey()))
+                .map(TableColumn::name).toList();
+        if (!primaryKey.isEmpty()) {
+            definitions.add("PRIMARY KEY (" + String.join(", ", primaryKey) + ")");
+        }
+        String columnList = String.join(", ", kept.stream().map(TableColumn::name).toList());
+        String legacy = key.legacyCodeColumn().toLowerCase(Locale.ROOT);
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT sql FROM sqlite_master WHERE type = 'index' AND tbl_name = ? AND sql IS NOT NULL",
+                String.class, table).stream()
+                .filter(sql -> !sql.toLowerCase(Locale.ROOT).contains(legacy))
+                .toList();
+
+        jdbcTemplate.execute("CREATE TABLE " + rebuilt + " (" + String.join(", ", definitions) + ")");
+        jdbcTemplate.execute("INSERT INTO " + rebuilt + " (" + columnList + ") SELECT " + columnList + " FROM " + table);
+        jdbcTemplate.execute("DROP TABLE " + table);
+        jdbcTemplate.execute("PRAGMA legacy_alter_table = ON");
+        try {
+            jdbcTemplate.execute("ALTER TABLE " + rebuilt + " RENAME TO " + table);
+        } finally {
+            jdbcTemplate.execute("PRAGMA legacy_alter_table = OFF");
+        }
+        indexes.forEach(jdbcTemplate::execute);
+    }
+
+    private void convertRows(KeyColumn key) {
+        String otherType = format == NaturalKeyFormat.COMPACT ? "text" : "integer";
+        List<Object[]> rows = jdbcTemplate.query(
+                "SELECT id, " + key.column() + " FROM " + key.table() + " WHERE typeof(" + key.column() + ") = ?",
+                (rs, rowNum) -> new Object[]{key.convert().apply(rs.getObject(key.column())), rs.getLong("id")},
+                otherType);
+        jdbcTemplate.batchUpdate("UPDATE " + key.table() + " SET " + key.column() + " = ? WHERE id = ?", rows,
+                BATCH_SIZE, (ps, row) -> {
+                    ps.setObject(1, row[0]);
+                    ps.setLong(2, (Long) row[1]);
+                });
+    }
+
+    private void ensureUniqueIndex(KeyColumn key) {
+        List<String> uniqueIndexes = jdbcTemplate.query("PRAGMA index_list(" + key.table() + ")",
+                (rs, rowNum) -> rs.getBoolean("unique") ? rs.getString("name") : null);
+        for (String index : uniqueIndexes) {
+            if (index == null) {
+                continue;
+            }
+            List<String> indexColumns = jdbcTemplate.query("PRAGMA index_info(" + index + ")",
+                    (rs, rowNum) -> rs.getString("name"));
+            if (indexColumns.equals(List.of(key.column()))) {
+                return;
+            }
+        }
+        jdbcTemplate.execute("CREATE UNIQUE INDEX ux_" + key.table() + "_" + key.column()
+                + " ON " + key.table() + " (" + key.column() + ")");
+    }
+}
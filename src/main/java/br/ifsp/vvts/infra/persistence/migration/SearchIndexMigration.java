@@ -0,0 +1,99 @@
+package br.ifsp.vvts.infra.persistence.migration;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Cria os índices FTS5 de busca de carros e clientes, com gatilhos que os mantêm em dia a cada escrita nas tabelas.
+ * Quando os gatilhos faltam ou diferem dos atuais, seja no primeiro uso ou porque a tabela foi recriada, eles são
+ * refeitos e o índice é preenchido de novo a partir da tabela.
+ * <p>
+ * Placas gravadas como inteiro compacto são indexadas já convertidas para texto, para que a busca por prefixo da placa
+ * funcione nos dois formatos de chave.
+ */
+@Component
+@Order(2)
+public class SearchIndexMigration implements ApplicationRunner {
+
+    private static final String TOKENIZE = "tokenize = 'unicode61 remove_diacritics 2', prefix = '2 3'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SearchIndexMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        ensureSearchIndex("car", "car_search", List.of("brand", "model", "license_plate"),
+                Map.of("license_plate", SearchIndexMigration::licensePlateText));
+        ensureSearchIndex("customer", "customer_search", List.of("name"), Map.of());
+    }
+
+    /**
+     * Expressão SQL que devolve a placa em texto, desfazendo o empacotamento de {@code LicensePlate.toCode()} quando o
+     * valor é inteiro.
+     */
+    static String licensePlateText(String value) {
+        String letterOrDigit = value + " / 100 % 36";
+        return "CASE WHEN typeof(" + value + ") = 'integer' THEN char(" +
+                "65 + " + value + " / 24336000, " +
+                "65 + " + value + " / 936000 % 26, " +
+                "65 + " + value + " / 36000 % 26, " +
+                "48 + " + value + " / 3600 % 10, " +
+                letterOrDigit + " + CASE WHEN " + letterOrDigit + " < 10 THEN 48 ELSE 55 END, " +
+                "48 + " + value + " / 10 % 10, " +
+                "48 + " + value + " % 10) ELSE " + value + " END";
+    }
+
+    private void ensureSearchIndex(String table, String index, List<String> columns,
+                                   Map<String, UnaryOperator<String>> textOf) {
+        String columnList = String.join(", ", columns);
+        String newValues = values(columns, "new.", textOf);
+        String oldValues = values(columns, "old.", textOf);
+        String insert = "INSERT INTO " + index + " (rowid, " + columnList + ") VALUES (new.id, " + newValues + ");";
+        String delete = "INSERT INTO " + index + " (" + index + ", rowid, " + columnList + ") " +
+                "VALUES ('delete', old.id, " + oldValues + ");";
+        Map<String, String> triggers = Map.of(
+                index + "_ai", "CREATE TRIGGER " + index + "_ai AFTER INSERT ON " + table +
+                        " BEGIN " + insert + " END",
+                index + "_ad", "CREATE TRIGGER " + index + "_ad AFTER DELETE ON " + table +
+                        " BEGIN " + delete + " END",
+                index + "_au", "CREATE TRIGGER " + index + "_au AFTER UPDATE ON " + table +
+                        " BEGIN " + delete + " " + insert + " END");
+
+        jdbcTemplate.execute("CREATE VIRTUAL TABLE IF NOT EXISTS " + index + " USING fts5(" + columnList +
+                ", content = '" + table + "', content_rowid = 'id', " + TOKENIZE + ")");
+        if (triggers.entrySet().stream().allMatch(trigger -> trigger.getValue().equals(triggerSql(trigger.getKey())))) {
+            return;
+        }
+        triggers.forEach((name, sql) -> {
+            jdbcTemplate.execute("DROP TRIGGER IF EXISTS " + name);
+            jdbcTemplate.execute(sql);
+        });
+        jdbcTemplate.execute("INSERT INTO " + index + " (" + index + ") VALUES ('delete-all')");
+        jdbcTemplate.execute("INSERT INTO " + index + " (rowid, " + columnList + ") SELECT id, " +
+                values(columns, "", textOf) + " FROM " + table);
+    }
+
+    private static String values(List<String> columns, String prefix, Map<String, UnaryOperator<String>> textOf) {
+        return String.join(", ", columns.stream()
+                .map(column -> textOf.getOrDefault(column, UnaryOperator.identity()).apply(prefix + column))
+                .toList());
+    }
+
+    private String triggerSql(String name) {
+        List<String> sql = jdbcTemplate.queryForList(
+                "SELECT sql FROM sqlite_master WHERE type = 'trigger' AND name = ?", String.class, name);
+        return sql.isEmpty() ? null : sql.get(0);
+    }
+}
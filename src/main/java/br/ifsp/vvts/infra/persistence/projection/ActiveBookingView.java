@@ -0,0 +1,6 @@
+package br.ifsp.vvts.infra.persistence.projection;
+
+import java.time.LocalDate;
+
+public record ActiveBookingView(String licensePlate, String brand, String model, LocalDate startDate, LocalDate endDate) {
+}
@@ -0,0 +1,4 @@
+package br.ifsp.vvts.infra.persistence.projection;
+
+public record CarView(String licensePlate, String brand, String model, double basePrice) {
+}
@@ -0,0 +1,4 @@
+package br.ifsp.vvts.infra.persistence.projection;
+
+public record CustomerView(String name, String cpfNumber) {
+}
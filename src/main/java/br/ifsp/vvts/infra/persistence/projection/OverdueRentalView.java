@@ -0,0 +1,12 @@
+package br.ifsp.vvts.infra.persistence.projection;
+
+import java.time.LocalDate;
+
+public record OverdueRentalView(
+        Long id,
+        LocalDate startDate,
+        LocalDate endDate,
+        double carBasePrice,
+        String branch
+) {
+}
@@ -0,0 +1,17 @@
+package br.ifsp.vvts.infra.persistence.projection;
+
+import br.ifsp.vvts.domain.model.rental.RentalStatus;
+
+import java.time.LocalDate;
+
+public record RentalAnalyticsView(
+        Long id,
+        String brand,
+        String model,
+        LocalDate startDate,
+        LocalDate endDate,
+        RentalStatus status,
+        LocalDate actualReturnDate,
+        Boolean withInsurance
+) {
+}
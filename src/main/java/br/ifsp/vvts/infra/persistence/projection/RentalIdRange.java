@@ -0,0 +1,7 @@
+package br.ifsp.vvts.infra.persistence.projection;
+
+public record RentalIdRange(
+        Long minId,
+        Long maxId
+) {
+}
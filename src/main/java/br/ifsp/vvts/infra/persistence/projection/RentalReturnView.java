@@ -0,0 +1,17 @@
+package br.ifsp.vvts.infra.persistence.projection;
+
+import br.ifsp.vvts.domain.model.rental.RentalStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record RentalReturnView(
+        Long id,
+        LocalDate startDate,
+        LocalDate endDate,
+        BigDecimal totalPrice,
+        RentalStatus status,
+        double carBasePrice,
+        String branch
+) {
+}
@@ -0,0 +1,24 @@
+package br.ifsp.vvts.infra.persistence.projection;
+
+import br.ifsp.vvts.domain.model.rental.RentalStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record RentalView(
+        Long id,
+        String customerName,
+        String customerCpfNumber,
+        String carLicensePlate,
+        String carBrand,
+        String carModel,
+        double carBasePrice,
+        LocalDate startDate,
+        LocalDate endDate,
+        BigDecimal totalPrice,
+        RentalStatus status,
+        LocalDate actualReturnDate,
+        BigDecimal finalPrice,
+        BigDecimal accruedLateFee
+) {
+}
@@ -1,14 +1,28 @@
 package br.ifsp.vvts.infra.persistence.repository;
 
 import br.ifsp.vvts.infra.persistence.entity.car.CarEntity;
+import br.ifsp.vvts.infra.persistence.projection.CarView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CarRepository extends JpaRepository<CarEntity, Long> {
+    String CAR_VIEW = "SELECT new br.ifsp.vvts.infra.persistence.projection.CarView(" +
+            "c.licensePlate.value, c.brand, c.model, c.basePrice) FROM CarEntity c ";
+
     @Query("SELECT c FROM CarEntity c WHERE c.licensePlate.value = :licensePlate")
     Optional<CarEntity> findByLicensePlate(String licensePlate);
-}
\ No newline at end of file
+
+    @Query(CAR_VIEW)
+    List<CarView> findAllViews();
+
+    @Query(CAR_VIEW + "WHERE c.licensePlate.value = :licensePlate")
+    Optional<CarView> findViewByLicensePlate(String licensePlate);
+
+    @Query("SELECT c.id FROM CarEntity c WHERE c.licensePlate.value = :licensePlate")
+    Optional<Long> findIdByLicensePlate(String licensePlate);
+}
@@ -1,14 +1,28 @@
 package br.ifsp.vvts.infra.persistence.repository;
 
 import br.ifsp.vvts.infra.persistence.entity.customer.CustomerEntity;
+import br.ifsp.vvts.infra.persistence.projection.CustomerView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CustomerRepository extends JpaRepository<CustomerEntity, Long> {
+    String CUSTOMER_VIEW = "SELECT new br.ifsp.vvts.infra.persistence.projection.CustomerView(" +
+            "c.name, c.cpf.number) FROM CustomerEntity c ";
+
     @Query("SELECT c FROM CustomerEntity c WHERE c.cpf.number = :cpfNumber")
     Optional<CustomerEntity> findByCpfNumber(String cpfNumber);
-}
\ No newline at end of file
+
+    @Query(CUSTOMER_VIEW)
+    List<CustomerView> findAllViews();
+
+    @Query(CUSTOMER_VIEW + "WHERE c.cpf.number = :cpfNumber")
+    Optional<CustomerView> findViewByCpfNumber(String cpfNumber);
+
+    @Query("SELECT c.id FROM CustomerEntity c WHERE c.cpf.number = :cpfNumber")
+    Optional<Long> findIdByCpfNumber(String cpfNumber);
+}
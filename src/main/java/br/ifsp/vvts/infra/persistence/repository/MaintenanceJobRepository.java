@@ -0,0 +1,72 @@
+package br.ifsp.vvts.infra.persistence.repository;
+
+import br.ifsp.vvts.domain.model.maintenance.MaintenanceJob;
+import br.ifsp.vvts.domain.model.maintenance.MaintenanceJobStatus;
+import br.ifsp.vvts.infra.persistence.entity.maintenance.MaintenanceJobEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MaintenanceJobRepository extends JpaRepository<MaintenanceJobEntity, Long> {
+    String JOB_VIEW = "SELECT new br.ifsp.vvts.domain.model.maintenance.MaintenanceJob(" +
+            "j.id, j.rentalId, j.licensePlate, j.type, j.status, j.durationDays, j.blockedFrom, j.blockedUntil) " +
+            "FROM MaintenanceJobEntity j ";
+
+    @Query(JOB_VIEW + "WHERE j.id = :id")
+    Optional<MaintenanceJob> findJobById(@Param("id") Long id);
+
+    @Query(JOB_VIEW + "WHERE j.status <> br.ifsp.vvts.domain.model.maintenance.MaintenanceJobStatus.DONE " +
+            "ORDER BY j.status, j.priority, j.createdAt, j.id")
+    List<MaintenanceJob> findOpenJobs();
+
+    /**
+     * Próximos serviços da fila, por prioridade e chegada. Os serviços de um mesmo carro são feitos em sequência, então
+     * só entra o primeiro serviço em aberto de cada carro já devolvido.
+     */
+    @Query(JOB_VIEW + "WHERE j.status = br.ifsp.vvts.domain.model.maintenance.MaintenanceJobStatus.QUEUED " +
+            "AND j.blockedFrom <= :today " +
+            "AND NOT EXISTS (SELECT 1 FROM MaintenanceJobEntity o WHERE o.licensePlate = j.licensePlate " +
+            "AND o.status <> br.ifsp.vvts.domain.model.maintenance.MaintenanceJobStatus.DONE " +
+            "AND o.blockedFrom < j.blockedFrom) " +
+            "ORDER BY j.priority, j.createdAt, j.id")
+    List<MaintenanceJob> findNextQueued(@Param("today") LocalDate today, Pageable pageable);
+
+    long countByStatus(MaintenanceJobStatus status);
+
+    boolean existsByRentalId(Long rentalId);
+
+    @Query("SELECT MAX(j.blockedUntil) FROM MaintenanceJobEntity j WHERE j.licensePlate = :licensePlate " +
+            "AND j.status <> br.ifsp.vvts.domain.model.maintenance.MaintenanceJobStatus.DONE")
+    Optional<LocalDate> findOpenBlockEnd(@Param("licensePlate") String licensePlate);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MaintenanceJobEntity j " +
+            "SET j.status = br.ifsp.vvts.domain.model.maintenance.MaintenanceJobStatus.IN_PROGRESS, " +
+            "j.startedAt = :startedAt, j.blockedUntil = :blockedUntil " +
+            "WHERE j.id = :id AND j.status = br.ifsp.vvts.domain.model.maintenance.MaintenanceJobStatus.QUEUED")
+    int startIfQueued(@Param("id") Long id,
+                      @Param("startedAt") Instant startedAt,
+                      @Param("blockedUntil") LocalDate blockedUntil);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MaintenanceJobEntity j " +
+            "SET j.status = br.ifsp.vvts.domain.model.maintenance.MaintenanceJobStatus.DONE, j.finishedAt = :finishedAt " +
+            "WHERE j.status = br.ifsp.vvts.domain.model.maintenance.MaintenanceJobStatus.IN_PROGRESS " +
+            "AND j.blockedUntil <= :today")
+    int finishDue(@Param("today") LocalDate today, @Param("finishedAt") Instant finishedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MaintenanceJobEntity j " +
+            "SET j.status = br.ifsp.vvts.domain.model.maintenance.MaintenanceJobStatus.DONE, j.finishedAt = :finishedAt " +
+            "WHERE j.id = :id AND j.status <> br.ifsp.vvts.domain.model.maintenance.MaintenanceJobStatus.DONE")
+    int completeIfOpen(@Param("id") Long id, @Param("finishedAt") Instant finishedAt);
+}
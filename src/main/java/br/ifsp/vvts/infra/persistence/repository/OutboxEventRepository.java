@@ -0,0 +1,39 @@
+package br.ifsp.vvts.infra.persistence.repository;
+
+import br.ifsp.vvts.infra.persistence.entity.outbox.OutboxEventEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    @Query("SELECT e FROM OutboxEventEntity e WHERE e.publishedAt IS NULL AND e.failedAt IS NULL AND e.id > :afterId " +
+            "ORDER BY e.id")
+    List<OutboxEventEntity> findUnpublishedAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") List<Long> ids, @Param("publishedAt") Instant publishedAt);
+
+    /**
+     * Conta uma tentativa de entrega que falhou. Na tentativa {@code maxAttempts}, a entrada é marcada como falha e sai
+     * da fila.
+     */
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.attempts = e.attempts + 1, e.lastError = :error, " +
+            "e.failedAt = CASE WHEN e.attempts + 1 >= :maxAttempts THEN :failedAt ELSE NULL END " +
+            "WHERE e.id = :id AND e.publishedAt IS NULL")
+    int recordFailure(@Param("id") Long id, @Param("error") String error, @Param("maxAttempts") int maxAttempts,
+                      @Param("failedAt") Instant failedAt);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEventEntity e WHERE e.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") Instant cutoff);
+}
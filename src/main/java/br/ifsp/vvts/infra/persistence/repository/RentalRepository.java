@@ -1,23 +1,172 @@
 package br.ifsp.vvts.infra.persistence.repository;
 
-import br.ifsp.vvts.infra.persistence.entity.car.LicensePlateEmbeddable;
 import br.ifsp.vvts.infra.persistence.entity.rental.RentalEntity;
+import br.ifsp.vvts.infra.persistence.projection.ActiveBookingView;
+import br.ifsp.vvts.infra.persistence.projection.OverdueRentalView;
+import br.ifsp.vvts.infra.persistence.projection.RentalAnalyticsView;
+import br.ifsp.vvts.infra.persistence.projection.RentalIdRange;
+import br.ifsp.vvts.infra.persistence.projection.RentalReturnView;
+import br.ifsp.vvts.infra.persistence.projection.RentalView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface RentalRepository extends JpaRepository<RentalEntity, Long> {
+    String RENTAL_VIEW = "SELECT new br.ifsp.vvts.infra.persistence.projection.RentalView(" +
+            "r.id, cu.name, cu.cpf.number, ca.licensePlate.value, ca.brand, ca.model, ca.basePrice, " +
+            "r.startDate, r.endDate, r.totalPrice, r.status, r.actualReturnDate, r.finalPrice, r.accruedLateFee) " +
+            "FROM RentalEntity r JOIN r.customer cu JOIN r.car ca ";
+    String OVERDUE_VIEW = "SELECT new br.ifsp.vvts.infra.persistence.projection.OverdueRentalView(" +
+            "r.id, r.startDate, r.endDate, ca.basePrice, r.branch) " +
+            "FROM RentalEntity r JOIN r.car ca " +
+            "WHERE r.status = br.ifsp.vvts.domain.model.rental.RentalStatus.ACTIVE AND r.endDate < :today ";
+    String HISTORY_AFTER = "AND (r.startDate < :lastStartDate OR (r.startDate = :lastStartDate AND r.id < :lastId)) ";
+    String HISTORY_ORDER = "ORDER BY r.startDate DESC, r.id DESC";
 
-    @Query("SELECT CASE WHEN COUNT(r) > 0 THEN TRUE ELSE FALSE END " +
-            "FROM RentalEntity r " +
-            "WHERE r.car.licensePlate = :licensePlate " +
+    /**
+     * Indica se o carro está ocupado no período, seja por uma locação ativa ou por um serviço de manutenção ou
+     * limpeza ainda não concluído.
+     */
+    default boolean existsByCarLicensePlateAndPeriodOverlaps(String licensePlate, LocalDate startDate,
+                                                             LocalDate endDate) {
+        return existsOverlap(licensePlate, licensePlate, startDate, endDate);
+    }
+
+    /**
+     * A placa do carro é comparada no WHERE principal para que o Hibernate aplique o conversor da chave, que pode
+     * gravá-la como inteiro; a do serviço é texto simples e por isso vem em outro parâmetro.
+     */
+    @Query("SELECT CASE WHEN COUNT(c) > 0 THEN TRUE ELSE FALSE END FROM CarEntity c " +
+            "WHERE c.licensePlate.value = :carLicensePlate " +
+            "AND (EXISTS (SELECT 1 FROM RentalEntity r " +
+            "WHERE r.car = c " +
             "AND r.status = 'ACTIVE' " +
-            "AND (:startDate < r.endDate AND :endDate > r.startDate)")
-    boolean existsByCarLicensePlateAndPeriodOverlaps(@Param("licensePlate") LicensePlateEmbeddable licensePlate,
-                                                     @Param("startDate") LocalDate startDate,
-                                                     @Param("endDate") LocalDate endDate);
-}
\ No newline at end of file
+            "AND (:startDate < r.endDate AND :endDate > r.startDate)) " +
+            "OR EXISTS (SELECT 1 FROM MaintenanceJobEntity j " +
+            "WHERE j.licensePlate = :jobLicensePlate " +
+            "AND j.status <> br.ifsp.vvts.domain.model.maintenance.MaintenanceJobStatus.DONE " +
+            "AND (:startDate < j.blockedUntil AND :endDate > j.blockedFrom)))")
+    boolean existsOverlap(@Param("carLicensePlate") String carLicensePlate,
+                          @Param("jobLicensePlate") String jobLicensePlate,
+                          @Param("startDate") LocalDate startDate,
+                          @Param("endDate") LocalDate endDate);
+
+    /**
+     * Fim da última locação ativa do carro que intercepta o período, usado para encaixar manutenção e limpeza sem
+     * invadir reservas já confirmadas.
+     */
+    @Query("SELECT MAX(r.endDate) FROM RentalEntity r " +
+            "WHERE r.car.licensePlate.value = :licensePlate " +
+            "AND r.status = br.ifsp.vvts.domain.model.rental.RentalStatus.ACTIVE " +
+            "AND :startDate < r.endDate AND :endDate > r.startDate")
+    Optional<LocalDate> findBookedUntil(@Param("licensePlate") String licensePlate,
+                                        @Param("startDate") LocalDate startDate,
+                                        @Param("endDate") LocalDate endDate);
+
+    @Query(RENTAL_VIEW)
+    List<RentalView> findAllViews();
+
+    @Query(RENTAL_VIEW + "WHERE r.id = :id")
+    Optional<RentalView> findViewById(@Param("id") Long id);
+
+    @Query("SELECT new br.ifsp.vvts.infra.persistence.projection.RentalReturnView(" +
+            "r.id, r.startDate, r.endDate, r.totalPrice, r.status, ca.basePrice, r.branch) " +
+            "FROM RentalEntity r JOIN r.car ca WHERE r.id = :id")
+    Optional<RentalReturnView> findReturnViewById(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RentalEntity r " +
+            "SET r.status = br.ifsp.vvts.domain.model.rental.RentalStatus.FINISHED, " +
+            "r.actualReturnDate = :actualReturnDate, r.finalPrice = :finalPrice " +
+            "WHERE r.id = :id AND r.status = br.ifsp.vvts.domain.model.rental.RentalStatus.ACTIVE")
+    int finishIfActive(@Param("id") Long id,
+                       @Param("actualReturnDate") LocalDate actualReturnDate,
+                       @Param("finalPrice") BigDecimal finalPrice);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RentalEntity r " +
+            "SET r.status = br.ifsp.vvts.domain.model.rental.RentalStatus.CANCELED " +
+            "WHERE r.id = :id AND r.status = br.ifsp.vvts.domain.model.rental.RentalStatus.ACTIVE")
+    int cancelIfActive(@Param("id") Long id);
+
+    @Query(OVERDUE_VIEW + "ORDER BY r.endDate, r.id")
+    List<OverdueRentalView> findOverdueViews(@Param("today") LocalDate today, Pageable pageable);
+
+    @Query(OVERDUE_VIEW + "AND (r.endDate > :lastEndDate OR (r.endDate = :lastEndDate AND r.id > :lastId)) " +
+            "ORDER BY r.endDate, r.id")
+    List<OverdueRentalView> findOverdueViewsAfter(@Param("today") LocalDate today,
+                                                  @Param("lastEndDate") LocalDate lastEndDate,
+                                                  @Param("lastId") Long lastId,
+                                                  Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE RentalEntity r SET r.accruedLateFee = :accruedLateFee " +
+            "WHERE r.id = :id AND r.status = br.ifsp.vvts.domain.model.rental.RentalStatus.ACTIVE")
+    int updateAccruedLateFee(@Param("id") Long id, @Param("accruedLateFee") BigDecimal accruedLateFee);
+
+    @Query("SELECT new br.ifsp.vvts.infra.persistence.projection.ActiveBookingView(" +
+            "ca.licensePlate.value, ca.brand, ca.model, r.startDate, r.endDate) " +
+            "FROM RentalEntity r JOIN r.car ca " +
+            "WHERE r.status = br.ifsp.vvts.domain.model.rental.RentalStatus.ACTIVE")
+    List<ActiveBookingView> findActiveBookings();
+
+    @Query("SELECT new br.ifsp.vvts.infra.persistence.projection.ActiveBookingView(" +
+            "ca.licensePlate.value, ca.brand, ca.model, r.startDate, r.endDate) " +
+            "FROM RentalEntity r JOIN r.car ca " +
+            "WHERE ca.licensePlate.value = :licensePlate " +
+            "AND r.status = br.ifsp.vvts.domain.model.rental.RentalStatus.ACTIVE")
+    List<ActiveBookingView> findActiveBookingsByLicensePlate(@Param("licensePlate") String licensePlate);
+
+    @Query("SELECT r.id FROM RentalEntity r " +
+            "WHERE r.status <> br.ifsp.vvts.domain.model.rental.RentalStatus.CANCELED " +
+            "AND NOT EXISTS (SELECT 1 FROM RollupContributionEntity c WHERE c.rentalId = r.id) " +
+            "ORDER BY r.id")
+    List<Long> findIdsMissingFromRollups();
+
+    @Query("SELECT new br.ifsp.vvts.infra.persistence.projection.RentalIdRange(MIN(r.id), MAX(r.id)) " +
+            "FROM RentalEntity r")
+    RentalIdRange findIdRange();
+
+    /**
+     * Lê as locações com ids em {@code [fromId, toId)} já como projeções, para que cada faixa ocupe memória
+     * proporcional ao seu tamanho e nada fique no contexto de persistência.
+     */
+    @Query("SELECT new br.ifsp.vvts.infra.persistence.projection.RentalAnalyticsView(" +
+            "r.id, ca.brand, ca.model, r.startDate, r.endDate, r.status, r.actualReturnDate, r.withInsurance) " +
+            "FROM RentalEntity r JOIN r.car ca " +
+            "WHERE r.id >= :fromId AND r.id < :toId")
+    List<RentalAnalyticsView> findAnalyticsViews(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * Histórico de um cliente, do início mais recente para o mais antigo, lido pelo índice (customer_id, start_date).
+     */
+    @Query(RENTAL_VIEW + "WHERE r.customer.id = :customerId " + HISTORY_ORDER)
+    List<RentalView> findCustomerHistory(@Param("customerId") Long customerId, Pageable pageable);
+
+    @Query(RENTAL_VIEW + "WHERE r.customer.id = :customerId " + HISTORY_AFTER + HISTORY_ORDER)
+    List<RentalView> findCustomerHistoryAfter(@Param("customerId") Long customerId,
+                                              @Param("lastStartDate") LocalDate lastStartDate,
+                                              @Param("lastId") Long lastId,
+                                              Pageable pageable);
+
+    /**
+     * Histórico de um carro, do início mais recente para o mais antigo, lido pelo índice (car_id, start_date).
+     */
+    @Query(RENTAL_VIEW + "WHERE r.car.id = :carId " + HISTORY_ORDER)
+    List<RentalView> findCarHistory(@Param("carId") Long carId, Pageable pageable);
+
+    @Query(RENTAL_VIEW + "WHERE r.car.id = :carId " + HISTORY_AFTER + HISTORY_ORDER)
+    List<RentalView> findCarHistoryAfter(@Param("carId") Long carId,
+                                         @Param("lastStartDate") LocalDate lastStartDate,
+                                         @Param("lastId") Long lastId,
+                                         Pageable pageable);
+}
@@ -0,0 +1,123 @@
+package br.ifsp.vvts.infra.persistence.repository;
+
+import br.ifsp.vvts.domain.model.car.CarClass;
+import br.ifsp.vvts.domain.model.report.RollupContribution;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Mantém os totais diários de receita e ocupação com upserts incrementais. Cada locação soma sua parcela dia a dia e,
+ * quando muda, a parcela anterior é subtraída antes de a nova ser somada.
+ */
+@Repository
+public class RevenueRollupRepository {
+
+    public record DayTotals(long epochDay, long carDays, long revenueCents) {
+    }
+
+    public record ModelTotals(String brand, String model, long carDays, long revenueCents) {
+    }
+
+    public record CarTotals(String licensePlate, long carDays, long revenueCents) {
+    }
+
+    private static final String UPSERT_DAILY = "INSERT INTO revenue_daily_rollup (epoch_day, car_days, revenue_cents) " +
+            "VALUES (?, ?, ?) ON CONFLICT (epoch_day) DO UPDATE SET " +
+            "car_days = car_days + excluded.car_days, revenue_cents = revenue_cents + excluded.revenue_cents";
+    private static final String UPSERT_MODEL = "INSERT INTO revenue_model_daily_rollup " +
+            "(brand, model, display_brand, display_model, epoch_day, car_days, revenue_cents) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) ON CONFLICT (brand, model, epoch_day) DO UPDATE SET " +
+            "display_brand = excluded.display_brand, display_model = excluded.display_model, car_days = car_days + excluded.car_days, revenue_cents = revenue_cents + excluded.revenue_cents";
+    private static final String UPSERT_CAR = "INSERT INTO revenue_car_daily_rollup " +
+            "(license_plate, epoch_day, car_days, revenue_cents) VALUES (?, ?, ?, ?) " +
+            "ON CONFLICT (license_plate, epoch_day) DO UPDATE SET " +
+            "car_days = car_days + excluded.car_days, revenue_cents = revenue_cents + excluded.revenue_cents";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RevenueRollupRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<RollupContribution> findContribution(Long rentalId) {
+        return jdbcTemplate.query("SELECT license_plate, brand, model, start_epoch_day, car_days, revenue_cents " +
+                        "FROM revenue_rollup_contribution WHERE rental_id = ?",
+                (rs, rowNum) -> new RollupContribution(rs.getString("license_plate"), rs.getString("brand"),
+                        rs.getString("model"), LocalDate.ofEpochDay(rs.getLong("start_epoch_day")),
+                        rs.getInt("car_days"), rs.getLong("revenue_cents")),
+                rentalId).stream().findFirst();
+    }
+
+    public void saveContribution(Long rentalId, RollupContribution contribution) {
+        jdbcTemplate.update("INSERT INTO revenue_rollup_contribution " +
+                        "(rental_id, license_plate, brand, model, start_epoch_day, car_days, revenue_cents) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?) ON CONFLICT (rental_id) DO UPDATE SET " +
+                        "license_plate = excluded.license_plate, brand = excluded.brand, model = excluded.model, " +
+                        "start_epoch_day = excluded.start_epoch_day, car_days = excluded.car_days, " +
+                        "revenue_cents = excluded.revenue_cents",
+                rentalId, contribution.licensePlate(), contribution.brand(), contribution.model(),
+                contribution.startDate().toEpochDay(), contribution.carDays(), contribution.revenueCents());
+    }
+
+    public void deleteContribution(Long rentalId) {
+        jdbcTemplate.update("DELETE FROM revenue_rollup_contribution WHERE rental_id = ?", rentalId);
+    }
+
+    /**
+     * Soma ({@code sign} 1) ou subtrai ({@code sign} -1) a parcela da locação em cada dia dos três níveis de totais. Os
+     * totais por modelo são agrupados pela {@link CarClass} e guardam a marca e o modelo como aparecem no carro.
+     */
+    public void apply(RollupContribution contribution, int sign) {
+        CarClass carClass = new CarClass(contribution.brand(), contribution.model());
+        List<Object[]> daily = new ArrayList<>();
+        List<Object[]> byModel = new ArrayList<>();
+        List<Object[]> byCar = new ArrayList<>();
+        long firstDay = contribution.startDate().toEpochDay();
+        for (int offset = 0; offset < contribution.spanDays(); offset++) {
+            long day = firstDay + offset;
+            long carDays = (long) sign * contribution.carDaysOn(offset);
+            long revenue = sign * contribution.revenueOn(offset);
+            daily.add(new Object[]{day, carDays, revenue});
+            byModel.add(new Object[]{carClass.brand(), carClass.model(), contribution.brand(), contribution.model(),
+                    day, carDays, revenue});
+            byCar.add(new Object[]{contribution.licensePlate(), day, carDays, revenue});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_DAILY, daily);
+        jdbcTemplate.batchUpdate(UPSERT_MODEL, byModel);
+        jdbcTemplate.batchUpdate(UPSERT_CAR, byCar);
+    }
+
+    public List<DayTotals> findDailyTotals(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query("SELECT epoch_day, car_days, revenue_cents FROM revenue_daily_rollup " +
+                        "WHERE epoch_day >= ? AND epoch_day < ? AND (car_days <> 0 OR revenue_cents <> 0) " +
+                        "ORDER BY epoch_day",
+                (rs, rowNum) -> new DayTotals(rs.getLong("epoch_day"), rs.getLong("car_days"),
+                        rs.getLong("revenue_cents")),
+                from.toEpochDay(), to.toEpochDay());
+    }
+
+    public List<ModelTotals> findModelTotals(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query("SELECT MAX(display_brand) AS display_brand, MAX(display_model) AS display_model, " +
+                        "SUM(car_days) AS car_days, SUM(revenue_cents) AS revenue_cents FROM revenue_model_daily_rollup WHERE epoch_day >= ? AND epoch_day < ? " +
+                        "GROUP BY brand, model HAVING SUM(car_days) <> 0 OR SUM(revenue_cents) <> 0 " +
+                        "ORDER BY brand, model",
+                (rs, rowNum) -> new ModelTotals(rs.getString("display_brand"), rs.getString("display_model"),
+                        rs.getLong("car_days"), rs.getLong("revenue_cents")),
+                from.toEpochDay(), to.toEpochDay());
+    }
+
+    public List<CarTotals> findCarTotals(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query("SELECT license_plate, SUM(car_days) AS car_days, SUM(revenue_cents) AS revenue_cents " +
+                        "FROM revenue_car_daily_rollup WHERE epoch_day >= ? AND epoch_day < ? " +
+                        "GROUP BY license_plate HAVING SUM(car_days) <> 0 OR SUM(revenue_cents) <> 0 " +
+                        "ORDER BY license_plate",
+                (rs, rowNum) -> new CarTotals(rs.getString("license_plate"), rs.getLong("car_days"),
+                        rs.getLong("revenue_cents")),
+                from.toEpochDay(), to.toEpochDay());
+    }
+}
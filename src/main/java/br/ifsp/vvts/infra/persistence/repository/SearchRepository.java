@@ -0,0 +1,41 @@
+package br.ifsp.vvts.infra.persistence.repository;
+
+import br.ifsp.vvts.domain.model.key.NaturalKeyFormat;
+import br.ifsp.vvts.infra.persistence.projection.CarView;
+import br.ifsp.vvts.infra.persistence.projection.CustomerView;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Consultas aos índices FTS5 criados por {@code SearchIndexMigration}, ordenadas pela relevância (bm25). Placas e CPFs
+ * são lidos em qualquer um dos formatos de chave.
+ */
+@Repository
+public class SearchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SearchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<CarView> searchCars(String matchExpression, int limit) {
+        return jdbcTemplate.query("SELECT c.license_plate, c.brand, c.model, c.base_price " +
+                        "FROM car_search s JOIN car c ON c.id = s.rowid " +
+                        "WHERE car_search MATCH ? ORDER BY s.rank LIMIT ?",
+                (rs, rowNum) -> new CarView(NaturalKeyFormat.readLicensePlate(rs.getObject("license_plate")).value(),
+                        rs.getString("brand"), rs.getString("model"), rs.getDouble("base_price")),
+                matchExpression, limit);
+    }
+
+    public List<CustomerView> searchCustomers(String matchExpression, int limit) {
+        return jdbcTemplate.query("SELECT c.name, c.cpf_number " +
+                        "FROM customer_search s JOIN customer c ON c.id = s.rowid " +
+                        "WHERE customer_search MATCH ? ORDER BY s.rank LIMIT ?",
+                (rs, rowNum) -> new CustomerView(rs.getString("name"),
+                        NaturalKeyFormat.readCpf(rs.getObject("cpf_number")).unformat()),
+                matchExpression, limit);
+    }
+}
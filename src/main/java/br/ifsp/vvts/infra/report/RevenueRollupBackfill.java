@@ -0,0 +1,24 @@
+package br.ifsp.vvts.infra.report;
+
+import br.ifsp.vvts.domain.useCases.RevenueRollupUseCase;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lança nos totais diários as locações gravadas antes de os relatórios existirem ou cujo evento se perdeu.
+ */
+@Component
+public class RevenueRollupBackfill {
+
+    private final RevenueRollupUseCase revenueRollupUseCase;
+
+    public RevenueRollupBackfill(RevenueRollupUseCase revenueRollupUseCase) {
+        this.revenueRollupUseCase = revenueRollupUseCase;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        revenueRollupUseCase.backfill();
+    }
+}
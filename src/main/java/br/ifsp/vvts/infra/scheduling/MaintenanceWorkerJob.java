@@ -0,0 +1,25 @@
+package br.ifsp.vvts.infra.scheduling;
+
+import br.ifsp.vvts.domain.useCases.DispatchMaintenanceJobsUseCase;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Component
+@ConditionalOnProperty(name = "application.maintenance.dispatch.enabled", havingValue = "true", matchIfMissing = true)
+public class MaintenanceWorkerJob {
+
+    private final DispatchMaintenanceJobsUseCase dispatchMaintenanceJobsUseCase;
+
+    public MaintenanceWorkerJob(DispatchMaintenanceJobsUseCase dispatchMaintenanceJobsUseCase) {
+        this.dispatchMaintenanceJobsUseCase = dispatchMaintenanceJobsUseCase;
+    }
+
+    @Scheduled(initialDelayString = "${application.maintenance.dispatch.initial-delay:60000}",
+            fixedDelayString = "${application.maintenance.dispatch.interval:60000}")
+    public void dispatch() {
+        dispatchMaintenanceJobsUseCase.execute(LocalDate.now());
+    }
+}
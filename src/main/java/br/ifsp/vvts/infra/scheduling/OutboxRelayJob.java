@@ -0,0 +1,30 @@
+package br.ifsp.vvts.infra.scheduling;
+
+import br.ifsp.vvts.domain.useCases.RelayOutboxEventsUseCase;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+@Component
+@ConditionalOnProperty(name = "application.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelayJob {
+
+    private final RelayOutboxEventsUseCase relayOutboxEventsUseCase;
+
+    public OutboxRelayJob(RelayOutboxEventsUseCase relayOutboxEventsUseCase) {
+        this.relayOutboxEventsUseCase = relayOutboxEventsUseCase;
+    }
+
+    @Scheduled(fixedDelayString = "${application.outbox.relay.interval:1000}")
+    public void relay() {
+        relayOutboxEventsUseCase.execute(Instant.now());
+    }
+
+    @Scheduled(initialDelayString = "${application.outbox.purge-interval:3600000}",
+            fixedDelayString = "${application.outbox.purge-interval:3600000}")
+    public void purge() {
+        relayOutboxEventsUseCase.purge(Instant.now());
+    }
+}
@@ -0,0 +1,25 @@
+package br.ifsp.vvts.infra.scheduling;
+
+import br.ifsp.vvts.domain.useCases.DetectOverdueRentalsUseCase;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Component
+@ConditionalOnProperty(name = "application.rentals.overdue-scan.enabled", havingValue = "true", matchIfMissing = true)
+public class OverdueRentalScanJob {
+
+    private final DetectOverdueRentalsUseCase detectOverdueRentalsUseCase;
+
+    public OverdueRentalScanJob(DetectOverdueRentalsUseCase detectOverdueRentalsUseCase) {
+        this.detectOverdueRentalsUseCase = detectOverdueRentalsUseCase;
+    }
+
+    @Scheduled(initialDelayString = "${application.rentals.overdue-scan.initial-delay:60000}",
+            fixedDelayString = "${application.rentals.overdue-scan.interval:3600000}")
+    public void scan() {
+        detectOverdueRentalsUseCase.execute(LocalDate.now());
+    }
+}
@@ -0,0 +1,22 @@
+package br.ifsp.vvts.infra.scheduling;
+
+import br.ifsp.vvts.domain.useCases.WaitlistUseCase;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Component
+public class WaitlistEvictionJob {
+
+    private final WaitlistUseCase waitlistUseCase;
+
+    public WaitlistEvictionJob(WaitlistUseCase waitlistUseCase) {
+        this.waitlistUseCase = waitlistUseCase;
+    }
+
+    @Scheduled(fixedDelayString = "${application.rentals.waitlist.eviction-interval:3600000}")
+    public void evict() {
+        waitlistUseCase.evictStartedBefore(LocalDate.now());
+    }
+}
@@ -0,0 +1,86 @@
+package br.ifsp.vvts.security.config;
+
+import br.ifsp.vvts.domain.model.load.ConcurrencyLimit;
+import br.ifsp.vvts.exception.ApiException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Set;
+
+/**
+ * Recusa de imediato com 503 e {@code Retry-After} as requisições acima do limite de concorrência, antes da
+ * autenticação, em vez de deixá-las esperar por threads e conexões até o timeout. Leituras e escritas têm limites
+ * próprios, para que escritas lentas no banco não derrubem as leituras.
+ */
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final boolean enabled;
+    private final ConcurrencyLimit readLimit;
+    private final ConcurrencyLimit writeLimit;
+    private final String retryAfterSeconds;
+    private final ObjectMapper objectMapper;
+
+    public LoadSheddingFilter(boolean enabled, ConcurrencyLimit readLimit, ConcurrencyLimit writeLimit,
+                              Duration retryAfter, ObjectMapper objectMapper) {
+        this.enabled = enabled;
+        this.readLimit = readLimit;
+        this.writeLimit = writeLimit;
+        this.retryAfterSeconds = Long.toString(Math.max(1, retryAfter.toSeconds()));
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        ConcurrencyLimit limit = READ_METHODS.contains(request.getMethod()) ? readLimit : writeLimit;
+        if (!limit.tryAcquire()) {
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        } finally {
+            limit.release(System.nanoTime() - start, failed);
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        final HttpStatus serviceUnavailable = HttpStatus.SERVICE_UNAVAILABLE;
+        final ApiException apiException = ApiException.builder()
+                .status(serviceUnavailable)
+                .message("The server is overloaded, try again later.")
+                .developerMessage(getClass().getName())
+                .timestamp(ZonedDateTime.now(ZoneId.of("Z")))
+                .build();
+        response.setStatus(serviceUnavailable.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), apiException);
+    }
+}
@@ -0,0 +1,111 @@
+package br.ifsp.vvts.controller;
+
+import br.ifsp.vvts.domain.event.CatalogChanged;
+import br.ifsp.vvts.domain.model.catalog.Catalog;
+import br.ifsp.vvts.domain.useCases.CatalogResponseCache;
+import br.ifsp.vvts.domain.useCases.CatalogVersions;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogResponsesTest {
+
+    private final CatalogVersions catalogVersions = new CatalogVersions();
+    private final CatalogResponseCache cache = new CatalogResponseCache(catalogVersions, new ObjectMapper(), 10, 1024);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private ResponseEntity<byte[]> get(String id, String ifNoneMatch, Object value) {
+        return get(id, ifNoneMatch, false, value);
+    }
+
+    private ResponseEntity<byte[]> get(String id, String ifNoneMatch, boolean gzip, Object value) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (gzip) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        }
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return CatalogResponses.respond(cache, Catalog.CARS, id, new ServletWebRequest(request), () -> {
+            loads.incrementAndGet();
+            return value;
+        });
+    }
+
+    @Nested
+    @DisplayName("Conditional Requests")
+    class ConditionalRequests {
+
+        @Test
+        @DisplayName("Should answer 404 for a missing item even with a matching If-None-Match")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldAnswerNotFoundBeforeNotModified() {
+            String listEtag = get("", null, List.of()).getHeaders().getETag();
+
+            assertThat(get("NOPE1A2", listEtag, null).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+            assertThat(get("NOPE1A2", "*", null).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        }
+
+        @Test
+        @DisplayName("Should answer 304 only for the item's own ETag")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldAnswerNotModifiedForOwnEtag() {
+            String listEtag = get("", null, List.of()).getHeaders().getETag();
+            String carEtag = get("ABC1D23", null, Map.of("model", "March")).getHeaders().getETag();
+
+            ResponseEntity<byte[]> notModified = get("ABC1D23", "W/" + carEtag, Map.of("model", "March"));
+            ResponseEntity<byte[]> otherTag = get("ABC1D23", listEtag, Map.of("model", "March"));
+
+            assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(notModified.getHeaders().getETag()).isEqualTo(carEtag);
+            assertThat(otherTag.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(loads).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Should answer 304 for the current list without loading it")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldAnswerListNotModifiedWithoutLoading() {
+            String tag = catalogVersions.tag(Catalog.CARS, 0);
+
+            ResponseEntity<byte[]> plain = get("", "\"" + tag + "\"", List.of());
+            ResponseEntity<byte[]> gzip = get("", "\"" + tag + "-gzip\"", true, List.of());
+
+            assertThat(plain.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(gzip.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(gzip.getHeaders().getETag()).isEqualTo("\"" + tag + "-gzip\"");
+            assertThat(loads).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("Should load the list again once the catalog changes")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldReloadListAfterCatalogChange() {
+            String etag = get("", null, List.of()).getHeaders().getETag();
+            catalogVersions.onCatalogChanged(new CatalogChanged(Catalog.CARS));
+
+            ResponseEntity<byte[]> response = get("", etag, List.of());
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getETag()).isNotEqualTo(etag);
+            assertThat(loads).hasValue(2);
+        }
+    }
+}
@@ -238,4 +238,37 @@ class CPFTest {
             assertThat(cpf1.hashCode()).isEqualTo(cpf2.hashCode());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Compact code encoding")
+    class CompactCodeEncoding {
+
+        @ParameterizedTest(name = "Should round trip CPF {0} through its numeric code")
+        @ValueSource(strings = {"123.456.789-09", "358.355.130-38", "012.345.678-90"})
+        @Tag("UnitTest")
+        void shouldRoundTripThroughCode(String rawCpf) {
+            CPF cpf = CPF.of(rawCpf);
+
+            assertThat(CPF.fromCode(cpf.toCode())).isEqualTo(cpf);
+        }
+
+        @Test
+        @DisplayName("Should keep leading zeros when decoding")
+        @Tag("UnitTest")
+        void shouldKeepLeadingZerosWhenDecoding() {
+            CPF cpf = CPF.of("012.345.678-90");
+
+            assertThat(cpf.toCode()).isEqualTo(1234567890L);
+            assertThat(CPF.fromCode(cpf.toCode()).unformat()).isEqualTo("01234567890");
+        }
+
+        @ParameterizedTest(name = "Should reject invalid code: {0}")
+        @ValueSource(longs = {-1L, 12345678910L, 11111111111L, 100000000000L})
+        @Tag("UnitTest")
+        void shouldRejectInvalidCode(long code) {
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> CPF.fromCode(code))
+                    .withMessageContaining("Invalid CPF code");
+        }
+    }
+}
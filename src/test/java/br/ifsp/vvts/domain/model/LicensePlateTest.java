@@ -122,4 +122,42 @@ class LicensePlateTest {
             assertThat(plate).isNotEqualTo(new Object());
         }
     }
+
+    @Nested
+    @DisplayName("Compact code encoding")
+    class CompactCodeEncoding {
+
+        @ParameterizedTest(name = "Should round trip license plate {0} through its numeric code")
+        @ValueSource(strings = {"AAA0000", "ABC1234", "BRA2E19", "XYZ9K88", "ZZZ9Z99"})
+        @Tag("UnitTest")
+        void shouldRoundTripThroughCode(String plateValue) {
+            LicensePlate plate = LicensePlate.of(plateValue);
+
+            assertThat(LicensePlate.fromCode(plate.toCode())).isEqualTo(plate);
+        }
+
+        @Test
+        @DisplayName("Should map the first and last possible plates to the code range bounds")
+        @Tag("UnitTest")
+        void shouldMapBoundsToCodeRange() {
+            assertThat(LicensePlate.of("AAA0000").toCode()).isZero();
+            assertThat(LicensePlate.of("ZZZ9Z99").toCode()).isEqualTo(26 * 26 * 26 * 10 * 36 * 100 - 1);
+        }
+
+        @Test
+        @DisplayName("Should give different codes to old and Mercosul formats of the same plate")
+        @Tag("UnitTest")
+        void shouldDistinguishOldAndMercosulFormats() {
+            assertThat(LicensePlate.of("ABC1234").toCode()).isNotEqualTo(LicensePlate.of("ABC1C34").toCode());
+        }
+
+        @ParameterizedTest(name = "Should reject code out of range: {0}")
+        @ValueSource(ints = {-1, 26 * 26 * 26 * 10 * 36 * 100})
+        @Tag("UnitTest")
+        void shouldRejectCodeOutOfRange(int code) {
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> LicensePlate.fromCode(code))
+                    .withMessageContaining("Invalid license plate code");
+        }
+    }
 }
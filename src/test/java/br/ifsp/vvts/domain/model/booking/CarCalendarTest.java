@@ -0,0 +1,79 @@
+package br.ifsp.vvts.domain.model.booking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Car Calendar Tests")
+class CarCalendarTest {
+
+    private final LocalDate DAY = LocalDate.of(2025, 10, 1);
+
+    private CarCalendar calendarWithBookings() {
+        var calendar = new CarCalendar();
+        calendar.book(DAY, DAY.plusDays(5));
+        calendar.book(DAY.plusDays(10), DAY.plusDays(15));
+        return calendar;
+    }
+
+    @Nested
+    @DisplayName("Fit")
+    class Fit {
+
+        @ParameterizedTest
+        @CsvSource({
+                "4, 6",
+                "4, 11",
+                "14, 16",
+                "0, 15"
+        })
+        @DisplayName("Should reject a period that overlaps a booking")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectOverlappingPeriod(int start, int end) {
+            assertThat(calendarWithBookings().fit(DAY.plusDays(start), DAY.plusDays(end))).isEqualTo(-1);
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+                "5, 10, 0",
+                "6, 9, 2",
+                "5, 8, 2"
+        })
+        @DisplayName("Should measure the free days left between bookings")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldMeasureLeftoverGap(int start, int end, long expected) {
+            assertThat(calendarWithBookings().fit(DAY.plusDays(start), DAY.plusDays(end))).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("Should treat the time after the last booking as unbounded")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldTreatOpenEndedTimeAsUnbounded() {
+            long fit = calendarWithBookings().fit(DAY.plusDays(15), DAY.plusDays(17));
+
+            assertThat(fit).isEqualTo(CarCalendar.UNBOUNDED_GAP);
+            assertThat(new CarCalendar().fit(DAY, DAY.plusDays(1))).isEqualTo(2 * CarCalendar.UNBOUNDED_GAP);
+        }
+
+        @Test
+        @DisplayName("Should free the days of a released booking")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldFreeReleasedBooking() {
+            var calendar = calendarWithBookings();
+            calendar.release(DAY.plusDays(10), DAY.plusDays(15));
+
+            assertThat(calendar.fit(DAY.plusDays(10), DAY.plusDays(12))).isEqualTo(5 + CarCalendar.UNBOUNDED_GAP);
+        }
+    }
+}
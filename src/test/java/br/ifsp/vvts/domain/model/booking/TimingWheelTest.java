@@ -0,0 +1,88 @@
+package br.ifsp.vvts.domain.model.booking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Timing Wheel Tests")
+class TimingWheelTest {
+
+    private final long START = 1_000_000L;
+
+    @Nested
+    @DisplayName("Expiry")
+    class Expiry {
+
+        @Test
+        @DisplayName("Should expire entries only once their deadline has passed")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldExpireEntriesAtDeadline() {
+            var wheel = new TimingWheel<String>(100, 8, START);
+            wheel.add("first", START + 250);
+            wheel.add("second", START + 520);
+
+            assertThat(wheel.advance(START + 249)).isEmpty();
+            assertThat(wheel.advance(START + 300)).containsExactly("first");
+            assertThat(wheel.advance(START + 600)).containsExactly("second");
+            assertThat(wheel.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should keep entries due in a later revolution of the wheel")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldKeepEntriesOfLaterRevolution() {
+            var wheel = new TimingWheel<String>(100, 4, START);
+            wheel.add("soon", START + 100);
+            wheel.add("later", START + 500);
+
+            assertThat(wheel.advance(START + 150)).containsExactly("soon");
+            assertThat(wheel.size()).isEqualTo(1);
+            assertThat(wheel.advance(START + 550)).containsExactly("later");
+        }
+
+        @Test
+        @DisplayName("Should expire everything due after a pause longer than a revolution")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldCatchUpAfterLongPause() {
+            var wheel = new TimingWheel<String>(100, 4, START);
+            wheel.add("a", START + 100);
+            wheel.add("b", START + 300);
+            wheel.add("c", START + 900);
+
+            assertThat(wheel.advance(START + 5_000)).containsExactlyInAnyOrder("a", "b", "c");
+        }
+
+        @Test
+        @DisplayName("Should expire an entry whose deadline already passed on the next advance")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldExpireOverdueEntryOnNextAdvance() {
+            var wheel = new TimingWheel<String>(100, 4, START);
+            wheel.add("late", START - 50);
+
+            assertThat(wheel.advance(START)).containsExactly("late");
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalid Input")
+    class InvalidInput {
+
+        @Test
+        @DisplayName("Should reject a wheel without slots")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectWheelWithoutSlots() {
+            assertThatThrownBy(() -> new TimingWheel<String>(100, 0, START))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("The timing wheel tick and slot count must be positive.");
+        }
+    }
+}
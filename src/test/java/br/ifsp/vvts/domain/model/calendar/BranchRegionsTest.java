@@ -0,0 +1,36 @@
+package br.ifsp.vvts.domain.model.calendar;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BranchRegionsTest {
+
+    @Test
+    @DisplayName("Should find the region of a branch regardless of case")
+    @Tag("UnitTest")
+    @Tag("Functional")
+    void shouldFindRegionIgnoringCase() {
+        BranchRegions regions = BranchRegions.of(Map.of("campinas", "SP"));
+
+        assertThat(regions.regionOf("CAMPINAS")).isEqualTo("SP");
+        assertThat(regions.regionOf("Sorocaba")).isNull();
+        assertThat(regions.regionOf(null)).isNull();
+        assertThat(BranchRegions.of(null).regionOf("Campinas")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject a branch without a region")
+    @Tag("UnitTest")
+    @Tag("Structural")
+    void shouldRejectBlankRegion() {
+        assertThatThrownBy(() -> BranchRegions.of(Map.of("Campinas", " ")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The holiday region of branch Campinas cannot be blank.");
+    }
+}
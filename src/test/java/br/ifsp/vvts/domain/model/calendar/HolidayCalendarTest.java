@@ -0,0 +1,125 @@
+package br.ifsp.vvts.domain.model.calendar;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.IntBuffer;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Holiday Calendar Tests")
+class HolidayCalendarTest {
+
+    private final LocalDate NEW_YEAR = LocalDate.of(2031, 1, 1);
+    private final LocalDate CHRISTMAS = LocalDate.of(2031, 12, 25);
+
+    @Nested
+    @DisplayName("Lookup")
+    class Lookup {
+
+        @Test
+        @DisplayName("Should find every loaded day and nothing in between")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldFindLoadedDaysOnly() {
+            HolidayCalendar calendar = HolidayCalendar.of(List.of(CHRISTMAS, NEW_YEAR));
+
+            assertThat(calendar.isHoliday(NEW_YEAR)).isTrue();
+            assertThat(calendar.isHoliday(CHRISTMAS)).isTrue();
+            assertThat(calendar.isHoliday(NEW_YEAR.plusDays(1))).isFalse();
+            assertThat(calendar.size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should answer false for days outside the loaded range")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldAnswerFalseOutsideRange() {
+            HolidayCalendar calendar = HolidayCalendar.of(List.of(NEW_YEAR, CHRISTMAS));
+
+            assertThat(calendar.isHoliday(NEW_YEAR.minusDays(1))).isFalse();
+            assertThat(calendar.isHoliday(CHRISTMAS.plusDays(64))).isFalse();
+            assertThat(HolidayCalendar.empty().isHoliday(NEW_YEAR)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should ignore repeated epoch days")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldIgnoreRepeatedDays() {
+            int day = (int) NEW_YEAR.toEpochDay();
+
+            HolidayCalendar calendar = HolidayCalendar.fromSortedEpochDays(IntBuffer.wrap(new int[]{day, day, day + 64}));
+
+            assertThat(calendar.size()).isEqualTo(2);
+            assertThat(calendar.isHoliday(NEW_YEAR.plusDays(64))).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should list the days that are a holiday in only one of two calendars")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldListDifferingDays() {
+            HolidayCalendar before = HolidayCalendar.of(List.of(NEW_YEAR, CHRISTMAS));
+            HolidayCalendar after = HolidayCalendar.of(List.of(NEW_YEAR, NEW_YEAR.plusDays(100)));
+
+            assertThat(before.differingEpochDays(after)).containsExactly(
+                    (int) NEW_YEAR.plusDays(100).toEpochDay(), (int) CHRISTMAS.toEpochDay());
+            assertThat(before.differingEpochDays(before)).isEmpty();
+            assertThat(HolidayCalendar.empty().differingEpochDays(before)).hasSize(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalid Input")
+    class InvalidInput {
+
+        @Test
+        @DisplayName("Should reject epoch days out of order")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectUnsortedDays() {
+            int day = (int) NEW_YEAR.toEpochDay();
+
+            assertThatThrownBy(() -> HolidayCalendar.fromSortedEpochDays(IntBuffer.wrap(new int[]{day, day + 10, day + 5, day + 20})))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Epoch days must be sorted in ascending order.");
+        }
+
+        @Test
+        @DisplayName("Should reject days outside the supported years before allocating the bitmap")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldRejectDaysOutsideSupportedYears() {
+            int day = (int) NEW_YEAR.toEpochDay();
+
+            assertThatThrownBy(() -> HolidayCalendar.fromSortedEpochDays(
+                    IntBuffer.wrap(new int[]{Integer.MIN_VALUE, Integer.MAX_VALUE})))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Holidays must be between 1900-01-01 and 2200-12-31.");
+            assertThatThrownBy(() -> HolidayCalendar.of(List.of(NEW_YEAR, LocalDate.of(2201, 1, 1))))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> HolidayCalendar.fromSortedEpochDays(
+                    IntBuffer.wrap(new int[]{day, Integer.MAX_VALUE, day + 1})))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Epoch days must be sorted in ascending order.");
+            assertThat(HolidayCalendar.of(List.of(HolidayCalendar.MIN_DATE, HolidayCalendar.MAX_DATE)).size())
+                    .isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should reject a null list of holidays")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectNullHolidays() {
+            assertThatThrownBy(() -> HolidayCalendar.of(null))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessage("Holidays cannot be null.");
+        }
+    }
+}
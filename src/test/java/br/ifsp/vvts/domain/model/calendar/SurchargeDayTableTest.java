@@ -0,0 +1,117 @@
+package br.ifsp.vvts.domain.model.calendar;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Surcharge Day Table Tests")
+class SurchargeDayTableTest {
+
+    private final LocalDate WINDOW_START = LocalDate.of(2025, 1, 1);
+    private final LocalDate WINDOW_END = LocalDate.of(2026, 1, 1);
+    private final LocalDate WEDNESDAY = LocalDate.of(2025, 10, 8);
+
+    @Nested
+    @DisplayName("Counting")
+    class Counting {
+
+        @ParameterizedTest
+        @CsvSource({
+                "'2025-10-06', '2025-10-08', 0",
+                "'2025-10-06', '2025-10-11', 1",
+                "'2025-10-06', '2025-10-13', 3",
+                "'2025-10-08', '2025-10-09', 1",
+                "'2025-10-08', '2025-10-08', 0"
+        })
+        @DisplayName("Should count weekend and holiday days inside the window")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldCountSurchargeDaysInsideWindow(String start, String end, int expected) {
+            var table = SurchargeDayTable.build(HolidayCalendar.of(List.of(WEDNESDAY)), WINDOW_START, WINDOW_END);
+
+            assertThat(table.countSurchargeDays(LocalDate.parse(start), LocalDate.parse(end))).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("Should count day by day when the period leaves the window")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldCountOutsideWindow() {
+            var table = SurchargeDayTable.build(HolidayCalendar.empty(), WINDOW_START, WINDOW_END);
+
+            assertThat(table.countSurchargeDays(LocalDate.of(2025, 12, 29), LocalDate.of(2026, 1, 5))).isEqualTo(2);
+            assertThat(table.countSurchargeDays(LocalDate.of(2024, 12, 30), LocalDate.of(2025, 1, 6))).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should reject an empty window")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectEmptyWindow() {
+            assertThatThrownBy(() -> SurchargeDayTable.build(HolidayCalendar.empty(), WINDOW_END, WINDOW_START))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("The window start must be before the window end.");
+        }
+    }
+
+    @Nested
+    @DisplayName("Rebuilding")
+    class Rebuilding {
+
+        @Test
+        @DisplayName("Should match a full build after the calendar changes")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldMatchFullBuildAfterCalendarChange() {
+            var original = SurchargeDayTable.build(HolidayCalendar.empty(), WINDOW_START, WINDOW_END);
+            var changed = HolidayCalendar.of(List.of(WEDNESDAY, WEDNESDAY.plusDays(14)));
+
+            var rebuilt = original.rebuild(changed);
+            var fresh = SurchargeDayTable.build(changed, WINDOW_START, WINDOW_END);
+
+            for (LocalDate start = WINDOW_START; start.isBefore(WINDOW_END); start = start.plusDays(7)) {
+                LocalDate end = start.plusDays(60).isAfter(WINDOW_END) ? WINDOW_END : start.plusDays(60);
+                assertThat(rebuilt.countSurchargeDays(start, end)).isEqualTo(fresh.countSurchargeDays(start, end));
+            }
+            assertThat(rebuilt.calendar()).isSameAs(changed);
+        }
+
+        @Test
+        @DisplayName("Should match a full build when holidays are removed, added and moved to weekends")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldMatchFullBuildAfterMixedChanges() {
+            LocalDate saturday = LocalDate.of(2025, 10, 11);
+            var original = SurchargeDayTable.build(HolidayCalendar.of(List.of(WEDNESDAY, saturday)), WINDOW_START, WINDOW_END);
+            var changed = HolidayCalendar.of(List.of(WINDOW_START, saturday.plusDays(7), WEDNESDAY.plusDays(1)));
+
+            var rebuilt = original.rebuild(changed);
+            var fresh = SurchargeDayTable.build(changed, WINDOW_START, WINDOW_END);
+
+            for (LocalDate start = WINDOW_START; start.isBefore(WINDOW_END); start = start.plusDays(3)) {
+                assertThat(rebuilt.countSurchargeDays(WINDOW_START, start))
+                        .isEqualTo(fresh.countSurchargeDays(WINDOW_START, start));
+            }
+        }
+
+        @Test
+        @DisplayName("Should keep the same table when the calendar is unchanged")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldKeepTableForSameCalendar() {
+            var calendar = HolidayCalendar.of(List.of(WEDNESDAY));
+            var table = SurchargeDayTable.build(calendar, WINDOW_START, WINDOW_END);
+
+            assertThat(table.rebuild(calendar)).isSameAs(table);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package br.ifsp.vvts.domain.model.key;
+
+import br.ifsp.vvts.domain.model.car.LicensePlate;
+import br.ifsp.vvts.domain.model.customer.CPF;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+class NaturalKeyFormatTest {
+
+    private static final LicensePlate PLATE = LicensePlate.of("BRA2E19");
+    private static final CPF CPF_NUMBER = CPF.of("52998224725");
+
+    @Nested
+    @DisplayName("Storing keys")
+    class Store {
+
+        @Test
+        @DisplayName("Should store keys as text when compact keys are disabled")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldStoreKeysAsTextWhenCompactKeysDisabled() {
+            NaturalKeyFormat format = NaturalKeyFormat.of(false);
+
+            assertThat(format).isEqualTo(NaturalKeyFormat.TEXT);
+            assertThat(format.store(PLATE)).isEqualTo("BRA2E19");
+            assertThat(format.store(CPF_NUMBER)).isEqualTo("52998224725");
+        }
+
+        @Test
+        @DisplayName("Should store keys as integer codes when compact keys are enabled")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldStoreKeysAsCodesWhenCompactKeysEnabled() {
+            NaturalKeyFormat format = NaturalKeyFormat.of(true);
+
+            assertThat(format).isEqualTo(NaturalKeyFormat.COMPACT);
+            assertThat(format.store(PLATE)).isEqualTo(PLATE.toCode());
+            assertThat(format.store(CPF_NUMBER)).isEqualTo(CPF_NUMBER.toCode());
+        }
+    }
+
+    @Nested
+    @DisplayName("Reading keys")
+    class Read {
+
+        @ParameterizedTest(name = "Should read back what {0} stored")
+        @EnumSource(NaturalKeyFormat.class)
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldReadBackWhatEachFormatStored(NaturalKeyFormat format) {
+            assertThat(NaturalKeyFormat.readLicensePlate(format.store(PLATE))).isEqualTo(PLATE);
+            assertThat(NaturalKeyFormat.readCpf(format.store(CPF_NUMBER))).isEqualTo(CPF_NUMBER);
+        }
+
+        @Test
+        @DisplayName("Should read codes returned by the driver as a different integer type")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldReadCodesOfAnyIntegerType() {
+            assertThat(NaturalKeyFormat.readLicensePlate((long) PLATE.toCode())).isEqualTo(PLATE);
+            assertThat(NaturalKeyFormat.readCpf((int) CPF.of("00000000191").toCode()))
+                    .isEqualTo(CPF.of("00000000191"));
+        }
+
+        @Test
+        @DisplayName("Should reject stored values that are neither text nor integer")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldRejectUnknownStoredValues() {
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> NaturalKeyFormat.readLicensePlate(new byte[]{1}))
+                    .withMessageContaining("Invalid stored license plate");
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> NaturalKeyFormat.readCpf(null))
+                    .withMessageContaining("Invalid stored CPF");
+        }
+    }
+}
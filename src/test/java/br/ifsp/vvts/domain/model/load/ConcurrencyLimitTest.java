@@ -0,0 +1,166 @@
+package br.ifsp.vvts.domain.model.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Concurrency Limit Tests")
+class ConcurrencyLimitTest {
+
+    private static final Duration THRESHOLD = Duration.ofMillis(100);
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofMillis(500).toNanos();
+
+    private void fill(ConcurrencyLimit limit, int requests) {
+        for (int i = 0; i < requests; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Admission")
+    class Admission {
+
+        @Test
+        @DisplayName("Should reject requests beyond the limit without waiting")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectBeyondLimit() {
+            var limit = new ConcurrencyLimit(3, 1, 10, THRESHOLD);
+
+            fill(limit, 3);
+
+            assertThat(limit.tryAcquire()).isFalse();
+            assertThat(limit.inFlight()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should admit again once a request is released")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldAdmitAfterRelease() {
+            var limit = new ConcurrencyLimit(1, 1, 10, THRESHOLD);
+            fill(limit, 1);
+
+            limit.release(FAST, false);
+
+            assertThat(limit.tryAcquire()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should reject a release without a request in flight")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldRejectReleaseWithoutRequest() {
+            var limit = new ConcurrencyLimit(1, 1, 10, THRESHOLD);
+
+            assertThatThrownBy(() -> limit.release(FAST, false))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("There is no request in flight to release.");
+        }
+    }
+
+    @Nested
+    @DisplayName("Adaptation")
+    class Adaptation {
+
+        @Test
+        @DisplayName("Should grow by about one after a full window of fast requests")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldGrowAfterFastWindow() {
+            var limit = new ConcurrencyLimit(4, 1, 10, THRESHOLD);
+
+            for (int window = 0; window < 2; window++) {
+                fill(limit, 4);
+                for (int i = 0; i < 4; i++) {
+                    limit.release(FAST, false);
+                }
+            }
+
+            assertThat(limit.limit()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("Should back off multiplicatively on slow or failed requests")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldBackOffOnSlowOrFailedRequests() {
+            var limit = new ConcurrencyLimit(10, 1, 20, THRESHOLD);
+            fill(limit, 2);
+
+            limit.release(SLOW, false);
+            limit.release(FAST, true);
+
+            assertThat(limit.limit()).isEqualTo(8);
+        }
+
+        @Test
+        @DisplayName("Should not grow while mostly idle")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldNotGrowWhileIdle() {
+            var limit = new ConcurrencyLimit(4, 1, 10, THRESHOLD);
+
+            for (int i = 0; i < 100; i++) {
+                fill(limit, 1);
+                limit.release(FAST, false);
+            }
+
+            assertThat(limit.limit()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Should stay within the min and max limits")
+        @Tag("UnitTest")
+        @Tag("Mutation")
+        void shouldStayWithinBounds() {
+            var limit = new ConcurrencyLimit(2, 2, 3, THRESHOLD);
+
+            for (int i = 0; i < 50; i++) {
+                fill(limit, 1);
+                limit.release(SLOW, false);
+            }
+            assertThat(limit.limit()).isEqualTo(2);
+
+            for (int i = 0; i < 50; i++) {
+                fill(limit, limit.limit());
+                for (int j = limit.inFlight(); j > 0; j--) {
+                    limit.release(FAST, false);
+                }
+            }
+            assertThat(limit.limit()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("Configuration")
+    class Configuration {
+
+        @Test
+        @DisplayName("Should reject an initial limit outside the bounds")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectInitialLimitOutsideBounds() {
+            assertThatThrownBy(() -> new ConcurrencyLimit(11, 1, 10, THRESHOLD))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("The initial limit must be between the min and max limits.");
+        }
+
+        @Test
+        @DisplayName("Should reject a non-positive latency threshold")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectNonPositiveThreshold() {
+            assertThatThrownBy(() -> new ConcurrencyLimit(1, 1, 10, Duration.ZERO))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("The latency threshold must be positive.");
+        }
+    }
+}
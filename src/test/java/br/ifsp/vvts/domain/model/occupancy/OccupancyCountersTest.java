@@ -0,0 +1,91 @@
+package br.ifsp.vvts.domain.model.occupancy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Occupancy Counters Tests")
+class OccupancyCountersTest {
+
+    private final LocalDate MONDAY = LocalDate.of(2025, 10, 6);
+
+    private OccupancyCounters counters() {
+        return new OccupancyCounters(LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 1));
+    }
+
+    @Nested
+    @DisplayName("Utilization")
+    class Utilization {
+
+        @Test
+        @DisplayName("Should report the busiest day of the period")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldReportBusiestDay() {
+            var counters = counters();
+            counters.changeFleet("Fiat", "Uno", 4);
+            counters.book("Fiat", "Uno", MONDAY, MONDAY.plusDays(3));
+            counters.book("fiat", "uno", MONDAY.plusDays(2), MONDAY.plusDays(5));
+
+            assertThat(counters.peakUtilization("Fiat", "Uno", MONDAY, MONDAY.plusDays(2))).isEqualTo(0.25);
+            assertThat(counters.peakUtilization("Fiat", "Uno", MONDAY, MONDAY.plusDays(7))).isEqualTo(0.5);
+            assertThat(counters.peakUtilization("Fiat", "Uno", MONDAY.plusDays(5), MONDAY.plusDays(7))).isZero();
+        }
+
+        @Test
+        @DisplayName("Should free the days of a released booking")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldFreeReleasedBooking() {
+            var counters = counters();
+            counters.changeFleet("Fiat", "Uno", 1);
+            counters.book("Fiat", "Uno", MONDAY, MONDAY.plusDays(3));
+            counters.release("Fiat", "Uno", MONDAY, MONDAY.plusDays(3));
+            counters.release("Fiat", "Uno", MONDAY, MONDAY.plusDays(3));
+
+            assertThat(counters.peakUtilization("Fiat", "Uno", MONDAY, MONDAY.plusDays(3))).isZero();
+        }
+
+        @Test
+        @DisplayName("Should answer zero for unknown models and empty fleets")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldAnswerZeroWithoutFleet() {
+            var counters = counters();
+            counters.book("Fiat", "Uno", MONDAY, MONDAY.plusDays(3));
+
+            assertThat(counters.peakUtilization("Fiat", "Uno", MONDAY, MONDAY.plusDays(3))).isZero();
+            assertThat(counters.peakUtilization("VW", "Gol", MONDAY, MONDAY.plusDays(3))).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency")
+    class Concurrency {
+
+        @Test
+        @DisplayName("Should not lose updates from concurrent bookings")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldNotLoseConcurrentUpdates() throws InterruptedException {
+            var counters = counters();
+            counters.changeFleet("Fiat", "Uno", 2000);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            for (int i = 0; i < 1000; i++) {
+                executor.execute(() -> counters.book("Fiat", "Uno", MONDAY, MONDAY.plusDays(10)));
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(counters.peakUtilization("Fiat", "Uno", MONDAY, MONDAY.plusDays(10))).isEqualTo(0.5);
+        }
+    }
+}
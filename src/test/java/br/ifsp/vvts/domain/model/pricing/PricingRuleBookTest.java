@@ -0,0 +1,132 @@
+package br.ifsp.vvts.domain.model.pricing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Pricing Rule Book Tests")
+class PricingRuleBookTest {
+
+    private final BigDecimal DAILY_RATE = new BigDecimal("100.00");
+    private final LocalDate JULY = LocalDate.of(2025, 7, 10);
+
+    private PricingRuleSet surcharge(String rate) {
+        return new PricingRuleSet(new BigDecimal(rate), null, null, null, null, null, null, null, null);
+    }
+
+    @Nested
+    @DisplayName("Default Rules")
+    class DefaultRules {
+
+        @ParameterizedTest
+        @CsvSource({
+                "1, 0, false, 100.00",
+                "3, 2, false, 312.00",
+                "3, 0, true, 330.00",
+                "7, 2, false, 676.40",
+                "15, 4, true, 1592.58",
+                "16, 4, false, 1461.60"
+        })
+        @DisplayName("Should price with the surcharge, insurance and discount tiers")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldPriceWithDefaultRules(int days, int surchargeDays, boolean withInsurance, String expected) {
+            PricingPlan plan = PricingRuleBook.defaults().planFor(null, JULY);
+
+            assertThat(plan.totalPrice(DAILY_RATE, days, surchargeDays, withInsurance)).isEqualByComparingTo(expected);
+        }
+
+        @Test
+        @DisplayName("Should apply return penalties and fees")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldApplyReturnRules() {
+            PricingPlan plan = PricingRuleBook.defaults().planFor(null, JULY);
+
+            assertThat(plan.earlyReturnPrice(DAILY_RATE, 2, 3)).isEqualByComparingTo("290.00");
+            assertThat(plan.lateFee(DAILY_RATE, 2)).isEqualByComparingTo("300.00");
+            assertThat(plan.applyReturnFees(new BigDecimal("200.00"), true, true)).isEqualByComparingTo("330.00");
+        }
+    }
+
+    @Nested
+    @DisplayName("Overrides")
+    class Overrides {
+
+        @Test
+        @DisplayName("Should use branch rules only for that branch")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldUseBranchRules() {
+            var book = PricingRuleBook.compile(null, Map.of("sp", surcharge("0.20")), List.of());
+
+            assertThat(book.planFor("SP", JULY).totalPrice(DAILY_RATE, 1, 1, false)).isEqualByComparingTo("120.00");
+            assertThat(book.planFor("RJ", JULY).totalPrice(DAILY_RATE, 1, 1, false)).isEqualByComparingTo("106.00");
+            assertThat(book.planFor(null, JULY).totalPrice(DAILY_RATE, 1, 1, false)).isEqualByComparingTo("106.00");
+        }
+
+        @Test
+        @DisplayName("Should apply a season across the turn of the year")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldApplySeasonAcrossYearEnd() {
+            var season = new SeasonRule(null, "12-20", "01-05", surcharge("0.10"));
+            var book = PricingRuleBook.compile(null, Map.of(), List.of(season));
+
+            assertThat(book.planFor(null, LocalDate.of(2025, 12, 20)).totalPrice(DAILY_RATE, 1, 1, false)).isEqualByComparingTo("110.00");
+            assertThat(book.planFor(null, LocalDate.of(2026, 1, 5)).totalPrice(DAILY_RATE, 1, 1, false)).isEqualByComparingTo("110.00");
+            assertThat(book.planFor(null, LocalDate.of(2026, 1, 6)).totalPrice(DAILY_RATE, 1, 1, false)).isEqualByComparingTo("106.00");
+        }
+
+        @Test
+        @DisplayName("Should layer a branch season over the branch rules")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldLayerBranchSeasonOverBranchRules() {
+            var branchRules = new PricingRuleSet(null, new BigDecimal("0.20"), null, null, null, null, null, null, null);
+            var season = new SeasonRule("SP", "07-01", "07-31", surcharge("0.10"));
+            var book = PricingRuleBook.compile(null, Map.of("SP", branchRules), List.of(season));
+
+            assertThat(book.planFor("SP", JULY).totalPrice(DAILY_RATE, 1, 1, true)).isEqualByComparingTo("132.00");
+            assertThat(book.planFor(null, JULY).totalPrice(DAILY_RATE, 1, 1, true)).isEqualByComparingTo("116.60");
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalid Input")
+    class InvalidInput {
+
+        @Test
+        @DisplayName("Should reject a season with an invalid day")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectInvalidSeasonDay() {
+            var season = new SeasonRule(null, "13-01", "01-05", surcharge("0.10"));
+
+            assertThatThrownBy(() -> PricingRuleBook.compile(null, Map.of(), List.of(season)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Invalid pricing season day: 13-01");
+        }
+
+        @Test
+        @DisplayName("Should reject a null pricing date")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectNullDate() {
+            assertThatThrownBy(() -> PricingRuleBook.defaults().planFor(null, null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("The pricing date cannot be null.");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package br.ifsp.vvts.domain.model.rental;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Rental Cursor Tests")
+class RentalCursorTest {
+
+    @Test
+    @DisplayName("Should read back a formatted cursor")
+    @Tag("UnitTest")
+    @Tag("Functional")
+    void shouldReadBackFormattedCursor() {
+        var cursor = new RentalCursor(LocalDate.of(2025, 10, 6), 42L);
+
+        assertThat(cursor.format()).isEqualTo("2025-10-06_42");
+        assertThat(RentalCursor.parse(cursor.format())).isEqualTo(cursor);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "2025-10-06", "2025-10-06_", "2025-13-06_42", "2025-10-06_x"})
+    @DisplayName("Should reject a malformed cursor")
+    @Tag("UnitTest")
+    @Tag("Functional")
+    void shouldRejectMalformedCursor(String value) {
+        assertThatThrownBy(() -> RentalCursor.parse(value))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor: " + value);
+    }
+}
@@ -0,0 +1,81 @@
+package br.ifsp.vvts.domain.model.report;
+
+import br.ifsp.vvts.domain.model.rental.RentalStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Rental Stats Accumulator Tests")
+class RentalStatsAccumulatorTest {
+
+    private final LocalDate START = LocalDate.of(2025, 10, 6);
+
+    @Nested
+    @DisplayName("Statistics")
+    class Statistics {
+
+        @Test
+        @DisplayName("Should compute average length, insurance attach rate and late returns by model")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldComputeStatisticsByModel() {
+            var accumulator = new RentalStatsAccumulator();
+            accumulator.add("Nissan", "March", RentalStatus.FINISHED, START, START.plusDays(2), START.plusDays(3), true);
+            accumulator.add("Nissan", "March", RentalStatus.FINISHED, START, START.plusDays(4), START.plusDays(4), false);
+            accumulator.add("Nissan", "March", RentalStatus.CANCELED, START, START.plusDays(9), null, true);
+            accumulator.add("Fiat", "Uno", RentalStatus.ACTIVE, START, START.plusDays(5), null, null);
+
+            RentalAnalytics analytics = accumulator.result();
+
+            assertThat(analytics.rentals()).isEqualTo(4);
+            assertThat(analytics.canceled()).isEqualTo(1);
+            assertThat(analytics.averageDays()).isEqualTo(3.6667);
+            assertThat(analytics.insuranceAttachRate()).isEqualTo(0.6667);
+            assertThat(analytics.lateReturnRatio()).isEqualTo(0.5);
+            assertThat(analytics.models()).containsExactly(
+                    new ModelRentalStats("Fiat", "Uno", 1, 0, 5.0, 0.0, 0.0),
+                    new ModelRentalStats("Nissan", "March", 3, 1, 3.0, 0.6667, 0.5));
+        }
+
+        @Test
+        @DisplayName("Should report zeros when there are no rentals")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldReportZerosWhenEmpty() {
+            RentalAnalytics analytics = new RentalStatsAccumulator().result();
+
+            assertThat(analytics.rentals()).isZero();
+            assertThat(analytics.averageDays()).isZero();
+            assertThat(analytics.models()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Merging")
+    class Merging {
+
+        @Test
+        @DisplayName("Should give the same result as a single accumulator")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldMatchSingleAccumulator() {
+            var single = new RentalStatsAccumulator();
+            var left = new RentalStatsAccumulator();
+            var right = new RentalStatsAccumulator();
+            for (int i = 0; i < 10; i++) {
+                String model = i % 3 == 0 ? "Uno" : "March";
+                LocalDate returned = START.plusDays(i % 4 + 1);
+                single.add("Nissan", model, RentalStatus.FINISHED, START, START.plusDays(2), returned, i % 2 == 0);
+                (i < 4 ? left : right).add("Nissan", model, RentalStatus.FINISHED, START, START.plusDays(2), returned,
+                        i % 2 == 0);
+            }
+
+            assertThat(right.merge(left).result()).isEqualTo(single.result());
+        }
+    }
+}
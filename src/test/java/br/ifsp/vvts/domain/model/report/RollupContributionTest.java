@@ -0,0 +1,57 @@
+package br.ifsp.vvts.domain.model.report;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Rollup Contribution Tests")
+class RollupContributionTest {
+
+    private final LocalDate START = LocalDate.of(2025, 10, 6);
+
+    @Nested
+    @DisplayName("Revenue Split")
+    class RevenueSplit {
+
+        @Test
+        @DisplayName("Should split the revenue across days without losing cents")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldSplitRevenueExactly() {
+            var contribution = new RollupContribution("ABC1D23", "B", "M", START, 3, 100_00 + 1);
+
+            assertThat(IntStream.range(0, 3).mapToLong(contribution::revenueOn).toArray())
+                    .containsExactly(3334, 3334, 3333);
+            assertThat(IntStream.range(0, 3).map(contribution::carDaysOn).sum()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should book a same-day return on the start day without car days")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldBookSameDayReturnOnStartDay() {
+            var contribution = new RollupContribution("ABC1D23", "B", "M", START, 0, 50_00);
+
+            assertThat(contribution.spanDays()).isEqualTo(1);
+            assertThat(contribution.revenueOn(0)).isEqualTo(50_00);
+            assertThat(contribution.carDaysOn(0)).isZero();
+        }
+
+        @Test
+        @DisplayName("Should reject negative car days")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectNegativeCarDays() {
+            assertThatThrownBy(() -> new RollupContribution("ABC1D23", "B", "M", START, -1, 0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("The number of car days cannot be negative.");
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package br.ifsp.vvts.domain.model.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Search Query Tests")
+class SearchQueryTest {
+
+    @Test
+    @DisplayName("Should turn every term into a quoted prefix")
+    @Tag("UnitTest")
+    @Tag("Functional")
+    void shouldQuoteEveryTermAsPrefix() {
+        assertThat(SearchQuery.parse("Nis  MAR").toMatchExpression()).isEqualTo("\"nis\"* \"mar\"*");
+    }
+
+    @Test
+    @DisplayName("Should drop punctuation and search operators")
+    @Tag("UnitTest")
+    @Tag("Structural")
+    void shouldDropPunctuationAndOperators() {
+        SearchQuery query = SearchQuery.parse("\"joão\" OR-da* (silva):");
+
+        assertThat(query.terms()).containsExactly("joão", "or", "da", "silva");
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"  ", "*-\"()"})
+    @DisplayName("Should reject a query without terms")
+    @Tag("UnitTest")
+    @Tag("Functional")
+    void shouldRejectQueryWithoutTerms(String text) {
+        assertThatThrownBy(() -> SearchQuery.parse(text))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The search query cannot be blank.");
+    }
+
+    @Test
+    @DisplayName("Should reject a query with too many terms")
+    @Tag("UnitTest")
+    @Tag("Functional")
+    void shouldRejectTooManyTerms() {
+        assertThatThrownBy(() -> SearchQuery.parse("a b c d e f g h i"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The search query cannot have more than 8 terms.");
+    }
+}
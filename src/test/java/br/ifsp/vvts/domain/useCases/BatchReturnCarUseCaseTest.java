@@ -0,0 +1,211 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.dto.ReturnCarRequest;
+import br.ifsp.vvts.domain.dto.ReturnCarResult;
+import br.ifsp.vvts.domain.model.rental.Rental;
+import br.ifsp.vvts.domain.model.rental.RentalStatus;
+import br.ifsp.vvts.domain.useCases.ReturnCarUseCase.PreparedReturn;
+import br.ifsp.vvts.infra.persistence.projection.RentalReturnView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionSystemException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchReturnCarUseCaseTest {
+
+    @Mock
+    private ReturnCarUseCase returnCarUseCase;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private BatchReturnCarUseCase batchReturnCarUseCase;
+
+    private final LocalDate RETURN_DATE = LocalDate.of(2025, 10, 20);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(batchReturnCarUseCase, "chunkSize", 2);
+    }
+
+    private ReturnCarRequest requestFor(long rentalId) {
+        return new ReturnCarRequest(rentalId, RETURN_DATE, false, false);
+    }
+
+    private PreparedReturn prepared(long rentalId) {
+        return new PreparedReturn(new RentalReturnView(rentalId, RETURN_DATE.minusDays(3), RETURN_DATE,
+                BigDecimal.valueOf(300), RentalStatus.ACTIVE, 100.0, null), requestFor(rentalId), BigDecimal.valueOf(300));
+    }
+
+    private void stubReturns() {
+        when(returnCarUseCase.prepare(any(ReturnCarRequest.class)))
+                .thenAnswer(invocation -> prepared(((ReturnCarRequest) invocation.getArgument(0)).rentalId()));
+        when(returnCarUseCase.finish(any(PreparedReturn.class)))
+                .thenAnswer(invocation -> Optional.of(
+                        finishedRental(((PreparedReturn) invocation.getArgument(0)).request().rentalId())));
+    }
+
+    private Rental finishedRental(long rentalId) {
+        Rental rental = new Rental();
+        rental.setId(rentalId);
+        rental.setStatus(RentalStatus.FINISHED);
+        rental.setActualReturnDate(RETURN_DATE);
+        return rental;
+    }
+
+    @Nested
+    @DisplayName("Chunked Processing")
+    class ChunkedProcessing {
+
+        @Test
+        @DisplayName("Should return every car and commit one transaction per chunk")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldCommitOneTransactionPerChunk() {
+            List<ReturnCarRequest> requests = LongStream.rangeClosed(1, 5).mapToObj(id -> requestFor(id)).toList();
+            stubReturns();
+
+            List<ReturnCarResult> results = batchReturnCarUseCase.execute(requests);
+
+            assertThat(results).hasSize(5).allMatch(ReturnCarResult::success);
+            assertThat(results).extracting(ReturnCarResult::rentalId).containsExactly(1L, 2L, 3L, 4L, 5L);
+            verify(transactionManager, times(3)).getTransaction(any());
+            verify(transactionManager, times(3)).commit(any());
+            verify(returnCarUseCase, never()).execute(any());
+        }
+
+        @Test
+        @DisplayName("Should report a failed item without discarding the rest of its chunk")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldReportFailedItemIndividually() {
+            stubReturns();
+            when(returnCarUseCase.prepare(requestFor(2L))).thenThrow(new IllegalStateException("This rental has now ended."));
+
+            List<ReturnCarResult> results = batchReturnCarUseCase.execute(List.of(requestFor(1L), requestFor(2L)));
+
+            assertThat(results.get(0).success()).isTrue();
+            assertThat(results.get(1).success()).isFalse();
+            assertThat(results.get(1).rentalId()).isEqualTo(2L);
+            assertThat(results.get(1).error()).isEqualTo("This rental has now ended.");
+            verify(returnCarUseCase, never()).finish(prepared(2L));
+            verify(transactionManager).commit(any());
+        }
+
+        @Test
+        @DisplayName("Should fail the whole chunk when the database rejects it")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldFailWholeChunkOnDataAccessError() {
+            stubReturns();
+            when(returnCarUseCase.finish(prepared(2L))).thenThrow(new DataIntegrityViolationException("locked"));
+
+            List<ReturnCarResult> results = batchReturnCarUseCase.execute(
+                    List.of(requestFor(1L), requestFor(2L), requestFor(3L)));
+
+            assertThat(results).extracting(ReturnCarResult::success).containsExactly(false, false, true);
+            assertThat(results.get(0).error()).isEqualTo("The batch could not be committed.");
+            verify(transactionManager).rollback(any());
+            verify(transactionManager).commit(any());
+        }
+
+        @Test
+        @DisplayName("Should keep committed chunks when a later commit fails")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldKeepCommittedChunksWhenCommitFails() {
+            stubReturns();
+            doNothing().doThrow(new TransactionSystemException("Could not commit JPA transaction"))
+                    .when(transactionManager).commit(any());
+
+            List<ReturnCarResult> results = batchReturnCarUseCase.execute(
+                    LongStream.rangeClosed(1, 4).mapToObj(id -> requestFor(id)).toList());
+
+            assertThat(results).extracting(ReturnCarResult::rentalId).containsExactly(1L, 2L, 3L, 4L);
+            assertThat(results).extracting(ReturnCarResult::success).containsExactly(true, true, false, false);
+            assertThat(results.get(3).error()).isEqualTo("The batch could not be committed.");
+        }
+
+        @Test
+        @DisplayName("Should report an item whose rental ended meanwhile without failing its chunk")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldReportItemAlreadyFinished() {
+            stubReturns();
+            when(returnCarUseCase.finish(prepared(1L))).thenReturn(Optional.empty());
+
+            List<ReturnCarResult> results = batchReturnCarUseCase.execute(List.of(requestFor(1L), requestFor(2L)));
+
+            assertThat(results).extracting(ReturnCarResult::success).containsExactly(false, true);
+            assertThat(results.get(0).error()).isEqualTo("This rental has now ended.");
+            verify(transactionManager).commit(any());
+        }
+
+        @Test
+        @DisplayName("Should roll back the whole chunk when an item fails after writing")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldRollBackChunkWhenItemFailsAfterWriting() {
+            stubReturns();
+            when(returnCarUseCase.finish(prepared(1L))).thenThrow(new IllegalStateException("listener failed"));
+
+            List<ReturnCarResult> results = batchReturnCarUseCase.execute(List.of(requestFor(1L), requestFor(2L)));
+
+            assertThat(results).extracting(ReturnCarResult::success).containsExactly(false, false);
+            assertThat(results.get(0).error()).isEqualTo("The batch could not be committed.");
+            verify(transactionManager).rollback(any());
+            verify(transactionManager, never()).commit(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalid Batches")
+    class InvalidBatches {
+
+        @Test
+        @DisplayName("Should reject a null list of requests")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectNullRequests() {
+            assertThatThrownBy(() -> batchReturnCarUseCase.execute(null))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessage("The return requests cannot be null.");
+
+            verifyNoInteractions(returnCarUseCase, transactionManager);
+        }
+
+        @Test
+        @DisplayName("Should not open a transaction for an empty batch")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldNotOpenTransactionForEmptyBatch() {
+            List<ReturnCarResult> results = batchReturnCarUseCase.execute(Collections.emptyList());
+
+            assertThat(results).isEmpty();
+            verifyNoInteractions(returnCarUseCase, transactionManager);
+        }
+    }
+}
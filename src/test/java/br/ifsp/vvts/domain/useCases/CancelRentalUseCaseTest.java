@@ -0,0 +1,113 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.event.RentalCanceled;
+import br.ifsp.vvts.domain.model.rental.Rental;
+import br.ifsp.vvts.domain.model.rental.RentalStatus;
+import br.ifsp.vvts.infra.persistence.mapper.RentalMapper;
+import br.ifsp.vvts.infra.persistence.projection.RentalView;
+import br.ifsp.vvts.infra.persistence.repository.RentalRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CancelRentalUseCaseTest {
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @Mock
+    private RentalMapper rentalMapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private CancelRentalUseCase cancelRentalUseCase;
+
+    private final LocalDate START = LocalDate.of(2025, 10, 6);
+
+    private RentalView viewWithStatus(RentalStatus status) {
+        return new RentalView(1L, "John Doe", "12345678909", "ABC1D23", "Nissan", "March", 100.0,
+                START, START.plusDays(3), new BigDecimal("300.00"), status, null, null, null);
+    }
+
+    @Nested
+    @DisplayName("Cancellation")
+    class Cancellation {
+
+        @Test
+        @DisplayName("Should cancel an active rental and release its period")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldCancelActiveRental() {
+            Rental canceled = new Rental();
+            canceled.setStatus(RentalStatus.CANCELED);
+            when(rentalRepository.findViewById(1L))
+                    .thenReturn(Optional.of(viewWithStatus(RentalStatus.ACTIVE)))
+                    .thenReturn(Optional.of(viewWithStatus(RentalStatus.CANCELED)));
+            when(rentalRepository.cancelIfActive(1L)).thenReturn(1);
+            when(rentalMapper.fromView(any())).thenReturn(canceled);
+
+            Optional<Rental> result = cancelRentalUseCase.execute(1L);
+
+            assertThat(result).containsSame(canceled);
+            verify(eventPublisher).publishEvent(
+                    new RentalCanceled(1L, "ABC1D23", "Nissan", "March", START, START.plusDays(3)));
+        }
+
+        @Test
+        @DisplayName("Should return empty for a non-existent rental")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldReturnEmptyForMissingRental() {
+            when(rentalRepository.findViewById(1L)).thenReturn(Optional.empty());
+
+            assertThat(cancelRentalUseCase.execute(1L)).isEmpty();
+            verify(rentalRepository, never()).cancelIfActive(any());
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Should refuse to cancel a finished rental")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRefuseFinishedRental() {
+            when(rentalRepository.findViewById(1L)).thenReturn(Optional.of(viewWithStatus(RentalStatus.FINISHED)));
+
+            assertThatThrownBy(() -> cancelRentalUseCase.execute(1L))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Only active rentals can be canceled.");
+            verify(rentalRepository, never()).cancelIfActive(any());
+        }
+
+        @Test
+        @DisplayName("Should refuse when a concurrent change ended the rental first")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldRefuseWhenConditionalUpdateMatchesNothing() {
+            when(rentalRepository.findViewById(1L)).thenReturn(Optional.of(viewWithStatus(RentalStatus.ACTIVE)));
+            when(rentalRepository.cancelIfActive(1L)).thenReturn(0);
+
+            assertThatThrownBy(() -> cancelRentalUseCase.execute(1L))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Only active rentals can be canceled.");
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.event.MaintenanceScheduled;
+import br.ifsp.vvts.domain.event.RentalCreated;
+import br.ifsp.vvts.infra.persistence.repository.RentalRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CarAvailabilityTest {
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @InjectMocks
+    private CarAvailability carAvailability;
+
+    private final String PLATE = "ABC1D23";
+    private final LocalDate START = LocalDate.of(2025, 10, 20);
+    private final LocalDate END = LocalDate.of(2025, 10, 25);
+
+    @Nested
+    @DisplayName("Checking")
+    class Checking {
+
+        @Test
+        @DisplayName("Should answer with the repository result")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldAnswerWithRepositoryResult() {
+            when(rentalRepository.existsByCarLicensePlateAndPeriodOverlaps(PLATE, START, END)).thenReturn(true);
+
+            assertThat(carAvailability.isBooked(PLATE, START, END)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should not join a check started before the car became busy")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldNotJoinCheckStartedBeforeWrite() throws Exception {
+            CountDownLatch checking = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            when(rentalRepository.existsByCarLicensePlateAndPeriodOverlaps(PLATE, START, END))
+                    .thenAnswer(invocation -> {
+                        checking.countDown();
+                        release.await(5, TimeUnit.SECONDS);
+                        return false;
+                    })
+                    .thenReturn(true);
+            CompletableFuture<Boolean> stale = CompletableFuture.supplyAsync(() -> carAvailability.isBooked(PLATE, START, END));
+            assertThat(checking.await(5, TimeUnit.SECONDS)).isTrue();
+
+            carAvailability.onRentalEvent(new RentalCreated(1L, PLATE, "Toyota", "Corolla", START, END));
+            boolean fresh = carAvailability.isBooked(PLATE, START, END);
+            release.countDown();
+
+            assertThat(fresh).isTrue();
+            assertThat(stale.get(5, TimeUnit.SECONDS)).isFalse();
+            assertThat(carAvailability.sharedChecks()).isZero();
+            verify(rentalRepository, times(2)).existsByCarLicensePlateAndPeriodOverlaps(PLATE, START, END);
+        }
+
+        @Test
+        @DisplayName("Should check again after maintenance is scheduled for the car")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldCheckAgainAfterMaintenanceScheduled() throws Exception {
+            CountDownLatch checking = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            when(rentalRepository.existsByCarLicensePlateAndPeriodOverlaps(PLATE, START, END))
+                    .thenAnswer(invocation -> {
+                        checking.countDown();
+                        release.await(5, TimeUnit.SECONDS);
+                        return false;
+                    })
+                    .thenReturn(true);
+            CompletableFuture<Boolean> stale = CompletableFuture.supplyAsync(() -> carAvailability.isBooked(PLATE, START, END));
+            assertThat(checking.await(5, TimeUnit.SECONDS)).isTrue();
+
+            carAvailability.onMaintenanceScheduled(new MaintenanceScheduled(PLATE));
+            boolean fresh = carAvailability.isBooked(PLATE, START, END);
+            release.countDown();
+
+            assertThat(fresh).isTrue();
+            assertThat(stale.get(5, TimeUnit.SECONDS)).isFalse();
+        }
+    }
+}
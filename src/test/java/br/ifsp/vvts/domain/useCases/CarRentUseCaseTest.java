@@ -1,5 +1,7 @@
 package br.ifsp.vvts.domain.useCases;
 
+import br.ifsp.vvts.domain.event.HoldConverted;
+import br.ifsp.vvts.domain.model.booking.Hold;
 import br.ifsp.vvts.domain.model.car.Car;
 import br.ifsp.vvts.domain.model.car.LicensePlate;
 import br.ifsp.vvts.domain.model.customer.CPF;
@@ -19,6 +21,7 @@ import br.ifsp.vvts.infra.persistence.mapper.CustomerMapper;
 import br.ifsp.vvts.infra.persistence.repository.CarRepository;
 import br.ifsp.vvts.infra.persistence.repository.CustomerRepository;
 import br.ifsp.vvts.infra.persistence.repository.RentalRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -28,15 +31,20 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -59,6 +67,14 @@ class CarRentUseCaseTest {
     private CarMapper carMapper;
     @Mock
     private ManageRentalUseCase manageRentalUseCase;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private FleetSchedule fleetSchedule = new FleetSchedule();
+
+    @Spy
+    private ReservationHolds reservationHolds = new ReservationHolds(300_000, 1_000, 64, event -> {});
 
     @InjectMocks
     private CarRentUseCase carRentUseCase;
@@ -205,7 +221,7 @@ class CarRentUseCaseTest {
                     .hasMessage("Customer not found.");
 
             verify(carRepository, never()).findByLicensePlate(anyString());
-            verify(manageRentalUseCase, never()).createRental(any(), any(), any(), any());
+            verify(manageRentalUseCase, never()).createRental(any(), any(), any(), any(), anyBoolean(), any());
         }
 
         @Test
@@ -222,7 +238,7 @@ class CarRentUseCaseTest {
 
             verify(customerRepository, times(1)).findByCpfNumber(anyString());
             verify(carRepository, times(1)).findByLicensePlate(anyString());
-            verify(manageRentalUseCase, never()).createRental(any(), any(), any(), any());
+            verify(manageRentalUseCase, never()).createRental(any(), any(), any(), any(), anyBoolean(), any());
         }
 
         @Test
@@ -239,7 +255,7 @@ class CarRentUseCaseTest {
                     .isInstanceOf(CarUnavailableException.class)
                     .hasMessage("Car unavailable for the requested period.");
 
-            verify(manageRentalUseCase, never()).createRental(any(), any(), any(), any());
+            verify(manageRentalUseCase, never()).createRental(any(), any(), any(), any(), anyBoolean(), any());
         }
     }
 
@@ -256,8 +272,8 @@ class CarRentUseCaseTest {
             when(carRepository.findByLicensePlate(LicensePlate.of(validPlate).value())).thenReturn(Optional.of(existingCar));
             when(carMapper.toDomain(existingCar)).thenReturn(carDomain);
             when(rentalRepository.existsByCarLicensePlateAndPeriodOverlaps(any(), any(), any())).thenReturn(false);
-            when(pricingService.calculateTotalPrice(any(Car.class), any(RentalPeriod.class), eq(false))).thenReturn(BigDecimal.TEN);
-            when(manageRentalUseCase.createRental(any(), any(), any(), any())).thenReturn(buildMockRental(BigDecimal.TEN));
+            when(pricingService.calculateBranchPrice(any(Car.class), any(RentalPeriod.class), eq(false), any())).thenReturn(BigDecimal.TEN);
+            when(manageRentalUseCase.createRental(any(), any(), any(), any(), anyBoolean(), any())).thenReturn(buildMockRental(BigDecimal.TEN));
 
             Rental result = carRentUseCase.execute(validPlate, validCpf, today, inFiveDays, false);
 
@@ -265,7 +281,7 @@ class CarRentUseCaseTest {
             assertThat(result.getCar().licensePlate().value()).isEqualTo(validPlate);
             assertThat(result.getCustomer().cpf().toString()).isEqualTo(validCpf);
             assertThat(result.getTotalPrice()).isEqualByComparingTo(BigDecimal.TEN);
-            verify(manageRentalUseCase, times(1)).createRental(any(), any(), any(), any());
+            verify(manageRentalUseCase, times(1)).createRental(any(), any(), any(), any(), anyBoolean(), any());
         }
 
         @Test
@@ -277,15 +293,15 @@ class CarRentUseCaseTest {
             when(carRepository.findByLicensePlate(LicensePlate.of(validPlate).value())).thenReturn(Optional.of(existingCar));
             when(carMapper.toDomain(existingCar)).thenReturn(carDomain);
             when(rentalRepository.existsByCarLicensePlateAndPeriodOverlaps(any(), any(), any())).thenReturn(false);
-            when(pricingService.calculateTotalPrice(any(Car.class), any(RentalPeriod.class), eq(false)))
+            when(pricingService.calculateBranchPrice(any(Car.class), any(RentalPeriod.class), eq(false), any()))
                     .thenReturn(BigDecimal.valueOf(500.0));
-            when(manageRentalUseCase.createRental(any(), any(), any(), any())).thenReturn(buildMockRental(BigDecimal.valueOf(500.0)));
+            when(manageRentalUseCase.createRental(any(), any(), any(), any(), anyBoolean(), any())).thenReturn(buildMockRental(BigDecimal.valueOf(500.0)));
 
             Rental result = carRentUseCase.execute(validPlate, validCpf, today, today.plusDays(5), false);
 
             assertThat(result).isNotNull();
             assertThat(result.getTotalPrice()).isEqualByComparingTo(BigDecimal.valueOf(500.0));
-            verify(manageRentalUseCase, times(1)).createRental(any(), any(), any(), any());
+            verify(manageRentalUseCase, times(1)).createRental(any(), any(), any(), any(), anyBoolean(), any());
         }
 
         @Test
@@ -298,15 +314,15 @@ class CarRentUseCaseTest {
             when(carRepository.findByLicensePlate(LicensePlate.of(validPlate).value())).thenReturn(Optional.of(existingCar));
             when(carMapper.toDomain(existingCar)).thenReturn(carDomain);
             when(rentalRepository.existsByCarLicensePlateAndPeriodOverlaps(any(), any(), any())).thenReturn(false);
-            when(pricingService.calculateTotalPrice(any(Car.class), any(RentalPeriod.class), eq(false)))
+            when(pricingService.calculateBranchPrice(any(Car.class), any(RentalPeriod.class), eq(false), any()))
                     .thenReturn(BigDecimal.valueOf(760.0));
-            when(manageRentalUseCase.createRental(any(), any(), any(), any())).thenReturn(buildMockRental(BigDecimal.valueOf(760.0)));
+            when(manageRentalUseCase.createRental(any(), any(), any(), any(), anyBoolean(), any())).thenReturn(buildMockRental(BigDecimal.valueOf(760.0)));
 
             Rental result = carRentUseCase.execute(validPlate, validCpf, today, endDate, false);
 
             assertThat(result).isNotNull();
             assertThat(result.getTotalPrice()).isEqualByComparingTo(BigDecimal.valueOf(760.0));
-            verify(manageRentalUseCase, times(1)).createRental(any(), any(), any(), any());
+            verify(manageRentalUseCase, times(1)).createRental(any(), any(), any(), any(), anyBoolean(), any());
         }
 
         @Test
@@ -319,15 +335,15 @@ class CarRentUseCaseTest {
             when(carRepository.findByLicensePlate(LicensePlate.of(validPlate).value())).thenReturn(Optional.of(existingCar));
             when(carMapper.toDomain(existingCar)).thenReturn(carDomain);
             when(rentalRepository.existsByCarLicensePlateAndPeriodOverlaps(any(), any(), any())).thenReturn(false);
-            when(pricingService.calculateTotalPrice(any(Car.class), any(RentalPeriod.class), eq(false)))
+            when(pricingService.calculateBranchPrice(any(Car.class), any(RentalPeriod.class), eq(false), any()))
                     .thenReturn(BigDecimal.valueOf(1350.0));
-            when(manageRentalUseCase.createRental(any(), any(), any(), any())).thenReturn(buildMockRental(BigDecimal.valueOf(1350.0)));
+            when(manageRentalUseCase.createRental(any(), any(), any(), any(), anyBoolean(), any())).thenReturn(buildMockRental(BigDecimal.valueOf(1350.0)));
 
             Rental result = carRentUseCase.execute(validPlate, validCpf, today, endDate, false);
 
             assertThat(result).isNotNull();
             assertThat(result.getTotalPrice()).isEqualByComparingTo(BigDecimal.valueOf(1350.0));
-            verify(manageRentalUseCase, times(1)).createRental(any(), any(), any(), any());
+            verify(manageRentalUseCase, times(1)).createRental(any(), any(), any(), any(), anyBoolean(), any());
         }
 
         @Test
@@ -341,15 +357,15 @@ class CarRentUseCaseTest {
             when(carRepository.findByLicensePlate(LicensePlate.of(validPlate).value())).thenReturn(Optional.of(existingCar));
             when(carMapper.toDomain(existingCar)).thenReturn(carDomain);
             when(rentalRepository.existsByCarLicensePlateAndPeriodOverlaps(any(), any(), any())).thenReturn(false);
-            when(pricingService.calculateTotalPrice(any(Car.class), any(RentalPeriod.class), eq(false)))
+            when(pricingService.calculateBranchPrice(any(Car.class), any(RentalPeriod.class), eq(false), any()))
                     .thenReturn(BigDecimal.valueOf(312.0));
-            when(manageRentalUseCase.createRental(any(), any(), any(), any())).thenReturn(buildMockRental(BigDecimal.valueOf(312.0)));
+            when(manageRentalUseCase.createRental(any(), any(), any(), any(), anyBoolean(), any())).thenReturn(buildMockRental(BigDecimal.valueOf(312.0)));
 
             Rental result = carRentUseCase.execute(validPlate, validCpf, startDate, endDate, false);
 
             assertThat(result).isNotNull();
             assertThat(result.getTotalPrice()).isEqualByComparingTo(BigDecimal.valueOf(312.0));
-            verify(manageRentalUseCase, times(1)).createRental(any(), any(), any(), any());
+            verify(manageRentalUseCase, times(1)).createRental(any(), any(), any(), any(), anyBoolean(), any());
         }
 
         @Test
@@ -362,15 +378,178 @@ class CarRentUseCaseTest {
             when(carRepository.findByLicensePlate(LicensePlate.of(validPlate).value())).thenReturn(Optional.of(existingCar));
             when(carMapper.toDomain(existingCar)).thenReturn(carDomain);
             when(rentalRepository.existsByCarLicensePlateAndPeriodOverlaps(any(), any(), any())).thenReturn(false);
-            when(pricingService.calculateTotalPrice(any(Car.class), any(RentalPeriod.class), eq(true)))
+            when(pricingService.calculateBranchPrice(any(Car.class), any(RentalPeriod.class), eq(true), any()))
                     .thenReturn(BigDecimal.valueOf(220.0));
-            when(manageRentalUseCase.createRental(any(), any(), any(), any())).thenReturn(buildMockRental(BigDecimal.valueOf(220.0)));
+            when(manageRentalUseCase.createRental(any(), any(), any(), any(), anyBoolean(), any())).thenReturn(buildMockRental(BigDecimal.valueOf(220.0)));
 
             Rental result = carRentUseCase.execute(validPlate, validCpf, today, endDate, true);
 
             assertThat(result).isNotNull();
             assertThat(result.getTotalPrice()).isEqualByComparingTo(BigDecimal.valueOf(220.0));
-            verify(manageRentalUseCase, times(1)).createRental(any(), any(), any(), any());
+            verify(manageRentalUseCase, times(1)).createRental(any(), any(), any(), any(), eq(true), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Class Booking")
+    class ClassBooking {
+
+        private final String otherPlate = "XYZ9W87";
+        private final CarEntity otherCar = new CarEntity(2L, new LicensePlateEmbeddable(otherPlate), "Nissan", "March", 100);
+
+        @BeforeEach
+        void setUp() {
+            fleetSchedule.addCar(validPlate, "Nissan", "March");
+            fleetSchedule.addCar(otherPlate, "Nissan", "March");
+            fleetSchedule.book(otherPlate, today.minusDays(3), today);
+        }
+
+        @Test
+        @DisplayName("Should assign the car whose free time the booking fits most tightly")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldAssignBestFittingCar() {
+            when(customerRepository.findByCpfNumber(CPF.of(validCpf).unformat())).thenReturn(Optional.of(existingCustomer));
+            when(carRepository.findByLicensePlate(otherPlate)).thenReturn(Optional.of(otherCar));
+            when(carMapper.toDomain(otherCar)).thenReturn(new Car(LicensePlate.of(otherPlate), "Nissan", "March", 100));
+            when(pricingService.calculateBranchPrice(any(Car.class), any(RentalPeriod.class), eq(false), any())).thenReturn(BigDecimal.TEN);
+            when(manageRentalUseCase.createRental(any(), any(), any(), any(), anyBoolean(), any())).thenReturn(buildMockRental(BigDecimal.TEN));
+
+            carRentUseCase.executeForClass("nissan", "march", validCpf, today, inFiveDays, false);
+
+            verify(manageRentalUseCase).createRental(eq(existingCustomer), eq(otherCar), any(), eq(BigDecimal.TEN), eq(false), any());
+        }
+
+        @Test
+        @DisplayName("Should fall back to the next car when the database reports a conflict")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldFallBackWhenDatabaseReportsConflict() {
+            when(customerRepository.findByCpfNumber(CPF.of(validCpf).unformat())).thenReturn(Optional.of(existingCustomer));
+            when(rentalRepository.existsByCarLicensePlateAndPeriodOverlaps(otherPlate, today, inFiveDays)).thenReturn(true);
+            when(carRepository.findByLicensePlate(validPlate)).thenReturn(Optional.of(existingCar));
+            when(carMapper.toDomain(existingCar)).thenReturn(carDomain);
+            when(pricingService.calculateBranchPrice(any(Car.class), any(RentalPeriod.class), eq(false), any())).thenReturn(BigDecimal.TEN);
+            when(manageRentalUseCase.createRental(any(), any(), any(), any(), anyBoolean(), any())).thenReturn(buildMockRental(BigDecimal.TEN));
+
+            carRentUseCase.executeForClass("Nissan", "March", validCpf, today, inFiveDays, false);
+
+            verify(manageRentalUseCase).createRental(eq(existingCustomer), eq(existingCar), any(), eq(BigDecimal.TEN), eq(false), any());
+        }
+
+        @Test
+        @DisplayName("Should reject the booking when every car of the class is taken")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectWhenClassIsFullyBooked() {
+            fleetSchedule.book(validPlate, today.plusDays(1), today.plusDays(2));
+            fleetSchedule.book(otherPlate, today.plusDays(4), today.plusDays(6));
+            when(customerRepository.findByCpfNumber(CPF.of(validCpf).unformat())).thenReturn(Optional.of(existingCustomer));
+
+            assertThatThrownBy(() -> carRentUseCase.executeForClass("Nissan", "March", validCpf, today, inFiveDays, false))
+                    .isInstanceOf(CarUnavailableException.class)
+                    .hasMessage("No car of this class is available for the requested period.");
+            verify(manageRentalUseCase, never()).createRental(any(), any(), any(), any(), anyBoolean(), any());
+        }
+
+        @Test
+        @DisplayName("Should reject a class without cars")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectUnknownClass() {
+            when(customerRepository.findByCpfNumber(CPF.of(validCpf).unformat())).thenReturn(Optional.of(existingCustomer));
+
+            assertThatThrownBy(() -> carRentUseCase.executeForClass("Fiat", "Uno", validCpf, today, inFiveDays, false))
+                    .isInstanceOf(CarNotFoundException.class)
+                    .hasMessage("No car of this class was found.");
+        }
+    }
+
+    @Nested
+    @DisplayName("Reservation Holds")
+    class ReservationHoldCases {
+
+        private final RentalPeriod period = new RentalPeriod(today, inFiveDays);
+        private final String ownCpf = CPF.of(validCpf).unformat();
+
+        private void stubCustomerAndCar() {
+            when(customerRepository.findByCpfNumber(ownCpf)).thenReturn(Optional.of(existingCustomer));
+            when(carRepository.findByLicensePlate(validPlate)).thenReturn(Optional.of(existingCar));
+            when(carMapper.toDomain(existingCar)).thenReturn(carDomain);
+        }
+
+        @Test
+        @DisplayName("Should refuse a car held by another customer")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRefuseCarHeldByAnotherCustomer() {
+            stubCustomerAndCar();
+            reservationHolds.place(validPlate, "52998224725", period, Instant.now());
+
+            assertThatThrownBy(() -> carRentUseCase.execute(validPlate, validCpf, today, inFiveDays, false))
+                    .isInstanceOf(CarUnavailableException.class)
+                    .hasMessage("Car unavailable for the requested period.");
+            verify(manageRentalUseCase, never()).createRental(any(), any(), any(), any(), anyBoolean(), any());
+        }
+
+        @Test
+        @DisplayName("Should convert the customer's own hold into the rental and release it only after commit")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldConvertOwnHold() {
+            stubCustomerAndCar();
+            Hold hold = reservationHolds.place(validPlate, ownCpf, period, Instant.now()).orElseThrow();
+            when(pricingService.calculateBranchPrice(any(Car.class), any(RentalPeriod.class), eq(false), any())).thenReturn(BigDecimal.TEN);
+            when(manageRentalUseCase.createRental(any(), any(), any(), any(), anyBoolean(), any())).thenReturn(buildMockRental(BigDecimal.TEN));
+
+            carRentUseCase.execute(validPlate, validCpf, today, inFiveDays, false, hold.id());
+
+            verify(manageRentalUseCase).createRental(any(), any(), any(), any(), anyBoolean(), any());
+            verify(eventPublisher).publishEvent(new HoldConverted(hold.id()));
+            verify(reservationHolds, never()).release(any());
+        }
+
+        @Test
+        @DisplayName("Should refuse a hold placed for another customer")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRefuseHoldOfAnotherCustomer() {
+            Hold hold = reservationHolds.place(validPlate, "52998224725", period, Instant.now()).orElseThrow();
+
+            assertThatThrownBy(() -> carRentUseCase.execute(validPlate, validCpf, today, inFiveDays, false, hold.id()))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("The hold belongs to another customer.");
+            verifyNoInteractions(manageRentalUseCase, eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Should refuse a hold for another car or period")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRefuseHoldForAnotherCarOrPeriod() {
+            Hold otherCar = reservationHolds.place("XYZ9K88", ownCpf, period, Instant.now()).orElseThrow();
+            Hold shorter = reservationHolds.place(validPlate, ownCpf, new RentalPeriod(today, today.plusDays(2)),
+                    Instant.now()).orElseThrow();
+
+            assertThatThrownBy(() -> carRentUseCase.execute(validPlate, validCpf, today, inFiveDays, false, otherCar.id()))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("The hold does not match the requested car and period.");
+            assertThatThrownBy(() -> carRentUseCase.execute(validPlate, validCpf, today, inFiveDays, false, shorter.id()))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("The hold does not match the requested car and period.");
+            verifyNoInteractions(manageRentalUseCase, eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Should refuse a hold that no longer exists")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldRefuseUnknownHold() {
+            assertThatThrownBy(() -> carRentUseCase.execute(validPlate, validCpf, today, inFiveDays, false,
+                    UUID.randomUUID()))
+                    .isInstanceOf(CarUnavailableException.class)
+                    .hasMessage("The hold has expired or does not exist.");
+            verifyNoInteractions(manageRentalUseCase, eventPublisher);
         }
     }
-}
\ No newline at end of file
+}
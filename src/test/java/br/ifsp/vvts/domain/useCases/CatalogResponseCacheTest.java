@@ -0,0 +1,169 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.event.CatalogChanged;
+import br.ifsp.vvts.domain.model.catalog.Catalog;
+import br.ifsp.vvts.domain.useCases.CatalogResponseCache.SerializedResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatalogResponseCacheTest {
+
+    private final CatalogVersions catalogVersions = new CatalogVersions();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private CatalogResponseCache cache(int capacity, int gzipMinBytes) {
+        return new CatalogResponseCache(catalogVersions, new ObjectMapper(), capacity, gzipMinBytes);
+    }
+
+    private Object load(Object value) {
+        loads.incrementAndGet();
+        return value;
+    }
+
+    @Nested
+    @DisplayName("Invalidation")
+    class Invalidation {
+
+        @Test
+        @DisplayName("Should serve the same bytes until the catalog changes")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldServeSameBytesUntilCatalogChanges() {
+            var cache = cache(10, 1024);
+
+            SerializedResponse first = cache.get(Catalog.CARS, "", () -> load(Map.of("model", "March"))).orElseThrow();
+            SerializedResponse second = cache.get(Catalog.CARS, "", () -> load(Map.of("model", "Kicks"))).orElseThrow();
+            catalogVersions.onCatalogChanged(new CatalogChanged(Catalog.CARS));
+            SerializedResponse third = cache.get(Catalog.CARS, "", () -> load(Map.of("model", "Kicks"))).orElseThrow();
+
+            assertThat(second).isSameAs(first);
+            assertThat(new String(first.json())).isEqualTo("{\"model\":\"March\"}");
+            assertThat(new String(third.json())).isEqualTo("{\"model\":\"Kicks\"}");
+            assertThat(third.etag(false)).isNotEqualTo(first.etag(false));
+            assertThat(loads).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Should keep other catalogs cached when one changes")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldKeepOtherCatalogsCached() {
+            var cache = cache(10, 1024);
+            cache.get(Catalog.CUSTOMERS, "", () -> load(List.of()));
+
+            catalogVersions.onCatalogChanged(new CatalogChanged(Catalog.CARS));
+            cache.get(Catalog.CUSTOMERS, "", () -> load(List.of()));
+
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("Should not cache a missing item")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldNotCacheMissingItem() {
+            var cache = cache(10, 1024);
+
+            assertThat(cache.get(Catalog.CARS, "ABC1D23", () -> load(null))).isEmpty();
+            assertThat(cache.get(Catalog.CARS, "ABC1D23", () -> load(null))).isEmpty();
+            assertThat(loads).hasValue(2);
+            assertThat(cache.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should tag each item apart from the list and from other items")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldTagEachItemApart() {
+            var cache = cache(10, 1024);
+
+            SerializedResponse list = cache.get(Catalog.CARS, "", () -> List.of()).orElseThrow();
+            SerializedResponse car = cache.get(Catalog.CARS, "ABC1D23", () -> Map.of()).orElseThrow();
+            SerializedResponse other = cache.get(Catalog.CARS, "BRA2E19", () -> Map.of()).orElseThrow();
+
+            assertThat(car.etag(false)).isNotEqualTo(list.etag(false)).isNotEqualTo(other.etag(false));
+            assertThat(car.tag()).isEqualTo(catalogVersions.tag(Catalog.CARS, "ABC1D23", 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Encoding")
+    class Encoding {
+
+        @Test
+        @DisplayName("Should keep a gzip copy that inflates to the JSON")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldKeepGzipCopy() throws IOException {
+            var cache = cache(10, 64);
+
+            SerializedResponse response = cache.get(Catalog.CARS, "",
+                    () -> Collections.nCopies(50, Map.of("brand", "Nissan"))).orElseThrow();
+
+            assertThat(response.gzip()).isNotNull().hasSizeLessThan(response.json().length);
+            try (var inflated = new GZIPInputStream(new ByteArrayInputStream(response.gzip()))) {
+                assertThat(inflated.readAllBytes()).isEqualTo(response.json());
+            }
+            assertThat(response.etag(true)).isNotEqualTo(response.etag(false)).endsWith("-gzip\"");
+        }
+
+        @Test
+        @DisplayName("Should not compress small responses")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldNotCompressSmallResponses() {
+            var cache = cache(10, 1024);
+
+            SerializedResponse response = cache.get(Catalog.CARS, "", () -> Map.of("brand", "Nissan")).orElseThrow();
+
+            assertThat(response.gzip()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Capacity")
+    class Capacity {
+
+        @Test
+        @DisplayName("Should evict the least recently used entry")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldEvictLeastRecentlyUsed() {
+            var cache = cache(2, 1024);
+            cache.get(Catalog.CARS, "A", () -> load("a"));
+            cache.get(Catalog.CARS, "B", () -> load("b"));
+            cache.get(Catalog.CARS, "A", () -> load("a"));
+            cache.get(Catalog.CARS, "C", () -> load("c"));
+
+            cache.get(Catalog.CARS, "A", () -> load("a"));
+            cache.get(Catalog.CARS, "B", () -> load("b"));
+
+            assertThat(loads).hasValue(4);
+            assertThat(cache.size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should reject a negative capacity")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectNegativeCapacity() {
+            assertThatThrownBy(() -> cache(-1, 1024))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("The response cache capacity cannot be negative.");
+        }
+    }
+}
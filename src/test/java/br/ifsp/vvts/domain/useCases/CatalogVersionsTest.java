@@ -0,0 +1,54 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.event.CatalogChanged;
+import br.ifsp.vvts.domain.model.catalog.Catalog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogVersionsTest {
+
+    private final CatalogVersions catalogVersions = new CatalogVersions();
+
+    @Test
+    @DisplayName("Should change only the ETag of the catalog that was written")
+    @Tag("UnitTest")
+    @Tag("Functional")
+    void shouldChangeOnlyWrittenCatalog() {
+        String cars = catalogVersions.etag(Catalog.CARS);
+        String customers = catalogVersions.etag(Catalog.CUSTOMERS);
+
+        catalogVersions.onCatalogChanged(new CatalogChanged(Catalog.CARS));
+
+        assertThat(catalogVersions.etag(Catalog.CARS)).isNotEqualTo(cars);
+        assertThat(catalogVersions.etag(Catalog.CUSTOMERS)).isEqualTo(customers);
+        assertThat(catalogVersions.version(Catalog.CARS)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not repeat ETags across instances")
+    @Tag("UnitTest")
+    @Tag("Structural")
+    void shouldNotRepeatEtagsAcrossInstances() {
+        String etag = catalogVersions.etag(Catalog.CARS);
+
+        assertThat(etag).startsWith("\"cars-").endsWith("-0\"");
+        assertThat(new CatalogVersions().etag(Catalog.CARS)).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("Should give each item a tag of its own")
+    @Tag("UnitTest")
+    @Tag("Functional")
+    void shouldGiveEachItemOwnTag() {
+        String list = catalogVersions.tag(Catalog.CARS, "", 0);
+        String car = catalogVersions.tag(Catalog.CARS, "ABC1D23", 0);
+
+        assertThat(catalogVersions.tag(Catalog.CARS, 0)).isEqualTo(list);
+        assertThat(car).startsWith(list + "-").isNotEqualTo(catalogVersions.tag(Catalog.CARS, "BRA2E19", 0));
+        assertThat(catalogVersions.tag(Catalog.CARS, "ABC1D23", 1)).isNotEqualTo(car);
+        assertThat(car).matches("[A-Za-z0-9_-]+");
+    }
+}
@@ -0,0 +1,153 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.model.pricing.PricingRuleBook;
+import br.ifsp.vvts.domain.model.pricing.PricingRuleSet;
+import br.ifsp.vvts.infra.persistence.projection.OverdueRentalView;
+import br.ifsp.vvts.infra.persistence.repository.RentalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DetectOverdueRentalsUseCaseTest {
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private PricingRuleBook pricingRules = PricingRuleBook.defaults();
+
+    @InjectMocks
+    private DetectOverdueRentalsUseCase detectOverdueRentalsUseCase;
+
+    private final LocalDate TODAY = LocalDate.of(2025, 10, 20);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(detectOverdueRentalsUseCase, "pageSize", 2);
+    }
+
+    @Nested
+    @DisplayName("Late Fee Accrual")
+    class LateFeeAccrual {
+
+        @Test
+        @DisplayName("Should accrue extra days plus late penalty for an overdue rental")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldAccrueLateFeeForOverdueRental() {
+            var overdue = new OverdueRentalView(1L, TODAY.minusDays(10), TODAY.minusDays(2), 100.00, null);
+            when(rentalRepository.findOverdueViews(eq(TODAY), any(Pageable.class))).thenReturn(List.of(overdue));
+
+            int updated = detectOverdueRentalsUseCase.execute(TODAY);
+
+            assertThat(updated).isEqualTo(1);
+            verify(rentalRepository).updateAccruedLateFee(eq(1L),
+                    argThat(fee -> fee.compareTo(new BigDecimal("300.00")) == 0));
+        }
+
+        @Test
+        @DisplayName("Should accrue the late penalty of the rental's branch")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldAccrueBranchLatePenalty() {
+            var branchRules = new PricingRuleSet(null, null, null, null, new BigDecimal("1.00"), null, null, null, null);
+            var branchScan = new DetectOverdueRentalsUseCase(rentalRepository, transactionManager,
+                    PricingRuleBook.compile(null, Map.of("SP", branchRules), List.of()));
+            ReflectionTestUtils.setField(branchScan, "pageSize", 2);
+            var overdue = new OverdueRentalView(1L, TODAY.minusDays(10), TODAY.minusDays(2), 100.00, "SP");
+            when(rentalRepository.findOverdueViews(eq(TODAY), any(Pageable.class))).thenReturn(List.of(overdue));
+
+            branchScan.execute(TODAY);
+
+            verify(rentalRepository).updateAccruedLateFee(eq(1L),
+                    argThat(fee -> fee.compareTo(new BigDecimal("400.00")) == 0));
+        }
+
+        @Test
+        @DisplayName("Should charge the same late fee a return on the scan date would add")
+        @Tag("UnitTest")
+        @Tag("Mutation")
+        void shouldMatchReturnLateFeeRules() {
+            BigDecimal lateFee = pricingRules.planFor(null, TODAY).lateFee(BigDecimal.valueOf(150.00), 3);
+
+            assertThat(lateFee).isEqualByComparingTo("675.00");
+        }
+    }
+
+    @Nested
+    @DisplayName("Paged Scanning")
+    class PagedScanning {
+
+        @Test
+        @DisplayName("Should continue from the last rental of a full page")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldContinueFromLastRentalOfFullPage() {
+            var first = new OverdueRentalView(4L, TODAY.minusDays(10), TODAY.minusDays(5), 100.00, null);
+            var second = new OverdueRentalView(2L, TODAY.minusDays(10), TODAY.minusDays(3), 100.00, null);
+            var third = new OverdueRentalView(7L, TODAY.minusDays(10), TODAY.minusDays(1), 100.00, null);
+            when(rentalRepository.findOverdueViews(eq(TODAY), any(Pageable.class))).thenReturn(List.of(first, second));
+            when(rentalRepository.findOverdueViewsAfter(eq(TODAY), eq(second.endDate()), eq(2L), any(Pageable.class)))
+                    .thenReturn(List.of(third));
+
+            int updated = detectOverdueRentalsUseCase.execute(TODAY);
+
+            assertThat(updated).isEqualTo(3);
+            verify(rentalRepository, times(3)).updateAccruedLateFee(any(), any());
+            verify(transactionManager, times(2)).commit(any());
+        }
+
+        @Test
+        @DisplayName("Should stop after an empty page")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldStopAfterEmptyPage() {
+            when(rentalRepository.findOverdueViews(eq(TODAY), any(Pageable.class))).thenReturn(Collections.emptyList());
+
+            int updated = detectOverdueRentalsUseCase.execute(TODAY);
+
+            assertThat(updated).isZero();
+            verify(rentalRepository, never()).updateAccruedLateFee(any(), any());
+            verify(rentalRepository, never()).findOverdueViewsAfter(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should reject a null reference date")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectNullReferenceDate() {
+            assertThatThrownBy(() -> detectOverdueRentalsUseCase.execute(null))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessage("The reference date cannot be null.");
+
+            verifyNoInteractions(rentalRepository, transactionManager);
+        }
+    }
+}
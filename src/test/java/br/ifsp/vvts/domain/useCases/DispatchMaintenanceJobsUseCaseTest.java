@@ -0,0 +1,127 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.model.maintenance.MaintenanceJob;
+import br.ifsp.vvts.domain.model.maintenance.MaintenanceJobStatus;
+import br.ifsp.vvts.domain.model.maintenance.MaintenanceJobType;
+import br.ifsp.vvts.infra.persistence.repository.MaintenanceJobRepository;
+import br.ifsp.vvts.infra.persistence.repository.RentalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DispatchMaintenanceJobsUseCaseTest {
+
+    @Mock
+    private MaintenanceJobRepository maintenanceJobRepository;
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @InjectMocks
+    private DispatchMaintenanceJobsUseCase dispatchMaintenanceJobsUseCase;
+
+    private final LocalDate TODAY = LocalDate.of(2025, 10, 20);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dispatchMaintenanceJobsUseCase, "workers", 2);
+    }
+
+    private MaintenanceJob queued(Long id, LocalDate blockedFrom, int durationDays) {
+        return new MaintenanceJob(id, 1L, "ABC1D23", MaintenanceJobType.MAINTENANCE, MaintenanceJobStatus.QUEUED,
+                durationDays, blockedFrom, blockedFrom.plusDays(durationDays));
+    }
+
+    @Nested
+    @DisplayName("Worker Scheduling")
+    class WorkerScheduling {
+
+        @Test
+        @DisplayName("Should only claim as many jobs as there are free workers")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldClaimUpToFreeWorkers() {
+            when(maintenanceJobRepository.countByStatus(MaintenanceJobStatus.IN_PROGRESS)).thenReturn(1L);
+            when(maintenanceJobRepository.findNextQueued(eq(TODAY), argThat((Pageable page) -> page.getPageSize() == 1)))
+                    .thenReturn(List.of(queued(5L, TODAY, 2)));
+            when(maintenanceJobRepository.startIfQueued(eq(5L), any(), eq(TODAY.plusDays(2)))).thenReturn(1);
+
+            int started = dispatchMaintenanceJobsUseCase.execute(TODAY);
+
+            assertThat(started).isEqualTo(1);
+            verify(maintenanceJobRepository).finishDue(eq(TODAY), any());
+        }
+
+        @Test
+        @DisplayName("Should extend the block of a job that starts later than estimated")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldExtendBlockOfLateJob() {
+            when(maintenanceJobRepository.countByStatus(MaintenanceJobStatus.IN_PROGRESS)).thenReturn(0L);
+            when(maintenanceJobRepository.findNextQueued(eq(TODAY), any(Pageable.class)))
+                    .thenReturn(List.of(queued(5L, TODAY.minusDays(3), 2)));
+
+            dispatchMaintenanceJobsUseCase.execute(TODAY);
+
+            verify(maintenanceJobRepository).startIfQueued(eq(5L), any(), eq(TODAY.plusDays(2)));
+        }
+
+        @Test
+        @DisplayName("Should keep a late job queued when the extra days would overlap a rental")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldKeepLateJobQueuedWhenExtensionOverlapsRental() {
+            when(maintenanceJobRepository.countByStatus(MaintenanceJobStatus.IN_PROGRESS)).thenReturn(0L);
+            when(maintenanceJobRepository.findNextQueued(eq(TODAY), any(Pageable.class)))
+                    .thenReturn(List.of(queued(5L, TODAY.minusDays(1), 2)));
+            when(rentalRepository.findBookedUntil("ABC1D23", TODAY.plusDays(1), TODAY.plusDays(2)))
+                    .thenReturn(Optional.of(TODAY.plusDays(5)));
+
+            assertThat(dispatchMaintenanceJobsUseCase.execute(TODAY)).isZero();
+            verify(maintenanceJobRepository, never()).startIfQueued(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should not look at the queue when every worker is busy")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldSkipQueueWhenWorkersAreBusy() {
+            when(maintenanceJobRepository.countByStatus(MaintenanceJobStatus.IN_PROGRESS)).thenReturn(2L);
+
+            assertThat(dispatchMaintenanceJobsUseCase.execute(TODAY)).isZero();
+            verify(maintenanceJobRepository, never()).findNextQueued(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should reject a null reference date")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectNullReferenceDate() {
+            assertThatThrownBy(() -> dispatchMaintenanceJobsUseCase.execute(null))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessage("The reference date cannot be null.");
+
+            verifyNoInteractions(maintenanceJobRepository);
+        }
+    }
+}
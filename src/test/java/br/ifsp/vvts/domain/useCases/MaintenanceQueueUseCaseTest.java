@@ -0,0 +1,219 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.event.MaintenanceScheduled;
+import br.ifsp.vvts.domain.event.RelayedRentalEvent;
+import br.ifsp.vvts.domain.event.RentalCreated;
+import br.ifsp.vvts.domain.event.RentalReturned;
+import br.ifsp.vvts.domain.model.maintenance.MaintenanceJob;
+import br.ifsp.vvts.domain.model.maintenance.MaintenanceJobStatus;
+import br.ifsp.vvts.domain.model.maintenance.MaintenanceJobType;
+import br.ifsp.vvts.infra.persistence.entity.maintenance.MaintenanceJobEntity;
+import br.ifsp.vvts.infra.persistence.repository.MaintenanceJobRepository;
+import br.ifsp.vvts.infra.persistence.repository.RentalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MaintenanceQueueUseCaseTest {
+
+    @Mock
+    private MaintenanceJobRepository maintenanceJobRepository;
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private MaintenanceQueueUseCase maintenanceQueueUseCase;
+
+    private final String PLATE = "ABC1D23";
+    private final LocalDate RETURN_DATE = LocalDate.of(2025, 10, 20);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(maintenanceQueueUseCase, "maintenanceDays", 2);
+        ReflectionTestUtils.setField(maintenanceQueueUseCase, "cleaningDays", 1);
+    }
+
+    private RelayedRentalEvent returned(boolean needsMaintenance, boolean needsCleaning) {
+        return new RelayedRentalEvent(1L, Instant.now(), new RentalReturned(1L, PLATE, "Nissan", "March",
+                RETURN_DATE.minusDays(3), RETURN_DATE, RETURN_DATE, needsMaintenance, needsCleaning));
+    }
+
+    private List<MaintenanceJobEntity> savedJobs(int count) {
+        ArgumentCaptor<MaintenanceJobEntity> captor = ArgumentCaptor.forClass(MaintenanceJobEntity.class);
+        verify(maintenanceJobRepository, times(count)).save(captor.capture());
+        return captor.getAllValues();
+    }
+
+    @Nested
+    @DisplayName("Enqueueing")
+    class Enqueueing {
+
+        @Test
+        @DisplayName("Should queue maintenance before cleaning, one after the other")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldQueueMaintenanceBeforeCleaning() {
+            when(maintenanceJobRepository.findOpenBlockEnd(PLATE)).thenReturn(Optional.empty());
+
+            maintenanceQueueUseCase.onRentalEvent(returned(true, true));
+
+            List<MaintenanceJobEntity> jobs = savedJobs(2);
+            assertThat(jobs).extracting(MaintenanceJobEntity::getType)
+                    .containsExactly(MaintenanceJobType.MAINTENANCE, MaintenanceJobType.CLEANING);
+            assertThat(jobs).extracting(MaintenanceJobEntity::getStatus).containsOnly(MaintenanceJobStatus.QUEUED);
+            assertThat(jobs.get(0).getBlockedFrom()).isEqualTo(RETURN_DATE);
+            assertThat(jobs.get(0).getBlockedUntil()).isEqualTo(RETURN_DATE.plusDays(2));
+            assertThat(jobs.get(1).getBlockedFrom()).isEqualTo(RETURN_DATE.plusDays(2));
+            assertThat(jobs.get(1).getBlockedUntil()).isEqualTo(RETURN_DATE.plusDays(3));
+            assertThat(jobs.get(0).getPriority()).isLessThan(jobs.get(1).getPriority());
+            verify(eventPublisher).publishEvent(new MaintenanceScheduled(PLATE));
+        }
+
+        @Test
+        @DisplayName("Should not publish anything when no service is requested")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldNotPublishWithoutServices() {
+            maintenanceQueueUseCase.onRentalEvent(returned(false, false));
+
+            maintenanceQueueUseCase.onRentalEvent(new RelayedRentalEvent(2L, Instant.now(),
+                    new RentalCreated(2L, PLATE, "Nissan", "March", RETURN_DATE, RETURN_DATE.plusDays(2))));
+
+            verifyNoInteractions(maintenanceJobRepository, eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Should not queue the services twice when the relay delivers the return again")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldIgnoreRedeliveredReturn() {
+            when(maintenanceJobRepository.existsByRentalId(1L)).thenReturn(true);
+
+            maintenanceQueueUseCase.onRentalEvent(returned(true, true));
+
+            verify(maintenanceJobRepository, never()).save(any());
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Should hand a failed write back to the relay so the return is delivered again")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldPropagateFailedWriteForRetry() {
+            when(maintenanceJobRepository.findOpenBlockEnd(PLATE)).thenReturn(Optional.empty());
+            when(maintenanceJobRepository.save(any()))
+                    .thenThrow(new CannotAcquireLockException("[SQLITE_BUSY] The database file is locked"));
+
+            assertThatThrownBy(() -> maintenanceQueueUseCase.onRentalEvent(returned(true, false)))
+                    .isInstanceOf(CannotAcquireLockException.class);
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Should chain a new job after the car's open jobs")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldChainAfterOpenJobs() {
+            when(maintenanceJobRepository.findOpenBlockEnd(PLATE)).thenReturn(Optional.of(RETURN_DATE.plusDays(4)));
+
+            maintenanceQueueUseCase.onRentalEvent(returned(false, true));
+
+            MaintenanceJobEntity cleaning = savedJobs(1).get(0);
+            assertThat(cleaning.getBlockedFrom()).isEqualTo(RETURN_DATE.plusDays(4));
+            assertThat(cleaning.getBlockedUntil()).isEqualTo(RETURN_DATE.plusDays(5));
+        }
+
+        @Test
+        @DisplayName("Should fit each job after the rentals already booked for the car")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldFitJobsAfterBookedRentals() {
+            when(maintenanceJobRepository.findOpenBlockEnd(PLATE)).thenReturn(Optional.empty());
+            when(rentalRepository.findBookedUntil(eq(PLATE), any(), any())).thenReturn(Optional.empty());
+            when(rentalRepository.findBookedUntil(PLATE, RETURN_DATE, RETURN_DATE.plusDays(2)))
+                    .thenReturn(Optional.of(RETURN_DATE.plusDays(4)));
+            when(rentalRepository.findBookedUntil(PLATE, RETURN_DATE.plusDays(6), RETURN_DATE.plusDays(7)))
+                    .thenReturn(Optional.of(RETURN_DATE.plusDays(9)));
+
+            maintenanceQueueUseCase.onRentalEvent(returned(true, true));
+
+            List<MaintenanceJobEntity> jobs = savedJobs(2);
+            assertThat(jobs.get(0).getBlockedFrom()).isEqualTo(RETURN_DATE.plusDays(4));
+            assertThat(jobs.get(0).getBlockedUntil()).isEqualTo(RETURN_DATE.plusDays(6));
+            assertThat(jobs.get(1).getBlockedFrom()).isEqualTo(RETURN_DATE.plusDays(9));
+            assertThat(jobs.get(1).getBlockedUntil()).isEqualTo(RETURN_DATE.plusDays(10));
+        }
+    }
+
+    @Nested
+    @DisplayName("Completion")
+    class Completion {
+
+        @Test
+        @DisplayName("Should complete an open job")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldCompleteOpenJob() {
+            var open = new MaintenanceJob(3L, 1L, PLATE, MaintenanceJobType.CLEANING, MaintenanceJobStatus.IN_PROGRESS,
+                    1, RETURN_DATE, RETURN_DATE.plusDays(1));
+            var done = new MaintenanceJob(3L, 1L, PLATE, MaintenanceJobType.CLEANING, MaintenanceJobStatus.DONE,
+                    1, RETURN_DATE, RETURN_DATE.plusDays(1));
+            when(maintenanceJobRepository.findJobById(3L)).thenReturn(Optional.of(open)).thenReturn(Optional.of(done));
+            when(maintenanceJobRepository.completeIfOpen(eq(3L), any())).thenReturn(1);
+
+            assertThat(maintenanceQueueUseCase.complete(3L)).contains(done);
+        }
+
+        @Test
+        @DisplayName("Should reject completing a job that is already done")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectCompletingDoneJob() {
+            var done = new MaintenanceJob(3L, 1L, PLATE, MaintenanceJobType.CLEANING, MaintenanceJobStatus.DONE,
+                    1, RETURN_DATE, RETURN_DATE.plusDays(1));
+            when(maintenanceJobRepository.findJobById(3L)).thenReturn(Optional.of(done));
+            when(maintenanceJobRepository.completeIfOpen(eq(3L), any())).thenReturn(0);
+
+            assertThatThrownBy(() -> maintenanceQueueUseCase.complete(3L))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("This maintenance job is already done.");
+        }
+
+        @Test
+        @DisplayName("Should return empty for a non-existent job")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldReturnEmptyForMissingJob() {
+            when(maintenanceJobRepository.findJobById(3L)).thenReturn(Optional.empty());
+
+            assertThat(maintenanceQueueUseCase.complete(3L)).isEmpty();
+            verify(maintenanceJobRepository, never()).completeIfOpen(any(), any());
+        }
+    }
+}
@@ -1,17 +1,25 @@
 package br.ifsp.vvts.domain.useCases;
 
+import br.ifsp.vvts.domain.event.FleetChanged;
 import br.ifsp.vvts.domain.model.car.Car;
 import br.ifsp.vvts.domain.model.car.LicensePlate;
+import br.ifsp.vvts.domain.model.rental.RentalPeriod;
 import br.ifsp.vvts.infra.persistence.entity.car.CarEntity;
 import br.ifsp.vvts.infra.persistence.entity.car.LicensePlateEmbeddable;
 import br.ifsp.vvts.infra.persistence.mapper.CarMapper;
+import br.ifsp.vvts.infra.persistence.projection.ActiveBookingView;
+import br.ifsp.vvts.infra.persistence.projection.CarView;
 import br.ifsp.vvts.infra.persistence.repository.CarRepository;
+import br.ifsp.vvts.infra.persistence.repository.RentalRepository;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +37,12 @@ class ManageCarUseCaseTest {
     @Mock
     private CarMapper carMapper;
 
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ManageCarUseCase manageCarUseCase;
 
@@ -212,6 +226,38 @@ class ManageCarUseCaseTest {
             verify(carMapper).toDomain(existingEntity);
         }
 
+        @Test
+        @DisplayName("Should move the car's active bookings to the new model")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldMoveActiveBookingsToNewModel() {
+            LocalDate start = LocalDate.now().plusDays(3);
+            var existingEntity = new CarEntity(1L, VALID_LICENSE_PLATE_EMBEDDABLE, "Toyota", "Corolla", 150.0);
+            var fleetOccupancy = new FleetOccupancy();
+            fleetOccupancy.changeFleet("Toyota", "Corolla", 2);
+            fleetOccupancy.book("Toyota", "Corolla", start, start.plusDays(2));
+            when(carRepository.findByLicensePlate(VALID_LICENSE_PLATE)).thenReturn(Optional.of(existingEntity));
+            when(rentalRepository.findActiveBookingsByLicensePlate(VALID_LICENSE_PLATE)).thenReturn(List.of(
+                    new ActiveBookingView(VALID_LICENSE_PLATE, "Toyota", "Corolla", start, start.plusDays(2))));
+            when(carRepository.save(existingEntity)).thenReturn(existingEntity);
+
+            manageCarUseCase.updateCar(VALID_LICENSE_PLATE, "Toyota", "Yaris", 150.0);
+
+            ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+            verify(eventPublisher, times(3)).publishEvent(events.capture());
+            events.getAllValues().stream()
+                    .filter(FleetChanged.class::isInstance)
+                    .map(FleetChanged.class::cast)
+                    .forEach(fleetOccupancy::onFleetChanged);
+            var bookedPeriod = new RentalPeriod(start, start.plusDays(2));
+            var corolla = new Car(VALID_LICENSE_PLATE_OBJECT, "Toyota", "Corolla", 150.0);
+            var yaris = new Car(VALID_LICENSE_PLATE_OBJECT, "Toyota", "Yaris", 150.0);
+            assertThat(fleetOccupancy.fleetSize("Toyota", "Corolla")).isEqualTo(1);
+            assertThat(fleetOccupancy.peakUtilization(corolla, bookedPeriod)).isZero();
+            assertThat(fleetOccupancy.fleetSize("Toyota", "Yaris")).isEqualTo(1);
+            assertThat(fleetOccupancy.peakUtilization(yaris, bookedPeriod)).isEqualTo(1.0);
+        }
+
     }
 
     @Nested
@@ -267,8 +313,9 @@ class ManageCarUseCaseTest {
         @Tag("UnitTest")
         @Tag("TDD")
         void shouldFindCarByLicensePlateSuccessfully() {
-            when(carRepository.findByLicensePlate(VALID_LICENSE_PLATE)).thenReturn(Optional.of(carEntity));
-            when(carMapper.toDomain(carEntity)).thenReturn(car);
+            var carView = new CarView(VALID_LICENSE_PLATE, "Toyota", "Corolla", 150.0);
+            when(carRepository.findViewByLicensePlate(VALID_LICENSE_PLATE)).thenReturn(Optional.of(carView));
+            when(carMapper.fromView(carView)).thenReturn(car);
 
             Optional<Car> result = manageCarUseCase.findCarByLicensePlate(VALID_LICENSE_PLATE);
 
@@ -282,7 +329,7 @@ class ManageCarUseCaseTest {
         @Tag("UnitTest")
         @Tag("TDD")
         void shouldReturnEmptyWhenFindingNonExistentCar() {
-            when(carRepository.findByLicensePlate(NON_EXISTENT_LICENSE_PLATE)).thenReturn(Optional.empty());
+            when(carRepository.findViewByLicensePlate(NON_EXISTENT_LICENSE_PLATE)).thenReturn(Optional.empty());
 
             Optional<Car> result = manageCarUseCase.findCarByLicensePlate(NON_EXISTENT_LICENSE_PLATE);
 
@@ -296,16 +343,14 @@ class ManageCarUseCaseTest {
         void shouldReturnAllCarsSuccessfully() {
             var license1 = LicensePlate.of("ABC1D23");
             var license2 = LicensePlate.of("DEF4E56");
-            var license_embeddable_1 = new LicensePlateEmbeddable("ABC1D23");
-            var license_embeddable_2 = new LicensePlateEmbeddable("DEF4E56");
-            var entity1 = new CarEntity(1L, license_embeddable_1, "Toyota", "Corolla", 150.0);
-            var entity2 = new CarEntity(2L, license_embeddable_2, "Honda", "Civic", 180.0);
+            var view1 = new CarView("ABC1D23", "Toyota", "Corolla", 150.0);
+            var view2 = new CarView("DEF4E56", "Honda", "Civic", 180.0);
             var car1 = new Car(license1, "Toyota", "Corolla", 150.0);
             var car2 = new Car(license2, "Honda", "Civic", 180.0);
 
-            when(carRepository.findAll()).thenReturn(List.of(entity1, entity2));
-            when(carMapper.toDomain(entity1)).thenReturn(car1);
-            when(carMapper.toDomain(entity2)).thenReturn(car2);
+            when(carRepository.findAllViews()).thenReturn(List.of(view1, view2));
+            when(carMapper.fromView(view1)).thenReturn(car1);
+            when(carMapper.fromView(view2)).thenReturn(car2);
 
             List<Car> result = manageCarUseCase.getAllCars();
 
@@ -314,8 +359,8 @@ class ManageCarUseCaseTest {
                     .hasSize(2)
                     .containsExactlyInAnyOrder(car1, car2);
 
-            verify(carRepository).findAll();
-            verify(carMapper, times(2)).toDomain(any(CarEntity.class));
+            verify(carRepository).findAllViews();
+            verify(carMapper, times(2)).fromView(any(CarView.class));
         }
 
         @Test
@@ -323,7 +368,7 @@ class ManageCarUseCaseTest {
         @Tag("UnitTest")
         @Tag("TDD")
         void shouldReturnEmptyListWhenNoCarsExist() {
-            when(carRepository.findAll()).thenReturn(List.of());
+            when(carRepository.findAllViews()).thenReturn(List.of());
 
             List<Car> result = manageCarUseCase.getAllCars();
 
@@ -331,8 +376,8 @@ class ManageCarUseCaseTest {
                     .isNotNull()
                     .isEmpty();
 
-            verify(carRepository).findAll();
-            verify(carMapper, never()).toDomain(any());
+            verify(carRepository).findAllViews();
+            verify(carMapper, never()).fromView(any());
         }
     }
 
@@ -354,24 +399,29 @@ class ManageCarUseCaseTest {
                     new CarEntity(3L, new LicensePlateEmbeddable(plates[2]), brands[2], models[2], prices[2])
             );
 
+            List<CarView> fleetViews = List.of(
+                    new CarView(plates[0], brands[0], models[0], prices[0]),
+                    new CarView(plates[1], brands[1], models[1], prices[1]),
+                    new CarView(plates[2], brands[2], models[2], prices[2])
+            );
+
             List<Car> fleetCars = List.of(
                     new Car(LicensePlate.of(plates[0]), brands[0], models[0], prices[0]),
                     new Car(LicensePlate.of(plates[1]), brands[1], models[1], prices[1]),
                     new Car(LicensePlate.of(plates[2]), brands[2], models[2], prices[2])
             );
 
-            when(carRepository.findAll()).thenReturn(fleetEntities);
-            when(carMapper.toDomain(fleetEntities.get(0))).thenReturn(fleetCars.get(0));
-            when(carMapper.toDomain(fleetEntities.get(1))).thenReturn(fleetCars.get(1));
-            when(carMapper.toDomain(fleetEntities.get(2))).thenReturn(fleetCars.get(2));
+            when(carRepository.findAllViews()).thenReturn(fleetViews);
+            when(carMapper.fromView(fleetViews.get(0))).thenReturn(fleetCars.get(0));
+            when(carMapper.fromView(fleetViews.get(1))).thenReturn(fleetCars.get(1));
+            when(carMapper.fromView(fleetViews.get(2))).thenReturn(fleetCars.get(2));
 
             List<Car> allCars = manageCarUseCase.getAllCars();
 
             assertThat(allCars).hasSize(3);
             assertThat(allCars).extracting(Car::brand).containsExactly("Fiat", "Volkswagen", "Chevrolet");
 
-            when(carRepository.findByLicensePlate(plates[1])).thenReturn(Optional.of(fleetEntities.get(1)));
-            when(carMapper.toDomain(fleetEntities.get(1))).thenReturn(fleetCars.get(1));
+            when(carRepository.findViewByLicensePlate(plates[1])).thenReturn(Optional.of(fleetViews.get(1)));
 
             Optional<Car> foundCar = manageCarUseCase.findCarByLicensePlate(plates[1]);
 
@@ -397,8 +447,9 @@ class ManageCarUseCaseTest {
 
             assertThat(deleteResult).isTrue();
 
-            verify(carRepository, times(1)).findAll();
-            verify(carRepository, times(3)).findByLicensePlate(anyString());
+            verify(carRepository, times(1)).findAllViews();
+            verify(carRepository, times(1)).findViewByLicensePlate(anyString());
+            verify(carRepository, times(2)).findByLicensePlate(anyString());
             verify(carRepository, times(1)).save(any());
             verify(carRepository, times(1)).delete(any());
         }
@@ -1,17 +1,21 @@
 package br.ifsp.vvts.domain.useCases;
 
+import br.ifsp.vvts.domain.event.CatalogChanged;
+import br.ifsp.vvts.domain.model.catalog.Catalog;
 import br.ifsp.vvts.domain.model.customer.CPF;
 import br.ifsp.vvts.domain.model.customer.Customer;
 import br.ifsp.vvts.exception.EntityAlreadyExistsException;
 import br.ifsp.vvts.infra.persistence.entity.customer.CPFEmbeddable;
 import br.ifsp.vvts.infra.persistence.entity.customer.CustomerEntity;
 import br.ifsp.vvts.infra.persistence.mapper.CustomerMapper;
+import br.ifsp.vvts.infra.persistence.projection.CustomerView;
 import br.ifsp.vvts.infra.persistence.repository.CustomerRepository;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -29,6 +33,9 @@ class ManageCustomerUseCaseTest {
     @Mock
     private CustomerMapper customerMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ManageCustomerUseCase manageCustomerUseCase;
 
@@ -64,6 +71,7 @@ class ManageCustomerUseCaseTest {
             assertThat(result).isNotNull();
             assertThat(result.name()).isEqualTo("John Doe");
             verify(customerRepository).save(entity);
+            verify(eventPublisher).publishEvent(new CatalogChanged(Catalog.CUSTOMERS));
         }
 
         @Test
@@ -204,7 +212,9 @@ class ManageCustomerUseCaseTest {
             assertThat(result).isFalse();
             verify(customerRepository).findByCpfNumber(VALID_CPF_UNFORMATTED);
             verify(customerRepository, never()).delete(any());
+            verifyNoInteractions(eventPublisher);
         }
+
     }
 
     @Nested
@@ -216,11 +226,11 @@ class ManageCustomerUseCaseTest {
         @Tag("UnitTest")
         @Tag("TDD")
         void shouldFindExistingCustomerByCpf() {
-            var entity = new CustomerEntity(1L, "Jane Doe", VALID_CPF_EMBEDDABLE);
+            var view = new CustomerView("Jane Doe", VALID_CPF_UNFORMATTED);
             var customer = new Customer("Jane Doe", VALID_CPF_OBJECT);
 
-            when(customerRepository.findByCpfNumber(VALID_CPF_UNFORMATTED)).thenReturn(Optional.of(entity));
-            when(customerMapper.toDomain(entity)).thenReturn(customer);
+            when(customerRepository.findViewByCpfNumber(VALID_CPF_UNFORMATTED)).thenReturn(Optional.of(view));
+            when(customerMapper.fromView(view)).thenReturn(customer);
 
             Optional<Customer> result = manageCustomerUseCase.findCustomerByCpf(VALID_CPF_STRING);
 
@@ -234,7 +244,7 @@ class ManageCustomerUseCaseTest {
         @Tag("UnitTest")
         @Tag("TDD")
         void shouldReturnEmptyWhenFindingNonExistentCustomerByCpf() {
-            when(customerRepository.findByCpfNumber(VALID_CPF_UNFORMATTED)).thenReturn(Optional.empty());
+            when(customerRepository.findViewByCpfNumber(VALID_CPF_UNFORMATTED)).thenReturn(Optional.empty());
 
             Optional<Customer> result = manageCustomerUseCase.findCustomerByCpf(VALID_CPF_UNFORMATTED);
 
@@ -246,14 +256,14 @@ class ManageCustomerUseCaseTest {
         @Tag("UnitTest")
         @Tag("TDD")
         void shouldReturnAllCustomersSuccessfully() {
-            var entity1 = new CustomerEntity(1L, "John Doe", VALID_CPF_EMBEDDABLE);
-            var entity2 = new CustomerEntity(2L, "Jane Doe", new CPFEmbeddable("52081977826"));
+            var view1 = new CustomerView("John Doe", VALID_CPF_UNFORMATTED);
+            var view2 = new CustomerView("Jane Doe", "52081977826");
             var customer1 = new Customer("John Doe", VALID_CPF_OBJECT);
             var customer2 = new Customer("Jane Doe", CPF.of("520.819.778-26"));
 
-            when(customerRepository.findAll()).thenReturn(List.of(entity1, entity2));
-            when(customerMapper.toDomain(entity1)).thenReturn(customer1);
-            when(customerMapper.toDomain(entity2)).thenReturn(customer2);
+            when(customerRepository.findAllViews()).thenReturn(List.of(view1, view2));
+            when(customerMapper.fromView(view1)).thenReturn(customer1);
+            when(customerMapper.fromView(view2)).thenReturn(customer2);
 
             List<Customer> result = manageCustomerUseCase.getAllCustomers();
 
@@ -262,8 +272,8 @@ class ManageCustomerUseCaseTest {
                     .hasSize(2)
                     .containsExactlyInAnyOrder(customer1, customer2);
 
-            verify(customerRepository).findAll();
-            verify(customerMapper, times(2)).toDomain(any(CustomerEntity.class));
+            verify(customerRepository).findAllViews();
+            verify(customerMapper, times(2)).fromView(any(CustomerView.class));
         }
 
         @Test
@@ -271,7 +281,7 @@ class ManageCustomerUseCaseTest {
         @Tag("UnitTest")
         @Tag("TDD")
         void shouldReturnEmptyListWhenNoCustomersExist() {
-            when(customerRepository.findAll()).thenReturn(List.of());
+            when(customerRepository.findAllViews()).thenReturn(List.of());
 
             List<Customer> result = manageCustomerUseCase.getAllCustomers();
 
@@ -279,8 +289,8 @@ class ManageCustomerUseCaseTest {
                     .isNotNull()
                     .isEmpty();
 
-            verify(customerRepository).findAll();
-            verify(customerMapper, never()).toDomain(any());
+            verify(customerRepository).findAllViews();
+            verify(customerMapper, never()).fromView(any());
         }
     }
 }
\ No newline at end of file
@@ -1,18 +1,23 @@
 package br.ifsp.vvts.domain.useCases;
 
+import br.ifsp.vvts.domain.event.RentalCanceled;
+import br.ifsp.vvts.domain.event.RentalDeleted;
 import br.ifsp.vvts.domain.model.rental.Rental;
 import br.ifsp.vvts.domain.model.rental.RentalPeriod;
 import br.ifsp.vvts.domain.model.rental.RentalStatus;
 import br.ifsp.vvts.infra.persistence.entity.car.CarEntity;
+import br.ifsp.vvts.infra.persistence.entity.car.LicensePlateEmbeddable;
 import br.ifsp.vvts.infra.persistence.entity.customer.CustomerEntity;
 import br.ifsp.vvts.infra.persistence.entity.rental.RentalEntity;
 import br.ifsp.vvts.infra.persistence.mapper.RentalMapper;
+import br.ifsp.vvts.infra.persistence.projection.RentalView;
 import br.ifsp.vvts.infra.persistence.repository.RentalRepository;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -36,17 +41,23 @@ class ManageRentalUseCaseTest {
     private CustomerEntity customerEntity;
     @Mock
     private CarEntity carEntity;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private ManageRentalUseCase manageRentalUseCase;
 
     private RentalEntity rentalEntity;
+    private RentalView rentalView;
     private Rental rentalDomain;
     private final Long rentalId = 1L;
 
     @BeforeEach
     void setUp() {
+        lenient().when(carEntity.getLicensePlate()).thenReturn(new LicensePlateEmbeddable("ABC1D23"));
         rentalEntity = new RentalEntity(rentalId, customerEntity, carEntity, LocalDate.now(), LocalDate.now().plusDays(5), BigDecimal.valueOf(500.0), (RentalStatus.ACTIVE) );
+        rentalView = new RentalView(rentalId, "John Doe", "12345678909", "ABC1D23", "Brand", "Model", 100.0,
+                rentalEntity.getStartDate(), rentalEntity.getEndDate(), rentalEntity.getTotalPrice(), RentalStatus.ACTIVE, null, null, null);
         rentalDomain = new Rental();
         rentalDomain.setId(rentalId);
         rentalDomain.setPeriod(new RentalPeriod(rentalEntity.getStartDate(), rentalEntity.getEndDate()));
@@ -72,13 +83,13 @@ class ManageRentalUseCaseTest {
             });
             when(rentalMapper.toDomain(any(RentalEntity.class))).thenReturn(rentalDomain);
 
-            Rental result = manageRentalUseCase.createRental(customerEntity, carEntity, period, totalPrice);
+            Rental result = manageRentalUseCase.createRental(customerEntity, carEntity, period, totalPrice, true);
 
             assertThat(result).isNotNull();
             assertThat(result.getId()).isEqualTo(1L);
             assertThat(result.getTotalPrice()).isEqualByComparingTo(totalPrice);
             assertThat(result.getStatus()).isEqualTo(RentalStatus.ACTIVE);
-            verify(rentalRepository, times(1)).save(any(RentalEntity.class));
+            verify(rentalRepository, times(1)).save(argThat(entity -> Boolean.TRUE.equals(entity.getWithInsurance())));
             verify(rentalMapper, times(1)).toDomain(any(RentalEntity.class));
         }
 
@@ -90,7 +101,7 @@ class ManageRentalUseCaseTest {
             RentalPeriod period = new RentalPeriod(LocalDate.now(), LocalDate.now().plusDays(5));
             BigDecimal totalPrice = BigDecimal.valueOf(500.0);
 
-            assertThatThrownBy(() -> manageRentalUseCase.createRental(null, carEntity, period, totalPrice))
+            assertThatThrownBy(() -> manageRentalUseCase.createRental(null, carEntity, period, totalPrice, false))
                     .isInstanceOf(NullPointerException.class)
                     .hasMessage("Client cannot be null.");
 
@@ -105,7 +116,7 @@ class ManageRentalUseCaseTest {
             RentalPeriod period = new RentalPeriod(LocalDate.now(), LocalDate.now().plusDays(5));
             BigDecimal totalPrice = BigDecimal.valueOf(500.0);
 
-            assertThatThrownBy(() -> manageRentalUseCase.createRental(customerEntity, null, period, totalPrice))
+            assertThatThrownBy(() -> manageRentalUseCase.createRental(customerEntity, null, period, totalPrice, false))
                     .isInstanceOf(NullPointerException.class)
                     .hasMessage("Car cannot be null.");
 
@@ -121,15 +132,15 @@ class ManageRentalUseCaseTest {
         @Tag("UnitTest")
         @Tag("TDD")
         void shouldReturnListWhenRepositoryHasData() {
-            when(rentalRepository.findAll()).thenReturn(Collections.singletonList(rentalEntity));
-            when(rentalMapper.toDomain(rentalEntity)).thenReturn(rentalDomain);
+            when(rentalRepository.findAllViews()).thenReturn(Collections.singletonList(rentalView));
+            when(rentalMapper.fromView(rentalView)).thenReturn(rentalDomain);
 
             List<Rental> result = manageRentalUseCase.getAllRentals();
 
             assertThat(result).hasSize(1);
             assertThat(result.getFirst()).isEqualTo(rentalDomain);
-            verify(rentalRepository, times(1)).findAll();
-            verify(rentalMapper, times(1)).toDomain(rentalEntity);
+            verify(rentalRepository, times(1)).findAllViews();
+            verify(rentalMapper, times(1)).fromView(rentalView);
         }
 
         @Test
@@ -137,12 +148,12 @@ class ManageRentalUseCaseTest {
         @Tag("UnitTest")
         @Tag("TDD")
         void shouldReturnEmptyListWhenRepositoryIsEmpty() {
-            when(rentalRepository.findAll()).thenReturn(Collections.emptyList());
+            when(rentalRepository.findAllViews()).thenReturn(Collections.emptyList());
 
             List<Rental> result = manageRentalUseCase.getAllRentals();
 
             assertThat(result).isEmpty();
-            verify(rentalRepository, times(1)).findAll();
+            verify(rentalRepository, times(1)).findAllViews();
             verifyNoInteractions(rentalMapper);
         }
     }
@@ -155,15 +166,15 @@ class ManageRentalUseCaseTest {
         @Tag("UnitTest")
         @Tag("TDD")
         void shouldReturnRentalWhenIdExists() {
-            when(rentalRepository.findById(rentalId)).thenReturn(Optional.of(rentalEntity));
-            when(rentalMapper.toDomain(rentalEntity)).thenReturn(rentalDomain);
+            when(rentalRepository.findViewById(rentalId)).thenReturn(Optional.of(rentalView));
+            when(rentalMapper.fromView(rentalView)).thenReturn(rentalDomain);
 
             Optional<Rental> result = manageRentalUseCase.findRentalById(rentalId);
 
             assertThat(result).isPresent();
             assertThat(result.get()).isEqualTo(rentalDomain);
-            verify(rentalRepository, times(1)).findById(rentalId);
-            verify(rentalMapper, times(1)).toDomain(rentalEntity);
+            verify(rentalRepository, times(1)).findViewById(rentalId);
+            verify(rentalMapper, times(1)).fromView(rentalView);
         }
 
         @Test
@@ -171,12 +182,12 @@ class ManageRentalUseCaseTest {
         @Tag("UnitTest")
         @Tag("TDD")
         void shouldReturnEmptyOptionalWhenIdDoesNotExist() {
-            when(rentalRepository.findById(rentalId)).thenReturn(Optional.empty());
+            when(rentalRepository.findViewById(rentalId)).thenReturn(Optional.empty());
 
             Optional<Rental> result = manageRentalUseCase.findRentalById(rentalId);
 
             assertThat(result).isEmpty();
-            verify(rentalRepository, times(1)).findById(rentalId);
+            verify(rentalRepository, times(1)).findViewById(rentalId);
             verifyNoInteractions(rentalMapper);
         }
     }
@@ -204,6 +215,20 @@ class ManageRentalUseCaseTest {
             assertThat(rentalEntity.getStatus()).isEqualTo(newStatus);
         }
 
+        @Test
+        @DisplayName("Should publish a cancellation when an active rental is canceled")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldPublishCancellationOfActiveRental() {
+            when(rentalRepository.findById(rentalId)).thenReturn(Optional.of(rentalEntity));
+            when(rentalRepository.save(any(RentalEntity.class))).thenReturn(rentalEntity);
+            when(rentalMapper.toDomain(any(RentalEntity.class))).thenReturn(rentalDomain);
+
+            manageRentalUseCase.updateRentalStatus(rentalId, RentalStatus.CANCELED);
+
+            verify(eventPublisher).publishEvent(any(RentalCanceled.class));
+        }
+
         @Test
         @DisplayName("Should return an empty optional when trying to update a non-existent rental")
         @Tag("UnitTest")
@@ -238,6 +263,19 @@ class ManageRentalUseCaseTest {
             verify(rentalRepository, times(1)).delete(rentalEntity);
         }
 
+        @Test
+        @DisplayName("Should publish the deletion of an active rental so its days are released")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldPublishDeletionOfActiveRental() {
+            when(rentalRepository.findById(rentalId)).thenReturn(Optional.of(rentalEntity));
+
+            manageRentalUseCase.deleteRental(rentalId);
+
+            verify(eventPublisher).publishEvent(argThat((Object event) ->
+                    event instanceof RentalDeleted deleted && deleted.rentalId().equals(rentalId) && deleted.wasActive()));
+        }
+
         @Test
         @DisplayName("Should return false when trying to delete a non-existent rental")
         @Tag("UnitTest")
@@ -1,7 +1,13 @@
 package br.ifsp.vvts.domain.useCases;
 
+import br.ifsp.vvts.domain.model.calendar.BranchRegions;
+import br.ifsp.vvts.domain.model.calendar.BuiltInHolidayCalendarSource;
+import br.ifsp.vvts.domain.model.calendar.HolidayCalendar;
+import br.ifsp.vvts.domain.model.calendar.HolidayCalendarSource;
 import br.ifsp.vvts.domain.model.car.Car;
 import br.ifsp.vvts.domain.model.car.LicensePlate;
+import br.ifsp.vvts.domain.model.pricing.PricingRuleBook;
+import br.ifsp.vvts.domain.model.pricing.PricingRuleSet;
 import br.ifsp.vvts.domain.model.rental.RentalPeriod;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,7 +18,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -20,12 +29,15 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 class PricingServiceTest {
 
     private PricingService pricingService;
+    private FleetOccupancy fleetOccupancy;
     private Car standardCar;
     private final LocalDate MONDAY = LocalDate.of(2025, 10, 6);
 
     @BeforeEach
     void setUp() {
-        pricingService = new PricingService();
+        fleetOccupancy = new FleetOccupancy();
+        pricingService = new PricingService(new BuiltInHolidayCalendarSource(), new QuoteCache(100),
+                PricingRuleBook.defaults(), fleetOccupancy, BranchRegions.none());
         standardCar = new Car(LicensePlate.of("ABC1234"), "Brand", "Model", 100.00);
     }
 
@@ -205,4 +217,137 @@ class PricingServiceTest {
             assertThat(totalPrice).isEqualByComparingTo(expectedPrice);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Regional Holiday Calendar Cases")
+    class RegionalHolidayCalendar {
+
+        private final LocalDate WEDNESDAY_AFTER_2030 = LocalDate.of(2031, 1, 1);
+
+        private PricingService regionalPricingService() {
+            return regionalPricingService(PricingRuleBook.defaults());
+        }
+
+        private PricingService regionalPricingService(PricingRuleBook pricingRules) {
+            HolidayCalendar regional = HolidayCalendar.of(List.of(WEDNESDAY_AFTER_2030));
+            return new PricingService(new HolidayCalendarSource() {
+                @Override
+                public HolidayCalendar defaultCalendar() {
+                    return HolidayCalendar.empty();
+                }
+
+                @Override
+                public HolidayCalendar forRegion(String region) {
+                    return regional;
+                }
+            }, new QuoteCache(100), pricingRules, new FleetOccupancy(), BranchRegions.of(Map.of("campinas", "SP")));
+        }
+
+        @Test
+        @DisplayName("Should apply surcharge for a holiday of the requested region")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldApplySurchargeForRegionalHoliday() {
+            var period = new RentalPeriod(WEDNESDAY_AFTER_2030, WEDNESDAY_AFTER_2030.plusDays(1));
+
+            var totalPrice = regionalPricingService().calculateTotalPrice(standardCar, period, false, "SP");
+
+            assertThat(totalPrice).isEqualByComparingTo("106.00");
+        }
+
+        @Test
+        @DisplayName("Should not apply surcharge when the default calendar has no holiday on that day")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldUseDefaultCalendarWhenNoRegionIsGiven() {
+            var period = new RentalPeriod(WEDNESDAY_AFTER_2030, WEDNESDAY_AFTER_2030.plusDays(1));
+
+            var totalPrice = regionalPricingService().calculateTotalPrice(standardCar, period, false);
+
+            assertThat(totalPrice).isEqualByComparingTo("100.00");
+        }
+
+        @Test
+        @DisplayName("Should take holidays from the region and rates from the branch")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldKeepRegionAndBranchSeparate() {
+            var branchRules = new PricingRuleSet(new BigDecimal("0.20"), null, null, null, null, null, null, null, null);
+            var service = regionalPricingService(PricingRuleBook.compile(null, Map.of("SP", branchRules), List.of()));
+            var period = new RentalPeriod(WEDNESDAY_AFTER_2030, WEDNESDAY_AFTER_2030.plusDays(1));
+
+            assertThat(service.calculateTotalPrice(standardCar, period, false, "SP")).isEqualByComparingTo("106.00");
+            assertThat(service.calculateTotalPrice(standardCar, period, false, null, "SP")).isEqualByComparingTo("100.00");
+            assertThat(service.calculateTotalPrice(standardCar, period, false, "SP", "SP")).isEqualByComparingTo("120.00");
+        }
+
+        @Test
+        @DisplayName("Should take the holidays of a booking from the region configured for its branch")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldTakeHolidaysFromBranchRegion() {
+            var period = new RentalPeriod(WEDNESDAY_AFTER_2030, WEDNESDAY_AFTER_2030.plusDays(1));
+            var service = regionalPricingService();
+
+            assertThat(service.calculateBranchPrice(standardCar, period, false, "Campinas")).isEqualByComparingTo("106.00");
+            assertThat(service.calculateBranchPrice(standardCar, period, false, "Sorocaba")).isEqualByComparingTo("100.00");
+            assertThat(service.calculateBranchPrice(standardCar, period, false, null)).isEqualByComparingTo("100.00");
+        }
+
+        @Test
+        @DisplayName("Should reject an unknown region in the built-in calendar")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectUnknownRegion() {
+            var period = new RentalPeriod(MONDAY, MONDAY.plusDays(1));
+
+            assertThatThrownBy(() -> pricingService.calculateTotalPrice(standardCar, period, false, "XX"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Unknown holiday calendar region: XX");
+        }
+    }
+
+    @Nested
+    @DisplayName("Utilization Pricing")
+    class UtilizationPricing {
+
+        private void bookModel(int fleetSize, int booked, RentalPeriod period) {
+            fleetOccupancy.changeFleet("Brand", "Model", fleetSize);
+            for (int i = 0; i < booked; i++) {
+                fleetOccupancy.book("Brand", "Model", period.startDate(), period.endDate());
+            }
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+                "5, 4, 100.00",
+                "10, 9, 110.00",
+                "5, 5, 120.00"
+        })
+        @DisplayName("Should raise the price as the model's fleet fills up beyond the threshold")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRaisePriceWithUtilization(int fleetSize, int booked, String expectedPrice) {
+            var period = new RentalPeriod(MONDAY, MONDAY.plusDays(1));
+            bookModel(fleetSize, booked, period);
+
+            assertThat(pricingService.calculateTotalPrice(standardCar, period, false)).isEqualByComparingTo(expectedPrice);
+        }
+
+        @Test
+        @DisplayName("Should reprice a cached quote once the occupancy changes")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldRepriceCachedQuoteAfterOccupancyChange() {
+            var period = new RentalPeriod(MONDAY, MONDAY.plusDays(1));
+            bookModel(1, 0, period);
+
+            BigDecimal before = pricingService.calculateTotalPrice(standardCar, period, false);
+            fleetOccupancy.book("Brand", "Model", MONDAY, MONDAY.plusDays(1));
+            BigDecimal after = pricingService.calculateTotalPrice(standardCar, period, false);
+
+            assertThat(before).isEqualByComparingTo("100.00");
+            assertThat(after).isEqualByComparingTo("120.00");
+        }
+    }
+}
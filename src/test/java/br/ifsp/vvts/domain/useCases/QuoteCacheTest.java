@@ -0,0 +1,243 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.dto.QuoteCacheStats;
+import br.ifsp.vvts.domain.event.HolidayCalendarsReloaded;
+import br.ifsp.vvts.domain.model.calendar.BuiltInHolidayCalendarSource;
+import br.ifsp.vvts.domain.model.calendar.BranchRegions;
+import br.ifsp.vvts.domain.model.calendar.HolidayCalendar;
+import br.ifsp.vvts.domain.model.calendar.HolidayCalendarSource;
+import br.ifsp.vvts.domain.model.car.Car;
+import br.ifsp.vvts.domain.model.car.LicensePlate;
+import br.ifsp.vvts.domain.model.pricing.PricingRuleBook;
+import br.ifsp.vvts.domain.model.rental.RentalPeriod;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QuoteCacheTest {
+
+    private final LocalDate MONDAY = LocalDate.of(2025, 10, 6);
+
+    private QuoteCache.Key keyFor(LocalDate start) {
+        return new QuoteCache.Key(null, null, 100.00, start, start.plusDays(3), false, BigDecimal.ONE);
+    }
+
+    @Nested
+    @DisplayName("Memoization")
+    class Memoization {
+
+        @Test
+        @DisplayName("Should calculate a quote once and serve repeats from the cache")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldServeRepeatedQuotesFromCache() {
+            var cache = new QuoteCache(10);
+            var calculations = new AtomicInteger();
+
+            for (int i = 0; i < 4; i++) {
+                cache.get(keyFor(MONDAY), 0, () -> {
+                    calculations.incrementAndGet();
+                    return new BigDecimal("300.00");
+                });
+            }
+
+            QuoteCacheStats stats = cache.stats();
+            assertThat(calculations).hasValue(1);
+            assertThat(stats.hits()).isEqualTo(3);
+            assertThat(stats.misses()).isEqualTo(1);
+            assertThat(stats.hitRate()).isEqualTo(0.75);
+        }
+
+        @Test
+        @DisplayName("Should evict the least recently used quote when full")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldEvictLeastRecentlyUsedQuote() {
+            var cache = new QuoteCache(2);
+            var calculations = new AtomicInteger();
+
+            cache.get(keyFor(MONDAY), 0, () -> BigDecimal.ONE);
+            cache.get(keyFor(MONDAY.plusDays(1)), 0, () -> BigDecimal.ONE);
+            cache.get(keyFor(MONDAY), 0, () -> BigDecimal.ONE);
+            cache.get(keyFor(MONDAY.plusDays(2)), 0, () -> BigDecimal.ONE);
+            cache.get(keyFor(MONDAY.plusDays(1)), 0, () -> {
+                calculations.incrementAndGet();
+                return BigDecimal.ONE;
+            });
+
+            assertThat(calculations).hasValue(1);
+            assertThat(cache.stats().size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should always calculate when the capacity is zero")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldBypassCacheWhenDisabled() {
+            var cache = new QuoteCache(0);
+            var calculations = new AtomicInteger();
+
+            cache.get(keyFor(MONDAY), 0, () -> BigDecimal.valueOf(calculations.incrementAndGet()));
+            cache.get(keyFor(MONDAY), 0, () -> BigDecimal.valueOf(calculations.incrementAndGet()));
+
+            assertThat(calculations).hasValue(2);
+            assertThat(cache.stats().size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should reject a negative capacity")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectNegativeCapacity() {
+            assertThatThrownBy(() -> new QuoteCache(-1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("The quote cache capacity cannot be negative.");
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation")
+    class Invalidation {
+
+        @Test
+        @DisplayName("Should drop every quote when the holiday calendars are reloaded")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldDropQuotesOnCalendarReload() {
+            var cache = new QuoteCache(10);
+            cache.get(keyFor(MONDAY), 0, () -> BigDecimal.ONE);
+
+            cache.onHolidayCalendarsReloaded(new HolidayCalendarsReloaded(1));
+
+            assertThat(cache.stats().size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should not store a quote whose calculation started before an invalidation")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldNotStoreQuoteCalculatedBeforeInvalidation() {
+            var cache = new QuoteCache(10);
+
+            BigDecimal stale = cache.get(keyFor(MONDAY), 0, () -> {
+                cache.invalidateAll();
+                return BigDecimal.ONE;
+            });
+            BigDecimal fresh = cache.get(keyFor(MONDAY), 0, () -> BigDecimal.TEN);
+
+            assertThat(stale).isEqualByComparingTo(BigDecimal.ONE);
+            assertThat(fresh).isEqualByComparingTo(BigDecimal.TEN);
+        }
+
+        @Test
+        @DisplayName("Should neither read nor clear newer quotes for a call with an older version")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldBypassCacheForOlderVersion() {
+            var cache = new QuoteCache(10);
+            cache.get(keyFor(MONDAY), 2, () -> BigDecimal.TEN);
+
+            BigDecimal older = cache.get(keyFor(MONDAY), 1, () -> BigDecimal.ONE);
+
+            assertThat(older).isEqualByComparingTo(BigDecimal.ONE);
+            assertThat(cache.get(keyFor(MONDAY), 2, () -> BigDecimal.ZERO)).isEqualByComparingTo(BigDecimal.TEN);
+        }
+
+        @Test
+        @DisplayName("Should reprice after the holiday calendar is reloaded")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRepriceAfterCalendarReload() {
+            var source = new ReloadableSource();
+            var pricingService = new PricingService(source, new QuoteCache(10), PricingRuleBook.defaults(),
+                    new FleetOccupancy(), BranchRegions.none());
+            var car = new Car(LicensePlate.of("ABC1234"), "Brand", "Model", 100.00);
+            var period = new RentalPeriod(MONDAY, MONDAY.plusDays(1));
+
+            BigDecimal before = pricingService.calculateTotalPrice(car, period, false);
+            source.reload(HolidayCalendar.of(List.of(MONDAY)));
+            BigDecimal after = pricingService.calculateTotalPrice(car, period, false);
+
+            assertThat(before).isEqualByComparingTo("100.00");
+            assertThat(after).isEqualByComparingTo("106.00");
+        }
+
+        @Test
+        @DisplayName("Should not let a quote that read the calendar before a reload replace the newer surcharge table")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldKeepNewerSurchargeTableAgainstStaleRead() {
+            var source = new ReloadableSource();
+            var pricingService = new PricingService(source, new QuoteCache(0), PricingRuleBook.defaults(),
+                    new FleetOccupancy(), BranchRegions.none());
+            var car = new Car(LicensePlate.of("ABC1234"), "Brand", "Model", 100.00);
+            var period = new RentalPeriod(MONDAY, MONDAY.plusDays(1));
+            HolidayCalendar reloaded = HolidayCalendar.of(List.of(MONDAY));
+            source.reload(reloaded);
+            pricingService.calculateTotalPrice(car, period, false);
+
+            source.lagOnce(new BuiltInHolidayCalendarSource().defaultCalendar(), 0);
+            BigDecimal stale = pricingService.calculateTotalPrice(car, period, false);
+
+            var tables = (Map<?, ?>) ReflectionTestUtils.getField(pricingService, "surchargeTables");
+            var entry = (PricingService.SurchargeTableEntry) tables.get("");
+            assertThat(stale).isEqualByComparingTo("100.00");
+            assertThat(entry.calendarVersion()).isEqualTo(1);
+            assertThat(entry.table().calendar()).isSameAs(reloaded);
+            assertThat(pricingService.calculateTotalPrice(car, period, false)).isEqualByComparingTo("106.00");
+        }
+    }
+
+    private static class ReloadableSource implements HolidayCalendarSource {
+
+        private HolidayCalendar calendar = new BuiltInHolidayCalendarSource().defaultCalendar();
+        private long version;
+        private HolidayCalendar laggingCalendar;
+        private long laggingVersion;
+
+        void reload(HolidayCalendar calendar) {
+            this.calendar = calendar;
+            version++;
+        }
+
+        /**
+         * A próxima leitura da versão e do calendário devolve os valores anteriores a uma recarga, como numa chamada
+         * que começou antes dela.
+         */
+        void lagOnce(HolidayCalendar calendar, long version) {
+            this.laggingCalendar = calendar;
+            this.laggingVersion = version;
+        }
+
+        @Override
+        public HolidayCalendar defaultCalendar() {
+            if (laggingCalendar != null) {
+                HolidayCalendar lagging = laggingCalendar;
+                laggingCalendar = null;
+                return lagging;
+            }
+            return calendar;
+        }
+
+        @Override
+        public HolidayCalendar forRegion(String region) {
+            return calendar;
+        }
+
+        @Override
+        public long version() {
+            return laggingCalendar != null ? laggingVersion : version;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.event.RelayedRentalEvent;
+import br.ifsp.vvts.domain.event.RentalCanceled;
+import br.ifsp.vvts.domain.event.RentalCreated;
+import br.ifsp.vvts.domain.event.RentalEvent;
+import br.ifsp.vvts.infra.persistence.entity.outbox.OutboxEventEntity;
+import br.ifsp.vvts.infra.persistence.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RelayOutboxEventsUseCaseTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private RentalEventOutbox rentalEventOutbox;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private RelayOutboxEventsUseCase relayOutboxEventsUseCase;
+
+    private final Instant NOW = Instant.parse("2025-10-20T10:00:00Z");
+    private final LocalDate START = LocalDate.of(2025, 10, 6);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(relayOutboxEventsUseCase, "batchSize", 2);
+        ReflectionTestUtils.setField(relayOutboxEventsUseCase, "maxAttempts", 3);
+        ReflectionTestUtils.setField(relayOutboxEventsUseCase, "retentionMillis", 60_000L);
+    }
+
+    private OutboxEventEntity entry(long id, RentalEvent event) {
+        var entry = new OutboxEventEntity(id, event.getClass().getSimpleName(), "{}", NOW.minusSeconds(5));
+        lenient().when(rentalEventOutbox.decode(entry)).thenReturn(event);
+        return entry;
+    }
+
+    @Nested
+    @DisplayName("Relaying")
+    class Relaying {
+
+        @Test
+        @DisplayName("Should publish pending events in order and then mark them as published")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldPublishInOrderThenMark() {
+            var created = new RentalCreated(1L, "ABC1D23", "B", "M", START, START.plusDays(3));
+            var canceled = new RentalCanceled(1L, "ABC1D23", "B", "M", START, START.plusDays(3));
+            when(rentalEventOutbox.takePending()).thenReturn(true);
+            List<OutboxEventEntity> batch = List.of(entry(1L, created), entry(2L, canceled));
+            when(outboxEventRepository.findUnpublishedAfter(eq(0L), any(Pageable.class))).thenReturn(batch);
+            when(outboxEventRepository.findUnpublishedAfter(eq(2L), any(Pageable.class)))
+                    .thenReturn(Collections.emptyList());
+
+            int relayed = relayOutboxEventsUseCase.execute(NOW);
+
+            assertThat(relayed).isEqualTo(2);
+            InOrder inOrder = inOrder(eventPublisher, outboxEventRepository);
+            inOrder.verify(eventPublisher).publishEvent(new RelayedRentalEvent(1L, NOW.minusSeconds(5), created));
+            inOrder.verify(eventPublisher).publishEvent(new RelayedRentalEvent(2L, NOW.minusSeconds(5), canceled));
+            inOrder.verify(outboxEventRepository).markPublished(List.of(1L, 2L), NOW);
+        }
+
+        @Test
+        @DisplayName("Should keep relaying while batches come back full")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldContinueAfterFullBatch() {
+            var created = new RentalCreated(1L, "ABC1D23", "B", "M", START, START.plusDays(3));
+            when(rentalEventOutbox.takePending()).thenReturn(true);
+            List<OutboxEventEntity> full = List.of(entry(1L, created), entry(2L, created));
+            List<OutboxEventEntity> last = List.of(entry(3L, created));
+            when(outboxEventRepository.findUnpublishedAfter(eq(0L), any(Pageable.class))).thenReturn(full);
+            when(outboxEventRepository.findUnpublishedAfter(eq(2L), any(Pageable.class))).thenReturn(last);
+
+            int relayed = relayOutboxEventsUseCase.execute(NOW);
+
+            assertThat(relayed).isEqualTo(3);
+            verify(outboxEventRepository, times(2)).findUnpublishedAfter(anyLong(), any(Pageable.class));
+            verify(outboxEventRepository).markPublished(List.of(3L), NOW);
+        }
+
+        @Test
+        @DisplayName("Should count a failed attempt and keep relaying the rest of the batch when a listener fails")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldIsolateListenerFailure() {
+            var created = new RentalCreated(1L, "ABC1D23", "B", "M", START, START.plusDays(3));
+            var canceled = new RentalCanceled(2L, "XYZ9K88", "B", "M", START, START.plusDays(3));
+            when(rentalEventOutbox.takePending()).thenReturn(true);
+            List<OutboxEventEntity> batch = List.of(entry(1L, created), entry(2L, canceled));
+            when(outboxEventRepository.findUnpublishedAfter(eq(0L), any(Pageable.class))).thenReturn(batch);
+            when(outboxEventRepository.findUnpublishedAfter(eq(2L), any(Pageable.class)))
+                    .thenReturn(Collections.emptyList());
+            doThrow(new IllegalStateException("boom")).when(eventPublisher)
+                    .publishEvent(new RelayedRentalEvent(1L, NOW.minusSeconds(5), created));
+
+            int relayed = relayOutboxEventsUseCase.execute(NOW);
+
+            assertThat(relayed).isEqualTo(1);
+            verify(outboxEventRepository).markPublished(List.of(2L), NOW);
+            verify(outboxEventRepository).recordFailure(eq(1L), contains("boom"), eq(3), eq(NOW));
+            verify(rentalEventOutbox).markPending();
+        }
+
+        @Test
+        @DisplayName("Should skip an undecodable payload and relay the entries after it")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldSkipUndecodablePayload() {
+            var created = new RentalCreated(1L, "ABC1D23", "B", "M", START, START.plusDays(3));
+            var poison = new OutboxEventEntity(1L, "RentalCreated", "{not json", NOW.minusSeconds(5));
+            when(rentalEventOutbox.decode(poison))
+                    .thenThrow(new UncheckedIOException("Could not read outbox event 1", new IOException("bad json")));
+            List<OutboxEventEntity> batch = List.of(poison, entry(2L, created));
+            when(rentalEventOutbox.takePending()).thenReturn(true);
+            when(outboxEventRepository.findUnpublishedAfter(eq(0L), any(Pageable.class))).thenReturn(batch);
+            when(outboxEventRepository.findUnpublishedAfter(eq(2L), any(Pageable.class)))
+                    .thenReturn(Collections.emptyList());
+
+            int relayed = relayOutboxEventsUseCase.execute(NOW);
+
+            assertThat(relayed).isEqualTo(1);
+            verify(eventPublisher).publishEvent(new RelayedRentalEvent(2L, NOW.minusSeconds(5), created));
+            verify(outboxEventRepository).markPublished(List.of(2L), NOW);
+            verify(outboxEventRepository).recordFailure(eq(1L), contains("Could not read outbox event 1"), eq(3),
+                    eq(NOW));
+        }
+
+        @Test
+        @DisplayName("Should stop retrying an entry once its last attempt fails")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldNotRetryAfterLastAttempt() {
+            var poison = new OutboxEventEntity(1L, "Unknown", "{}", NOW.minusSeconds(5));
+            poison.setAttempts(2);
+            when(rentalEventOutbox.decode(poison))
+                    .thenThrow(new IllegalStateException("Unknown outbox event type: Unknown"));
+            when(rentalEventOutbox.takePending()).thenReturn(true);
+            when(outboxEventRepository.findUnpublishedAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(poison));
+
+            assertThat(relayOutboxEventsUseCase.execute(NOW)).isZero();
+
+            verify(outboxEventRepository).recordFailure(eq(1L), any(), eq(3), eq(NOW));
+            verify(outboxEventRepository, never()).markPublished(any(), any());
+            verify(rentalEventOutbox, never()).markPending();
+        }
+
+        @Test
+        @DisplayName("Should leave the outbox pending when the batch cannot be read")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldStayPendingWhenQueryFails() {
+            when(rentalEventOutbox.takePending()).thenReturn(true);
+            when(outboxEventRepository.findUnpublishedAfter(eq(0L), any(Pageable.class)))
+                    .thenThrow(new IllegalStateException("database is locked"));
+
+            assertThatThrownBy(() -> relayOutboxEventsUseCase.execute(NOW)).isInstanceOf(IllegalStateException.class);
+
+            verify(rentalEventOutbox).markPending();
+        }
+
+        @Test
+        @DisplayName("Should not query the outbox when nothing was recorded since the last run")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldSkipQueryWhenIdle() {
+            when(rentalEventOutbox.takePending()).thenReturn(false);
+
+            assertThat(relayOutboxEventsUseCase.execute(NOW)).isZero();
+            verifyNoInteractions(outboxEventRepository, eventPublisher);
+        }
+    }
+
+    @Nested
+    @DisplayName("Purging")
+    class Purging {
+
+        @Test
+        @DisplayName("Should delete events published before the retention window")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldDeleteEventsOutsideRetention() {
+            when(outboxEventRepository.deletePublishedBefore(NOW.minusMillis(60_000))).thenReturn(4);
+
+            assertThat(relayOutboxEventsUseCase.purge(NOW)).isEqualTo(4);
+        }
+    }
+}
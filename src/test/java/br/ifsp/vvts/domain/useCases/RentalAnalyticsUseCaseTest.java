@@ -0,0 +1,123 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.model.rental.RentalStatus;
+import br.ifsp.vvts.domain.model.report.RentalAnalytics;
+import br.ifsp.vvts.infra.persistence.projection.RentalAnalyticsView;
+import br.ifsp.vvts.infra.persistence.projection.RentalIdRange;
+import br.ifsp.vvts.infra.persistence.repository.RentalRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RentalAnalyticsUseCaseTest {
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ForkJoinPool analyticsPool = new ForkJoinPool(2);
+
+    private RentalAnalyticsUseCase rentalAnalyticsUseCase;
+
+    private final LocalDate START = LocalDate.of(2025, 10, 6);
+
+    @BeforeEach
+    void setUp() {
+        rentalAnalyticsUseCase = new RentalAnalyticsUseCase(rentalRepository, transactionManager, analyticsPool, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        analyticsPool.shutdownNow();
+    }
+
+    private RentalAnalyticsView view(long id, boolean late) {
+        return new RentalAnalyticsView(id, "Nissan", "March", START, START.plusDays(2), RentalStatus.FINISHED,
+                START.plusDays(late ? 3 : 2), true);
+    }
+
+    @Nested
+    @DisplayName("Chunked Scanning")
+    class ChunkedScanning {
+
+        @Test
+        @DisplayName("Should read the id range in chunks and merge every chunk")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldReadRangeInChunks() {
+            when(rentalRepository.findIdRange()).thenReturn(new RentalIdRange(1L, 16L));
+            when(rentalRepository.findAnalyticsViews(anyLong(), anyLong())).thenAnswer(invocation -> {
+                long from = invocation.getArgument(0);
+                long to = invocation.getArgument(1);
+                return LongStream.range(from, to).mapToObj(id -> view(id, id % 4 == 0)).toList();
+            });
+
+            RentalAnalytics analytics = rentalAnalyticsUseCase.execute();
+
+            assertThat(analytics.rentals()).isEqualTo(16);
+            assertThat(analytics.lateReturnRatio()).isEqualTo(0.25);
+            verify(rentalRepository, times(4)).findAnalyticsViews(anyLong(), anyLong());
+            verify(rentalRepository, never()).findAnalyticsViews(longThat(from -> from < 1), anyLong());
+            verify(rentalRepository, never()).findAnalyticsViews(anyLong(), longThat(to -> to > 17));
+        }
+
+        @Test
+        @DisplayName("Should return empty statistics when there are no rentals")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldReturnEmptyStatisticsWithoutRentals() {
+            when(rentalRepository.findIdRange()).thenReturn(new RentalIdRange(null, null));
+
+            RentalAnalytics analytics = rentalAnalyticsUseCase.execute();
+
+            assertThat(analytics.rentals()).isZero();
+            assertThat(analytics.models()).isEmpty();
+            verify(rentalRepository, never()).findAnalyticsViews(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("Should read a single chunk when the range fits")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldReadSingleChunkWhenRangeFits() {
+            when(rentalRepository.findIdRange()).thenReturn(new RentalIdRange(7L, 9L));
+            when(rentalRepository.findAnalyticsViews(7L, 10L)).thenReturn(List.of(view(7L, false), view(9L, true)));
+
+            RentalAnalytics analytics = rentalAnalyticsUseCase.execute();
+
+            assertThat(analytics.rentals()).isEqualTo(2);
+            assertThat(analytics.insuranceAttachRate()).isEqualTo(1.0);
+            verify(transactionManager, times(2)).commit(any());
+        }
+
+        @Test
+        @DisplayName("Should reject a chunk size that is not positive")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldRejectNonPositiveChunkSize() {
+            assertThatThrownBy(() -> new RentalAnalyticsUseCase(rentalRepository, transactionManager, analyticsPool, 0))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("The analytics chunk size must be positive.");
+        }
+    }
+}
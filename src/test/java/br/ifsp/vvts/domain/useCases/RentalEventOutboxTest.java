@@ -0,0 +1,89 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.event.RentalDeleted;
+import br.ifsp.vvts.domain.event.RentalEvent;
+import br.ifsp.vvts.domain.event.RentalReturned;
+import br.ifsp.vvts.infra.persistence.entity.outbox.OutboxEventEntity;
+import br.ifsp.vvts.infra.persistence.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RentalEventOutboxTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @InjectMocks
+    private RentalEventOutbox rentalEventOutbox;
+
+    private final LocalDate START = LocalDate.of(2025, 10, 6);
+
+    private OutboxEventEntity recorded(RentalEvent event) {
+        rentalEventOutbox.record(event);
+        ArgumentCaptor<OutboxEventEntity> captor = ArgumentCaptor.forClass(OutboxEventEntity.class);
+        verify(outboxEventRepository).save(captor.capture());
+        return captor.getValue();
+    }
+
+    @Nested
+    @DisplayName("Encoding")
+    class Encoding {
+
+        @Test
+        @DisplayName("Should read back the same event that was recorded")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRoundTripRecordedEvent() {
+            var event = new RentalReturned(1L, "ABC1D23", "Nissan", "March", START, START.plusDays(3), START.plusDays(2));
+
+            OutboxEventEntity entry = recorded(event);
+
+            assertThat(entry.getEventType()).isEqualTo("RentalReturned");
+            assertThat(entry.getPublishedAt()).isNull();
+            assertThat(rentalEventOutbox.decode(entry)).isEqualTo(event);
+        }
+
+        @Test
+        @DisplayName("Should keep the fields specific to each event type")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldKeepEventSpecificFields() {
+            var event = new RentalDeleted(2L, "ABC1D23", "Nissan", "March", START, START.plusDays(3), true);
+
+            assertThat(rentalEventOutbox.decode(recorded(event))).isEqualTo(event);
+        }
+
+        @Test
+        @DisplayName("Should reject an unknown event type")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectUnknownEventType() {
+            var entry = new OutboxEventEntity(7L, "CarStolen", "{}", Instant.now());
+
+            assertThatThrownBy(() -> rentalEventOutbox.decode(entry))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Unknown outbox event type: CarStolen");
+        }
+    }
+}
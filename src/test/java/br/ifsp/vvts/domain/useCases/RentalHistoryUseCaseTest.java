@@ -0,0 +1,142 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.model.rental.Rental;
+import br.ifsp.vvts.domain.model.rental.RentalHistoryPage;
+import br.ifsp.vvts.domain.model.rental.RentalStatus;
+import br.ifsp.vvts.infra.persistence.mapper.RentalMapper;
+import br.ifsp.vvts.infra.persistence.projection.RentalView;
+import br.ifsp.vvts.infra.persistence.repository.CarRepository;
+import br.ifsp.vvts.infra.persistence.repository.CustomerRepository;
+import br.ifsp.vvts.infra.persistence.repository.RentalRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RentalHistoryUseCaseTest {
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private CarRepository carRepository;
+
+    @Mock
+    private RentalMapper rentalMapper;
+
+    @InjectMocks
+    private RentalHistoryUseCase rentalHistoryUseCase;
+
+    private final String CPF = "515.891.860-01";
+    private final String PLATE = "ABC1D23";
+    private final LocalDate START = LocalDate.of(2025, 10, 6);
+
+    private RentalView view(long id, LocalDate startDate) {
+        return new RentalView(id, "John Doe", "51589186001", PLATE, "Nissan", "March", 100.0,
+                startDate, startDate.plusDays(3), new BigDecimal("300.00"), RentalStatus.FINISHED, null, null, null);
+    }
+
+    @Nested
+    @DisplayName("Customer History")
+    class CustomerHistory {
+
+        @Test
+        @DisplayName("Should return a full page with a cursor to the last rental")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldReturnCursorForFullPage() {
+            when(customerRepository.findIdByCpfNumber("51589186001")).thenReturn(Optional.of(5L));
+            when(rentalRepository.findCustomerHistory(5L, Pageable.ofSize(3)))
+                    .thenReturn(List.of(view(9L, START), view(4L, START), view(7L, START.minusDays(1))));
+            when(rentalMapper.fromView(any())).thenReturn(new Rental());
+
+            Optional<RentalHistoryPage> page = rentalHistoryUseCase.forCustomer(CPF, null, 2);
+
+            assertThat(page).isPresent();
+            assertThat(page.get().rentals()).hasSize(2);
+            assertThat(page.get().nextCursor()).isEqualTo("2025-10-06_4");
+        }
+
+        @Test
+        @DisplayName("Should continue after the cursor and end without one")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldContinueAfterCursor() {
+            when(customerRepository.findIdByCpfNumber("51589186001")).thenReturn(Optional.of(5L));
+            when(rentalRepository.findCustomerHistoryAfter(eq(5L), eq(START), eq(4L), any(Pageable.class)))
+                    .thenReturn(List.of(view(7L, START.minusDays(1))));
+            when(rentalMapper.fromView(any())).thenReturn(new Rental());
+
+            Optional<RentalHistoryPage> page = rentalHistoryUseCase.forCustomer(CPF, "2025-10-06_4", 2);
+
+            assertThat(page).isPresent();
+            assertThat(page.get().rentals()).hasSize(1);
+            assertThat(page.get().nextCursor()).isNull();
+            verify(rentalRepository, never()).findCustomerHistory(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should return empty for an unknown customer")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldReturnEmptyForUnknownCustomer() {
+            when(customerRepository.findIdByCpfNumber("51589186001")).thenReturn(Optional.empty());
+
+            assertThat(rentalHistoryUseCase.forCustomer(CPF, null, 20)).isEmpty();
+            verifyNoInteractions(rentalRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Car History")
+    class CarHistory {
+
+        @Test
+        @DisplayName("Should read the car history by its id")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldReadCarHistory() {
+            when(carRepository.findIdByLicensePlate(PLATE)).thenReturn(Optional.of(3L));
+            when(rentalRepository.findCarHistory(3L, Pageable.ofSize(21))).thenReturn(List.of(view(1L, START)));
+            when(rentalMapper.fromView(any())).thenReturn(new Rental());
+
+            Optional<RentalHistoryPage> page = rentalHistoryUseCase.forCar(PLATE, " ", 20);
+
+            assertThat(page).isPresent();
+            assertThat(page.get().rentals()).hasSize(1);
+            assertThat(page.get().nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should reject a page size out of bounds")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectPageSizeOutOfBounds() {
+            assertThatThrownBy(() -> rentalHistoryUseCase.forCar(PLATE, null, RentalHistoryUseCase.MAX_PAGE_SIZE + 1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("The page size must be between 1 and 100.");
+
+            verifyNoInteractions(carRepository, rentalRepository);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.event.HoldConverted;
+import br.ifsp.vvts.domain.event.HoldLapsed;
+import br.ifsp.vvts.domain.model.booking.Hold;
+import br.ifsp.vvts.domain.model.rental.RentalPeriod;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Reservation Holds Tests")
+class ReservationHoldsTest {
+
+    private final String PLATE = "ABC1D23";
+    private final String CPF = "51589186001";
+    private final LocalDate MONDAY = LocalDate.of(2025, 10, 6);
+    private final RentalPeriod PERIOD = new RentalPeriod(MONDAY, MONDAY.plusDays(3));
+    private final Instant NOW = Instant.parse("2025-10-01T10:00:00Z");
+
+    private final List<Object> published = new ArrayList<>();
+    private final ReservationHolds holds = new ReservationHolds(60_000, 1_000, 64, published::add);
+
+    @Nested
+    @DisplayName("Placing")
+    class Placing {
+
+        @Test
+        @DisplayName("Should refuse an overlapping hold on the same car")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRefuseOverlappingHold() {
+            holds.place(PLATE, CPF, PERIOD, NOW);
+
+            assertThat(holds.place(PLATE, CPF, new RentalPeriod(MONDAY.plusDays(2), MONDAY.plusDays(4)), NOW)).isEmpty();
+            assertThat(holds.place(PLATE, CPF, new RentalPeriod(MONDAY.plusDays(3), MONDAY.plusDays(4)), NOW)).isPresent();
+            assertThat(holds.place("XYZ9W87", CPF, PERIOD, NOW)).isPresent();
+        }
+
+        @Test
+        @DisplayName("Should accept a new hold once the previous one expired")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldAcceptHoldAfterExpiry() {
+            holds.place(PLATE, CPF, PERIOD, NOW);
+
+            assertThat(holds.place(PLATE, CPF, PERIOD, NOW.plusSeconds(60))).isPresent();
+        }
+    }
+
+    @Nested
+    @DisplayName("Availability")
+    class Availability {
+
+        @Test
+        @DisplayName("Should block other customers but not the holder")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldBlockOthersButNotHolder() {
+            Hold hold = holds.place(PLATE, CPF, PERIOD, NOW).orElseThrow();
+
+            assertThat(holds.isHeldByOthers(PLATE, PERIOD, null, NOW)).isTrue();
+            assertThat(holds.isHeldByOthers(PLATE, PERIOD, hold.id(), NOW)).isFalse();
+            assertThat(holds.isHeldByOthers(PLATE, PERIOD, null, hold.expiresAt())).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should free the car once the hold is released")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldFreeCarAfterRelease() {
+            Hold hold = holds.place(PLATE, CPF, PERIOD, NOW).orElseThrow();
+
+            assertThat(holds.release(hold.id())).isTrue();
+            assertThat(holds.release(hold.id())).isFalse();
+            assertThat(holds.isHeldByOthers(PLATE, PERIOD, null, NOW)).isFalse();
+            assertThat(holds.size()).isZero();
+            assertThat(published).containsExactly(new HoldLapsed(hold));
+        }
+
+        @Test
+        @DisplayName("Should release a hold once the rental converting it commits")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldReleaseConvertedHold() {
+            Hold hold = holds.place(PLATE, CPF, PERIOD, NOW).orElseThrow();
+
+            holds.onHoldConverted(new HoldConverted(hold.id()));
+
+            assertThat(holds.find(hold.id(), NOW)).isEmpty();
+            assertThat(holds.size()).isZero();
+            assertThat(published).isEmpty();
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package br.ifsp.vvts.domain.useCases;
 
 import br.ifsp.vvts.domain.dto.ReturnCarRequest;
+import br.ifsp.vvts.domain.event.RentalReturned;
 import br.ifsp.vvts.domain.model.car.Car;
 import br.ifsp.vvts.domain.model.car.LicensePlate;
+import br.ifsp.vvts.domain.model.pricing.PricingRuleBook;
+import br.ifsp.vvts.domain.model.pricing.PricingRuleSet;
 import br.ifsp.vvts.domain.model.rental.Rental;
 import br.ifsp.vvts.domain.model.rental.RentalPeriod;
 import br.ifsp.vvts.domain.model.rental.RentalStatus;
@@ -12,6 +15,8 @@ import br.ifsp.vvts.infra.persistence.entity.customer.CPFEmbeddable;
 import br.ifsp.vvts.infra.persistence.entity.customer.CustomerEntity;
 import br.ifsp.vvts.infra.persistence.entity.rental.RentalEntity;
 import br.ifsp.vvts.infra.persistence.mapper.RentalMapper;
+import br.ifsp.vvts.infra.persistence.projection.RentalReturnView;
+import br.ifsp.vvts.infra.persistence.projection.RentalView;
 import br.ifsp.vvts.infra.persistence.repository.RentalRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,17 +24,23 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,12 +52,18 @@ class ReturnCarUseCaseTest {
     @Mock
     private RentalMapper rentalMapper;
 
+    @Spy
+    private PricingRuleBook pricingRules = PricingRuleBook.defaults();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ReturnCarUseCase returnCarUseCase;
 
     private RentalEntity activeRentalEntity;
+    private RentalReturnView activeReturnView;
     private Rental activeRentalDomain;
-    private Rental finishedRentalDomain;
 
     private final LocalDate RENTAL_START_DATE = LocalDate.of(2025, 10, 10);
 
@@ -69,12 +86,37 @@ class ReturnCarUseCaseTest {
         activeRentalDomain.setStatus(RentalStatus.ACTIVE);
         activeRentalDomain.setTotalPrice(new BigDecimal("1000.00"));
 
-        finishedRentalDomain = new Rental();
-        finishedRentalDomain.setId(1L);
-        finishedRentalDomain.setCar(standardCar);
-        finishedRentalDomain.setPeriod(period);
-        finishedRentalDomain.setStatus(RentalStatus.FINISHED);
-        finishedRentalDomain.setTotalPrice(new BigDecimal("1000.00"));
+        activeReturnView = new RentalReturnView(
+                1L, period.startDate(), period.endDate(), new BigDecimal("1000.00"), RentalStatus.ACTIVE, 100.00, null
+        );
+    }
+
+    private void stubSuccessfulReturn() {
+        when(rentalRepository.finishIfActive(eq(1L), any(LocalDate.class), any(BigDecimal.class)))
+                .thenAnswer(invocation -> {
+                    activeRentalEntity.setStatus(RentalStatus.FINISHED);
+                    activeRentalEntity.setActualReturnDate(invocation.getArgument(1));
+                    activeRentalEntity.setFinalPrice(invocation.getArgument(2));
+                    return 1;
+                });
+        when(rentalRepository.findViewById(1L)).thenAnswer(invocation -> Optional.of(new RentalView(
+                activeRentalEntity.getId(), "Test Customer", "12345678909", "ABC1D23", "Brand", "Model", 100.00,
+                activeRentalEntity.getStartDate(), activeRentalEntity.getEndDate(), activeRentalEntity.getTotalPrice(),
+                activeRentalEntity.getStatus(), activeRentalEntity.getActualReturnDate(), activeRentalEntity.getFinalPrice(),
+                activeRentalEntity.getAccruedLateFee()
+        )));
+        when(rentalMapper.fromView(any(RentalView.class))).thenAnswer(invocation -> {
+            RentalView view = invocation.getArgument(0);
+            Rental result = new Rental();
+            result.setId(view.id());
+            result.setCar(activeRentalDomain.getCar());
+            result.setPeriod(activeRentalDomain.getPeriod());
+            result.setTotalPrice(view.totalPrice());
+            result.setStatus(view.status());
+            result.setActualReturnDate(view.actualReturnDate());
+            result.setFinalPrice(view.finalPrice());
+            return result;
+        });
     }
 
     @Nested
@@ -86,9 +128,10 @@ class ReturnCarUseCaseTest {
         @Tag("UnitTest")
         @Tag("TDD")
         void shouldRejectReturnForFinishedRental() {
-            activeRentalEntity.setStatus(RentalStatus.FINISHED);
-            when(rentalRepository.findById(1L)).thenReturn(Optional.of(activeRentalEntity));
-            when(rentalMapper.toDomain(activeRentalEntity)).thenReturn(finishedRentalDomain);
+            var finishedReturnView = new RentalReturnView(
+                    1L, RENTAL_START_DATE, RENTAL_START_DATE.plusDays(10), new BigDecimal("1000.00"), RentalStatus.FINISHED, 100.00, null
+            );
+            when(rentalRepository.findReturnViewById(1L)).thenReturn(Optional.of(finishedReturnView));
 
             var request = new ReturnCarRequest(1L, RENTAL_START_DATE.plusDays(10), false, false);
 
@@ -96,7 +139,44 @@ class ReturnCarUseCaseTest {
                     .isInstanceOf(IllegalStateException.class)
                     .hasMessage("This rental has now ended.");
 
-            verify(rentalRepository, never()).save(any());
+            verify(rentalRepository, never()).finishIfActive(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should reject return if rental was canceled")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectReturnForCanceledRental() {
+            var canceledReturnView = new RentalReturnView(
+                    1L, RENTAL_START_DATE, RENTAL_START_DATE.plusDays(10), new BigDecimal("1000.00"), RentalStatus.CANCELED, 100.00, null
+            );
+            when(rentalRepository.findReturnViewById(1L)).thenReturn(Optional.of(canceledReturnView));
+
+            var request = new ReturnCarRequest(1L, RENTAL_START_DATE.plusDays(10), false, false);
+
+            assertThatThrownBy(() -> returnCarUseCase.execute(request))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Only active rentals can be returned.");
+
+            verify(rentalRepository, never()).finishIfActive(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should reject return if the rental was finished concurrently")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldRejectReturnWhenConditionalUpdateMatchesNoRow() {
+            when(rentalRepository.findReturnViewById(1L)).thenReturn(Optional.of(activeReturnView));
+            when(rentalRepository.finishIfActive(eq(1L), any(LocalDate.class), any(BigDecimal.class))).thenReturn(0);
+
+            var request = new ReturnCarRequest(1L, RENTAL_START_DATE.plusDays(10), false, false);
+
+            assertThatThrownBy(() -> returnCarUseCase.execute(request))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("This rental has now ended.");
+
+            verify(rentalRepository, never()).findViewById(any());
+            verifyNoInteractions(rentalMapper);
         }
 
         @Test
@@ -104,14 +184,14 @@ class ReturnCarUseCaseTest {
         @Tag("UnitTest")
         @Tag("TDD")
         void shouldRejectReturnForNonExistentRental() {
-            when(rentalRepository.findById(99L)).thenReturn(Optional.empty());
+            when(rentalRepository.findReturnViewById(99L)).thenReturn(Optional.empty());
             var request = new ReturnCarRequest(99L, RENTAL_START_DATE.plusDays(10), false, false);
 
             assertThatThrownBy(() -> returnCarUseCase.execute(request))
                     .isInstanceOf(RuntimeException.class)
                     .hasMessage("Non-existent rent.");
 
-            verify(rentalMapper, never()).toDomain(any());
+            verify(rentalMapper, never()).fromView(any());
         }
 
         @Test
@@ -131,8 +211,7 @@ class ReturnCarUseCaseTest {
         @Tag("UnitTest")
         @Tag("Functional")
         void shouldRejectReturnIfDateIsBeforeStartDate() {
-            when(rentalRepository.findById(1L)).thenReturn(Optional.of(activeRentalEntity));
-            when(rentalMapper.toDomain(activeRentalEntity)).thenReturn(activeRentalDomain);
+            when(rentalRepository.findReturnViewById(1L)).thenReturn(Optional.of(activeReturnView));
 
             LocalDate dateBeforeRentalStarts = RENTAL_START_DATE.minusDays(1);
             var request = new ReturnCarRequest(1L, dateBeforeRentalStarts, false, false);
@@ -151,21 +230,8 @@ class ReturnCarUseCaseTest {
         @Tag("UnitTest")
         @Tag("TDD")
         void shouldFinishContractOnTime() {
-            when(rentalRepository.findById(1L)).thenReturn(Optional.of(activeRentalEntity));
-
-            when(rentalMapper.toDomain(activeRentalEntity)).thenReturn(activeRentalDomain);
-
-            Rental updatedRental = new Rental();
-            updatedRental.setId(1L);
-            updatedRental.setCar(activeRentalDomain.getCar());
-            updatedRental.setPeriod(activeRentalDomain.getPeriod());
-            updatedRental.setStatus(RentalStatus.FINISHED);
-            updatedRental.setTotalPrice(new BigDecimal("1000.00"));
-            updatedRental.setActualReturnDate(RENTAL_START_DATE.plusDays(10));
-            updatedRental.setFinalPrice(new BigDecimal("1000.00"));
-
-            when(rentalMapper.toDomain(activeRentalEntity)).thenReturn(activeRentalDomain, updatedRental);
-            when(rentalRepository.save(any(RentalEntity.class))).thenReturn(activeRentalEntity);
+            when(rentalRepository.findReturnViewById(1L)).thenReturn(Optional.of(activeReturnView));
+            stubSuccessfulReturn();
 
             LocalDate onTimeReturnDate = RENTAL_START_DATE.plusDays(10);
             var request = new ReturnCarRequest(1L, onTimeReturnDate, false, false);
@@ -176,31 +242,16 @@ class ReturnCarUseCaseTest {
             assertThat(result.getActualReturnDate()).isEqualTo(onTimeReturnDate);
             assertThat(result.getFinalPrice()).isEqualByComparingTo("1000.00");
 
-            verify(rentalRepository).save(argThat(entity ->
-                    entity.getStatus() == RentalStatus.FINISHED &&
-                            entity.getActualReturnDate().equals(onTimeReturnDate) &&
-                            entity.getFinalPrice().compareTo(new BigDecimal("1000.00")) == 0
-            ));
+            verify(rentalRepository).finishIfActive(eq(1L), eq(onTimeReturnDate),
+                    argThat(finalPrice -> finalPrice.compareTo(new BigDecimal("1000.00")) == 0));
         }
 
         @Test
         @DisplayName("Should process return successfully with valid data")
         @Tag("Functional")
         void shouldProcessReturnSuccessfully() {
-            when(rentalRepository.findById(1L)).thenReturn(Optional.of(activeRentalEntity));
-            when(rentalMapper.toDomain(activeRentalEntity)).thenReturn(activeRentalDomain);
-
-            Rental updatedRental = new Rental();
-            updatedRental.setId(1L);
-            updatedRental.setCar(activeRentalDomain.getCar());
-            updatedRental.setPeriod(activeRentalDomain.getPeriod());
-            updatedRental.setStatus(RentalStatus.FINISHED);
-            updatedRental.setTotalPrice(new BigDecimal("1000.00"));
-            updatedRental.setActualReturnDate(RENTAL_START_DATE.plusDays(8));
-            updatedRental.setFinalPrice(new BigDecimal("940.00"));
-
-            when(rentalMapper.toDomain(activeRentalEntity)).thenReturn(activeRentalDomain, updatedRental);
-            when(rentalRepository.save(any(RentalEntity.class))).thenReturn(activeRentalEntity);
+            when(rentalRepository.findReturnViewById(1L)).thenReturn(Optional.of(activeReturnView));
+            stubSuccessfulReturn();
 
             LocalDate returnDate = RENTAL_START_DATE.plusDays(8);
             var request = new ReturnCarRequest(1L, returnDate, false, false);
@@ -212,7 +263,7 @@ class ReturnCarUseCaseTest {
             assertThat(result.getStatus()).isEqualTo(RentalStatus.FINISHED);
             assertThat(result.getActualReturnDate()).isEqualTo(returnDate);
             assertThat(result.getFinalPrice()).isNotNull();
-            verify(rentalRepository, times(1)).save(any(RentalEntity.class));
+            verify(rentalRepository, times(1)).finishIfActive(eq(1L), eq(returnDate), any(BigDecimal.class));
         }
     }
 
@@ -225,20 +276,8 @@ class ReturnCarUseCaseTest {
         @Tag("UnitTest")
         @Tag("TDD")
         void shouldApplyPenaltyForEarlyReturn() {
-            when(rentalRepository.findById(1L)).thenReturn(Optional.of(activeRentalEntity));
-            when(rentalMapper.toDomain(activeRentalEntity)).thenReturn(activeRentalDomain);
-
-            Rental updatedRental = new Rental();
-            updatedRental.setId(1L);
-            updatedRental.setCar(activeRentalDomain.getCar());
-            updatedRental.setPeriod(activeRentalDomain.getPeriod());
-            updatedRental.setStatus(RentalStatus.FINISHED);
-            updatedRental.setTotalPrice(new BigDecimal("1000.00"));
-            updatedRental.setActualReturnDate(RENTAL_START_DATE.plusDays(7));
-            updatedRental.setFinalPrice(new BigDecimal("790.00"));
-
-            when(rentalMapper.toDomain(activeRentalEntity)).thenReturn(activeRentalDomain, updatedRental);
-            when(rentalRepository.save(any(RentalEntity.class))).thenReturn(activeRentalEntity);
+            when(rentalRepository.findReturnViewById(1L)).thenReturn(Optional.of(activeReturnView));
+            stubSuccessfulReturn();
 
             LocalDate earlyReturnDate = RENTAL_START_DATE.plusDays(7);
             var request = new ReturnCarRequest(1L, earlyReturnDate, false, false);
@@ -254,20 +293,8 @@ class ReturnCarUseCaseTest {
         @Tag("UnitTest")
         @Tag("TDD")
         void shouldApplyPenaltyForLateReturn() {
-            when(rentalRepository.findById(1L)).thenReturn(Optional.of(activeRentalEntity));
-            when(rentalMapper.toDomain(activeRentalEntity)).thenReturn(activeRentalDomain);
-
-            Rental updatedRental = new Rental();
-            updatedRental.setId(1L);
-            updatedRental.setCar(activeRentalDomain.getCar());
-            updatedRental.setPeriod(activeRentalDomain.getPeriod());
-            updatedRental.setStatus(RentalStatus.FINISHED);
-            updatedRental.setTotalPrice(new BigDecimal("1000.00"));
-            updatedRental.setActualReturnDate(RENTAL_START_DATE.plusDays(12));
-            updatedRental.setFinalPrice(new BigDecimal("1300.00"));
-
-            when(rentalMapper.toDomain(activeRentalEntity)).thenReturn(activeRentalDomain, updatedRental);
-            when(rentalRepository.save(any(RentalEntity.class))).thenReturn(activeRentalEntity);
+            when(rentalRepository.findReturnViewById(1L)).thenReturn(Optional.of(activeReturnView));
+            stubSuccessfulReturn();
 
             LocalDate lateReturnDate = RENTAL_START_DATE.plusDays(12);
             var request = new ReturnCarRequest(1L, lateReturnDate, false, false);
@@ -277,25 +304,32 @@ class ReturnCarUseCaseTest {
             assertThat(result.getFinalPrice()).isEqualByComparingTo("1300.00");
         }
 
+        @Test
+        @DisplayName("Should apply the late return penalty of the rental's branch")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldApplyBranchLatePenalty() {
+            var branchRules = new PricingRuleSet(null, null, null, null, new BigDecimal("1.00"), null, null, null, null);
+            var branchReturn = new ReturnCarUseCase(rentalRepository, rentalMapper,
+                    PricingRuleBook.compile(null, Map.of("SP", branchRules), List.of()), eventPublisher);
+            var branchReturnView = new RentalReturnView(
+                    1L, RENTAL_START_DATE, RENTAL_START_DATE.plusDays(10), new BigDecimal("1000.00"), RentalStatus.ACTIVE, 100.00, "sp"
+            );
+            when(rentalRepository.findReturnViewById(1L)).thenReturn(Optional.of(branchReturnView));
+            stubSuccessfulReturn();
+
+            Rental result = branchReturn.execute(new ReturnCarRequest(1L, RENTAL_START_DATE.plusDays(12), false, false));
+
+            assertThat(result.getFinalPrice()).isEqualByComparingTo("1400.00");
+        }
+
         @Test
         @DisplayName("Should add maintenance fee for damaged car")
         @Tag("UnitTest")
         @Tag("TDD")
         void shouldAddMaintenanceFee() {
-            when(rentalRepository.findById(1L)).thenReturn(Optional.of(activeRentalEntity));
-            when(rentalMapper.toDomain(activeRentalEntity)).thenReturn(activeRentalDomain);
-
-            Rental updatedRental = new Rental();
-            updatedRental.setId(1L);
-            updatedRental.setCar(activeRentalDomain.getCar());
-            updatedRental.setPeriod(activeRentalDomain.getPeriod());
-            updatedRental.setStatus(RentalStatus.FINISHED);
-            updatedRental.setTotalPrice(new BigDecimal("1000.00"));
-            updatedRental.setActualReturnDate(RENTAL_START_DATE.plusDays(10));
-            updatedRental.setFinalPrice(new BigDecimal("1150.00"));
-
-            when(rentalMapper.toDomain(activeRentalEntity)).thenReturn(activeRentalDomain, updatedRental);
-            when(rentalRepository.save(any(RentalEntity.class))).thenReturn(activeRentalEntity);
+            when(rentalRepository.findReturnViewById(1L)).thenReturn(Optional.of(activeReturnView));
+            stubSuccessfulReturn();
 
             LocalDate onTimeReturnDate = RENTAL_START_DATE.plusDays(10);
             var request = new ReturnCarRequest(1L, onTimeReturnDate, true, false);
@@ -310,20 +344,8 @@ class ReturnCarUseCaseTest {
         @Tag("UnitTest")
         @Tag("TDD")
         void shouldAddCleaningFee() {
-            when(rentalRepository.findById(1L)).thenReturn(Optional.of(activeRentalEntity));
-            when(rentalMapper.toDomain(activeRentalEntity)).thenReturn(activeRentalDomain);
-
-            Rental updatedRental = new Rental();
-            updatedRental.setId(1L);
-            updatedRental.setCar(activeRentalDomain.getCar());
-            updatedRental.setPeriod(activeRentalDomain.getPeriod());
-            updatedRental.setStatus(RentalStatus.FINISHED);
-            updatedRental.setTotalPrice(new BigDecimal("1000.00"));
-            updatedRental.setActualReturnDate(RENTAL_START_DATE.plusDays(10));
-            updatedRental.setFinalPrice(new BigDecimal("1100.00"));
-
-            when(rentalMapper.toDomain(activeRentalEntity)).thenReturn(activeRentalDomain, updatedRental);
-            when(rentalRepository.save(any(RentalEntity.class))).thenReturn(activeRentalEntity);
+            when(rentalRepository.findReturnViewById(1L)).thenReturn(Optional.of(activeReturnView));
+            stubSuccessfulReturn();
 
             LocalDate onTimeReturnDate = RENTAL_START_DATE.plusDays(10);
             var request = new ReturnCarRequest(1L, onTimeReturnDate, false, true);
@@ -338,20 +360,8 @@ class ReturnCarUseCaseTest {
         @Tag("UnitTest")
         @Tag("TDD")
         void shouldCombineAllPenaltiesAndFees() {
-            when(rentalRepository.findById(1L)).thenReturn(Optional.of(activeRentalEntity));
-            when(rentalMapper.toDomain(activeRentalEntity)).thenReturn(activeRentalDomain);
-
-            Rental updatedRental = new Rental();
-            updatedRental.setId(1L);
-            updatedRental.setCar(activeRentalDomain.getCar());
-            updatedRental.setPeriod(activeRentalDomain.getPeriod());
-            updatedRental.setStatus(RentalStatus.FINISHED);
-            updatedRental.setTotalPrice(new BigDecimal("1000.00"));
-            updatedRental.setActualReturnDate(RENTAL_START_DATE.plusDays(12));
-            updatedRental.setFinalPrice(new BigDecimal("1595.00"));
-
-            when(rentalMapper.toDomain(activeRentalEntity)).thenReturn(activeRentalDomain, updatedRental);
-            when(rentalRepository.save(any(RentalEntity.class))).thenReturn(activeRentalEntity);
+            when(rentalRepository.findReturnViewById(1L)).thenReturn(Optional.of(activeReturnView));
+            stubSuccessfulReturn();
 
             LocalDate lateReturnDate = RENTAL_START_DATE.plusDays(12);
             var request = new ReturnCarRequest(1L, lateReturnDate, true, true);
@@ -366,20 +376,8 @@ class ReturnCarUseCaseTest {
         @Tag("UnitTest")
         @Tag("Functional")
         void shouldCombineEarlyReturnWithFees() {
-            when(rentalRepository.findById(1L)).thenReturn(Optional.of(activeRentalEntity));
-            when(rentalMapper.toDomain(activeRentalEntity)).thenReturn(activeRentalDomain);
-
-            Rental updatedRental = new Rental();
-            updatedRental.setId(1L);
-            updatedRental.setCar(activeRentalDomain.getCar());
-            updatedRental.setPeriod(activeRentalDomain.getPeriod());
-            updatedRental.setStatus(RentalStatus.FINISHED);
-            updatedRental.setTotalPrice(new BigDecimal("1000.00"));
-            updatedRental.setActualReturnDate(RENTAL_START_DATE.plusDays(7));
-            updatedRental.setFinalPrice(new BigDecimal("1008.50"));
-
-            when(rentalMapper.toDomain(activeRentalEntity)).thenReturn(activeRentalDomain, updatedRental);
-            when(rentalRepository.save(any(RentalEntity.class))).thenReturn(activeRentalEntity);
+            when(rentalRepository.findReturnViewById(1L)).thenReturn(Optional.of(activeReturnView));
+            stubSuccessfulReturn();
 
             LocalDate earlyReturnDate = RENTAL_START_DATE.plusDays(7);
             var request = new ReturnCarRequest(1L, earlyReturnDate, true, true);
@@ -397,23 +395,8 @@ class ReturnCarUseCaseTest {
             LocalDate earlyReturnDate = RENTAL_START_DATE.plusDays(7);
             var request = new ReturnCarRequest(1L, earlyReturnDate, false, false);
 
-            when(rentalRepository.findById(1L)).thenReturn(Optional.of(activeRentalEntity));
-            when(rentalRepository.save(any(RentalEntity.class))).thenReturn(activeRentalEntity);
-
-            when(rentalMapper.toDomain(activeRentalEntity))
-                    .thenReturn(activeRentalDomain)
-                    .thenAnswer(invocation -> {
-                        RentalEntity savedEntity = invocation.getArgument(0);
-                        Rental result = new Rental();
-                        result.setId(savedEntity.getId());
-                        result.setCar(activeRentalDomain.getCar());
-                        result.setPeriod(activeRentalDomain.getPeriod());
-                        result.setTotalPrice(activeRentalDomain.getTotalPrice());
-                        result.setStatus(savedEntity.getStatus());
-                        result.setActualReturnDate(savedEntity.getActualReturnDate());
-                        result.setFinalPrice(savedEntity.getFinalPrice());
-                        return result;
-                    });
+            when(rentalRepository.findReturnViewById(1L)).thenReturn(Optional.of(activeReturnView));
+            stubSuccessfulReturn();
 
             Rental result = returnCarUseCase.execute(request);
 
@@ -428,27 +411,47 @@ class ReturnCarUseCaseTest {
             LocalDate lateReturnDate = RENTAL_START_DATE.plusDays(12);
             var request = new ReturnCarRequest(1L, lateReturnDate, false, false);
 
-            when(rentalRepository.findById(1L)).thenReturn(Optional.of(activeRentalEntity));
-            when(rentalRepository.save(any(RentalEntity.class))).thenReturn(activeRentalEntity);
-
-            when(rentalMapper.toDomain(activeRentalEntity))
-                    .thenReturn(activeRentalDomain)
-                    .thenAnswer(invocation -> {
-                        RentalEntity savedEntity = invocation.getArgument(0);
-                        Rental result = new Rental();
-                        result.setId(savedEntity.getId());
-                        result.setCar(activeRentalDomain.getCar());
-                        result.setPeriod(activeRentalDomain.getPeriod());
-                        result.setTotalPrice(activeRentalDomain.getTotalPrice());
-                        result.setStatus(savedEntity.getStatus());
-                        result.setActualReturnDate(savedEntity.getActualReturnDate());
-                        result.setFinalPrice(savedEntity.getFinalPrice());
-                        return result;
-                    });
+            when(rentalRepository.findReturnViewById(1L)).thenReturn(Optional.of(activeReturnView));
+            stubSuccessfulReturn();
 
             Rental result = returnCarUseCase.execute(request);
 
             assertThat(result.getFinalPrice()).isEqualByComparingTo("1300.00");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Service Requests")
+    class ServiceRequests {
+
+        @Test
+        @DisplayName("Should request maintenance and cleaning for the returned car")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRequestServiceForReturnedCar() {
+            when(rentalRepository.findReturnViewById(1L)).thenReturn(Optional.of(activeReturnView));
+            stubSuccessfulReturn();
+
+            LocalDate returnDate = RENTAL_START_DATE.plusDays(10);
+            returnCarUseCase.execute(new ReturnCarRequest(1L, returnDate, true, true));
+
+            verify(eventPublisher).publishEvent(new RentalReturned(1L, "ABC1D23", "Brand", "Model", RENTAL_START_DATE,
+                    activeRentalEntity.getEndDate(), returnDate, true, true));
+        }
+
+        @Test
+        @DisplayName("Should not request service when the car needs none")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldNotRequestServiceWhenNotNeeded() {
+            when(rentalRepository.findReturnViewById(1L)).thenReturn(Optional.of(activeReturnView));
+            stubSuccessfulReturn();
+
+            returnCarUseCase.execute(new ReturnCarRequest(1L, RENTAL_START_DATE.plusDays(10), false, false));
+
+            ArgumentCaptor<RentalReturned> returned = ArgumentCaptor.forClass(RentalReturned.class);
+            verify(eventPublisher).publishEvent(returned.capture());
+            assertThat(returned.getValue().needsService()).isFalse();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.model.report.CarRevenue;
+import br.ifsp.vvts.domain.model.report.DailyRevenue;
+import br.ifsp.vvts.domain.model.report.ModelRevenue;
+import br.ifsp.vvts.infra.persistence.repository.RevenueRollupRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RevenueReportUseCaseTest {
+
+    @Mock
+    private RevenueRollupRepository revenueRollupRepository;
+
+    @Mock
+    private FleetOccupancy fleetOccupancy;
+
+    @InjectMocks
+    private RevenueReportUseCase revenueReportUseCase;
+
+    private final LocalDate FROM = LocalDate.of(2025, 10, 1);
+    private final LocalDate TO = LocalDate.of(2025, 10, 11);
+
+    @Nested
+    @DisplayName("Reports")
+    class Reports {
+
+        @Test
+        @DisplayName("Should report daily revenue and the share of the fleet rented")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldReportDailyRevenue() {
+            when(fleetOccupancy.totalFleetSize()).thenReturn(4);
+            when(revenueRollupRepository.findDailyTotals(FROM, TO)).thenReturn(List.of(
+                    new RevenueRollupRepository.DayTotals(FROM.toEpochDay(), 3, 250_50)));
+
+            assertThat(revenueReportUseCase.daily(FROM, TO))
+                    .containsExactly(new DailyRevenue(FROM, 3, new BigDecimal("250.50"), 0.75));
+        }
+
+        @Test
+        @DisplayName("Should measure model utilization against the model's fleet over the whole period")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldReportModelUtilization() {
+            when(fleetOccupancy.fleetSize("Nissan", "March")).thenReturn(2);
+            when(revenueRollupRepository.findModelTotals(FROM, TO)).thenReturn(List.of(
+                    new RevenueRollupRepository.ModelTotals("Nissan", "March", 5, 1_000_00)));
+
+            assertThat(revenueReportUseCase.byModel(FROM, TO))
+                    .containsExactly(new ModelRevenue("Nissan", "March", 5, new BigDecimal("1000.00"), 0.25));
+        }
+
+        @Test
+        @DisplayName("Should measure car utilization against the days in the period")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldReportCarUtilization() {
+            when(revenueRollupRepository.findCarTotals(FROM, TO)).thenReturn(List.of(
+                    new RevenueRollupRepository.CarTotals("ABC1D23", 4, 400_00)));
+
+            assertThat(revenueReportUseCase.byCar(FROM, TO))
+                    .containsExactly(new CarRevenue("ABC1D23", 4, new BigDecimal("400.00"), 0.4));
+        }
+
+        @Test
+        @DisplayName("Should reject a period that ends before it starts")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectInvertedPeriod() {
+            assertThatThrownBy(() -> revenueReportUseCase.daily(TO, FROM))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("The report start must be before the report end.");
+            verifyNoInteractions(revenueRollupRepository);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.event.RelayedRentalEvent;
+import br.ifsp.vvts.domain.event.RentalCreated;
+import br.ifsp.vvts.domain.model.report.RollupContribution;
+import br.ifsp.vvts.domain.model.rental.RentalStatus;
+import br.ifsp.vvts.infra.persistence.projection.RentalView;
+import br.ifsp.vvts.infra.persistence.repository.RentalRepository;
+import br.ifsp.vvts.infra.persistence.repository.RevenueRollupRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RevenueRollupUseCaseTest {
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @Mock
+    private RevenueRollupRepository revenueRollupRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private RevenueRollupUseCase revenueRollupUseCase;
+
+    private final LocalDate START = LocalDate.of(2025, 10, 6);
+    private final RollupContribution BOOKED =
+            new RollupContribution("ABC1D23", "Nissan", "March", START, 3, 300_00);
+
+    private RentalView view(RentalStatus status, LocalDate actualReturnDate, BigDecimal finalPrice) {
+        return new RentalView(1L, "John Doe", "12345678909", "ABC1D23", "Nissan", "March", 100.0,
+                START, START.plusDays(3), new BigDecimal("300.00"), status, actualReturnDate, finalPrice, null);
+    }
+
+    @Nested
+    @DisplayName("Incremental Updates")
+    class IncrementalUpdates {
+
+        @Test
+        @DisplayName("Should add a new active rental to the rollups")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldAddNewActiveRental() {
+            when(revenueRollupRepository.findContribution(1L)).thenReturn(Optional.empty());
+            when(rentalRepository.findViewById(1L)).thenReturn(Optional.of(view(RentalStatus.ACTIVE, null, null)));
+
+            revenueRollupUseCase.onRentalEvent(new RelayedRentalEvent(7L, Instant.now(),
+                    new RentalCreated(1L, "ABC1D23", "Nissan", "March", START, START.plusDays(3))));
+
+            verify(revenueRollupRepository).apply(BOOKED, 1);
+            verify(revenueRollupRepository).saveContribution(1L, BOOKED);
+        }
+
+        @Test
+        @DisplayName("Should not count a redelivered event twice")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldIgnoreRedeliveredEvent() {
+            when(revenueRollupRepository.findContribution(1L)).thenReturn(Optional.of(BOOKED));
+            when(rentalRepository.findViewById(1L)).thenReturn(Optional.of(view(RentalStatus.ACTIVE, null, null)));
+
+            revenueRollupUseCase.refresh(1L);
+
+            verify(revenueRollupRepository, never()).apply(any(), anyInt());
+            verify(revenueRollupRepository, never()).saveContribution(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should replace the booked share with the final price on return")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldReplaceBookedShareOnReturn() {
+            when(revenueRollupRepository.findContribution(1L)).thenReturn(Optional.of(BOOKED));
+            when(rentalRepository.findViewById(1L)).thenReturn(Optional.of(
+                    view(RentalStatus.FINISHED, START.plusDays(2), new BigDecimal("230.00"))));
+            var returned = new RollupContribution("ABC1D23", "Nissan", "March", START, 2, 230_00);
+
+            revenueRollupUseCase.refresh(1L);
+
+            InOrder inOrder = inOrder(revenueRollupRepository);
+            inOrder.verify(revenueRollupRepository).apply(BOOKED, -1);
+            inOrder.verify(revenueRollupRepository).apply(returned, 1);
+            inOrder.verify(revenueRollupRepository).saveContribution(1L, returned);
+        }
+
+        @Test
+        @DisplayName("Should remove canceled and deleted rentals from the rollups")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRemoveCanceledRental() {
+            when(revenueRollupRepository.findContribution(1L)).thenReturn(Optional.of(BOOKED));
+            when(rentalRepository.findViewById(1L)).thenReturn(Optional.of(view(RentalStatus.CANCELED, null, null)));
+
+            revenueRollupUseCase.refresh(1L);
+
+            verify(revenueRollupRepository).apply(BOOKED, -1);
+            verify(revenueRollupRepository).deleteContribution(1L);
+            verify(revenueRollupRepository, never()).apply(any(), eq(1));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.model.car.Car;
+import br.ifsp.vvts.domain.model.car.LicensePlate;
+import br.ifsp.vvts.infra.persistence.mapper.CarMapper;
+import br.ifsp.vvts.infra.persistence.mapper.CustomerMapper;
+import br.ifsp.vvts.infra.persistence.projection.CarView;
+import br.ifsp.vvts.infra.persistence.repository.SearchRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchUseCaseTest {
+
+    @Mock
+    private SearchRepository searchRepository;
+
+    @Mock
+    private CarMapper carMapper;
+
+    @Mock
+    private CustomerMapper customerMapper;
+
+    @InjectMocks
+    private SearchUseCase searchUseCase;
+
+    @Nested
+    @DisplayName("Car Search")
+    class CarSearch {
+
+        @Test
+        @DisplayName("Should search with a prefix expression and keep the ranking order")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldSearchWithPrefixExpression() {
+            var march = new CarView("ABC1D23", "Nissan", "March", 100.0);
+            var kicks = new CarView("XYZ9W87", "Nissan", "Kicks", 150.0);
+            var marchCar = new Car(LicensePlate.of("ABC1D23"), "Nissan", "March", 100.0);
+            var kicksCar = new Car(LicensePlate.of("XYZ9W87"), "Nissan", "Kicks", 150.0);
+            when(searchRepository.searchCars("\"nis\"*", 10)).thenReturn(List.of(march, kicks));
+            when(carMapper.fromView(march)).thenReturn(marchCar);
+            when(carMapper.fromView(kicks)).thenReturn(kicksCar);
+
+            assertThat(searchUseCase.searchCars("nis", 10)).containsExactly(marchCar, kicksCar);
+        }
+
+        @Test
+        @DisplayName("Should reject a limit out of bounds")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectLimitOutOfBounds() {
+            assertThatThrownBy(() -> searchUseCase.searchCars("nis", 0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("The result limit must be between 1 and 100.");
+
+            verifyNoInteractions(searchRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Customer Search")
+    class CustomerSearch {
+
+        @Test
+        @DisplayName("Should not query the index for a blank search")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldNotQueryForBlankSearch() {
+            assertThatThrownBy(() -> searchUseCase.searchCustomers(" ", 20))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("The search query cannot be blank.");
+
+            verifyNoInteractions(searchRepository, customerMapper);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package br.ifsp.vvts.domain.useCases;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Single Flight Tests")
+class SingleFlightTest {
+
+    private static final int CALLERS = 4;
+
+    private final SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+
+    /**
+     * Dispara a primeira chamada, espera ela entrar na carga e só então dispara as demais, liberando a carga quando
+     * todas já estão esperando por ela.
+     */
+    private List<Future<Integer>> callConcurrently(ExecutorService executor, AtomicInteger loads,
+                                                   RuntimeException failure) throws InterruptedException {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.execute("key", () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            if (failure != null) {
+                throw failure;
+            }
+            return 42;
+        })));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 1; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("key", loads::incrementAndGet)));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.sharedCalls() < CALLERS - 1 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        return results;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Nested
+    @DisplayName("Coalescing")
+    class Coalescing {
+
+        @Test
+        @DisplayName("Should run the load once for concurrent calls with the same key")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldShareOneLoad() throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+            try {
+                AtomicInteger loads = new AtomicInteger();
+
+                List<Future<Integer>> results = callConcurrently(executor, loads, null);
+
+                for (Future<Integer> result : results) {
+                    assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+                }
+                assertThat(loads).hasValue(1);
+                assertThat(singleFlight.sharedCalls()).isEqualTo(CALLERS - 1);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("Should give every waiting call the failure of the load")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldShareFailure() throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+            try {
+                IllegalStateException failure = new IllegalStateException("Load failed.");
+
+                List<Future<Integer>> results = callConcurrently(executor, new AtomicInteger(), failure);
+
+                for (Future<Integer> result : results) {
+                    assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCause(failure);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Completion")
+    class Completion {
+
+        @Test
+        @DisplayName("Should load again once the previous call is done")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldLoadAgainAfterCompletion() {
+            AtomicInteger loads = new AtomicInteger();
+
+            singleFlight.execute("key", loads::incrementAndGet);
+            int second = singleFlight.execute("key", loads::incrementAndGet);
+
+            assertThat(second).isEqualTo(2);
+            assertThat(singleFlight.sharedCalls()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should free the key after a failed load")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldFreeKeyAfterFailure() {
+            assertThatThrownBy(() -> singleFlight.execute("key", () -> {
+                throw new IllegalArgumentException("Bad key.");
+            })).isInstanceOf(IllegalArgumentException.class).hasMessage("Bad key.");
+
+            assertThat(singleFlight.execute("key", () -> 7)).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("Should not share loads between different keys")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldKeepKeysApart() {
+            assertThat(singleFlight.execute("a", () -> 1)).isEqualTo(1);
+            assertThat(singleFlight.execute("b", () -> 2)).isEqualTo(2);
+        }
+    }
+}
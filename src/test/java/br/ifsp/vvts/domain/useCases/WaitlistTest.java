@@ -0,0 +1,182 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.model.booking.Hold;
+import br.ifsp.vvts.domain.model.booking.WaitlistEntry;
+import br.ifsp.vvts.domain.model.rental.RentalPeriod;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Waitlist Tests")
+class WaitlistTest {
+
+    private final String PLATE = "ABC1D23";
+    private final String CPF = "52998224725";
+    private final LocalDate MONDAY = LocalDate.of(2025, 10, 6);
+    private final RentalPeriod PERIOD = new RentalPeriod(MONDAY, MONDAY.plusDays(3));
+    private final Instant NOW = Instant.parse("2025-10-01T10:00:00Z");
+
+    private final Waitlist waitlist = new Waitlist();
+
+    private Optional<Hold> holdFor(WaitlistEntry entry) {
+        return Optional.of(new Hold(UUID.randomUUID(), entry.licensePlate(), entry.cpf(), entry.startDate(),
+                entry.endDate(), NOW.plusSeconds(300)));
+    }
+
+    @Nested
+    @DisplayName("Ordering")
+    class Ordering {
+
+        @Test
+        @DisplayName("Should offer the freed slot to the earliest customer first")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldOfferToEarliestCustomerFirst() {
+            WaitlistEntry late = waitlist.join(PLATE, CPF, PERIOD, NOW.plusSeconds(5));
+            WaitlistEntry early = waitlist.join(PLATE, CPF, PERIOD, NOW);
+            List<UUID> attempts = new ArrayList<>();
+
+            List<WaitlistEntry> offered = waitlist.offer(PLATE, PERIOD.startDate(), PERIOD.endDate(), entry -> {
+                attempts.add(entry.id());
+                return attempts.size() == 1 ? holdFor(entry) : Optional.empty();
+            });
+
+            assertThat(attempts).containsExactly(early.id(), late.id());
+            assertThat(offered).extracting(WaitlistEntry::id).containsExactly(early.id());
+            assertThat(waitlist.waiting(PLATE)).extracting(WaitlistEntry::id).containsExactly(late.id());
+        }
+
+        @Test
+        @DisplayName("Should break ties on the same instant by joining order")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldBreakTiesByJoiningOrder() {
+            WaitlistEntry first = waitlist.join(PLATE, CPF, PERIOD, NOW);
+            WaitlistEntry second = waitlist.join(PLATE, CPF, PERIOD, NOW);
+
+            assertThat(waitlist.waiting(PLATE)).extracting(WaitlistEntry::id).containsExactly(first.id(), second.id());
+        }
+    }
+
+    @Nested
+    @DisplayName("Offering")
+    class Offering {
+
+        @Test
+        @DisplayName("Should only offer to entries overlapping the freed period")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldOnlyOfferOverlappingEntries() {
+            WaitlistEntry overlapping = waitlist.join(PLATE, CPF, PERIOD, NOW);
+            WaitlistEntry later = waitlist.join(PLATE, CPF, new RentalPeriod(MONDAY.plusDays(10), MONDAY.plusDays(12)), NOW);
+            WaitlistEntry otherCar = waitlist.join("XYZ9W87", CPF, PERIOD, NOW);
+
+            List<WaitlistEntry> offered = waitlist.offer(PLATE, MONDAY.plusDays(1), MONDAY.plusDays(5), WaitlistTest.this::holdFor);
+
+            assertThat(offered).extracting(WaitlistEntry::id).containsExactly(overlapping.id());
+            assertThat(waitlist.find(overlapping.id())).get().extracting(WaitlistEntry::offeredHoldId).isNotNull();
+            assertThat(waitlist.find(later.id())).get().extracting(WaitlistEntry::offeredHoldId).isNull();
+            assertThat(waitlist.waiting("XYZ9W87")).extracting(WaitlistEntry::id).containsExactly(otherCar.id());
+        }
+
+        @Test
+        @DisplayName("Should not offer to an entry that left the waitlist")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldNotOfferAfterLeaving() {
+            WaitlistEntry entry = waitlist.join(PLATE, CPF, PERIOD, NOW);
+
+            assertThat(waitlist.leave(entry.id())).contains(entry);
+            assertThat(waitlist.leave(entry.id())).isEmpty();
+            assertThat(waitlist.offer(PLATE, PERIOD.startDate(), PERIOD.endDate(), WaitlistTest.this::holdFor)).isEmpty();
+            assertThat(waitlist.find(entry.id())).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Lapsed Offers")
+    class LapsedOffers {
+
+        @Test
+        @DisplayName("Should pass a lapsed offer to the next customer and re-queue the one who let it lapse")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldPassLapsedOfferToNextCustomer() {
+            WaitlistEntry first = waitlist.join(PLATE, CPF, PERIOD, NOW);
+            WaitlistEntry second = waitlist.join(PLATE, CPF, PERIOD, NOW.plusSeconds(5));
+            List<WaitlistEntry> offered = waitlist.offer(PLATE, PERIOD.startDate(), PERIOD.endDate(), entry ->
+                    entry.id().equals(first.id()) ? holdFor(entry) : Optional.empty());
+            Hold offeredHold = new Hold(offered.get(0).offeredHoldId(), PLATE, CPF, PERIOD.startDate(),
+                    PERIOD.endDate(), offered.get(0).offerExpiresAt());
+
+            List<WaitlistEntry> passed = waitlist.lapse(offeredHold, WaitlistTest.this::holdFor);
+
+            assertThat(passed).extracting(WaitlistEntry::id).containsExactly(second.id());
+            assertThat(waitlist.find(first.id())).get().extracting(WaitlistEntry::offeredHoldId).isNull();
+            assertThat(waitlist.waiting(PLATE)).extracting(WaitlistEntry::id).containsExactly(first.id());
+        }
+
+        @Test
+        @DisplayName("Should re-queue a lapsed offer when nobody else is waiting")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRequeueLapsedOfferWhenAlone() {
+            WaitlistEntry entry = waitlist.join(PLATE, CPF, PERIOD, NOW);
+            WaitlistEntry offered = waitlist.offer(PLATE, PERIOD.startDate(), PERIOD.endDate(),
+                    WaitlistTest.this::holdFor).get(0);
+            Hold hold = new Hold(offered.offeredHoldId(), PLATE, CPF, PERIOD.startDate(), PERIOD.endDate(),
+                    offered.offerExpiresAt());
+
+            assertThat(waitlist.lapse(hold, WaitlistTest.this::holdFor)).isEmpty();
+            assertThat(waitlist.find(entry.id())).contains(entry);
+            assertThat(waitlist.waiting(PLATE)).containsExactly(entry);
+        }
+
+        @Test
+        @DisplayName("Should drop the entry once its offered hold becomes a rental")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldDropFulfilledEntry() {
+            WaitlistEntry entry = waitlist.join(PLATE, CPF, PERIOD, NOW);
+            WaitlistEntry offered = waitlist.offer(PLATE, PERIOD.startDate(), PERIOD.endDate(),
+                    WaitlistTest.this::holdFor).get(0);
+
+            assertThat(waitlist.fulfill(offered.offeredHoldId())).contains(offered);
+            assertThat(waitlist.fulfill(offered.offeredHoldId())).isEmpty();
+            assertThat(waitlist.find(entry.id())).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Eviction")
+    class Eviction {
+
+        @Test
+        @DisplayName("Should evict waiting and offered entries whose period already started")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldEvictStartedEntries() {
+            WaitlistEntry offered = waitlist.join(PLATE, CPF, PERIOD, NOW);
+            waitlist.offer(PLATE, PERIOD.startDate(), PERIOD.endDate(), WaitlistTest.this::holdFor);
+            WaitlistEntry waiting = waitlist.join(PLATE, CPF, PERIOD, NOW);
+            WaitlistEntry future = waitlist.join(PLATE, CPF, new RentalPeriod(MONDAY.plusDays(10), MONDAY.plusDays(12)), NOW);
+
+            assertThat(waitlist.evictStartedBefore(MONDAY)).isZero();
+            assertThat(waitlist.evictStartedBefore(MONDAY.plusDays(1))).isEqualTo(2);
+
+            assertThat(waitlist.find(offered.id())).isEmpty();
+            assertThat(waitlist.find(waiting.id())).isEmpty();
+            assertThat(waitlist.waiting(PLATE)).containsExactly(future);
+        }
+    }
+}
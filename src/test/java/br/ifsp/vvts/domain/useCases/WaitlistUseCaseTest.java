@@ -0,0 +1,222 @@
+package br.ifsp.vvts.domain.useCases;
+
+import br.ifsp.vvts.domain.event.HoldConverted;
+import br.ifsp.vvts.domain.event.HoldLapsed;
+import br.ifsp.vvts.domain.event.RelayedRentalEvent;
+import br.ifsp.vvts.domain.event.RentalCanceled;
+import br.ifsp.vvts.domain.event.RentalCreated;
+import br.ifsp.vvts.domain.event.RentalEvent;
+import br.ifsp.vvts.domain.event.RentalReturned;
+import br.ifsp.vvts.domain.model.booking.Hold;
+import br.ifsp.vvts.domain.model.booking.WaitlistEntry;
+import br.ifsp.vvts.domain.model.rental.RentalPeriod;
+import br.ifsp.vvts.exception.CustomerNotFoundException;
+import br.ifsp.vvts.infra.persistence.projection.CarView;
+import br.ifsp.vvts.infra.persistence.projection.CustomerView;
+import br.ifsp.vvts.infra.persistence.repository.CarRepository;
+import br.ifsp.vvts.infra.persistence.repository.CustomerRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WaitlistUseCaseTest {
+
+    @Mock
+    private CarRepository carRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private CarAvailability carAvailability;
+
+    @Spy
+    private Waitlist waitlist = new Waitlist();
+
+    @Spy
+    private ReservationHolds reservationHolds = new ReservationHolds(300_000, 1_000, 64, event -> {});
+
+    @InjectMocks
+    private WaitlistUseCase waitlistUseCase;
+
+    private final String PLATE = "ABC1D23";
+    private final String CPF = "52998224725";
+    private final LocalDate START = LocalDate.now().plusDays(5);
+    private final LocalDate END = START.plusDays(3);
+
+    private RelayedRentalEvent relayed(RentalEvent event) {
+        return new RelayedRentalEvent(1L, Instant.now(), event);
+    }
+
+    private WaitlistEntry joinWaitlist() {
+        return waitlist.join(PLATE, CPF, new RentalPeriod(START, END), Instant.now());
+    }
+
+    @Nested
+    @DisplayName("Joining")
+    class Joining {
+
+        @Test
+        @DisplayName("Should queue a known customer for an existing car")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldQueueKnownCustomer() {
+            when(customerRepository.findViewByCpfNumber(CPF)).thenReturn(Optional.of(new CustomerView("Ana", CPF)));
+            when(carRepository.findViewByLicensePlate(PLATE)).thenReturn(Optional.of(new CarView(PLATE, "B", "M", 100.0)));
+
+            WaitlistEntry entry = waitlistUseCase.join(PLATE, CPF, START, END);
+
+            assertThat(entry.offeredHoldId()).isNull();
+            assertThat(waitlistUseCase.find(entry.id())).contains(entry);
+        }
+
+        @Test
+        @DisplayName("Should reject an unknown customer")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectUnknownCustomer() {
+            when(customerRepository.findViewByCpfNumber(CPF)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> waitlistUseCase.join(PLATE, CPF, START, END))
+                    .isInstanceOf(CustomerNotFoundException.class)
+                    .hasMessage("Customer not found.");
+            verify(waitlist, never()).join(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should reject a null entry id when leaving")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectNullIdWhenLeaving() {
+            assertThatThrownBy(() -> waitlistUseCase.leave(null))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessage("The waitlist entry id cannot be null.");
+        }
+    }
+
+    @Nested
+    @DisplayName("Freed Slots")
+    class FreedSlots {
+
+        @Test
+        @DisplayName("Should offer a hold to the waiting customer when the car is returned")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldOfferHoldOnReturn() {
+            WaitlistEntry entry = joinWaitlist();
+            when(carAvailability.isBooked(PLATE, START, END)).thenReturn(false);
+
+            waitlistUseCase.onRentalEvent(relayed(new RentalReturned(1L, PLATE, "B", "M", START, END, START)));
+
+            WaitlistEntry offered = waitlist.find(entry.id()).orElseThrow();
+            assertThat(offered.offeredHoldId()).isNotNull();
+            assertThat(reservationHolds.find(offered.offeredHoldId(), Instant.now())).isPresent();
+            assertThat(waitlist.waiting(PLATE)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should keep the customer waiting when another rental still holds the period")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldKeepWaitingWhenPeriodIsStillBooked() {
+            WaitlistEntry entry = joinWaitlist();
+            when(carAvailability.isBooked(PLATE, START, END)).thenReturn(true);
+
+            waitlistUseCase.onRentalEvent(relayed(new RentalCanceled(1L, PLATE, "B", "M", START, END)));
+
+            assertThat(waitlist.find(entry.id())).get().extracting(WaitlistEntry::offeredHoldId).isNull();
+            assertThat(waitlist.waiting(PLATE)).extracting(WaitlistEntry::id).containsExactly(entry.id());
+            assertThat(reservationHolds.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should ignore rentals that were just created")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldIgnoreCreatedRentals() {
+            joinWaitlist();
+
+            waitlistUseCase.onRentalEvent(relayed(new RentalCreated(1L, PLATE, "B", "M", START, END)));
+
+            verify(waitlist, never()).offer(any(), any(), any(), any());
+            verifyNoInteractions(carAvailability);
+        }
+    }
+
+    @Nested
+    @DisplayName("Offered Holds")
+    class OfferedHolds {
+
+        @Test
+        @DisplayName("Should offer the slot to the next customer when the offered hold lapses")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldOfferToNextCustomerWhenHoldLapses() {
+            WaitlistEntry first = joinWaitlist();
+            WaitlistEntry second = waitlist.join(PLATE, "51589186001", new RentalPeriod(START, END),
+                    Instant.now().plusSeconds(5));
+            when(carAvailability.isBooked(PLATE, START, END)).thenReturn(false);
+            waitlistUseCase.onRentalEvent(relayed(new RentalReturned(1L, PLATE, "B", "M", START, END, START)));
+            Hold lapsed = reservationHolds.find(waitlist.find(first.id()).orElseThrow().offeredHoldId(), Instant.now())
+                    .orElseThrow();
+            reservationHolds.release(lapsed.id());
+
+            waitlistUseCase.onHoldLapsed(new HoldLapsed(lapsed));
+
+            WaitlistEntry next = waitlist.find(second.id()).orElseThrow();
+            assertThat(reservationHolds.find(next.offeredHoldId(), Instant.now())).get()
+                    .extracting(Hold::cpf).isEqualTo("51589186001");
+            assertThat(waitlist.find(first.id())).get().extracting(WaitlistEntry::offeredHoldId).isNull();
+            assertThat(waitlist.waiting(PLATE)).extracting(WaitlistEntry::id).containsExactly(first.id());
+        }
+
+        @Test
+        @DisplayName("Should drop the customer once the offered hold becomes a rental")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldDropCustomerWhenHoldConverts() {
+            WaitlistEntry entry = joinWaitlist();
+            when(carAvailability.isBooked(PLATE, START, END)).thenReturn(false);
+            waitlistUseCase.onRentalEvent(relayed(new RentalReturned(1L, PLATE, "B", "M", START, END, START)));
+
+            waitlistUseCase.onHoldConverted(new HoldConverted(waitlist.find(entry.id()).orElseThrow().offeredHoldId()));
+
+            assertThat(waitlistUseCase.find(entry.id())).isEmpty();
+            assertThat(waitlist.waiting(PLATE)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should release the offered hold when the customer leaves the waitlist")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldReleaseOfferedHoldWhenLeaving() {
+            WaitlistEntry entry = joinWaitlist();
+            when(carAvailability.isBooked(PLATE, START, END)).thenReturn(false);
+            waitlistUseCase.onRentalEvent(relayed(new RentalReturned(1L, PLATE, "B", "M", START, END, START)));
+            UUID holdId = waitlist.find(entry.id()).orElseThrow().offeredHoldId();
+
+            assertThat(waitlistUseCase.leave(entry.id())).isTrue();
+
+            assertThat(reservationHolds.find(holdId, Instant.now())).isEmpty();
+            verify(reservationHolds).release(holdId);
+            assertThat(waitlistUseCase.leave(entry.id())).isFalse();
+        }
+    }
+}
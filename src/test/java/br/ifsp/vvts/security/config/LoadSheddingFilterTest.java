@@ -0,0 +1,215 @@
+package br.ifsp.vvts.security.config;
+
+import br.ifsp.vvts.domain.model.load.ConcurrencyLimit;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class LoadSheddingFilterTest {
+
+    private static final Duration THRESHOLD = Duration.ofSeconds(1);
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ConcurrencyLimit readLimit = new ConcurrencyLimit(4, 1, 8, THRESHOLD);
+    private final ConcurrencyLimit writeLimit = new ConcurrencyLimit(1, 1, 1, THRESHOLD);
+    private final AtomicInteger forwarded = new AtomicInteger();
+    private final FilterChain chain = (request, response) -> forwarded.incrementAndGet();
+
+    private LoadSheddingFilter filter(boolean enabled) {
+        return new LoadSheddingFilter(enabled, readLimit, writeLimit, Duration.ofSeconds(2), objectMapper);
+    }
+
+    private MockHttpServletResponse send(LoadSheddingFilter filter, String method, FilterChain chain)
+            throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(method, "/api/v1/cars"), response, chain);
+        return response;
+    }
+
+    @Nested
+    @DisplayName("Rejection")
+    class Rejection {
+
+        @Test
+        @DisplayName("Should answer 503 with Retry-After and the error body when the limit is reached")
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldRejectWithRetryAfter() throws Exception {
+            writeLimit.tryAcquire();
+
+            MockHttpServletResponse response = send(filter(true), "POST", chain);
+
+            JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+            assertThat(response.getStatus()).isEqualTo(503);
+            assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+            assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+            assertThat(body.get("message").asText()).isEqualTo("The server is overloaded, try again later.");
+            assertThat(body.get("status").asText()).isEqualTo("SERVICE_UNAVAILABLE");
+            assertThat(body.get("developerMessage").asText()).isEqualTo(LoadSheddingFilter.class.getName());
+            assertThat(body.has("timestamp")).isTrue();
+            assertThat(forwarded).hasValue(0);
+            assertThat(writeLimit.inFlight()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should let every request through when disabled")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldPassThroughWhenDisabled() throws Exception {
+            writeLimit.tryAcquire();
+
+            MockHttpServletResponse response = send(filter(false), "POST", chain);
+
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(forwarded).hasValue(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Read and Write Limits")
+    class ReadAndWriteLimits {
+
+        @ParameterizedTest(name = "Should count {0} as a read")
+        @ValueSource(strings = {"GET", "HEAD", "OPTIONS"})
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldCountAsRead(String method) throws Exception {
+            writeLimit.tryAcquire();
+
+            MockHttpServletResponse response = send(filter(true), method, (request, ignored) -> {
+                forwarded.incrementAndGet();
+                assertThat(readLimit.inFlight()).isEqualTo(1);
+            });
+
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(forwarded).hasValue(1);
+            assertThat(readLimit.inFlight()).isZero();
+        }
+
+        @ParameterizedTest(name = "Should count {0} as a write")
+        @ValueSource(strings = {"POST", "PUT", "PATCH", "DELETE"})
+        @Tag("UnitTest")
+        @Tag("Functional")
+        void shouldCountAsWrite(String method) throws Exception {
+            for (int i = 0; i < readLimit.limit(); i++) {
+                readLimit.tryAcquire();
+            }
+
+            MockHttpServletResponse passed = send(filter(true), method, chain);
+            writeLimit.tryAcquire();
+            MockHttpServletResponse rejected = send(filter(true), method, chain);
+
+            assertThat(passed.getStatus()).isEqualTo(200);
+            assertThat(rejected.getStatus()).isEqualTo(503);
+            assertThat(forwarded).hasValue(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Release")
+    class Release {
+
+        @Test
+        @DisplayName("Should release the slot and count a failure when the chain throws")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldReleaseSlotWhenChainThrows() {
+            LoadSheddingFilter filter = filter(true);
+
+            assertThatThrownBy(() -> send(filter, "GET", (request, response) -> {
+                throw new ServletException("boom");
+            })).isInstanceOf(ServletException.class).hasMessage("boom");
+
+            assertThat(readLimit.inFlight()).isZero();
+            assertThat(readLimit.limit()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should count a 5xx response as a failure")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldCountServerErrorAsFailure() throws Exception {
+            send(filter(true), "GET", (request, response) -> ((MockHttpServletResponse) response).setStatus(500));
+
+            assertThat(readLimit.inFlight()).isZero();
+            assertThat(readLimit.limit()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("Filter Position")
+    class FilterPosition {
+
+        @Configuration
+        @EnableWebMvc
+        static class Filters {
+
+            @Bean
+            LoadSheddingFilter loadSheddingFilter() {
+                return new LoadSheddingFilter(true, new ConcurrencyLimit(1, 1, 1, THRESHOLD),
+                        new ConcurrencyLimit(1, 1, 1, THRESHOLD), Duration.ofSeconds(1), new ObjectMapper());
+            }
+
+            @Bean
+            JwtAuthenticationFilter jwtAuthenticationFilter() {
+                return new JwtAuthenticationFilter(mock(JwtService.class), mock(UserDetailsService.class));
+            }
+
+            @Bean
+            AuthenticationProvider authenticationProvider() {
+                return mock(AuthenticationProvider.class);
+            }
+        }
+
+        @Test
+        @DisplayName("Should run before the JWT authentication filter")
+        @Tag("UnitTest")
+        @Tag("Structural")
+        void shouldRunBeforeJwtAuthentication() {
+            try (var context = new AnnotationConfigWebApplicationContext()) {
+                context.setServletContext(new MockServletContext());
+                context.register(Filters.class, SecurityConfiguration.class);
+                context.refresh();
+
+                List<Class<?>> filters = context.getBean(SecurityFilterChain.class).getFilters().stream()
+                        .map(Filter::getClass)
+                        .<Class<?>>map(type -> type)
+                        .toList();
+
+                assertThat(filters).contains(LoadSheddingFilter.class, JwtAuthenticationFilter.class);
+                assertThat(filters.indexOf(LoadSheddingFilter.class))
+                        .isLessThan(filters.indexOf(JwtAuthenticationFilter.class));
+            }
+        }
+    }
+}